@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.exception;
+
+/**
+ * An unchecked exception thrown while iterating over the records in a GEDCOM file, wrapping the underlying
+ * {@link java.io.IOException} or {@link GedcomParserException} that {@link java.util.Iterator} methods are not allowed
+ * to throw.
+ * 
+ * @author frizbog
+ * @since 3.0.2
+ */
+public class GedcomRecordIterationException extends RuntimeException {
+
+    /**
+     * Serial Version UID
+     */
+    private static final long serialVersionUID = 4163207787216584512L;
+
+    /**
+     * Constructor that takes both a message and an underlying cause
+     * 
+     * @param message
+     *            the message of the exception
+     * @param cause
+     *            the underlying cause of the exception
+     */
+    public GedcomRecordIterationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
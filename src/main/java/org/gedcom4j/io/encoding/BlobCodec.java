@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.io.encoding;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * <p>
+ * Encoding and decoding of the binary data embedded in GEDCOM 5.5 multimedia records with the <code>BLOB</code> tag.
+ * </p>
+ * <p>
+ * Each group of three bytes is split into four 6-bit values, most significant bits first, and each value is written as
+ * one character: 0 to 11 as <code>.</code>, <code>/</code> and the digits <code>0</code> to <code>9</code>; 12 to 37 as
+ * the uppercase letters; and 38 to 63 as the lowercase letters. If the data doesn't divide evenly into groups of three
+ * bytes, the last group is written with just the characters needed - two for one byte, three for two bytes. The
+ * characters are split up into <code>CONT</code> lines of {@value #CHARACTERS_PER_LINE} characters each (48 bytes).
+ * </p>
+ * <p>
+ * Both directions work as streams, so that a large blob never needs to be held in memory as text: a {@link Decoder}
+ * takes the lines of text one at a time as they are read and writes the bytes to an {@link OutputStream}, and an
+ * {@link Encoder} reads the bytes from an {@link InputStream} and hands out one line of text at a time.
+ * </p>
+ * 
+ * @author frizbog
+ * @since 3.0.2
+ */
+public final class BlobCodec {
+
+    /**
+     * Decodes lines of blob text into bytes, as the lines are read
+     */
+    public static class Decoder {
+
+        /**
+         * Where the decoded bytes are written
+         */
+        private final OutputStream out;
+
+        /**
+         * The 6-bit values of the current group of characters, packed together
+         */
+        private int group;
+
+        /**
+         * The number of characters in the current group so far
+         */
+        private int groupLength;
+
+        /**
+         * The number of bytes decoded so far
+         */
+        private long bytesDecoded;
+
+        /**
+         * The number of characters that weren't valid blob characters and were skipped
+         */
+        private int invalidCharacters;
+
+        /**
+         * Constructor
+         * 
+         * @param out
+         *            where to write the decoded bytes
+         */
+        public Decoder(OutputStream out) {
+            this.out = out;
+        }
+
+        /**
+         * Decode a line of blob text. Groups of characters may be split across lines. Whitespace is ignored, and any
+         * other characters that are not valid in blob text are skipped and counted in
+         * {@link #getInvalidCharacters()}.
+         * 
+         * @param line
+         *            the line of blob text
+         * @throws IOException
+         *             if the decoded bytes can't be written
+         */
+        public void decode(CharSequence line) throws IOException {
+            if (line == null) {
+                return;
+            }
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                int value = valueOf(c);
+                if (value < 0) {
+                    if (!Character.isWhitespace(c)) {
+                        invalidCharacters++;
+                    }
+                    continue;
+                }
+                group = (group << 6) | value;
+                if (++groupLength == 4) {
+                    out.write(group >>> 16);
+                    out.write(group >>> 8);
+                    out.write(group);
+                    bytesDecoded += 3;
+                    group = 0;
+                    groupLength = 0;
+                }
+            }
+        }
+
+        /**
+         * Finish decoding, writing the bytes of the last, partial group of characters if there is one. Does not close
+         * the output stream.
+         * 
+         * @throws IOException
+         *             if the decoded bytes can't be written
+         */
+        public void finish() throws IOException {
+            if (groupLength >= 2) {
+                int bits = group << (6 * (4 - groupLength));
+                out.write(bits >>> 16);
+                bytesDecoded++;
+                if (groupLength == 3) {
+                    out.write(bits >>> 8);
+                    bytesDecoded++;
+                }
+            } else if (groupLength == 1) {
+                // A single character doesn't hold a whole byte
+                invalidCharacters++;
+            }
+            group = 0;
+            groupLength = 0;
+        }
+
+        /**
+         * Get the number of bytes decoded so far
+         * 
+         * @return the number of bytes decoded so far
+         */
+        public long getBytesDecoded() {
+            return bytesDecoded;
+        }
+
+        /**
+         * Get the number of characters that weren't valid blob characters and were skipped
+         * 
+         * @return the number of characters that weren't valid blob characters and were skipped
+         */
+        public int getInvalidCharacters() {
+            return invalidCharacters;
+        }
+    }
+
+    /**
+     * Encodes bytes into lines of blob text, one line at a time
+     */
+    public static class Encoder {
+
+        /**
+         * Where the bytes to encode are read from
+         */
+        private final InputStream in;
+
+        /**
+         * The bytes for the current line
+         */
+        private final byte[] bytes = new byte[CHARACTERS_PER_LINE / 4 * 3];
+
+        /**
+         * The characters of the current line
+         */
+        private final char[] chars = new char[CHARACTERS_PER_LINE];
+
+        /**
+         * Constructor
+         * 
+         * @param in
+         *            where to read the bytes to encode from
+         */
+        public Encoder(InputStream in) {
+            this.in = in;
+        }
+
+        /**
+         * Get the next line of blob text. Does not close the input stream.
+         * 
+         * @return the next line of blob text, or null when all the bytes have been encoded
+         * @throws IOException
+         *             if the bytes can't be read
+         */
+        public String nextLine() throws IOException {
+            int len = 0;
+            while (len < bytes.length) {
+                int r = in.read(bytes, len, bytes.length - len);
+                if (r < 0) {
+                    break;
+                }
+                len += r;
+            }
+            if (len == 0) {
+                return null;
+            }
+            int c = 0;
+            for (int i = 0; i < len; i += 3) {
+                int remaining = len - i;
+                int group = (bytes[i] & 0xFF) << 16;
+                if (remaining > 1) {
+                    group |= (bytes[i + 1] & 0xFF) << 8;
+                }
+                if (remaining > 2) {
+                    group |= bytes[i + 2] & 0xFF;
+                }
+                int groupLength = (remaining >= 3 ? 4 : remaining + 1);
+                for (int j = 0; j < groupLength; j++) {
+                    chars[c++] = charFor((group >>> (18 - 6 * j)) & 0x3F);
+                }
+            }
+            return new String(chars, 0, c);
+        }
+    }
+
+    /**
+     * The number of characters in each line of encoded blob text
+     */
+    public static final int CHARACTERS_PER_LINE = 64;
+
+    /**
+     * Get the character that represents a 6-bit value in blob text
+     * 
+     * @param value
+     *            the value, from 0 to 63
+     * @return the character that represents the value
+     */
+    public static char charFor(int value) {
+        if (value < 12) {
+            return (char) ('.' + value);
+        }
+        if (value < 38) {
+            return (char) ('A' + value - 12);
+        }
+        return (char) ('a' + value - 38);
+    }
+
+    /**
+     * Get the number of bytes that some blob text decodes to
+     * 
+     * @param characters
+     *            the number of valid blob characters in the text
+     * @return the number of bytes the text decodes to
+     */
+    public static long decodedLength(long characters) {
+        long bytes = characters / 4 * 3;
+        int partial = (int) (characters % 4);
+        return bytes + (partial == 0 ? 0 : partial - 1);
+    }
+
+    /**
+     * Get the 6-bit value that a character represents in blob text
+     * 
+     * @param c
+     *            the character
+     * @return the value, from 0 to 63, or -1 if the character is not valid in blob text
+     */
+    public static int valueOf(char c) {
+        if (c >= '.' && c <= '9') {
+            return c - '.';
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 12;
+        }
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a' + 38;
+        }
+        return -1;
+    }
+
+    /**
+     * Private constructor prevents instantiation and subclassing
+     */
+    private BlobCodec() {
+        // Nothing to do
+    }
+}
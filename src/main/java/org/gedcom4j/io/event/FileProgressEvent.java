@@ -53,7 +53,28 @@ public class FileProgressEvent extends EventObject {
     /**
      * The number of bytes read or written
      */
-    private final int bytesProcessed;
+    private final long bytesProcessed;
+
+    /**
+     * The total number of bytes expected to be processed, or -1 if not known
+     */
+    private final long totalBytes;
+
+    /**
+     * Constructor, for when the total size of the file is not known
+     * 
+     * @param source
+     *            the source object
+     * @param linesProcessed
+     *            the number of lines processed
+     * @param bytesProcessed
+     *            the number of bytes processed
+     * @param complete
+     *            is the file complete
+     */
+    public FileProgressEvent(Object source, int linesProcessed, long bytesProcessed, boolean complete) {
+        this(source, linesProcessed, bytesProcessed, -1, complete);
+    }
 
     /**
      * Constructor
@@ -64,13 +85,17 @@ public class FileProgressEvent extends EventObject {
      *            the number of lines processed
      * @param bytesProcessed
      *            the number of bytes processed
+     * @param totalBytes
+     *            the total number of bytes expected to be processed, or -1 if not known
      * @param complete
      *            is the file complete
+     * @since 3.0.2
      */
-    public FileProgressEvent(Object source, int linesProcessed, int bytesProcessed, boolean complete) {
+    public FileProgressEvent(Object source, int linesProcessed, long bytesProcessed, long totalBytes, boolean complete) {
         super(source);
         this.linesProcessed = linesProcessed;
         this.bytesProcessed = bytesProcessed;
+        this.totalBytes = totalBytes;
         this.complete = complete;
     }
 
@@ -79,10 +104,36 @@ public class FileProgressEvent extends EventObject {
      * 
      * @return the bytesProcessed
      */
-    public int getBytesProcessed() {
+    public long getBytesProcessed() {
         return bytesProcessed;
     }
 
+    /**
+     * Get the total number of bytes expected to be processed
+     * 
+     * @return the total number of bytes expected to be processed, or -1 if not known
+     * @since 3.0.2
+     */
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * Get the percentage of the file processed so far, based on bytes
+     * 
+     * @return the percentage (0-100) of the file processed, or -1 if the total size is not known
+     * @since 3.0.2
+     */
+    public int getPercentComplete() {
+        if (totalBytes < 0) {
+            return -1;
+        }
+        if (totalBytes == 0 || bytesProcessed >= totalBytes) {
+            return 100;
+        }
+        return (int) (bytesProcessed * 100 / totalBytes);
+    }
+
     /**
      * Get the number of lines processed
      * 
@@ -113,6 +164,10 @@ public class FileProgressEvent extends EventObject {
         builder.append(linesProcessed);
         builder.append(", bytesProcessed=");
         builder.append(bytesProcessed);
+        if (totalBytes >= 0) {
+            builder.append(", totalBytes=");
+            builder.append(totalBytes);
+        }
         builder.append("]");
         return builder.toString();
     }
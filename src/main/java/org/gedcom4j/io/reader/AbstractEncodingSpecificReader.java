@@ -39,6 +39,11 @@ import org.gedcom4j.parser.GedcomParser;
  */
 abstract class AbstractEncodingSpecificReader {
 
+    /**
+     * The number of bytes to read from the stream at a time, for readers that work through the bytes themselves
+     */
+    private static final int BLOCK_SIZE = 8192;
+
     /**
      * The stream of bytes to read
      */
@@ -52,13 +57,29 @@ abstract class AbstractEncodingSpecificReader {
     /**
      * The number of bytes read from the input file or stream
      */
-    protected int bytesRead = 0;
+    protected long bytesRead = 0;
 
     /**
      * The {@link GedcomParser} we're reading files for
      */
     protected final GedcomParser parser;
 
+    /**
+     * A block of bytes read from the stream, for readers that work through the bytes themselves rather than handing the
+     * stream to a {@link java.io.Reader}. Allocated on first use by {@link #fillBlock(int)}.
+     */
+    protected byte[] block;
+
+    /**
+     * Index of the next unread byte in {@link #block}
+     */
+    protected int blockPos = 0;
+
+    /**
+     * Index just past the last valid byte in {@link #block}
+     */
+    protected int blockLimit = 0;
+
     /**
      * Constructor.
      * 
@@ -84,6 +105,38 @@ abstract class AbstractEncodingSpecificReader {
      */
     public abstract String nextLine() throws IOException, GedcomParserException;
 
+    /**
+     * Make sure there are at least the specified number of unread bytes in {@link #block}, reading more from the
+     * stream if needed. Any unread bytes are moved to the front of the block before more are read.
+     * 
+     * @param needed
+     *            the number of unread bytes needed
+     * @return true if there are at least that many unread bytes in the block, or false if the end of the stream was
+     *         reached first
+     * @throws IOException
+     *             if the stream cannot be read
+     */
+    protected boolean fillBlock(int needed) throws IOException {
+        int unread = blockLimit - blockPos;
+        if (unread >= needed) {
+            return true;
+        }
+        if (block == null) {
+            block = new byte[BLOCK_SIZE];
+        }
+        System.arraycopy(block, blockPos, block, 0, unread);
+        blockPos = 0;
+        blockLimit = unread;
+        while (blockLimit < needed) {
+            int r = byteStream.read(block, blockLimit, block.length - blockLimit);
+            if (r < 0) {
+                return false;
+            }
+            blockLimit += r;
+        }
+        return true;
+    }
+
     /**
      * Close resources that might have been opened in the concrete class
      * 
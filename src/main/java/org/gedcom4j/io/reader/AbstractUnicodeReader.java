@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.io.reader;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.parser.GedcomParser;
+
+/**
+ * A base class for readers of two-byte-per-character Unicode data. Bytes are read from the stream a block at a time, and
+ * each line is assembled in a reusable character buffer. The concrete classes just say which byte order they handle.
+ * 
+ * @author frizbog
+ */
+abstract class AbstractUnicodeReader extends AbstractEncodingSpecificReader {
+
+    /**
+     * The byte order mark character, which is discarded if it's found at the beginning of the file
+     */
+    private static final char BYTE_ORDER_MARK = 0xFEFF;
+
+    /**
+     * Are we at the end of file yet?
+     */
+    private boolean eof = false;
+
+    /**
+     * Are we still at the beginning of the file (i.e., haven't read any characters yet)?
+     */
+    private boolean beginningOfFile = true;
+
+    /**
+     * Is the data big-endian? If not, it's little-endian.
+     */
+    private final boolean bigEndian;
+
+    /**
+     * The line buffer for the current line. Grows as needed.
+     */
+    private char[] lineBuffer = new char[256];
+
+    /**
+     * The number of characters in the {@link #lineBuffer} for the current line
+     */
+    private int lineLength = 0;
+
+    /**
+     * Constructor
+     * 
+     * @param parser
+     *            the {@link GedcomParser} which is using this object to read files
+     * @param byteStream
+     *            the stream of data to be read
+     * @param bigEndian
+     *            true if the data is big-endian, false if it's little-endian
+     */
+    AbstractUnicodeReader(GedcomParser parser, InputStream byteStream, boolean bigEndian) {
+        super(parser, byteStream);
+        this.bigEndian = bigEndian;
+    }
+
+    @Override
+    public String nextLine() throws IOException, GedcomParserException {
+        while (!eof) {
+            if (!fillBlock(2)) {
+                // hit EOF - account for any odd byte left over, add final line buffer (last line) and get out
+                bytesRead += blockLimit - blockPos;
+                blockPos = blockLimit;
+                eof = true;
+                break;
+            }
+            int b1 = block[blockPos++] & 0xFF;
+            int b2 = block[blockPos++] & 0xFF;
+            bytesRead += 2;
+            char c = (char) (bigEndian ? b1 << 8 | b2 : b2 << 8 | b1);
+
+            // If it's a byte order marker at the beginning of the file, discard it
+            if (beginningOfFile) {
+                beginningOfFile = false;
+                if (c == BYTE_ORDER_MARK) {
+                    continue;
+                }
+            }
+
+            // Check for carriage returns or line feeds - signify EOL
+            if (c == 0x0D || c == 0x0A) {
+                if (lineLength > 0) {
+                    return takeLine();
+                }
+                continue;
+            }
+
+            if (lineLength == lineBuffer.length) {
+                char[] bigger = new char[lineBuffer.length * 2];
+                System.arraycopy(lineBuffer, 0, bigger, 0, lineLength);
+                lineBuffer = bigger;
+            }
+            lineBuffer[lineLength++] = c;
+        }
+        if (lineLength > 0) {
+            return takeLine();
+        }
+        return null;
+    }
+
+    @Override
+    void cleanUp() throws IOException {
+        // do nothing
+    }
+
+    /**
+     * Make a string of the current line, and empty the line buffer for the next one
+     * 
+     * @return the current line
+     */
+    private String takeLine() {
+        String result = new String(lineBuffer, 0, lineLength);
+        lineLength = 0;
+        linesRead++;
+        return result;
+    }
+
+}
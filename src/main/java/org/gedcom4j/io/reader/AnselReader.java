@@ -28,7 +28,6 @@ package org.gedcom4j.io.reader;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Arrays;
 
 import org.gedcom4j.exception.GedcomParserException;
 import org.gedcom4j.io.encoding.AnselHandler;
@@ -36,7 +35,8 @@ import org.gedcom4j.parser.GedcomParser;
 
 /**
  * A reader that reads a single line from an ANSEL-encoded file. This implementation handles ANSEL encoding (1 byte per
- * character, some extended character support).
+ * character, some extended character support). Bytes are read from the stream a block at a time, and lines are
+ * assembled and decoded in reusable buffers.
  * 
  * @author frizbog
  */
@@ -72,6 +72,12 @@ final class AnselReader extends AbstractEncodingSpecificReader {
      */
     private final char[] lineBuffer = new char[256];
 
+    /**
+     * Buffer for the decoded contents of {@link #lineBuffer}. Decoding ANSEL never produces more characters than it
+     * consumes.
+     */
+    private final char[] decodedBuffer = new char[lineBuffer.length];
+
     /**
      * Prior character read
      */
@@ -110,9 +116,11 @@ final class AnselReader extends AbstractEncodingSpecificReader {
         while (!eof) {
             int twoCharsBack = oneCharBack;
             oneCharBack = currChar;
-            currChar = byteStream.read();
-            if (currChar >= 0) {
+            if (fillBlock(1)) {
+                currChar = block[blockPos++] & 0xFF;
                 bytesRead++;
+            } else {
+                currChar = -1;
             }
 
             // Check for EOF
@@ -247,11 +255,10 @@ final class AnselReader extends AbstractEncodingSpecificReader {
     private String getThisLine() {
         String result = null;
         if (lineBufferIdx > 0) {
-            String s = new String(lineBuffer).substring(0, lineBufferIdx - holdingBinIdx);
-            result = anselHandler.toUtf16(s);
+            int len = anselHandler.toUtf16(lineBuffer, 0, lineBufferIdx - holdingBinIdx, decodedBuffer, 0);
+            result = new String(decodedBuffer, 0, len);
         }
         linesRead++;
-        Arrays.fill(lineBuffer, ' ');
         lineBufferIdx = 0;
         return result;
     }
@@ -45,9 +45,14 @@ final class AsciiReader extends AbstractEncodingSpecificReader {
     private boolean eof = false;
 
     /**
-     * The line buffer for the current line
+     * The line buffer for the current line. Grows as needed.
      */
-    private final StringBuilder lineBuffer = new StringBuilder();
+    private char[] lineBuffer = new char[256];
+
+    /**
+     * The number of characters in the {@link #lineBuffer} for the current line
+     */
+    private int lineLength = 0;
 
     /**
      * Constructor
@@ -66,38 +71,43 @@ final class AsciiReader extends AbstractEncodingSpecificReader {
     public String nextLine() throws IOException, GedcomParserException {
         String result = null;
         while (!eof) {
-            int currChar = byteStream.read();
-            if (currChar >= 0) {
-                bytesRead++;
-            }
-
             // Check for EOF
-            if (currChar < 0) {
+            if (!fillBlock(1)) {
                 // hit EOF - add final line buffer (last line) and get out
                 eof = true;
-                if (lineBuffer.length() > 0) {
-                    result = lineBuffer.toString();
+                if (lineLength > 0) {
+                    result = takeLine();
                 }
                 break;
             }
+            int currChar = block[blockPos++] & 0xFF;
+            bytesRead++;
 
             // Ignore leading spaces
-            if (currChar == ' ' && lineBuffer.length() == 0) {
+            if (currChar == ' ' && lineLength == 0) {
                 continue;
             }
 
             // Check for carriage returns or line feeds - signify EOL
-            if ((currChar == 0x0D || currChar == 0x0A) && lineBuffer.length() > 0) {
-                result = lineBuffer.toString();
-                lineBuffer.setLength(0);
-                break;
+            if (currChar == 0x0D || currChar == 0x0A) {
+                if (lineLength > 0) {
+                    result = takeLine();
+                    break;
+                }
+                // Otherwise, ignore the extra line break characters
+                continue;
             }
 
             // All other characters in 0x00 to 0x7F range are treated the
             // same,
             // regardless of encoding, and added as is
             if (currChar < 0x80) {
-                lineBuffer.append(Character.valueOf((char) currChar));
+                if (lineLength == lineBuffer.length) {
+                    char[] bigger = new char[lineBuffer.length * 2];
+                    System.arraycopy(lineBuffer, 0, bigger, 0, lineLength);
+                    lineBuffer = bigger;
+                }
+                lineBuffer[lineLength++] = (char) currChar;
                 continue;
             }
 
@@ -112,4 +122,16 @@ final class AsciiReader extends AbstractEncodingSpecificReader {
         // do nothing
     }
 
+    /**
+     * Make a string of the current line, and empty the line buffer for the next one
+     * 
+     * @return the current line
+     */
+    private String takeLine() {
+        String result = new String(lineBuffer, 0, lineLength);
+        lineLength = 0;
+        linesRead++;
+        return result;
+    }
+
 }
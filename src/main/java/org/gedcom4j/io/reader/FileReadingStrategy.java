@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.io.reader;
+
+/**
+ * The strategies available for getting the bytes of a GEDCOM file off the disk and into the {@link GedcomFileReader}.
+ * 
+ * @author frizbog
+ * @since 3.0.2
+ */
+public enum FileReadingStrategy {
+    /**
+     * Read the file through a {@link java.io.BufferedInputStream}. This is the default, and works everywhere.
+     */
+    BUFFERED_STREAM,
+    /**
+     * Map the file into memory in large windows using a {@link java.nio.MappedByteBuffer}, and find line boundaries by
+     * scanning the mapped bytes directly. Usually faster for very large files, but the mapped regions are only released
+     * when they are garbage collected, which on some platforms keeps the file locked for a while after loading.
+     */
+    MEMORY_MAPPED
+}
@@ -27,6 +27,8 @@
 package org.gedcom4j.io.reader;
 
 import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 import java.util.List;
 
 import org.gedcom4j.exception.GedcomParserException;
@@ -61,14 +63,20 @@ public final class GedcomFileReader {
     final byte[] firstChunk = new byte[FIRST_CHUNK_SIZE];
 
     /**
-     * The buffered input stream of bytes to read
+     * The input stream of bytes to read. Must support {@link InputStream#mark(int)} and {@link InputStream#reset()}.
      */
-    private final BufferedInputStream byteStream;
+    private final InputStream byteStream;
+
+    /**
+     * The memory-mapped file being read, if the file is being read using {@link FileReadingStrategy#MEMORY_MAPPED}.
+     * Null otherwise.
+     */
+    private final MappedFileInputStream mappedFile;
 
     /**
      * The encoding-specific reader helper class to actually read the bytes
      */
-    private final AbstractEncodingSpecificReader encodingSpecificReader;
+    final AbstractEncodingSpecificReader encodingSpecificReader;
 
     /**
      * The {@link GedcomParser} we're reading files for
@@ -80,6 +88,11 @@ public final class GedcomFileReader {
      */
     private int linesProcessed = 0;
 
+    /**
+     * The total number of bytes expected to be read, or -1 if not known
+     */
+    private final long totalBytes;
+
     /**
      * Constructor
      * 
@@ -94,8 +107,72 @@ public final class GedcomFileReader {
      *             if the file is using an unsupported character encoding
      */
     public GedcomFileReader(GedcomParser parser, BufferedInputStream bufferedInputStream) throws IOException, UnsupportedGedcomCharsetException {
+        this(parser, bufferedInputStream, -1);
+    }
+
+    /**
+     * Constructor, for when the total number of bytes to be read is known in advance (e.g., from the file's length), so
+     * progress events can report it
+     * 
+     * @param parser
+     *            the {@link GedcomParser} which is using this object to read files
+     * 
+     * @param bufferedInputStream
+     *            the buffered input stream of bytes
+     * @param totalBytes
+     *            the total number of bytes expected to be read from the stream, or -1 if not known
+     * @throws IOException
+     *             if there is a problem reading the data
+     * @throws UnsupportedGedcomCharsetException
+     *             if the file is using an unsupported character encoding
+     * @since 3.0.2
+     */
+    public GedcomFileReader(GedcomParser parser, BufferedInputStream bufferedInputStream, long totalBytes) throws IOException,
+            UnsupportedGedcomCharsetException {
         this.parser = parser;
+        this.totalBytes = totalBytes;
         byteStream = bufferedInputStream;
+        mappedFile = null;
+        saveFirstChunk();
+        encodingSpecificReader = getEncodingSpecificReader();
+    }
+
+    /**
+     * Constructor for reading a file by memory-mapping it (see {@link FileReadingStrategy#MEMORY_MAPPED}). Reading
+     * begins at the channel's current position. The channel is not closed by this class.
+     * 
+     * @param parser
+     *            the {@link GedcomParser} which is using this object to read files
+     * @param fileChannel
+     *            the channel for the file to be read
+     * @throws IOException
+     *             if there is a problem mapping or reading the data
+     * @throws UnsupportedGedcomCharsetException
+     *             if the file is using an unsupported character encoding
+     */
+    public GedcomFileReader(GedcomParser parser, FileChannel fileChannel) throws IOException, UnsupportedGedcomCharsetException {
+        this(parser, fileChannel, MappedFileInputStream.DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Constructor for reading a file by memory-mapping it, with a specific size for the mapped windows
+     * 
+     * @param parser
+     *            the {@link GedcomParser} which is using this object to read files
+     * @param fileChannel
+     *            the channel for the file to be read
+     * @param windowSize
+     *            the size of each mapped window of the file, in bytes
+     * @throws IOException
+     *             if there is a problem mapping or reading the data
+     * @throws UnsupportedGedcomCharsetException
+     *             if the file is using an unsupported character encoding
+     */
+    GedcomFileReader(GedcomParser parser, FileChannel fileChannel, int windowSize) throws IOException, UnsupportedGedcomCharsetException {
+        this.parser = parser;
+        totalBytes = fileChannel.size() - fileChannel.position();
+        mappedFile = new MappedFileInputStream(fileChannel, windowSize);
+        byteStream = mappedFile;
         saveFirstChunk();
         encodingSpecificReader = getEncodingSpecificReader();
     }
@@ -116,7 +193,7 @@ public final class GedcomFileReader {
         String result = encodingSpecificReader.nextLine();
         linesProcessed++;
         if (linesProcessed % parser.getReadNotificationRate() == 0 || result == null) {
-            parser.notifyFileObservers(new FileProgressEvent(this, linesProcessed, encodingSpecificReader.bytesRead, result == null));
+            parser.notifyFileObservers(new FileProgressEvent(this, linesProcessed, encodingSpecificReader.bytesRead, totalBytes, result == null));
         }
         return result;
     }
@@ -169,15 +246,15 @@ public final class GedcomFileReader {
                     if ("ANSEL".equalsIgnoreCase(e)) {
                         return new AnselReader(parser, byteStream);
                     } else if ("UTF-8".equalsIgnoreCase(e)) {
-                        return new Utf8Reader(parser, byteStream);
+                        return newUtf8Reader();
                     } else if ("ASCII".equalsIgnoreCase(e)) {
-                        return new AsciiReader(parser, byteStream);
+                        return newAsciiReader();
                     } else if ("ANSI".equalsIgnoreCase(e)) {
                         /*
                          * Technically, this is illegal, but UTF_8 is the most-likely-to-work scenario, so let's try it
                          * and be a bit forgiving
                          */
-                        return new Utf8Reader(parser, byteStream);
+                        return newUtf8Reader();
                     } else {
                         throw new UnsupportedGedcomCharsetException("Specified charset " + e + " is not a supported charset encoding for GEDCOMs");
                     }
@@ -214,6 +291,9 @@ public final class GedcomFileReader {
              * Special byte order marker to indicate UTF-8 encoding. Not every program does this, but if it does, we
              * KNOW it's UTF-8 and should discard the BOM
              */
+            if (mappedFile != null) {
+                return newUtf8Reader();
+            }
             AbstractEncodingSpecificReader result = new Utf8Reader(parser, byteStream);
             ((Utf8Reader) result).setByteOrderMarkerRead(true);
             return result;
@@ -245,6 +325,32 @@ public final class GedcomFileReader {
 
     }
 
+    /**
+     * Get a reader for ASCII data appropriate to how the file is being read
+     * 
+     * @return a reader for ASCII data
+     */
+    private AbstractEncodingSpecificReader newAsciiReader() {
+        if (mappedFile != null) {
+            return new MappedLineReader(parser, mappedFile, Charset.forName("US-ASCII"), true);
+        }
+        return new AsciiReader(parser, byteStream);
+    }
+
+    /**
+     * Get a reader for UTF-8 data appropriate to how the file is being read
+     * 
+     * @return a reader for UTF-8 data
+     * @throws IOException
+     *             if the reader cannot be set up over the byte stream
+     */
+    private AbstractEncodingSpecificReader newUtf8Reader() throws IOException {
+        if (mappedFile != null) {
+            return new MappedLineReader(parser, mappedFile, Charset.forName("UTF-8"), false);
+        }
+        return new Utf8Reader(parser, byteStream);
+    }
+
     /**
      * Save off a chunk of the beginning of the input stream to memory for easy inspection. The data is loaded into the
      * field
@@ -258,6 +364,14 @@ public final class GedcomFileReader {
         if (read < 0) {
             throw new IOException("Unable to read bytes off stream");
         }
+        // Streams are allowed to return fewer bytes than asked for, so keep going until the chunk is full
+        int total = read;
+        while (read >= 0 && total < FIRST_CHUNK_SIZE) {
+            read = byteStream.read(firstChunk, total, FIRST_CHUNK_SIZE - total);
+            if (read > 0) {
+                total += read;
+            }
+        }
         byteStream.reset();
 
     }
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.io.reader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+/**
+ * An {@link InputStream} over a file that is memory-mapped one window at a time, so files larger than a single
+ * {@link java.nio.MappedByteBuffer} can hold (2GB) can still be read. Readers that understand line structure can get at
+ * the current mapped window directly with {@link #currentWindow()} and scan it in place, rather than copying bytes out
+ * through the {@link InputStream} methods.
+ * 
+ * @author frizbog
+ */
+class MappedFileInputStream extends InputStream {
+
+    /**
+     * The default size of each mapped window - 64MB
+     */
+    static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * The channel for the file being read
+     */
+    private final FileChannel channel;
+
+    /**
+     * The total length of the file, in bytes
+     */
+    private final long length;
+
+    /**
+     * The size of each mapped window, in bytes
+     */
+    private final int windowSize;
+
+    /**
+     * The currently mapped window of the file
+     */
+    private ByteBuffer window;
+
+    /**
+     * The offset into the file at which the current window begins
+     */
+    private long windowStart;
+
+    /**
+     * The absolute position in the file saved by {@link #mark(int)}
+     */
+    private long markedPosition;
+
+    /**
+     * Constructor
+     * 
+     * @param channel
+     *            the channel of the file to read. Not closed by this class.
+     * @param windowSize
+     *            the size of each mapped window, in bytes
+     * @throws IOException
+     *             if the file cannot be mapped
+     */
+    MappedFileInputStream(FileChannel channel, int windowSize) throws IOException {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("Window size must be at least 1 byte");
+        }
+        this.channel = channel;
+        this.windowSize = windowSize;
+        length = channel.size();
+        mapWindowAt(channel.position());
+    }
+
+    @Override
+    public int available() throws IOException {
+        long remaining = length - getPosition();
+        return remaining > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) remaining;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+        markedPosition = getPosition();
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public int read() throws IOException {
+        ByteBuffer w = currentWindow();
+        if (w == null) {
+            return -1;
+        }
+        return w.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        ByteBuffer w = currentWindow();
+        if (w == null) {
+            return -1;
+        }
+        int n = Math.min(len, w.remaining());
+        w.get(b, off, n);
+        return n;
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        mapWindowAt(markedPosition);
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        if (n <= 0) {
+            return 0;
+        }
+        long pos = getPosition();
+        long skipped = Math.min(n, length - pos);
+        mapWindowAt(pos + skipped);
+        return skipped;
+    }
+
+    /**
+     * Get the mapped window containing the next unread byte, positioned at that byte. If the current window has been
+     * used up, the next one is mapped in.
+     * 
+     * @return the mapped window containing the next unread byte, or null if the end of the file has been reached
+     * @throws IOException
+     *             if the next window of the file cannot be mapped
+     */
+    ByteBuffer currentWindow() throws IOException {
+        if (!window.hasRemaining()) {
+            long next = windowStart + window.limit();
+            if (next >= length) {
+                return null;
+            }
+            mapWindowAt(next);
+        }
+        return window;
+    }
+
+    /**
+     * Get the absolute position in the file of the next byte to be read - which is also the number of bytes consumed so
+     * far
+     * 
+     * @return the absolute position in the file of the next byte to be read
+     */
+    long getPosition() {
+        return windowStart + window.position();
+    }
+
+    /**
+     * Map the window of the file that begins at the supplied position
+     * 
+     * @param position
+     *            the absolute position in the file where the window should begin
+     * @throws IOException
+     *             if the file cannot be mapped
+     */
+    private void mapWindowAt(long position) throws IOException {
+        windowStart = position;
+        long size = Math.min(windowSize, length - position);
+        window = channel.map(MapMode.READ_ONLY, position, size);
+    }
+
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.io.reader;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.parser.GedcomParser;
+
+/**
+ * A reader for memory-mapped files in encodings where carriage returns and line feeds are always single bytes - UTF-8
+ * and ASCII. Line boundaries are found by scanning the mapped bytes in place, and each line is decoded from the mapped
+ * bytes in one go, without going through an {@link java.io.InputStreamReader}.
+ * 
+ * @author frizbog
+ */
+final class MappedLineReader extends AbstractEncodingSpecificReader {
+
+    /**
+     * Byte value for a carriage return
+     */
+    private static final byte CR = 0x0D;
+
+    /**
+     * Byte value for a line feed
+     */
+    private static final byte LF = 0x0A;
+
+    /**
+     * The mapped file being read
+     */
+    private final MappedFileInputStream mappedFile;
+
+    /**
+     * The character set to decode lines with
+     */
+    private final Charset charset;
+
+    /**
+     * Is this an ASCII file? If so, leading spaces are trimmed and extended characters are rejected, as the
+     * {@link AsciiReader} does.
+     */
+    private final boolean ascii;
+
+    /**
+     * Holding area for the bytes of a line, used only when the line straddles two mapped windows
+     */
+    private byte[] lineBytes = new byte[256];
+
+    /**
+     * The number of bytes currently in {@link #lineBytes}
+     */
+    private int lineLength;
+
+    /**
+     * Are we at the end of file yet?
+     */
+    private boolean eof = false;
+
+    /**
+     * Constructor
+     * 
+     * @param parser
+     *            the {@link GedcomParser} which is using this object to read files
+     * @param mappedFile
+     *            the mapped file to read
+     * @param charset
+     *            the character set to decode the lines with - must be one where CR and LF are single bytes
+     * @param ascii
+     *            true if the file is ASCII, in which case leading spaces are trimmed and extended characters are
+     *            rejected
+     */
+    MappedLineReader(GedcomParser parser, MappedFileInputStream mappedFile, Charset charset, boolean ascii) {
+        super(parser, mappedFile);
+        this.mappedFile = mappedFile;
+        this.charset = charset;
+        this.ascii = ascii;
+    }
+
+    @Override
+    public String nextLine() throws IOException, GedcomParserException {
+        String result = null;
+        while (result == null && !eof) {
+            ByteBuffer window = mappedFile.currentWindow();
+            if (window == null) {
+                eof = true;
+                result = decodeHeldLine();
+                break;
+            }
+            int start = window.position();
+            int limit = window.limit();
+            int end = start;
+            if (lineLength == 0) {
+                // Skip line terminators left over from previous lines (and leading spaces, for ASCII)
+                while (end < limit && isSkippableAtStartOfLine(window.get(end))) {
+                    end++;
+                }
+                start = end;
+            }
+            while (end < limit && window.get(end) != CR && window.get(end) != LF) {
+                end++;
+            }
+            window.position(end);
+            if (end < limit) {
+                // Found the end of the line in this window
+                if (lineLength == 0) {
+                    result = decode(window, start, end - start);
+                } else {
+                    holdBytes(window, start, end - start);
+                    result = decodeHeldLine();
+                }
+            } else {
+                // Line continues into the next window, so hang onto what we have so far
+                holdBytes(window, start, end - start);
+            }
+        }
+        bytesRead = mappedFile.getPosition();
+        if (result != null) {
+            linesRead++;
+        }
+        return result;
+    }
+
+    @Override
+    void cleanUp() throws IOException {
+        // do nothing
+    }
+
+    /**
+     * Decode a run of bytes from the mapped window into a line of text
+     * 
+     * @param window
+     *            the mapped window
+     * @param start
+     *            the index into the window where the line starts
+     * @param len
+     *            the number of bytes in the line
+     * @return the decoded line, or null if there was nothing to decode
+     * @throws IOException
+     *             if the file is ASCII and an extended character is found
+     */
+    private String decode(ByteBuffer window, int start, int len) throws IOException {
+        if (len == 0) {
+            return null;
+        }
+        if (window.hasArray()) {
+            return decode(window.array(), window.arrayOffset() + start, len);
+        }
+        ensureLineBytesCapacity(len);
+        ByteBuffer slice = window.duplicate();
+        slice.position(start);
+        slice.get(lineBytes, 0, len);
+        return decode(lineBytes, 0, len);
+    }
+
+    /**
+     * Decode a run of bytes into a line of text
+     * 
+     * @param bytes
+     *            the bytes
+     * @param offset
+     *            the index of the first byte of the line
+     * @param len
+     *            the number of bytes in the line
+     * @return the decoded line, or null if the line turned out to be empty
+     * @throws IOException
+     *             if the file is ASCII and an extended character is found
+     */
+    private String decode(byte[] bytes, int offset, int len) throws IOException {
+        if (ascii) {
+            for (int i = offset; i < offset + len; i++) {
+                if (bytes[i] < 0) {
+                    throw new IOException("Extended characters not supported in ASCII: 0x" + Integer.toHexString(bytes[i] & 0xFF));
+                }
+            }
+        }
+        String s = new String(bytes, offset, len, charset);
+        // Strip off Byte Order Mark if needed
+        if (s.length() > 0 && s.charAt(0) == (char) 0xFEFF) {
+            s = s.substring(1);
+        }
+        return s.length() == 0 ? null : s;
+    }
+
+    /**
+     * Decode the bytes being held over from previous windows, and empty the holding area
+     * 
+     * @return the decoded line, or null if no bytes were being held
+     * @throws IOException
+     *             if the file is ASCII and an extended character is found
+     */
+    private String decodeHeldLine() throws IOException {
+        if (lineLength == 0) {
+            return null;
+        }
+        int len = lineLength;
+        lineLength = 0;
+        return decode(lineBytes, 0, len);
+    }
+
+    /**
+     * Make sure the holding area for line bytes has room for at least the specified number of bytes
+     * 
+     * @param capacity
+     *            the number of bytes needed
+     */
+    private void ensureLineBytesCapacity(int capacity) {
+        if (lineBytes.length < capacity) {
+            byte[] bigger = new byte[Math.max(capacity, lineBytes.length * 2)];
+            System.arraycopy(lineBytes, 0, bigger, 0, lineLength);
+            lineBytes = bigger;
+        }
+    }
+
+    /**
+     * Copy a run of bytes from the mapped window onto the end of the holding area
+     * 
+     * @param window
+     *            the mapped window
+     * @param start
+     *            the index into the window of the first byte to hold
+     * @param len
+     *            the number of bytes to hold
+     */
+    private void holdBytes(ByteBuffer window, int start, int len) {
+        ensureLineBytesCapacity(lineLength + len);
+        ByteBuffer slice = window.duplicate();
+        slice.position(start);
+        slice.get(lineBytes, lineLength, len);
+        lineLength += len;
+    }
+
+    /**
+     * Can this byte be skipped when it's found before the first real character of a line?
+     * 
+     * @param b
+     *            the byte
+     * @return true if the byte is a line terminator, or a space in an ASCII file
+     */
+    private boolean isSkippableAtStartOfLine(byte b) {
+        return b == CR || b == LF || ascii && b == ' ';
+    }
+
+}
@@ -44,7 +44,7 @@ class ProgressTrackingInputStream extends InputStream {
     /**
      * The number of bytes read on this input stream
      */
-    private int bytesRead = 0;
+    private long bytesRead = 0;
 
     /**
      * Constructor
@@ -88,7 +88,7 @@ class ProgressTrackingInputStream extends InputStream {
      * 
      * @return the bytesRead
      */
-    int getBytesRead() {
+    long getBytesRead() {
         return bytesRead;
     }
 
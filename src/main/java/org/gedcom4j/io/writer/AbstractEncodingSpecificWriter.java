@@ -59,7 +59,7 @@ abstract class AbstractEncodingSpecificWriter {
     /**
      * The number of bytes written
      */
-    protected int bytesWritten;
+    protected long bytesWritten;
 
     /**
      * When we've exceeded this many line written, notify the listeners and update this value based on the rate
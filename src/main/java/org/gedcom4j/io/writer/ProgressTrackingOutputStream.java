@@ -40,7 +40,7 @@ class ProgressTrackingOutputStream extends OutputStream {
     /**
      * The number of bytes written to this stream
      */
-    int bytesWritten;
+    long bytesWritten;
 
     /**
      * The output stream being decorated
@@ -83,7 +83,7 @@ class ProgressTrackingOutputStream extends OutputStream {
      * 
      * @return the bytesWritten
      */
-    int getBytesWritten() {
+    long getBytesWritten() {
         return bytesWritten;
     }
 
@@ -68,6 +68,18 @@ public abstract class AbstractEvent extends AbstractElement {
      */
     protected StringWithCustomTags date;
 
+    /**
+     * The sortable key for the date, worked out when the date was loaded. Not part of the equality of this object, since
+     * it is derived from the date.
+     */
+    protected long dateSortKey = DateSortKey.NONE;
+
+    /**
+     * The value of the date that {@link #dateSortKey} was worked out for, so the key isn't used once the value has been
+     * changed through {@link StringWithCustomTags#setValue(String)}
+     */
+    protected String dateSortKeyValue;
+
     /**
      * A description of this event
      */
@@ -340,6 +352,29 @@ public abstract class AbstractEvent extends AbstractElement {
         return date;
     }
 
+    /**
+     * Get the sortable key for the date, worked out when the file was loaded with date parsing turned on. See
+     * {@link DateSortKey}.
+     * 
+     * @return the sortable key for the date. {@link DateSortKey#NONE} if there is no date, it was not parsed, or its value
+     *         has been changed since, and {@link DateSortKey#UNPARSEABLE} if the date could not be understood.
+     * @since 3.0.2
+     */
+    public long getDateSortKey() {
+        return date != null && date.getValue() == dateSortKeyValue ? dateSortKey : DateSortKey.NONE;
+    }
+
+    /**
+     * Was the date found to be one that could not be understood when it was loaded? Lets code that works with dates
+     * skip the ones known to be bad without trying to parse them again.
+     * 
+     * @return true if the date was parsed when loaded, could not be understood, and hasn't been changed since
+     * @since 3.0.2
+     */
+    public boolean isDateUnparseable() {
+        return getDateSortKey() == DateSortKey.UNPARSEABLE;
+    }
+
     /**
      * Gets the description.
      *
@@ -609,6 +644,21 @@ public abstract class AbstractEvent extends AbstractElement {
      */
     public void setDate(StringWithCustomTags date) {
         this.date = date;
+        dateSortKey = DateSortKey.NONE;
+        dateSortKeyValue = null;
+    }
+
+    /**
+     * Set the sortable key for the current value of the date. Setting the date, or changing its value, clears the key,
+     * so this must be set after the date.
+     * 
+     * @param dateSortKey
+     *            the sortable key for the date. See {@link DateSortKey}.
+     * @since 3.0.2
+     */
+    public void setDateSortKey(long dateSortKey) {
+        this.dateSortKey = dateSortKey;
+        dateSortKeyValue = (date == null ? null : date.getValue());
     }
 
     /**
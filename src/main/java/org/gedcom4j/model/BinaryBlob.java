@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * <p>
+ * The decoded binary data of a GEDCOM 5.5 embedded multimedia object (the <code>BLOB</code> tag), as an alternative to
+ * keeping the encoded lines of text in {@link Multimedia#getBlob()}. The bytes take three-quarters of the space of the
+ * encoded text (less than half, counting the overhead of all the strings), and can be held on the heap, in a direct
+ * {@link ByteBuffer} outside the heap, or in a temporary file.
+ * </p>
+ * <p>
+ * Blobs held in a direct buffer or a temporary file are converted to bytes on the heap when serialized. A temporary
+ * file belongs to whoever loaded the blob: it is deleted when {@link #release()} is called, and not otherwise, so
+ * callers that keep blobs in temporary files must release them when they are done with them.
+ * </p>
+ * 
+ * @author frizbog
+ * @since 3.0.2
+ */
+public class BinaryBlob implements Serializable {
+
+    /**
+     * Serial Version UID
+     */
+    private static final long serialVersionUID = -3349218724096128640L;
+
+    /**
+     * The bytes, if held on the heap
+     */
+    private transient byte[] bytes;
+
+    /**
+     * The bytes, if held in a buffer
+     */
+    private transient ByteBuffer buffer;
+
+    /**
+     * The file holding the bytes, if held in a file
+     */
+    private transient File file;
+
+    /**
+     * The number of bytes
+     */
+    private transient long length;
+
+    /**
+     * Constructor, for bytes held on the heap
+     * 
+     * @param bytes
+     *            the bytes. Required. Not copied, so should not be changed afterwards.
+     */
+    public BinaryBlob(byte[] bytes) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("bytes are required");
+        }
+        this.bytes = bytes;
+        length = bytes.length;
+    }
+
+    /**
+     * Constructor, for bytes held in a buffer (usually a direct buffer, outside the heap)
+     * 
+     * @param buffer
+     *            the buffer holding the bytes, from its position to its limit. Required. Not copied, so should not be
+     *            changed afterwards.
+     */
+    public BinaryBlob(ByteBuffer buffer) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("buffer is required");
+        }
+        this.buffer = buffer.slice();
+        length = this.buffer.remaining();
+    }
+
+    /**
+     * Constructor, for bytes held in a temporary file. The file is deleted when the blob is {@link #release()}d, which
+     * the caller is responsible for.
+     * 
+     * @param file
+     *            the file holding the bytes. Required.
+     */
+    public BinaryBlob(File file) {
+        if (file == null) {
+            throw new IllegalArgumentException("file is required");
+        }
+        this.file = file;
+        length = file.length();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        BinaryBlob other = (BinaryBlob) obj;
+        if (length != other.length) {
+            return false;
+        }
+        try {
+            return Arrays.equals(getBytes(), other.getBytes());
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Get a copy of the bytes, on the heap
+     * 
+     * @return a copy of the bytes
+     * @throws IOException
+     *             if the bytes are held in a file and it can't be read
+     */
+    public byte[] getBytes() throws IOException {
+        if (bytes != null) {
+            return bytes.clone();
+        }
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("Blob of " + length + " bytes is too big to fit in an array");
+        }
+        byte[] result = new byte[(int) length];
+        InputStream in = openStream();
+        try {
+            int total = 0;
+            while (total < result.length) {
+                int r = in.read(result, total, result.length - total);
+                if (r < 0) {
+                    throw new IOException("Blob file " + file + " is shorter than expected");
+                }
+                total += r;
+            }
+        } finally {
+            in.close();
+        }
+        return result;
+    }
+
+    /**
+     * Get the file holding the bytes, if they are held in a file
+     * 
+     * @return the file holding the bytes, or null if they are not held in a file
+     */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Get the number of bytes
+     * 
+     * @return the number of bytes
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        // Hashing the content would mean reading it, which may be expensive, so only the length is used
+        return (int) (length ^ (length >>> 32));
+    }
+
+    /**
+     * Open a stream to read the bytes from, which the caller must close
+     * 
+     * @return a stream over the bytes
+     * @throws IOException
+     *             if the bytes are held in a file and it can't be opened
+     */
+    public InputStream openStream() throws IOException {
+        if (bytes != null) {
+            return new ByteArrayInputStream(bytes);
+        }
+        if (buffer != null) {
+            final ByteBuffer b = buffer.duplicate();
+            return new InputStream() {
+                @Override
+                public int available() {
+                    return b.remaining();
+                }
+
+                @Override
+                public int read() {
+                    return b.hasRemaining() ? b.get() & 0xFF : -1;
+                }
+
+                @Override
+                public int read(byte[] dest, int off, int len) {
+                    if (!b.hasRemaining()) {
+                        return -1;
+                    }
+                    int n = Math.min(len, b.remaining());
+                    b.get(dest, off, n);
+                    return n;
+                }
+            };
+        }
+        return new BufferedInputStream(new FileInputStream(file));
+    }
+
+    /**
+     * Release the storage held by the blob, deleting its temporary file if it has one. The blob can't be used
+     * afterwards.
+     * 
+     * @throws IOException
+     *             if the blob is held in a file that can't be deleted
+     */
+    public void release() throws IOException {
+        if (file != null && file.exists() && !file.delete()) {
+            throw new IOException("Unable to delete blob file " + file);
+        }
+        bytes = new byte[0];
+        buffer = null;
+        file = null;
+        length = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("BinaryBlob [length=");
+        builder.append(length);
+        if (file != null) {
+            builder.append(", file=");
+            builder.append(file);
+        } else if (buffer != null) {
+            builder.append(", direct=");
+            builder.append(buffer.isDirect());
+        }
+        builder.append("]");
+        return builder.toString();
+    }
+
+    /**
+     * Read the blob back in when deserializing, always onto the heap
+     * 
+     * @param in
+     *            the stream to read from
+     * @throws IOException
+     *             if the stream can't be read
+     * @throws ClassNotFoundException
+     *             never, but part of the signature required by serialization
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        bytes = (byte[]) in.readObject();
+        length = bytes.length;
+    }
+
+    /**
+     * Write the blob out when serializing, as an array of bytes
+     * 
+     * @param out
+     *            the stream to write to
+     * @throws IOException
+     *             if the stream can't be written, or the bytes are held in a file that can't be read
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeObject(getBytes());
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.model;
+
+/**
+ * <p>
+ * Helpers for the sortable date keys that can be worked out for the dates of events and LDS ordinances as a file is
+ * loaded (see <code>LoadOptions.setParsingDates(boolean)</code> in the parser package). A key packs the earliest and
+ * latest days a date value could refer to into a <code>long</code>, so that sorting events by key sorts them by their
+ * earliest day, then their latest day, without parsing the date strings again.
+ * </p>
+ * <p>
+ * Days are numbered from 1 January 1970, like {@link java.util.Date}. Two values are set aside: {@link #NONE} for an
+ * element with no date or whose date was not parsed, and {@link #UNPARSEABLE} for a date that could not be understood,
+ * which sorts after all the dates that could.
+ * </p>
+ * 
+ * @author frizbog
+ * @since 3.0.2
+ */
+public final class DateSortKey {
+
+    /**
+     * The key for an element that has no date, or whose date was not parsed when loaded
+     */
+    public static final long NONE = Long.MIN_VALUE;
+
+    /**
+     * The key for an element whose date could not be understood
+     */
+    public static final long UNPARSEABLE = Long.MAX_VALUE;
+
+    /**
+     * Flipping the sign bit of the latest day makes it sort correctly as an unsigned number in the low half of the key
+     */
+    private static final int SIGN_BIT = 0x80000000;
+
+    /**
+     * Private constructor prevents instantiation and subclassing
+     */
+    private DateSortKey() {
+        super();
+    }
+
+    /**
+     * Get the earliest day a date could refer to, from its key
+     * 
+     * @param key
+     *            the key, which must be for a date (see {@link #isDate(long)})
+     * @return the earliest day, as a number of days since 1 January 1970
+     */
+    public static int getEarliestDayNumber(long key) {
+        return (int) (key >> 32);
+    }
+
+    /**
+     * Get the latest day a date could refer to, from its key
+     * 
+     * @param key
+     *            the key, which must be for a date (see {@link #isDate(long)})
+     * @return the latest day, as a number of days since 1 January 1970
+     */
+    public static int getLatestDayNumber(long key) {
+        return (int) key ^ SIGN_BIT;
+    }
+
+    /**
+     * Is the key for a date that was understood, rather than {@link #NONE} or {@link #UNPARSEABLE}?
+     * 
+     * @param key
+     *            the key
+     * @return true if the key is for a date that was understood
+     */
+    public static boolean isDate(long key) {
+        return key != NONE && key != UNPARSEABLE;
+    }
+
+    /**
+     * Make the key for a date
+     * 
+     * @param earliestDayNumber
+     *            the earliest day the date could refer to, as a number of days since 1 January 1970
+     * @param latestDayNumber
+     *            the latest day the date could refer to, as a number of days since 1 January 1970
+     * @return the key
+     */
+    public static long of(int earliestDayNumber, int latestDayNumber) {
+        return (long) earliestDayNumber << 32 | (latestDayNumber ^ SIGN_BIT) & 0xFFFFFFFFL;
+    }
+}
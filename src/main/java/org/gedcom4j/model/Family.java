@@ -26,6 +26,7 @@
  */
 package org.gedcom4j.model;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -42,6 +43,63 @@ public class Family extends AbstractElement {
      */
     private static final long serialVersionUID = -2614258744184662622L;
 
+    /**
+     * The fields of a family that most families don't use, kept apart so they only take up space in the families
+     * that use them
+     */
+    private static final class Extras implements Serializable {
+
+        /**
+         * Serial Version UID
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The LDS Spouse Sealings for this family
+         */
+        private List<LdsSpouseSealing> ldsSpouseSealings;
+
+        /**
+         * The number of children
+         */
+        private StringWithCustomTags numChildren;
+
+        /**
+         * The permanent record file number
+         */
+        private StringWithCustomTags recFileNumber;
+
+        /**
+         * A notification that this record is in some way restricted. New for GEDCOM 5.5.1. Values are supposed to be
+         * "confidential", "locked", or "privacy" but this implementation allows any value.
+         */
+        private StringWithCustomTags restrictionNotice;
+
+        /**
+         * A list of the submitters for this family
+         */
+        private List<Submitter> submitters;
+
+        /**
+         * The user references for this submitter
+         */
+        private List<UserReference> userReferences;
+
+        /**
+         * Constructor
+         * 
+         * @param initializeCollections
+         *            whether the collections should be initialized
+         */
+        Extras(boolean initializeCollections) {
+            if (initializeCollections) {
+                ldsSpouseSealings = new ArrayList<LdsSpouseSealing>(0);
+                submitters = new ArrayList<Submitter>(0);
+                userReferences = new ArrayList<UserReference>(0);
+            }
+        }
+    }
+
     /**
      * The automated record ID number
      */
@@ -68,14 +126,15 @@ public class Family extends AbstractElement {
     private List<FamilyEvent> events = getEvents(Options.isCollectionInitializationEnabled());
 
     /**
-     * The husband in the family
+     * The fields that most families don't use. Null until one of them is set, unless collections are initialized, in
+     * which case they are created straight away, so reading them never changes anything.
      */
-    private Individual husband;
+    private Extras extras = Options.isCollectionInitializationEnabled() ? new Extras(true) : null;
 
     /**
-     * The LDS Spouse Sealings for this family
+     * The husband in the family
      */
-    private List<LdsSpouseSealing> ldsSpouseSealings = getLdsSpouseSealings(Options.isCollectionInitializationEnabled());
+    private Individual husband;
 
     /**
      * Multimedia links for this source citation
@@ -88,30 +147,9 @@ public class Family extends AbstractElement {
     private List<Note> notes = getNotes(Options.isCollectionInitializationEnabled());
 
     /**
-     * The number of children
-     */
-    private StringWithCustomTags numChildren;
-
-    /**
-     * The permanent record file number
-     */
-    private StringWithCustomTags recFileNumber;
-
-    /**
-     * A notification that this record is in some way restricted. New for GEDCOM 5.5.1. Values are supposed to be
-     * "confidential", "locked", or "privacy" but this implementation allows any value.
+     * The number of this family among the families of the file it was loaded from, or -1 if it wasn't loaded from a file
      */
-    private StringWithCustomTags restrictionNotice;
-
-    /**
-     * A list of the submitters for this family
-     */
-    private List<Submitter> submitters = getSubmitters(Options.isCollectionInitializationEnabled());
-
-    /**
-     * The user references for this submitter
-     */
-    private List<UserReference> userReferences = getUserReferences(Options.isCollectionInitializationEnabled());
+    private int ordinal = -1;
 
     /**
      * The wife in the family
@@ -181,11 +219,11 @@ public class Family extends AbstractElement {
         } else if (!husband.equals(other.husband)) {
             return false;
         }
-        if (ldsSpouseSealings == null) {
-            if (other.ldsSpouseSealings != null) {
+        if (getLdsSpouseSealings() == null) {
+            if (other.getLdsSpouseSealings() != null) {
                 return false;
             }
-        } else if (!ldsSpouseSealings.equals(other.ldsSpouseSealings)) {
+        } else if (!getLdsSpouseSealings().equals(other.getLdsSpouseSealings())) {
             return false;
         }
         if (multimedia == null) {
@@ -202,32 +240,32 @@ public class Family extends AbstractElement {
         } else if (!notes.equals(other.notes)) {
             return false;
         }
-        if (numChildren == null) {
-            if (other.numChildren != null) {
+        if (getNumChildren() == null) {
+            if (other.getNumChildren() != null) {
                 return false;
             }
-        } else if (!numChildren.equals(other.numChildren)) {
+        } else if (!getNumChildren().equals(other.getNumChildren())) {
             return false;
         }
-        if (recFileNumber == null) {
-            if (other.recFileNumber != null) {
+        if (getRecFileNumber() == null) {
+            if (other.getRecFileNumber() != null) {
                 return false;
             }
-        } else if (!recFileNumber.equals(other.recFileNumber)) {
+        } else if (!getRecFileNumber().equals(other.getRecFileNumber())) {
             return false;
         }
-        if (submitters == null) {
-            if (other.submitters != null) {
+        if (getSubmitters() == null) {
+            if (other.getSubmitters() != null) {
                 return false;
             }
-        } else if (!submitters.equals(other.submitters)) {
+        } else if (!getSubmitters().equals(other.getSubmitters())) {
             return false;
         }
-        if (userReferences == null) {
-            if (other.userReferences != null) {
+        if (getUserReferences() == null) {
+            if (other.getUserReferences() != null) {
                 return false;
             }
-        } else if (!userReferences.equals(other.userReferences)) {
+        } else if (!getUserReferences().equals(other.getUserReferences())) {
             return false;
         }
         if (wife == null) {
@@ -244,11 +282,11 @@ public class Family extends AbstractElement {
         } else if (!xref.equals(other.xref)) {
             return false;
         }
-        if (restrictionNotice == null) {
-            if (other.restrictionNotice != null) {
+        if (getRestrictionNotice() == null) {
+            if (other.getRestrictionNotice() != null) {
                 return false;
             }
-        } else if (!restrictionNotice.equals(other.restrictionNotice)) {
+        } else if (!getRestrictionNotice().equals(other.getRestrictionNotice())) {
             return false;
         }
         return true;
@@ -357,7 +395,7 @@ public class Family extends AbstractElement {
      * @return the LDS spouse sealings
      */
     public List<LdsSpouseSealing> getLdsSpouseSealings() {
-        return ldsSpouseSealings;
+        return extras == null ? null : extras.ldsSpouseSealings;
     }
 
     /**
@@ -368,10 +406,10 @@ public class Family extends AbstractElement {
      * @return the ldsSpouseSealings
      */
     public List<LdsSpouseSealing> getLdsSpouseSealings(boolean initializeIfNeeded) {
-        if (initializeIfNeeded && ldsSpouseSealings == null) {
-            ldsSpouseSealings = new ArrayList<LdsSpouseSealing>(0);
+        if (initializeIfNeeded && getLdsSpouseSealings() == null) {
+            extras().ldsSpouseSealings = new ArrayList<LdsSpouseSealing>(0);
         }
-        return ldsSpouseSealings;
+        return getLdsSpouseSealings();
     }
 
     /**
@@ -427,7 +465,20 @@ public class Family extends AbstractElement {
      * @return the number of children
      */
     public StringWithCustomTags getNumChildren() {
-        return numChildren;
+        return extras == null ? null : extras.numChildren;
+    }
+
+    /**
+     * Get the number of this family among the families of the file it was loaded from. The families loaded from a file are
+     * numbered from 0 up in order of xref, with no gaps, so the numbers can be used to index arrays and
+     * {@link java.util.BitSet}s when working with the whole file, and are the same each time the file is loaded. The
+     * number is not part of the data, so it is not compared by {@link #equals(Object)}.
+     * 
+     * @return the number, or -1 if this family wasn't loaded from a file
+     * @since 3.0.2
+     */
+    public int getOrdinal() {
+        return ordinal;
     }
 
     /**
@@ -436,7 +487,7 @@ public class Family extends AbstractElement {
      * @return the rec file number
      */
     public StringWithCustomTags getRecFileNumber() {
-        return recFileNumber;
+        return extras == null ? null : extras.recFileNumber;
     }
 
     /**
@@ -445,7 +496,7 @@ public class Family extends AbstractElement {
      * @return the restriction notice
      */
     public StringWithCustomTags getRestrictionNotice() {
-        return restrictionNotice;
+        return extras == null ? null : extras.restrictionNotice;
     }
 
     /**
@@ -454,7 +505,7 @@ public class Family extends AbstractElement {
      * @return the submitters
      */
     public List<Submitter> getSubmitters() {
-        return submitters;
+        return extras == null ? null : extras.submitters;
     }
 
     /**
@@ -465,10 +516,10 @@ public class Family extends AbstractElement {
      * @return the submitters
      */
     public List<Submitter> getSubmitters(boolean initializeIfNeeded) {
-        if (initializeIfNeeded && submitters == null) {
-            submitters = new ArrayList<Submitter>(0);
+        if (initializeIfNeeded && getSubmitters() == null) {
+            extras().submitters = new ArrayList<Submitter>(0);
         }
-        return submitters;
+        return getSubmitters();
     }
 
     /**
@@ -477,7 +528,7 @@ public class Family extends AbstractElement {
      * @return the user references
      */
     public List<UserReference> getUserReferences() {
-        return userReferences;
+        return extras == null ? null : extras.userReferences;
     }
 
     /**
@@ -488,10 +539,10 @@ public class Family extends AbstractElement {
      * @return the userReferences
      */
     public List<UserReference> getUserReferences(boolean initializeIfNeeded) {
-        if (initializeIfNeeded && userReferences == null) {
-            userReferences = new ArrayList<UserReference>(0);
+        if (initializeIfNeeded && getUserReferences() == null) {
+            extras().userReferences = new ArrayList<UserReference>(0);
         }
-        return userReferences;
+        return getUserReferences();
     }
 
     /**
@@ -525,16 +576,16 @@ public class Family extends AbstractElement {
         result = prime * result + (citations == null ? 0 : citations.hashCode());
         result = prime * result + (events == null ? 0 : events.hashCode());
         result = prime * result + (husband == null ? 0 : husband.hashCode());
-        result = prime * result + (ldsSpouseSealings == null ? 0 : ldsSpouseSealings.hashCode());
+        result = prime * result + (getLdsSpouseSealings() == null ? 0 : getLdsSpouseSealings().hashCode());
         result = prime * result + (multimedia == null ? 0 : multimedia.hashCode());
         result = prime * result + (notes == null ? 0 : notes.hashCode());
-        result = prime * result + (numChildren == null ? 0 : numChildren.hashCode());
-        result = prime * result + (recFileNumber == null ? 0 : recFileNumber.hashCode());
-        result = prime * result + (submitters == null ? 0 : submitters.hashCode());
-        result = prime * result + (userReferences == null ? 0 : userReferences.hashCode());
+        result = prime * result + (getNumChildren() == null ? 0 : getNumChildren().hashCode());
+        result = prime * result + (getRecFileNumber() == null ? 0 : getRecFileNumber().hashCode());
+        result = prime * result + (getSubmitters() == null ? 0 : getSubmitters().hashCode());
+        result = prime * result + (getUserReferences() == null ? 0 : getUserReferences().hashCode());
         result = prime * result + (wife == null ? 0 : wife.hashCode());
         result = prime * result + (xref == null ? 0 : xref.hashCode());
-        result = prime * result + (restrictionNotice == null ? 0 : restrictionNotice.hashCode());
+        result = prime * result + (getRestrictionNotice() == null ? 0 : getRestrictionNotice().hashCode());
         return result;
     }
 
@@ -575,7 +626,20 @@ public class Family extends AbstractElement {
      *            the new number of children
      */
     public void setNumChildren(StringWithCustomTags numChildren) {
-        this.numChildren = numChildren;
+        if (numChildren != null || extras != null) {
+            extras().numChildren = numChildren;
+        }
+    }
+
+    /**
+     * Set the number of this family among the families of the file it was loaded from. Normally only set by the parser.
+     * 
+     * @param ordinal
+     *            the number, or -1 if this family isn't part of a loaded file
+     * @since 3.0.2
+     */
+    public void setOrdinal(int ordinal) {
+        this.ordinal = ordinal;
     }
 
     /**
@@ -585,7 +649,9 @@ public class Family extends AbstractElement {
      *            the new rec file number
      */
     public void setRecFileNumber(StringWithCustomTags recFileNumber) {
-        this.recFileNumber = recFileNumber;
+        if (recFileNumber != null || extras != null) {
+            extras().recFileNumber = recFileNumber;
+        }
     }
 
     /**
@@ -595,7 +661,9 @@ public class Family extends AbstractElement {
      *            the new restriction notice
      */
     public void setRestrictionNotice(StringWithCustomTags restrictionNotice) {
-        this.restrictionNotice = restrictionNotice;
+        if (restrictionNotice != null || extras != null) {
+            extras().restrictionNotice = restrictionNotice;
+        }
     }
 
     /**
@@ -655,9 +723,9 @@ public class Family extends AbstractElement {
             builder.append(husband);
             builder.append(", ");
         }
-        if (ldsSpouseSealings != null) {
+        if (getLdsSpouseSealings() != null) {
             builder.append("ldsSpouseSealings=");
-            builder.append(ldsSpouseSealings);
+            builder.append(getLdsSpouseSealings());
             builder.append(", ");
         }
         if (multimedia != null) {
@@ -670,29 +738,29 @@ public class Family extends AbstractElement {
             builder.append(notes);
             builder.append(", ");
         }
-        if (numChildren != null) {
+        if (getNumChildren() != null) {
             builder.append("numChildren=");
-            builder.append(numChildren);
+            builder.append(getNumChildren());
             builder.append(", ");
         }
-        if (recFileNumber != null) {
+        if (getRecFileNumber() != null) {
             builder.append("recFileNumber=");
-            builder.append(recFileNumber);
+            builder.append(getRecFileNumber());
             builder.append(", ");
         }
-        if (restrictionNotice != null) {
+        if (getRestrictionNotice() != null) {
             builder.append("restrictionNotice=");
-            builder.append(restrictionNotice);
+            builder.append(getRestrictionNotice());
             builder.append(", ");
         }
-        if (submitters != null) {
+        if (getSubmitters() != null) {
             builder.append("submitters=");
-            builder.append(submitters);
+            builder.append(getSubmitters());
             builder.append(", ");
         }
-        if (userReferences != null) {
+        if (getUserReferences() != null) {
             builder.append("userReferences=");
-            builder.append(userReferences);
+            builder.append(getUserReferences());
             builder.append(", ");
         }
         if (wife != null) {
@@ -713,4 +781,16 @@ public class Family extends AbstractElement {
         return builder.toString();
     }
 
+    /**
+     * Get the fields that most families don't use, creating them if needed
+     * 
+     * @return the fields that most families don't use
+     */
+    private Extras extras() {
+        if (extras == null) {
+            // If collections were to be initialized, it would have been created already
+            extras = new Extras(false);
+        }
+        return extras;
+    }
 }
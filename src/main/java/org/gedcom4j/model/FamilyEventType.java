@@ -26,6 +26,9 @@
  */
 package org.gedcom4j.model;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * An event type that occurs for a family. This enum lists the valid tags for family events.
  * 
@@ -78,6 +81,17 @@ public enum FamilyEventType {
      */
     MARRIAGE_SETTLEMENT("MARS", "Marriage settlement");
 
+    /**
+     * The enum constants, keyed by their tags
+     */
+    private static final Map<String, FamilyEventType> BY_TAG = new HashMap<String, FamilyEventType>();
+
+    static {
+        for (FamilyEventType t : values()) {
+            BY_TAG.put(t.tag, t);
+        }
+    }
+
     /**
      * Get an enum type from its tag string
      * 
@@ -86,12 +100,7 @@ public enum FamilyEventType {
      * @return the enum type that corresponds to the tag, or null if it's not a known tag
      */
     public static FamilyEventType getFromTag(String tag) {
-        for (FamilyEventType t : values()) {
-            if (t.tag.equals(tag)) {
-                return t;
-            }
-        }
-        return null;
+        return BY_TAG.get(tag);
     }
 
     /**
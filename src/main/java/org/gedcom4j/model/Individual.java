@@ -26,7 +26,9 @@
  */
 package org.gedcom4j.model;
 
+import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -47,29 +49,107 @@ public class Individual extends AbstractElement {
     private static final long serialVersionUID = -3542679192972351102L;
 
     /**
-     * The address of this individual
-     */
-    private Address address;
-
-    /**
-     * Aliases for the current individual.
-     */
-    private List<StringWithCustomTags> aliases = getAliases(Options.isCollectionInitializationEnabled());
-
-    /**
-     * A list of submitter(s) who are interested in the ancestry of this individual.
-     */
-    private List<Submitter> ancestorInterest = getAncestorInterest(Options.isCollectionInitializationEnabled());
-
-    /**
-     * The Ancestral File Number of this individual.
-     */
-    private StringWithCustomTags ancestralFileNumber;
-
-    /**
-     * A list of associations to which this individual belongs/belonged.
-     */
-    private List<Association> associations = getAssociations(Options.isCollectionInitializationEnabled());
+     * The fields of an individual that most individuals don't use, kept apart so they only take up space in the individuals
+     * that use them
+     */
+    private static final class Extras implements Serializable {
+
+        /**
+         * Serial Version UID
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The address of this individual
+         */
+        private Address address;
+
+        /**
+         * Aliases for the current individual.
+         */
+        private List<StringWithCustomTags> aliases;
+
+        /**
+         * A list of submitter(s) who are interested in the ancestry of this individual.
+         */
+        private List<Submitter> ancestorInterest;
+
+        /**
+         * The Ancestral File Number of this individual.
+         */
+        private StringWithCustomTags ancestralFileNumber;
+
+        /**
+         * A list of associations to which this individual belongs/belonged.
+         */
+        private List<Association> associations;
+
+        /**
+         * A list of submitters who are interested in the descendants of this individual.
+         */
+        private List<Submitter> descendantInterest;
+
+        /**
+         * The emails for this submitter. New for GEDCOM 5.5.1
+         */
+        private List<StringWithCustomTags> emails;
+
+        /**
+         * Fax numbers. New for GEDCOM 5.5.1.
+         */
+        private List<StringWithCustomTags> faxNumbers;
+
+        /**
+         * A list of LDS individual ordinances for this individual
+         */
+        private List<LdsIndividualOrdinance> ldsIndividualOrdinances;
+
+        /**
+         * The permanent record file number for this individual
+         */
+        private StringWithCustomTags permanentRecFileNumber;
+
+        /**
+         * The phone numbers for this submitter
+         */
+        private List<StringWithCustomTags> phoneNumbers;
+
+        /**
+         * The restriction notice (if any) for this individual
+         */
+        private StringWithCustomTags restrictionNotice;
+
+        /**
+         * A list of submitter(s) of this individual
+         */
+        private List<Submitter> submitters;
+
+        /**
+         * Web URL's. New for GEDCOM 5.5.1.
+         */
+        private List<StringWithCustomTags> wwwUrls;
+
+        /**
+         * Constructor
+         * 
+         * @param initializeCollections
+         *            whether the collections should be initialized
+         */
+        Extras(boolean initializeCollections) {
+            if (initializeCollections) {
+                aliases = new ArrayList<StringWithCustomTags>(0);
+                ancestorInterest = new ArrayList<Submitter>(0);
+                associations = new ArrayList<Association>(0);
+                descendantInterest = new ArrayList<Submitter>(0);
+                emails = new ArrayList<StringWithCustomTags>(0);
+                faxNumbers = new ArrayList<StringWithCustomTags>(0);
+                ldsIndividualOrdinances = new ArrayList<LdsIndividualOrdinance>(0);
+                phoneNumbers = new ArrayList<StringWithCustomTags>(0);
+                submitters = new ArrayList<Submitter>(0);
+                wwwUrls = new ArrayList<StringWithCustomTags>(0);
+            }
+        }
+    }
 
     /**
      * A list of individual attributes about this individual.
@@ -87,19 +167,15 @@ public class Individual extends AbstractElement {
     private List<AbstractCitation> citations = getCitations(Options.isCollectionInitializationEnabled());
 
     /**
-     * A list of submitters who are interested in the descendants of this individual.
-     */
-    private List<Submitter> descendantInterest = getDescendantInterest(Options.isCollectionInitializationEnabled());
-
-    /**
-     * The emails for this submitter. New for GEDCOM 5.5.1
+     * A list of events for this individual.
      */
-    private List<StringWithCustomTags> emails = getEmails(Options.isCollectionInitializationEnabled());
+    private List<IndividualEvent> events = getEvents(Options.isCollectionInitializationEnabled());
 
     /**
-     * A list of events for this individual.
+     * The fields that most individuals don't use. Null until one of them is set, unless collections are initialized, in
+     * which case they are created straight away, so reading them never changes anything.
      */
-    private List<IndividualEvent> events = getEvents(Options.isCollectionInitializationEnabled());
+    private Extras extras = Options.isCollectionInitializationEnabled() ? new Extras(true) : null;
 
     /**
      * A list of families to which this individual was a child
@@ -111,17 +187,6 @@ public class Individual extends AbstractElement {
      */
     private List<FamilySpouse> familiesWhereSpouse = getFamiliesWhereSpouse(Options.isCollectionInitializationEnabled());
 
-    /**
-     * Fax numbers. New for GEDCOM 5.5.1.
-     */
-    private List<StringWithCustomTags> faxNumbers = getFaxNumbers(Options.isCollectionInitializationEnabled());
-
-    /**
-     * A list of LDS individual ordinances for this individual
-     */
-    private List<LdsIndividualOrdinance> ldsIndividualOrdinances = getLdsIndividualOrdinances(Options
-            .isCollectionInitializationEnabled());
-
     /**
      * Multimedia links for this source citation
      */
@@ -138,45 +203,25 @@ public class Individual extends AbstractElement {
     private List<Note> notes = getNotes(Options.isCollectionInitializationEnabled());
 
     /**
-     * The permanent record file number for this individual
+     * The number of this individual among the individuals of the file it was loaded from, or -1 if it wasn't loaded from a file
      */
-    private StringWithCustomTags permanentRecFileNumber;
-
-    /**
-     * The phone numbers for this submitter
-     */
-    private List<StringWithCustomTags> phoneNumbers = getPhoneNumbers(Options.isCollectionInitializationEnabled());
+    private int ordinal = -1;
 
     /**
      * The record ID number
      */
     private StringWithCustomTags recIdNumber;
 
-    /**
-     * The restriction notice (if any) for this individual
-     */
-    private StringWithCustomTags restrictionNotice;
-
     /**
      * The sex of this individual
      */
     private StringWithCustomTags sex;
 
-    /**
-     * A list of submitter(s) of this individual
-     */
-    private List<Submitter> submitters = getSubmitters(Options.isCollectionInitializationEnabled());
-
     /**
      * The user references for this submitter
      */
     private List<UserReference> userReferences = getUserReferences(Options.isCollectionInitializationEnabled());
 
-    /**
-     * Web URL's. New for GEDCOM 5.5.1.
-     */
-    private List<StringWithCustomTags> wwwUrls = getWwwUrls(Options.isCollectionInitializationEnabled());
-
     /**
      * The xref for this submitter
      */
@@ -199,39 +244,39 @@ public class Individual extends AbstractElement {
             return false;
         }
         Individual other = (Individual) obj;
-        if (address == null) {
-            if (other.address != null) {
+        if (getAddress() == null) {
+            if (other.getAddress() != null) {
                 return false;
             }
-        } else if (!address.equals(other.address)) {
+        } else if (!getAddress().equals(other.getAddress())) {
             return false;
         }
-        if (aliases == null) {
-            if (other.aliases != null) {
+        if (getAliases() == null) {
+            if (other.getAliases() != null) {
                 return false;
             }
-        } else if (!aliases.equals(other.aliases)) {
+        } else if (!getAliases().equals(other.getAliases())) {
             return false;
         }
-        if (ancestorInterest == null) {
-            if (other.ancestorInterest != null) {
+        if (getAncestorInterest() == null) {
+            if (other.getAncestorInterest() != null) {
                 return false;
             }
-        } else if (!ancestorInterest.equals(other.ancestorInterest)) {
+        } else if (!getAncestorInterest().equals(other.getAncestorInterest())) {
             return false;
         }
-        if (ancestralFileNumber == null) {
-            if (other.ancestralFileNumber != null) {
+        if (getAncestralFileNumber() == null) {
+            if (other.getAncestralFileNumber() != null) {
                 return false;
             }
-        } else if (!ancestralFileNumber.equals(other.ancestralFileNumber)) {
+        } else if (!getAncestralFileNumber().equals(other.getAncestralFileNumber())) {
             return false;
         }
-        if (associations == null) {
-            if (other.associations != null) {
+        if (getAssociations() == null) {
+            if (other.getAssociations() != null) {
                 return false;
             }
-        } else if (!associations.equals(other.associations)) {
+        } else if (!getAssociations().equals(other.getAssociations())) {
             return false;
         }
         if (attributes == null) {
@@ -255,11 +300,11 @@ public class Individual extends AbstractElement {
         } else if (!citations.equals(other.citations)) {
             return false;
         }
-        if (descendantInterest == null) {
-            if (other.descendantInterest != null) {
+        if (getDescendantInterest() == null) {
+            if (other.getDescendantInterest() != null) {
                 return false;
             }
-        } else if (!descendantInterest.equals(other.descendantInterest)) {
+        } else if (!getDescendantInterest().equals(other.getDescendantInterest())) {
             return false;
         }
         if (events == null) {
@@ -283,11 +328,11 @@ public class Individual extends AbstractElement {
         } else if (!familiesWhereSpouse.equals(other.familiesWhereSpouse)) {
             return false;
         }
-        if (ldsIndividualOrdinances == null) {
-            if (other.ldsIndividualOrdinances != null) {
+        if (getLdsIndividualOrdinances() == null) {
+            if (other.getLdsIndividualOrdinances() != null) {
                 return false;
             }
-        } else if (!ldsIndividualOrdinances.equals(other.ldsIndividualOrdinances)) {
+        } else if (!getLdsIndividualOrdinances().equals(other.getLdsIndividualOrdinances())) {
             return false;
         }
         if (multimedia == null) {
@@ -311,39 +356,39 @@ public class Individual extends AbstractElement {
         } else if (!notes.equals(other.notes)) {
             return false;
         }
-        if (permanentRecFileNumber == null) {
-            if (other.permanentRecFileNumber != null) {
+        if (getPermanentRecFileNumber() == null) {
+            if (other.getPermanentRecFileNumber() != null) {
                 return false;
             }
-        } else if (!permanentRecFileNumber.equals(other.permanentRecFileNumber)) {
+        } else if (!getPermanentRecFileNumber().equals(other.getPermanentRecFileNumber())) {
             return false;
         }
-        if (phoneNumbers == null) {
-            if (other.phoneNumbers != null) {
+        if (getPhoneNumbers() == null) {
+            if (other.getPhoneNumbers() != null) {
                 return false;
             }
-        } else if (!phoneNumbers.equals(other.phoneNumbers)) {
+        } else if (!getPhoneNumbers().equals(other.getPhoneNumbers())) {
             return false;
         }
-        if (wwwUrls == null) {
-            if (other.wwwUrls != null) {
+        if (getWwwUrls() == null) {
+            if (other.getWwwUrls() != null) {
                 return false;
             }
-        } else if (!wwwUrls.equals(other.wwwUrls)) {
+        } else if (!getWwwUrls().equals(other.getWwwUrls())) {
             return false;
         }
-        if (faxNumbers == null) {
-            if (other.faxNumbers != null) {
+        if (getFaxNumbers() == null) {
+            if (other.getFaxNumbers() != null) {
                 return false;
             }
-        } else if (!faxNumbers.equals(other.faxNumbers)) {
+        } else if (!getFaxNumbers().equals(other.getFaxNumbers())) {
             return false;
         }
-        if (emails == null) {
-            if (other.emails != null) {
+        if (getEmails() == null) {
+            if (other.getEmails() != null) {
                 return false;
             }
-        } else if (!emails.equals(other.emails)) {
+        } else if (!getEmails().equals(other.getEmails())) {
             return false;
         }
         if (recIdNumber == null) {
@@ -354,11 +399,11 @@ public class Individual extends AbstractElement {
             return false;
         }
 
-        if (restrictionNotice == null) {
-            if (other.restrictionNotice != null) {
+        if (getRestrictionNotice() == null) {
+            if (other.getRestrictionNotice() != null) {
                 return false;
             }
-        } else if (!restrictionNotice.equals(other.restrictionNotice)) {
+        } else if (!getRestrictionNotice().equals(other.getRestrictionNotice())) {
             return false;
         }
         if (sex == null) {
@@ -368,11 +413,11 @@ public class Individual extends AbstractElement {
         } else if (!sex.equals(other.sex)) {
             return false;
         }
-        if (submitters == null) {
-            if (other.submitters != null) {
+        if (getSubmitters() == null) {
+            if (other.getSubmitters() != null) {
                 return false;
             }
-        } else if (!submitters.equals(other.submitters)) {
+        } else if (!getSubmitters().equals(other.getSubmitters())) {
             return false;
         }
         if (userReferences == null) {
@@ -400,7 +445,7 @@ public class Individual extends AbstractElement {
      * @return the address
      */
     public Address getAddress() {
-        return address;
+        return extras == null ? null : extras.address;
     }
 
     /**
@@ -409,7 +454,7 @@ public class Individual extends AbstractElement {
      * @return the aliases
      */
     public List<StringWithCustomTags> getAliases() {
-        return aliases;
+        return extras == null ? null : extras.aliases;
     }
 
     /**
@@ -420,10 +465,10 @@ public class Individual extends AbstractElement {
      * @return the aliases
      */
     public List<StringWithCustomTags> getAliases(boolean initializeIfNeeded) {
-        if (initializeIfNeeded && aliases == null) {
-            aliases = new ArrayList<StringWithCustomTags>(0);
+        if (initializeIfNeeded && getAliases() == null) {
+            extras().aliases = new ArrayList<StringWithCustomTags>(0);
         }
-        return aliases;
+        return getAliases();
     }
 
     /**
@@ -432,7 +477,7 @@ public class Individual extends AbstractElement {
      * @return the ancestor interest
      */
     public List<Submitter> getAncestorInterest() {
-        return ancestorInterest;
+        return extras == null ? null : extras.ancestorInterest;
     }
 
     /**
@@ -443,10 +488,10 @@ public class Individual extends AbstractElement {
      * @return the ancestor interest
      */
     public List<Submitter> getAncestorInterest(boolean initializeIfNeeded) {
-        if (initializeIfNeeded && ancestorInterest == null) {
-            ancestorInterest = new ArrayList<Submitter>(0);
+        if (initializeIfNeeded && getAncestorInterest() == null) {
+            extras().ancestorInterest = new ArrayList<Submitter>(0);
         }
-        return ancestorInterest;
+        return getAncestorInterest();
     }
 
     /**
@@ -455,9 +500,9 @@ public class Individual extends AbstractElement {
      * @return the ancestors
      */
     public Set<Individual> getAncestors() {
-        Set<Individual> result = new HashSet<Individual>();
-        addGenerationOfAncestors(result);
-        return result;
+        List<Individual> result = new ArrayList<Individual>();
+        walk(true, Collections.singletonList(this), Integer.MAX_VALUE, new Collector(result), new VisitedIndividuals());
+        return new HashSet<Individual>(result);
     }
 
     /**
@@ -466,7 +511,7 @@ public class Individual extends AbstractElement {
      * @return the ancestral file number
      */
     public StringWithCustomTags getAncestralFileNumber() {
-        return ancestralFileNumber;
+        return extras == null ? null : extras.ancestralFileNumber;
     }
 
     /**
@@ -475,7 +520,7 @@ public class Individual extends AbstractElement {
      * @return the associations
      */
     public List<Association> getAssociations() {
-        return associations;
+        return extras == null ? null : extras.associations;
     }
 
     /**
@@ -486,10 +531,10 @@ public class Individual extends AbstractElement {
      * @return the associations
      */
     public List<Association> getAssociations(boolean initializeIfNeeded) {
-        if (initializeIfNeeded && associations == null) {
-            associations = new ArrayList<Association>(0);
+        if (initializeIfNeeded && getAssociations() == null) {
+            extras().associations = new ArrayList<Association>(0);
         }
-        return associations;
+        return getAssociations();
     }
 
     /**
@@ -572,7 +617,7 @@ public class Individual extends AbstractElement {
      * @return the descendant interest
      */
     public List<Submitter> getDescendantInterest() {
-        return descendantInterest;
+        return extras == null ? null : extras.descendantInterest;
     }
 
     /**
@@ -583,10 +628,10 @@ public class Individual extends AbstractElement {
      * @return the descendant interest
      */
     public List<Submitter> getDescendantInterest(boolean initializeIfNeeded) {
-        if (initializeIfNeeded && descendantInterest == null) {
-            descendantInterest = new ArrayList<Submitter>(0);
+        if (initializeIfNeeded && getDescendantInterest() == null) {
+            extras().descendantInterest = new ArrayList<Submitter>(0);
         }
-        return descendantInterest;
+        return getDescendantInterest();
     }
 
     /**
@@ -595,9 +640,23 @@ public class Individual extends AbstractElement {
      * @return the descendants
      */
     public Set<Individual> getDescendants() {
-        Set<Individual> result = new HashSet<Individual>();
-        addGenerationOfDescendants(result);
-        return result;
+        List<Individual> result = new ArrayList<Individual>();
+        VisitedIndividuals seenSoFar = new VisitedIndividuals();
+        if (familiesWhereSpouse != null) {
+            for (FamilySpouse f : familiesWhereSpouse) {
+                if (f.getFamily().getChildren() != null) {
+                    for (Individual i : f.getFamily().getChildren()) {
+                        // Only children who have spouses themselves are included, along with all their descendants
+                        if (i != null && i != this && i.familiesWhereSpouse != null && !i.familiesWhereSpouse.isEmpty() && seenSoFar.add(
+                                i)) {
+                            result.add(i);
+                        }
+                    }
+                }
+            }
+        }
+        walk(false, new ArrayList<Individual>(result), Integer.MAX_VALUE, new Collector(result), seenSoFar);
+        return new HashSet<Individual>(result);
     }
 
     /**
@@ -606,7 +665,7 @@ public class Individual extends AbstractElement {
      * @return the emails
      */
     public List<StringWithCustomTags> getEmails() {
-        return emails;
+        return extras == null ? null : extras.emails;
     }
 
     /**
@@ -617,11 +676,10 @@ public class Individual extends AbstractElement {
      * @return the emails
      */
     public List<StringWithCustomTags> getEmails(boolean initializeIfNeeded) {
-        if (initializeIfNeeded && emails == null) {
-            emails = new ArrayList<StringWithCustomTags>(0);
+        if (initializeIfNeeded && getEmails() == null) {
+            extras().emails = new ArrayList<StringWithCustomTags>(0);
         }
-
-        return emails;
+        return getEmails();
     }
 
     /**
@@ -718,7 +776,7 @@ public class Individual extends AbstractElement {
      * @return the fax numbers
      */
     public List<StringWithCustomTags> getFaxNumbers() {
-        return faxNumbers;
+        return extras == null ? null : extras.faxNumbers;
     }
 
     /**
@@ -729,10 +787,10 @@ public class Individual extends AbstractElement {
      * @return the fax numbers
      */
     public List<StringWithCustomTags> getFaxNumbers(boolean initializeIfNeeded) {
-        if (initializeIfNeeded && faxNumbers == null) {
-            faxNumbers = new ArrayList<StringWithCustomTags>(0);
+        if (initializeIfNeeded && getFaxNumbers() == null) {
+            extras().faxNumbers = new ArrayList<StringWithCustomTags>(0);
         }
-        return faxNumbers;
+        return getFaxNumbers();
     }
 
     /**
@@ -759,7 +817,7 @@ public class Individual extends AbstractElement {
      * @return the LDS individual ordinances
      */
     public List<LdsIndividualOrdinance> getLdsIndividualOrdinances() {
-        return ldsIndividualOrdinances;
+        return extras == null ? null : extras.ldsIndividualOrdinances;
     }
 
     /**
@@ -770,10 +828,10 @@ public class Individual extends AbstractElement {
      * @return the LDS individual ordinances
      */
     public List<LdsIndividualOrdinance> getLdsIndividualOrdinances(boolean initializeIfNeeded) {
-        if (initializeIfNeeded && ldsIndividualOrdinances == null) {
-            ldsIndividualOrdinances = new ArrayList<LdsIndividualOrdinance>(0);
+        if (initializeIfNeeded && getLdsIndividualOrdinances() == null) {
+            extras().ldsIndividualOrdinances = new ArrayList<LdsIndividualOrdinance>(0);
         }
-        return ldsIndividualOrdinances;
+        return getLdsIndividualOrdinances();
     }
 
     /**
@@ -846,13 +904,26 @@ public class Individual extends AbstractElement {
         return notes;
     }
 
+    /**
+     * Get the number of this individual among the individuals of the file it was loaded from. The individuals loaded from a file are
+     * numbered from 0 up in order of xref, with no gaps, so the numbers can be used to index arrays and
+     * {@link java.util.BitSet}s when working with the whole file, and are the same each time the file is loaded. The
+     * number is not part of the data, so it is not compared by {@link #equals(Object)}.
+     * 
+     * @return the number, or -1 if this individual wasn't loaded from a file
+     * @since 3.0.2
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
     /**
      * Gets the permanent rec file number.
      *
      * @return the permanent rec file number
      */
     public StringWithCustomTags getPermanentRecFileNumber() {
-        return permanentRecFileNumber;
+        return extras == null ? null : extras.permanentRecFileNumber;
     }
 
     /**
@@ -861,7 +932,7 @@ public class Individual extends AbstractElement {
      * @return the phone numbers
      */
     public List<StringWithCustomTags> getPhoneNumbers() {
-        return phoneNumbers;
+        return extras == null ? null : extras.phoneNumbers;
     }
 
     /**
@@ -872,10 +943,10 @@ public class Individual extends AbstractElement {
      * @return the phone numbers
      */
     public List<StringWithCustomTags> getPhoneNumbers(boolean initializeIfNeeded) {
-        if (initializeIfNeeded && phoneNumbers == null) {
-            phoneNumbers = new ArrayList<StringWithCustomTags>(0);
+        if (initializeIfNeeded && getPhoneNumbers() == null) {
+            extras().phoneNumbers = new ArrayList<StringWithCustomTags>(0);
         }
-        return phoneNumbers;
+        return getPhoneNumbers();
     }
 
     /**
@@ -893,7 +964,7 @@ public class Individual extends AbstractElement {
      * @return the restriction notice
      */
     public StringWithCustomTags getRestrictionNotice() {
-        return restrictionNotice;
+        return extras == null ? null : extras.restrictionNotice;
     }
 
     /**
@@ -932,7 +1003,7 @@ public class Individual extends AbstractElement {
      * @return the submitters
      */
     public List<Submitter> getSubmitters() {
-        return submitters;
+        return extras == null ? null : extras.submitters;
     }
 
     /**
@@ -943,10 +1014,10 @@ public class Individual extends AbstractElement {
      * @return the submitters
      */
     public List<Submitter> getSubmitters(boolean initializeIfNeeded) {
-        if (initializeIfNeeded && submitters == null) {
-            submitters = new ArrayList<Submitter>(0);
+        if (initializeIfNeeded && getSubmitters() == null) {
+            extras().submitters = new ArrayList<Submitter>(0);
         }
-        return submitters;
+        return getSubmitters();
     }
 
     /**
@@ -978,7 +1049,7 @@ public class Individual extends AbstractElement {
      * @return the www urls
      */
     public List<StringWithCustomTags> getWwwUrls() {
-        return wwwUrls;
+        return extras == null ? null : extras.wwwUrls;
     }
 
     /**
@@ -989,10 +1060,10 @@ public class Individual extends AbstractElement {
      * @return the www Uurls
      */
     public List<StringWithCustomTags> getWwwUrls(boolean initializeIfNeeded) {
-        if (initializeIfNeeded && wwwUrls == null) {
-            wwwUrls = new ArrayList<StringWithCustomTags>(0);
+        if (initializeIfNeeded && getWwwUrls() == null) {
+            extras().wwwUrls = new ArrayList<StringWithCustomTags>(0);
         }
-        return wwwUrls;
+        return getWwwUrls();
     }
 
     /**
@@ -1015,31 +1086,31 @@ public class Individual extends AbstractElement {
             return prime * result + xref.hashCode();
         }
         result = prime * result;
-        result = prime * result + (address == null ? 0 : address.hashCode());
-        result = prime * result + (aliases == null ? 0 : aliases.hashCode());
-        result = prime * result + (ancestorInterest == null ? 0 : ancestorInterest.hashCode());
-        result = prime * result + (ancestralFileNumber == null ? 0 : ancestralFileNumber.hashCode());
-        result = prime * result + (associations == null ? 0 : associations.hashCode());
+        result = prime * result + (getAddress() == null ? 0 : getAddress().hashCode());
+        result = prime * result + (getAliases() == null ? 0 : getAliases().hashCode());
+        result = prime * result + (getAncestorInterest() == null ? 0 : getAncestorInterest().hashCode());
+        result = prime * result + (getAncestralFileNumber() == null ? 0 : getAncestralFileNumber().hashCode());
+        result = prime * result + (getAssociations() == null ? 0 : getAssociations().hashCode());
         result = prime * result + (attributes == null ? 0 : attributes.hashCode());
         result = prime * result + (changeDate == null ? 0 : changeDate.hashCode());
         result = prime * result + (citations == null ? 0 : citations.hashCode());
-        result = prime * result + (descendantInterest == null ? 0 : descendantInterest.hashCode());
+        result = prime * result + (getDescendantInterest() == null ? 0 : getDescendantInterest().hashCode());
         result = prime * result + (events == null ? 0 : events.hashCode());
         result = prime * result + (familiesWhereChild == null ? 0 : familiesWhereChild.hashCode());
         result = prime * result + (familiesWhereSpouse == null ? 0 : familiesWhereSpouse.hashCode());
-        result = prime * result + (ldsIndividualOrdinances == null ? 0 : ldsIndividualOrdinances.hashCode());
+        result = prime * result + (getLdsIndividualOrdinances() == null ? 0 : getLdsIndividualOrdinances().hashCode());
         result = prime * result + (multimedia == null ? 0 : multimedia.hashCode());
         result = prime * result + (names == null ? 0 : names.hashCode());
         result = prime * result + (notes == null ? 0 : notes.hashCode());
-        result = prime * result + (permanentRecFileNumber == null ? 0 : permanentRecFileNumber.hashCode());
-        result = prime * result + (phoneNumbers == null ? 0 : phoneNumbers.hashCode());
-        result = prime * result + (faxNumbers == null ? 0 : faxNumbers.hashCode());
-        result = prime * result + (wwwUrls == null ? 0 : wwwUrls.hashCode());
-        result = prime * result + (emails == null ? 0 : emails.hashCode());
+        result = prime * result + (getPermanentRecFileNumber() == null ? 0 : getPermanentRecFileNumber().hashCode());
+        result = prime * result + (getPhoneNumbers() == null ? 0 : getPhoneNumbers().hashCode());
+        result = prime * result + (getFaxNumbers() == null ? 0 : getFaxNumbers().hashCode());
+        result = prime * result + (getWwwUrls() == null ? 0 : getWwwUrls().hashCode());
+        result = prime * result + (getEmails() == null ? 0 : getEmails().hashCode());
         result = prime * result + (recIdNumber == null ? 0 : recIdNumber.hashCode());
-        result = prime * result + (restrictionNotice == null ? 0 : restrictionNotice.hashCode());
+        result = prime * result + (getRestrictionNotice() == null ? 0 : getRestrictionNotice().hashCode());
         result = prime * result + (sex == null ? 0 : sex.hashCode());
-        result = prime * result + (submitters == null ? 0 : submitters.hashCode());
+        result = prime * result + (getSubmitters() == null ? 0 : getSubmitters().hashCode());
         result = prime * result + (userReferences == null ? 0 : userReferences.hashCode());
         return result;
     }
@@ -1051,7 +1122,9 @@ public class Individual extends AbstractElement {
      *            the new address
      */
     public void setAddress(Address address) {
-        this.address = address;
+        if (address != null || extras != null) {
+            extras().address = address;
+        }
     }
 
     /**
@@ -1061,7 +1134,9 @@ public class Individual extends AbstractElement {
      *            the new ancestral file number
      */
     public void setAncestralFileNumber(StringWithCustomTags ancestralFileNumber) {
-        this.ancestralFileNumber = ancestralFileNumber;
+        if (ancestralFileNumber != null || extras != null) {
+            extras().ancestralFileNumber = ancestralFileNumber;
+        }
     }
 
     /**
@@ -1074,6 +1149,17 @@ public class Individual extends AbstractElement {
         this.changeDate = changeDate;
     }
 
+    /**
+     * Set the number of this individual among the individuals of the file it was loaded from. Normally only set by the parser.
+     * 
+     * @param ordinal
+     *            the number, or -1 if this individual isn't part of a loaded file
+     * @since 3.0.2
+     */
+    public void setOrdinal(int ordinal) {
+        this.ordinal = ordinal;
+    }
+
     /**
      * Sets the permanent rec file number.
      *
@@ -1081,7 +1167,9 @@ public class Individual extends AbstractElement {
      *            the new permanent rec file number
      */
     public void setPermanentRecFileNumber(StringWithCustomTags permanentRecFileNumber) {
-        this.permanentRecFileNumber = permanentRecFileNumber;
+        if (permanentRecFileNumber != null || extras != null) {
+            extras().permanentRecFileNumber = permanentRecFileNumber;
+        }
     }
 
     /**
@@ -1101,7 +1189,9 @@ public class Individual extends AbstractElement {
      *            the new restriction notice
      */
     public void setRestrictionNotice(StringWithCustomTags restrictionNotice) {
-        this.restrictionNotice = restrictionNotice;
+        if (restrictionNotice != null || extras != null) {
+            extras().restrictionNotice = restrictionNotice;
+        }
     }
 
     /**
@@ -1132,8 +1222,8 @@ public class Individual extends AbstractElement {
         StringBuilder sb = new StringBuilder(64); // Initial size - we know we're going to be appending more than 16
         // chars in most cases
         sb.append(getFormattedName());
-        if (aliases != null) {
-            for (StringWithCustomTags n : aliases) {
+        if (getAliases() != null) {
+            for (StringWithCustomTags n : getAliases()) {
                 if (sb.length() > 0) {
                     sb.append(" aka ");
                 }
@@ -1206,73 +1296,169 @@ public class Individual extends AbstractElement {
     }
 
     /**
-     * Recursive method for adding the ancestors of this individual to a running set of individuals. This running set is used to
-     * track who we've seen so far, so we don't infinitely recurse.
+     * Walk through the ancestors of this individual a generation at a time, nearest first, calling a visitor for each
+     * one. Each ancestor is visited once, in the nearest generation they are found in. Loops in the data (someone being
+     * their own ancestor) are safe, and there is no limit on the number of generations other than the one asked for.
+     * 
+     * @param maxGenerations
+     *            the most generations to walk - 1 for just the parents, 2 for parents and grandparents, and so on
+     * @param visitor
+     *            the visitor to call for each ancestor, which can stop the walk by returning false
+     * @return true if the walk finished, or false if the visitor stopped it
+     * @since 3.0.2
+     */
+    public boolean walkAncestors(int maxGenerations, IndividualVisitor visitor) {
+        return walk(true, Collections.singletonList(this), maxGenerations, visitor, new VisitedIndividuals());
+    }
+
+    /**
+     * Walk through the descendants of this individual a generation at a time, nearest first, calling a visitor for each
+     * one. Each descendant is visited once, in the nearest generation they are found in. All the children of the
+     * individual are included, whether or not they have spouses of their own. Loops in the data are safe, and there is
+     * no limit on the number of generations other than the one asked for.
+     * 
+     * @param maxGenerations
+     *            the most generations to walk - 1 for just the children, 2 for children and grandchildren, and so on
+     * @param visitor
+     *            the visitor to call for each descendant, which can stop the walk by returning false
+     * @return true if the walk finished, or false if the visitor stopped it
+     * @since 3.0.2
+     */
+    public boolean walkDescendants(int maxGenerations, IndividualVisitor visitor) {
+        return walk(false, Collections.singletonList(this), maxGenerations, visitor, new VisitedIndividuals());
+    }
+
+    /**
+     * Add the parents of this individual who haven't been seen yet to a list
      * 
      * @param seenSoFar
-     *            the running set of people we've seen so far in adding ancestors
-     * @return the people in another generation of ancestors, to be added to the running list
+     *            the people seen so far, which the parents are added to
+     * @param result
+     *            the list to add the parents to
      */
-    private Set<Individual> addGenerationOfAncestors(Set<Individual> seenSoFar) {
-        Set<Individual> result = new HashSet<Individual>();
+    private void addParents(VisitedIndividuals seenSoFar, List<Individual> result) {
         if (familiesWhereChild != null) {
             for (FamilyChild f : familiesWhereChild) {
-                if (f == null) {
+                if (f == null || f.getFamily() == null) {
                     continue;
                 }
                 Individual husband = f.getFamily().getHusband();
-                if (husband != null && !seenSoFar.contains(husband)) {
+                if (husband != null && seenSoFar.add(husband)) {
                     result.add(husband);
-                    seenSoFar.add(husband);
-                    Set<Individual> husbandsAncestors = husband.addGenerationOfAncestors(seenSoFar);
-                    result.addAll(husbandsAncestors);
-                    seenSoFar.addAll(husbandsAncestors);
                 }
                 Individual wife = f.getFamily().getWife();
-                if (wife != null && !seenSoFar.contains(wife)) {
+                if (wife != null && seenSoFar.add(wife)) {
                     result.add(wife);
-                    seenSoFar.add(wife);
-                    Set<Individual> wifesAncestors = wife.addGenerationOfAncestors(seenSoFar);
-                    result.addAll(wifesAncestors);
-                    seenSoFar.addAll(wifesAncestors);
                 }
             }
         }
-        return result;
     }
 
     /**
-     * Recursive method for adding the descendants of this individual to a running set of individuals. This running set is used to
-     * track who we've seen so far, so we don't infinitely recurse.
+     * Add the children of this individual who haven't been seen yet to a list
      * 
      * @param seenSoFar
-     *            the running set of people we've seen so far in adding descendants
-     * @return the people in another generation of ancestors, to be added to the running list
+     *            the people seen so far, which the children are added to
+     * @param result
+     *            the list to add the children to
      */
-    private Set<Individual> addGenerationOfDescendants(Set<Individual> seenSoFar) {
-        Set<Individual> result = new HashSet<Individual>();
+    private void addChildren(VisitedIndividuals seenSoFar, List<Individual> result) {
         if (familiesWhereSpouse != null) {
             for (FamilySpouse f : familiesWhereSpouse) {
-                if (f.getFamily().getChildren() != null) {
-                    for (Individual i : f.getFamily().getChildren()) {
-                        if (i == null) {
-                            continue;
-                        }
-                        // Recurse if we have not seen this person before in the results already, and they have spouses
-                        boolean notSeenAlready = i != this && !seenSoFar.contains(i);
-                        boolean hasSpouses = i.familiesWhereSpouse != null && !i.familiesWhereSpouse.isEmpty();
-                        if (notSeenAlready && hasSpouses) {
-                            seenSoFar.add(i);
-                            Set<Individual> d = i.addGenerationOfDescendants(seenSoFar);
-                            result.addAll(d);
-                            seenSoFar.addAll(d);
-                        }
+                if (f == null || f.getFamily() == null || f.getFamily().getChildren() == null) {
+                    continue;
+                }
+                for (Individual i : f.getFamily().getChildren()) {
+                    if (i != null && seenSoFar.add(i)) {
                         result.add(i);
                     }
                 }
             }
         }
-        return result;
     }
 
+    /**
+     * Get the fields that most individuals don't use, creating them if needed
+     * 
+     * @return the fields that most individuals don't use
+     */
+    private Extras extras() {
+        if (extras == null) {
+            // If collections were to be initialized, it would have been created already
+            extras = new Extras(false);
+        }
+        return extras;
+    }
+
+    /**
+     * Walk up or down the tree from some individuals, a generation at a time, visiting everyone not seen before. Works
+     * with a list of individuals for the current generation and the next, rather than recursing, so there is no limit
+     * on how many generations can be walked.
+     * 
+     * @param up
+     *            true to walk to parents, false to walk to children
+     * @param start
+     *            the individuals to start from, who are not visited themselves
+     * @param maxGenerations
+     *            the most generations to walk
+     * @param visitor
+     *            the visitor to call for each individual
+     * @param seenSoFar
+     *            the people seen so far, who are not visited again
+     * @return true if the walk finished, or false if the visitor stopped it
+     */
+    private static boolean walk(boolean up, List<Individual> start, int maxGenerations, IndividualVisitor visitor, VisitedIndividuals seenSoFar) {
+        List<Individual> generation = start;
+        List<Individual> next = new ArrayList<Individual>();
+        for (int g = 1; g <= maxGenerations && !generation.isEmpty(); g++) {
+            next.clear();
+            for (Individual i : generation) {
+                if (up) {
+                    i.addParents(seenSoFar, next);
+                } else {
+                    i.addChildren(seenSoFar, next);
+                }
+            }
+            for (Individual i : next) {
+                if (!visitor.visit(i, g)) {
+                    return false;
+                }
+            }
+            // Reuse the list for the generation just done as the next one, unless it is the one passed in
+            List<Individual> done = generation;
+            generation = next;
+            next = (done == start ? new ArrayList<Individual>() : done);
+        }
+        return true;
+    }
+
+    /**
+     * A visitor that collects everyone it visits in a list
+     */
+    private static final class Collector implements IndividualVisitor {
+
+        /**
+         * The list the individuals are added to
+         */
+        private final List<Individual> result;
+
+        /**
+         * Constructor
+         * 
+         * @param result
+         *            the list to add the individuals to
+         */
+        Collector(List<Individual> result) {
+            this.result = result;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean visit(Individual individual, int generation) {
+            result.add(individual);
+            return true;
+        }
+    }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.model;
+
+/**
+ * <p>
+ * A callback interface for walking through the ancestors or descendants of an individual one at a time, without
+ * building up a set of them. Pass an implementation to {@link Individual#walkAncestors(int, IndividualVisitor)} or
+ * {@link Individual#walkDescendants(int, IndividualVisitor)}.
+ * </p>
+ * <p>
+ * Individuals are visited a generation at a time - all the parents (or children), then all the grandparents (or
+ * grandchildren), and so on - and each individual is visited once, in the nearest generation they are found in.
+ * </p>
+ * 
+ * @author frizbog
+ * @since 3.0.2
+ */
+public interface IndividualVisitor {
+
+    /**
+     * Visit an individual
+     * 
+     * @param individual
+     *            the individual being visited
+     * @param generation
+     *            how many generations away the individual is from the one the walk started from - 1 for parents or
+     *            children, 2 for grandparents or grandchildren, and so on
+     * @return true to carry on walking, or false to stop
+     */
+    boolean visit(Individual individual, int generation);
+}
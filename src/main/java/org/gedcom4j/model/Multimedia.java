@@ -63,6 +63,12 @@ public class Multimedia extends AbstractElement {
      */
     private List<String> blob = getBlob(Options.isCollectionInitializationEnabled());
 
+    /**
+     * The decoded binary data for this multimedia item, if it was loaded in binary form rather than as encoded lines in
+     * {@link #blob}. This field should always be null for 5.5.1 files.
+     */
+    private BinaryBlob binaryBlob;
+
     /**
      * The change date for this multimedia item
      */
@@ -134,6 +140,13 @@ public class Multimedia extends AbstractElement {
         } else if (!blob.equals(other.blob)) {
             return false;
         }
+        if (binaryBlob == null) {
+            if (other.binaryBlob != null) {
+                return false;
+            }
+        } else if (!binaryBlob.equals(other.binaryBlob)) {
+            return false;
+        }
         if (embeddedMediaFormat == null) {
             if (other.embeddedMediaFormat != null) {
                 return false;
@@ -207,6 +220,16 @@ public class Multimedia extends AbstractElement {
         return true;
     }
 
+    /**
+     * Gets the decoded binary data, if it was loaded in binary form rather than as encoded lines in {@link #getBlob()}
+     * 
+     * @return the decoded binary data, or null if there isn't any
+     * @since 3.0.2
+     */
+    public BinaryBlob getBinaryBlob() {
+        return binaryBlob;
+    }
+
     /**
      * Gets the blob.
      *
@@ -383,6 +406,7 @@ public class Multimedia extends AbstractElement {
         final int prime = 31;
         int result = super.hashCode();
         result = prime * result + (blob == null ? 0 : blob.hashCode());
+        result = prime * result + (binaryBlob == null ? 0 : binaryBlob.hashCode());
         result = prime * result + (embeddedMediaFormat == null ? 0 : embeddedMediaFormat.hashCode());
         result = prime * result + (changeDate == null ? 0 : changeDate.hashCode());
         result = prime * result + (citations == null ? 0 : citations.hashCode());
@@ -396,6 +420,18 @@ public class Multimedia extends AbstractElement {
         return result;
     }
 
+    /**
+     * Sets the decoded binary data. When writing, this is used in preference to the encoded lines in
+     * {@link #getBlob()}.
+     * 
+     * @param binaryBlob
+     *            the decoded binary data
+     * @since 3.0.2
+     */
+    public void setBinaryBlob(BinaryBlob binaryBlob) {
+        this.binaryBlob = binaryBlob;
+    }
+
     /**
      * Sets the change date.
      *
@@ -468,6 +504,11 @@ public class Multimedia extends AbstractElement {
             builder.append(blob);
             builder.append(", ");
         }
+        if (binaryBlob != null) {
+            builder.append("binaryBlob=");
+            builder.append(binaryBlob);
+            builder.append(", ");
+        }
         if (changeDate != null) {
             builder.append("changeDate=");
             builder.append(changeDate);
@@ -45,6 +45,10 @@ import org.gedcom4j.Options;
  * This class is used by the parser for temporary storage of the text of the gedcom. The class and its members are
  * deliberately package private so only the parser will reference it.
  * </p>
+ * <p>
+ * Elements kept in the object model after parsing, such as custom tags, are {@link #detach() detached} copies, so that
+ * they don't keep the whole tree for their record reachable through their parents.
+ * </p>
  * 
  * @author frizbog1
  */
@@ -91,11 +95,45 @@ public class StringTree implements Serializable {
      */
     private String tag;
 
+    /**
+     * A number identifying the tag, assigned by the parser so it only has to look the tag text up once. Zero if not
+     * assigned yet. Not included in {@link #equals(Object)}, {@link #hashCode()} or serialized data, and reset whenever
+     * the tag changes.
+     */
+    private transient int tagSymbol;
+
     /**
      * The value for this element (basically everything after the tag)
      */
     private String value;
 
+    /**
+     * Make a copy of this element and everything beneath it that is detached from the tree it came from, so keeping the
+     * copy doesn't keep the rest of the tree reachable. None of the elements in the copy have a parent, and their lists
+     * of children are no bigger than they need to be.
+     * 
+     * @return the detached copy
+     * @since 3.0.2
+     */
+    public StringTree detach() {
+        StringTree result = new StringTree();
+        result.id = id;
+        result.level = level;
+        result.lineNum = lineNum;
+        result.tag = tag;
+        result.tagSymbol = tagSymbol;
+        result.value = value;
+        if (children == null) {
+            result.children = null;
+        } else {
+            result.children = new ArrayList<StringTree>(children.size());
+            for (StringTree ch : children) {
+                result.children.add(ch.detach());
+            }
+        }
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -216,6 +254,17 @@ public class StringTree implements Serializable {
         return tag;
     }
 
+    /**
+     * Gets the number identifying the tag, as assigned by the parser. This is internal to gedcom4j and not part of its
+     * API - the numbers can change from one release to the next.
+     *
+     * @return the number identifying the tag, or zero if not assigned
+     * @since 3.0.2
+     */
+    public int getTagSymbol() {
+        return tagSymbol;
+    }
+
     /**
      * Gets the value.
      *
@@ -289,6 +338,20 @@ public class StringTree implements Serializable {
      */
     public void setTag(String tag) {
         this.tag = tag;
+        tagSymbol = 0;
+    }
+
+    /**
+     * Sets the number identifying the tag. This is internal to gedcom4j and not part of its API - it is only public so
+     * the parser, which is in another package, can set it. Don't call it: a number that doesn't match the tag makes the
+     * parser treat the node as a different tag. Use {@link #setTag(String)}, which resets the number, instead.
+     *
+     * @param tagSymbol
+     *            the number identifying the tag
+     * @since 3.0.2
+     */
+    public void setTagSymbol(int tagSymbol) {
+        this.tagSymbol = tagSymbol;
     }
 
     /**
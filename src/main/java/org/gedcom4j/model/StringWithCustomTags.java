@@ -26,6 +26,7 @@
  */
 package org.gedcom4j.model;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -66,13 +67,18 @@ public class StringWithCustomTags extends AbstractElement {
      * Constructor that takes a StringTree as a parameter
      * 
      * @param s
-     *            the string tree with the value of the string, plus optional custom tags
+     *            the string tree with the value of the string, plus optional custom tags, which are kept as
+     *            {@link StringTree#detach() detached} copies
      */
     public StringWithCustomTags(StringTree s) {
         value = s.getValue();
         List<StringTree> children = s.getChildren();
         if (children != null && !children.isEmpty()) {
-            getCustomTags(true).addAll(children);
+            List<StringTree> detached = new ArrayList<StringTree>(children.size());
+            for (StringTree ch : children) {
+                detached.add(ch.detach());
+            }
+            getCustomTags(true).addAll(detached);
         }
     }
 
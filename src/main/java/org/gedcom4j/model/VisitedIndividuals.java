@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * <p>
+ * A set of individuals that have been visited while walking around a family tree, for keeping track of who has been
+ * seen already. Individuals are told apart by identity, not by {@link Individual#equals(Object)} - within a file, each
+ * person is a single object, and comparing (or hashing) individuals deeply gets expensive on large pedigrees.
+ * </p>
+ * <p>
+ * Individuals loaded from a file are kept track of in an array indexed by their {@link Individual#getOrdinal()
+ * ordinal}, so adding and checking them costs next to nothing. Each slot holds the individual that took it, so an
+ * individual whose ordinal is already taken by someone else - from another file, or with a number that is out of date
+ * because records were removed or renumbered - is still told apart. Such individuals, and those that weren't loaded
+ * from a file, are kept in an identity-based set instead.
+ * </p>
+ * 
+ * @author frizbog
+ * @since 3.0.2
+ */
+public final class VisitedIndividuals {
+
+    /**
+     * Ordinals above this are not used to index the array, so a stray large ordinal can't make it huge
+     */
+    private static final int MAX_INDEXED_ORDINAL = 1 << 24;
+
+    /**
+     * The visited individuals that were loaded from a file, each in the slot for their ordinal
+     */
+    private Individual[] byOrdinal = new Individual[16];
+
+    /**
+     * The visited individuals that weren't loaded from a file, or whose ordinal's slot was taken by someone else,
+     * created when the first one is visited
+     */
+    private Set<Individual> others;
+
+    /**
+     * The number of individuals visited
+     */
+    private int size;
+
+    /**
+     * Mark an individual as visited
+     * 
+     * @param individual
+     *            the individual
+     * @return true if the individual had not been visited before
+     * @throws NullPointerException
+     *             if the individual is null
+     */
+    public boolean add(Individual individual) {
+        int ordinal = individual.getOrdinal();
+        if (ordinal >= 0 && ordinal <= MAX_INDEXED_ORDINAL) {
+            if (ordinal >= byOrdinal.length) {
+                byOrdinal = Arrays.copyOf(byOrdinal, Math.max(ordinal + 1, byOrdinal.length * 2));
+            }
+            Individual there = byOrdinal[ordinal];
+            if (there == individual) {
+                return false;
+            }
+            if (there == null) {
+                byOrdinal[ordinal] = individual;
+                size++;
+                return true;
+            }
+            // Someone else has this ordinal, so fall back to telling them apart by identity
+        }
+        if (others == null) {
+            others = Collections.newSetFromMap(new IdentityHashMap<Individual, Boolean>());
+        }
+        boolean added = others.add(individual);
+        if (added) {
+            size++;
+        }
+        return added;
+    }
+
+    /**
+     * Mark some individuals as visited
+     * 
+     * @param individuals
+     *            the individuals
+     */
+    public void addAll(Collection<Individual> individuals) {
+        for (Individual i : individuals) {
+            add(i);
+        }
+    }
+
+    /**
+     * Forget all the individuals visited so far
+     */
+    public void clear() {
+        Arrays.fill(byOrdinal, null);
+        others = null;
+        size = 0;
+    }
+
+    /**
+     * Has an individual been visited?
+     * 
+     * @param individual
+     *            the individual, which may be null
+     * @return true if the individual is not null and has been visited
+     */
+    public boolean contains(Individual individual) {
+        if (individual == null) {
+            return false;
+        }
+        int ordinal = individual.getOrdinal();
+        if (ordinal >= 0 && ordinal < byOrdinal.length && byOrdinal[ordinal] == individual) {
+            return true;
+        }
+        return others != null && others.contains(individual);
+    }
+
+    /**
+     * Has nobody been visited yet?
+     * 
+     * @return true if nobody has been visited yet
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Get the number of individuals visited
+     * 
+     * @return the number of individuals visited
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -27,11 +27,14 @@
 package org.gedcom4j.parser;
 
 import java.util.List;
+import java.util.Map;
 
 import org.gedcom4j.model.*;
 
 /**
- * A base class for all Parser subclasses.
+ * A base class for all Parser subclasses. The methods that find (or create placeholders for) records by their xrefs
+ * synchronize on the relevant collection in the {@link Gedcom}, because root-level records may be parsed concurrently
+ * - see {@link GedcomParser#setParallelism(int)}.
  * 
  * @param <T>
  *            The type of object this parser can load into
@@ -64,23 +67,38 @@ abstract class AbstractParser<T> {
     }
 
     /**
-     * Add an error to the errors collection on the root parser
+     * Add an error to the errors collection on the root parser, at the line number of the node being parsed
      * 
      * @param string
      *            the text of the error
      */
     protected void addError(String string) {
-        gedcomParser.getErrors().add(string);
+        gedcomParser.report(DiagnosticCode.OTHER_ERROR, stringTree == null ? 0 : stringTree.getLineNum(), string);
     }
 
     /**
-     * Add a warning to the warnings collection on the root parser
+     * Add a warning to the warnings collection on the root parser, at the line number of the node being parsed
      * 
      * @param string
      *            the text of the error
      */
     protected void addWarning(String string) {
-        gedcomParser.getWarnings().add(string);
+        gedcomParser.report(DiagnosticCode.OTHER_WARNING, stringTree == null ? 0 : stringTree.getLineNum(), string);
+    }
+
+    /**
+     * Add a warning that something only allowed in GEDCOM 5.5.1 was found in a file that says it is GEDCOM 5.5
+     * 
+     * @param node
+     *            the node holding the GEDCOM 5.5.1 data
+     * @param what
+     *            pieces of the description of what was found and where, joined together when the message is made
+     */
+    protected void addGedcom551FeatureWarning(StringTree node, Object... what) {
+        Object[] args = new Object[what.length + 1];
+        args[0] = Integer.valueOf(node.getLineNum());
+        System.arraycopy(what, 0, args, 1, what.length);
+        gedcomParser.report(DiagnosticCode.GEDCOM_551_FEATURE_IN_55, node.getLineNum(), args);
     }
 
     /**
@@ -102,13 +120,16 @@ abstract class AbstractParser<T> {
      * @return the family with the specified xref
      */
     protected Family getFamily(String xref) {
-        Family f = gedcomParser.getGedcom().getFamilies().get(xref);
-        if (f == null) {
-            f = new Family();
-            f.setXref(xref);
-            gedcomParser.getGedcom().getFamilies().put(xref, f);
+        Map<String, Family> families = gedcomParser.getGedcom().getFamilies();
+        synchronized (families) {
+            Family f = families.get(xref);
+            if (f == null) {
+                f = new Family();
+                f.setXref(xref);
+                families.put(xref, f);
+            }
+            return f;
         }
-        return f;
     }
 
     /**
@@ -119,14 +140,16 @@ abstract class AbstractParser<T> {
      * @return the individual with the specified xref
      */
     protected Individual getIndividual(String xref) {
-        Individual i;
-        i = gedcomParser.getGedcom().getIndividuals().get(xref);
-        if (i == null) {
-            i = new Individual();
-            i.setXref(xref);
-            gedcomParser.getGedcom().getIndividuals().put(xref, i);
+        Map<String, Individual> individuals = gedcomParser.getGedcom().getIndividuals();
+        synchronized (individuals) {
+            Individual i = individuals.get(xref);
+            if (i == null) {
+                i = new Individual();
+                i.setXref(xref);
+                individuals.put(xref, i);
+            }
+            return i;
         }
-        return i;
     }
 
     /**
@@ -137,14 +160,16 @@ abstract class AbstractParser<T> {
      * @return the multimedia item with the specified xref
      */
     protected Multimedia getMultimedia(String xref) {
-        Multimedia m;
-        m = gedcomParser.getGedcom().getMultimedia().get(xref);
-        if (m == null) {
-            m = new Multimedia();
-            m.setXref(xref);
-            gedcomParser.getGedcom().getMultimedia().put(xref, m);
+        Map<String, Multimedia> multimedia = gedcomParser.getGedcom().getMultimedia();
+        synchronized (multimedia) {
+            Multimedia m = multimedia.get(xref);
+            if (m == null) {
+                m = new Multimedia();
+                m.setXref(xref);
+                multimedia.put(xref, m);
+            }
+            return m;
         }
-        return m;
     }
 
     /**
@@ -155,14 +180,16 @@ abstract class AbstractParser<T> {
      * @return the repository with the specified xref
      */
     protected Repository getRepository(String xref) {
-        Repository r = gedcomParser.getGedcom().getRepositories().get(xref);
-        if (r == null) {
-            r = new Repository();
-            r.setXref(xref);
-            gedcomParser.getGedcom().getRepositories().put(xref, r);
+        Map<String, Repository> repositories = gedcomParser.getGedcom().getRepositories();
+        synchronized (repositories) {
+            Repository r = repositories.get(xref);
+            if (r == null) {
+                r = new Repository();
+                r.setXref(xref);
+                repositories.put(xref, r);
+            }
+            return r;
         }
-        return r;
-
     }
 
     /**
@@ -173,12 +200,15 @@ abstract class AbstractParser<T> {
      * @return the source with the specified xref
      */
     protected Source getSource(String xref) {
-        Source src = gedcomParser.getGedcom().getSources().get(xref);
-        if (src == null) {
-            src = new Source(xref);
-            gedcomParser.getGedcom().getSources().put(src.getXref(), src);
+        Map<String, Source> sources = gedcomParser.getGedcom().getSources();
+        synchronized (sources) {
+            Source src = sources.get(xref);
+            if (src == null) {
+                src = new Source(xref);
+                sources.put(src.getXref(), src);
+            }
+            return src;
         }
-        return src;
     }
 
     /**
@@ -189,15 +219,17 @@ abstract class AbstractParser<T> {
      * @return the submitter with the specified xref
      */
     protected Submitter getSubmitter(String xref) {
-        Submitter s;
-        s = gedcomParser.getGedcom().getSubmitters().get(xref);
-        if (s == null) {
-            s = new Submitter();
-            s.setName(new StringWithCustomTags("UNSPECIFIED"));
-            s.setXref(xref);
-            gedcomParser.getGedcom().getSubmitters().put(xref, s);
+        Map<String, Submitter> submitters = gedcomParser.getGedcom().getSubmitters();
+        synchronized (submitters) {
+            Submitter s = submitters.get(xref);
+            if (s == null) {
+                s = new Submitter();
+                s.setName(new StringWithCustomTags("UNSPECIFIED"));
+                s.setXref(xref);
+                submitters.put(xref, s);
+            }
+            return s;
         }
-        return s;
     }
 
     /**
@@ -214,30 +246,86 @@ abstract class AbstractParser<T> {
         if (stringTreeWithLinesOfText.getValue() != null) {
             listOfString.add(stringTreeWithLinesOfText.getValue());
         }
-        if (stringTreeWithLinesOfText.getChildren() != null) {
-            for (StringTree ch : stringTreeWithLinesOfText.getChildren()) {
-                if (Tag.CONTINUATION.equalsText(ch.getTag())) {
-                    if (ch.getValue() == null) {
-                        listOfString.add("");
-                    } else {
-                        listOfString.add(ch.getValue());
-                    }
-                } else if (Tag.CONCATENATION.equalsText(ch.getTag())) {
-                    // If there's no value to concatenate, ignore it
-                    if (ch.getValue() != null) {
-                        if (listOfString.isEmpty()) {
-                            listOfString.add(ch.getValue());
-                        } else {
-                            listOfString.set(listOfString.size() - 1, listOfString.get(listOfString.size() - 1) + ch.getValue());
+        List<StringTree> children = stringTreeWithLinesOfText.getChildren();
+        if (children != null) {
+            // The last line in the list, while it is being built up from CONC lines
+            StringBuilder line = null;
+            for (int i = 0; i < children.size(); i++) {
+                StringTree ch = children.get(i);
+                switch (Tag.of(ch)) {
+                    case CONTINUATION:
+                        finishLine(line, listOfString);
+                        line = null;
+                        listOfString.add(ch.getValue() == null ? "" : ch.getValue());
+                        break;
+                    case CONCATENATION:
+                        // If there's no value to concatenate, ignore it
+                        if (ch.getValue() != null) {
+                            if (listOfString.isEmpty()) {
+                                listOfString.add(ch.getValue());
+                            } else {
+                                if (line == null) {
+                                    line = startLine(listOfString.get(listOfString.size() - 1), children, i);
+                                }
+                                line.append(ch.getValue());
+                            }
                         }
-                    }
-                } else {
-                    unknownTag(ch, element);
+                        break;
+                    default:
+                        unknownTag(ch, element);
+                        break;
                 }
             }
+            finishLine(line, listOfString);
         }
     }
 
+    /**
+     * Put a line of text that has been built up from CONC lines in place of the last line in a list. Building the line
+     * up in a {@link StringBuilder}, rather than concatenating strings, keeps the time taken linear in the length of the
+     * text, however many CONC lines it is split into, and creates just one string for the line.
+     * 
+     * @param line
+     *            the line that has been built up, or null if there isn't one
+     * @param listOfString
+     *            the list of lines of text, whose last line is to be replaced
+     */
+    static void finishLine(StringBuilder line, List<String> listOfString) {
+        if (line != null) {
+            listOfString.set(listOfString.size() - 1, line.toString());
+        }
+    }
+
+    /**
+     * Start building up a line of text from CONC lines, with enough room for the values of all the CONC lines that
+     * follow in a row
+     * 
+     * @param start
+     *            the start of the line, before the first CONC line
+     * @param children
+     *            the child nodes containing the CONC lines
+     * @param firstConcatenation
+     *            the index in the child nodes of the first CONC line
+     * @return the builder for the line, containing the start of the line
+     */
+    static StringBuilder startLine(String start, List<StringTree> children, int firstConcatenation) {
+        int length = (start == null ? 0 : start.length());
+        for (int i = firstConcatenation; i < children.size(); i++) {
+            StringTree ch = children.get(i);
+            if (Tag.of(ch) != Tag.CONCATENATION) {
+                break;
+            }
+            if (ch.getValue() != null) {
+                length += ch.getValue().length();
+            }
+        }
+        StringBuilder result = new StringBuilder(length);
+        if (start != null) {
+            result.append(start);
+        }
+        return result;
+    }
+
     /**
      * Returns true if the node passed in uses a cross-reference to another node
      * 
@@ -278,23 +366,30 @@ abstract class AbstractParser<T> {
      */
     protected void unknownTag(StringTree node, AbstractElement element) {
         if (node.getTag().length() > 0 && (node.getTag().charAt(0) == '_') || !gedcomParser.isStrictCustomTags()) {
-            element.getCustomTags(true).add(node);
+            // Keep a detached copy, so the custom tag doesn't keep the whole tree for the record reachable
+            element.getCustomTags(true).add(node.detach());
+            return;
+        }
+        if (!gedcomParser.isDiagnosticWanted(DiagnosticCode.UNRECOGNIZED_TAG)) {
+            // Nobody will see the message, so only report it to be counted
+            gedcomParser.report(DiagnosticCode.UNRECOGNIZED_TAG, node.getLineNum(), node.getTag(), Integer.valueOf(node.getLineNum()));
             return;
         }
 
-        StringBuilder sb = new StringBuilder(64); // Min size = 64
-        sb.append("Line ").append(node.getLineNum()).append(": Cannot handle tag ");
-        sb.append(node.getTag());
-        StringTree st = node;
-        while (st.getParent() != null) {
-            st = st.getParent();
-            sb.append(", child of ").append(st.getTag() == null ? null : st.getTag());
-            if (st.getId() != null) {
-                sb.append(" ").append(st.getId());
-            }
-            sb.append(" on line ").append(st.getLineNum());
+        int depth = 0;
+        for (StringTree st = node.getParent(); st != null; st = st.getParent()) {
+            depth++;
+        }
+        Object[] args = new Object[2 + 3 * depth];
+        args[0] = node.getTag();
+        args[1] = Integer.valueOf(node.getLineNum());
+        int i = 2;
+        for (StringTree st = node.getParent(); st != null; st = st.getParent()) {
+            args[i++] = st.getTag();
+            args[i++] = st.getId();
+            args[i++] = Integer.valueOf(st.getLineNum());
         }
-        addError(sb.toString());
+        gedcomParser.report(DiagnosticCode.UNRECOGNIZED_TAG, node.getLineNum(), args);
     }
 
     /**
@@ -62,28 +62,38 @@ class AddressParser extends AbstractParser<Address> {
         }
         if (stringTree.getChildren() != null) {
             for (StringTree ch : stringTree.getChildren()) {
-                if (Tag.ADDRESS_1.equalsText(ch.getTag())) {
-                    loadInto.setAddr1(new StringWithCustomTags(ch));
-                } else if (Tag.ADDRESS_2.equalsText(ch.getTag())) {
-                    loadInto.setAddr2(new StringWithCustomTags(ch));
-                } else if (Tag.CITY.equalsText(ch.getTag())) {
-                    loadInto.setCity(new StringWithCustomTags(ch));
-                } else if (Tag.STATE.equalsText(ch.getTag())) {
-                    loadInto.setStateProvince(new StringWithCustomTags(ch));
-                } else if (Tag.POSTAL_CODE.equalsText(ch.getTag())) {
-                    loadInto.setPostalCode(new StringWithCustomTags(ch));
-                } else if (Tag.COUNTRY.equalsText(ch.getTag())) {
-                    loadInto.setCountry(new StringWithCustomTags(ch));
-                } else if (Tag.CONCATENATION.equalsText(ch.getTag())) {
-                    if (loadInto.getLines(true).isEmpty()) {
-                        loadInto.getLines().add(ch.getValue());
-                    } else {
-                        loadInto.getLines().set(loadInto.getLines().size() - 1, loadInto.getLines().get(loadInto.getLines().size() - 1) + ch.getValue());
-                    }
-                } else if (Tag.CONTINUATION.equalsText(ch.getTag())) {
-                    loadInto.getLines(true).add(ch.getValue() == null ? "" : ch.getValue());
-                } else {
-                    unknownTag(ch, loadInto);
+                switch (Tag.of(ch)) {
+                    case ADDRESS_1:
+                        loadInto.setAddr1(new StringWithCustomTags(ch));
+                        break;
+                    case ADDRESS_2:
+                        loadInto.setAddr2(new StringWithCustomTags(ch));
+                        break;
+                    case CITY:
+                        loadInto.setCity(new StringWithCustomTags(ch));
+                        break;
+                    case STATE:
+                        loadInto.setStateProvince(new StringWithCustomTags(ch));
+                        break;
+                    case POSTAL_CODE:
+                        loadInto.setPostalCode(new StringWithCustomTags(ch));
+                        break;
+                    case COUNTRY:
+                        loadInto.setCountry(new StringWithCustomTags(ch));
+                        break;
+                    case CONCATENATION:
+                        if (loadInto.getLines(true).isEmpty()) {
+                            loadInto.getLines().add(ch.getValue());
+                        } else {
+                            loadInto.getLines().set(loadInto.getLines().size() - 1, loadInto.getLines().get(loadInto.getLines().size() - 1) + ch.getValue());
+                        }
+                        break;
+                    case CONTINUATION:
+                        loadInto.getLines(true).add(ch.getValue() == null ? "" : ch.getValue());
+                        break;
+                    default:
+                        unknownTag(ch, loadInto);
+                        break;
                 }
             }
         }
@@ -58,18 +58,24 @@ class AssociationParser extends AbstractParser<Association> {
         loadInto.setAssociatedEntityXref(stringTree.getValue());
         if (stringTree.getChildren() != null) {
             for (StringTree ch : stringTree.getChildren()) {
-                if (Tag.RELATIONSHIP.equalsText(ch.getTag())) {
-                    loadInto.setRelationship(new StringWithCustomTags(ch));
-                } else if (Tag.NOTE.equalsText(ch.getTag())) {
-                    List<Note> notes = loadInto.getNotes(true);
-                    new NoteListParser(gedcomParser, ch, notes).parse();
-                } else if (Tag.SOURCE.equalsText(ch.getTag())) {
-                    List<AbstractCitation> citations = loadInto.getCitations(true);
-                    new CitationListParser(gedcomParser, ch, citations).parse();
-                } else if (Tag.TYPE.equalsText(ch.getTag())) {
-                    loadInto.setAssociatedEntityType(new StringWithCustomTags(ch));
-                } else {
-                    unknownTag(ch, loadInto);
+                switch (Tag.of(ch)) {
+                    case RELATIONSHIP:
+                        loadInto.setRelationship(new StringWithCustomTags(ch));
+                        break;
+                    case NOTE:
+                        List<Note> notes = loadInto.getNotes(true);
+                        new NoteListParser(gedcomParser, ch, notes).parse();
+                        break;
+                    case SOURCE:
+                        List<AbstractCitation> citations = loadInto.getCitations(true);
+                        new CitationListParser(gedcomParser, ch, citations).parse();
+                        break;
+                    case TYPE:
+                        loadInto.setAssociatedEntityType(new StringWithCustomTags(ch));
+                        break;
+                    default:
+                        unknownTag(ch, loadInto);
+                        break;
                 }
             }
         }
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+/**
+ * The ways the embedded binary data of GEDCOM 5.5 multimedia records (the <code>BLOB</code> tag) can be kept when a file
+ * is loaded. Set with {@link LoadOptions#setBlobStorage(BlobStorage)}.
+ * 
+ * @author frizbog
+ * @since 3.0.2
+ */
+public enum BlobStorage {
+    /**
+     * Keep the encoded lines of text, in {@link org.gedcom4j.model.Multimedia#getBlob()}. This is the default.
+     */
+    TEXT,
+    /**
+     * Decode the data into bytes on the heap, in {@link org.gedcom4j.model.Multimedia#getBinaryBlob()}
+     */
+    HEAP,
+    /**
+     * Decode the data into a direct {@link java.nio.ByteBuffer}, outside the heap, in
+     * {@link org.gedcom4j.model.Multimedia#getBinaryBlob()}
+     */
+    DIRECT_BUFFER,
+    /**
+     * Decode the data into a temporary file, in {@link org.gedcom4j.model.Multimedia#getBinaryBlob()}. The file is
+     * only deleted when the blob is {@link org.gedcom4j.model.BinaryBlob#release()}d, which is up to the caller.
+     */
+    TEMP_FILE
+}
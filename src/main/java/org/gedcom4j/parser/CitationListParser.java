@@ -106,23 +106,29 @@ class CitationListParser extends AbstractParser<List<AbstractCitation>> {
         cws.getDescription(true).add(sour.getValue());
         if (sour.getChildren() != null) {
             for (StringTree ch : sour.getChildren()) {
-                if (Tag.CONTINUATION.equalsText(ch.getTag())) {
-                    cws.getDescription(true).add(ch.getValue() == null ? "" : ch.getValue());
-                } else if (Tag.CONCATENATION.equalsText(ch.getTag())) {
-                    if (cws.getDescription().isEmpty()) {
-                        cws.getDescription(true).add(ch.getValue());
-                    } else {
-                        // Append to last value in string list
-                        cws.getDescription().set(cws.getDescription().size() - 1, cws.getDescription().get(cws.getDescription().size() - 1) + ch.getValue());
-                    }
-                } else if (Tag.TEXT.equalsText(ch.getTag())) {
-                    List<String> ls = new ArrayList<String>();
-                    cws.getTextFromSource(true).add(ls);
-                    loadMultiLinesOfText(ch, ls, cws);
-                } else if (Tag.NOTE.equalsText(ch.getTag())) {
-                    new NoteListParser(gedcomParser, ch, cws.getNotes(true)).parse();
-                } else {
-                    unknownTag(ch, citation);
+                switch (Tag.of(ch)) {
+                    case CONTINUATION:
+                        cws.getDescription(true).add(ch.getValue() == null ? "" : ch.getValue());
+                        break;
+                    case CONCATENATION:
+                        if (cws.getDescription().isEmpty()) {
+                            cws.getDescription(true).add(ch.getValue());
+                        } else {
+                            // Append to last value in string list
+                            cws.getDescription().set(cws.getDescription().size() - 1, cws.getDescription().get(cws.getDescription().size() - 1) + ch.getValue());
+                        }
+                        break;
+                    case TEXT:
+                        List<String> ls = new ArrayList<String>();
+                        cws.getTextFromSource(true).add(ls);
+                        loadMultiLinesOfText(ch, ls, cws);
+                        break;
+                    case NOTE:
+                        new NoteListParser(gedcomParser, ch, cws.getNotes(true)).parse();
+                        break;
+                    default:
+                        unknownTag(ch, citation);
+                        break;
                 }
             }
         }
@@ -145,33 +151,41 @@ class CitationListParser extends AbstractParser<List<AbstractCitation>> {
         cws.setSource(src);
         if (sour.getChildren() != null) {
             for (StringTree ch : sour.getChildren()) {
-                if (Tag.PAGE.equalsText(ch.getTag())) {
-                    cws.setWhereInSource(new StringWithCustomTags(ch));
-                } else if (Tag.EVENT.equalsText(ch.getTag())) {
-                    cws.setEventCited(new StringWithCustomTags(ch.getValue()));
-                    if (ch.getChildren() != null) {
-                        for (StringTree gc : ch.getChildren()) {
-                            if (Tag.ROLE.equalsText(gc.getTag())) {
-                                cws.setRoleInEvent(new StringWithCustomTags(gc));
-                            } else {
-                                unknownTag(gc, cws.getEventCited());
+                switch (Tag.of(ch)) {
+                    case PAGE:
+                        cws.setWhereInSource(new StringWithCustomTags(ch));
+                        break;
+                    case EVENT:
+                        cws.setEventCited(new StringWithCustomTags(ch.getValue()));
+                        if (ch.getChildren() != null) {
+                            for (StringTree gc : ch.getChildren()) {
+                                if (Tag.ROLE.equalsText(gc.getTag())) {
+                                    cws.setRoleInEvent(new StringWithCustomTags(gc));
+                                } else {
+                                    unknownTag(gc, cws.getEventCited());
+                                }
                             }
                         }
-                    }
-                } else if (Tag.DATA_FOR_CITATION.equalsText(ch.getTag())) {
-                    CitationData d = new CitationData();
-                    cws.getData(true).add(d);
-                    loadCitationData(ch, d);
-                } else if (Tag.QUALITY.equalsText(ch.getTag())) {
-                    cws.setCertainty(new StringWithCustomTags(ch));
-                } else if (Tag.NOTE.equalsText(ch.getTag())) {
-                    List<Note> notes = cws.getNotes(true);
-                    new NoteListParser(gedcomParser, ch, notes).parse();
-                } else if (Tag.OBJECT_MULTIMEDIA.equalsText(ch.getTag())) {
-                    List<Multimedia> multimedia = cws.getMultimedia(true);
-                    new MultimediaLinkParser(gedcomParser, ch, multimedia).parse();
-                } else {
-                    unknownTag(ch, citation);
+                        break;
+                    case DATA:
+                        CitationData d = new CitationData();
+                        cws.getData(true).add(d);
+                        loadCitationData(ch, d);
+                        break;
+                    case QUALITY:
+                        cws.setCertainty(new StringWithCustomTags(ch));
+                        break;
+                    case NOTE:
+                        List<Note> notes = cws.getNotes(true);
+                        new NoteListParser(gedcomParser, ch, notes).parse();
+                        break;
+                    case OBJECT_MULTIMEDIA:
+                        List<Multimedia> multimedia = cws.getMultimedia(true);
+                        new MultimediaLinkParser(gedcomParser, ch, multimedia).parse();
+                        break;
+                    default:
+                        unknownTag(ch, citation);
+                        break;
                 }
             }
         }
@@ -57,32 +57,36 @@ class CorporationParser extends AbstractParser<Corporation> {
         loadInto.setBusinessName(stringTree.getValue());
         if (stringTree.getChildren() != null) {
             for (StringTree ch : stringTree.getChildren()) {
-                if (Tag.ADDRESS.equalsText(ch.getTag())) {
-                    Address address = new Address();
-                    loadInto.setAddress(address);
-                    new AddressParser(gedcomParser, ch, address).parse();
-                } else if (Tag.PHONE.equalsText(ch.getTag())) {
-                    loadInto.getPhoneNumbers(true).add(new StringWithCustomTags(ch));
-                } else if (Tag.WEB_ADDRESS.equalsText(ch.getTag())) {
-                    loadInto.getWwwUrls(true).add(new StringWithCustomTags(ch));
-                    if (g55()) {
-                        addWarning("GEDCOM version is 5.5 but WWW URL was specified for the corporation in the source system on line " + ch.getLineNum()
-                                + ", which is a GEDCOM 5.5.1 feature." + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
-                    }
-                } else if (Tag.FAX.equalsText(ch.getTag())) {
-                    loadInto.getFaxNumbers(true).add(new StringWithCustomTags(ch));
-                    if (g55()) {
-                        addWarning("GEDCOM version is 5.5 but fax number was specified for the corporation in the source system on line " + ch.getLineNum()
-                                + ", which is a GEDCOM 5.5.1 feature." + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
-                    }
-                } else if (Tag.EMAIL.equalsText(ch.getTag())) {
-                    loadInto.getEmails(true).add(new StringWithCustomTags(ch));
-                    if (g55()) {
-                        addWarning("GEDCOM version is 5.5 but emails was specified for the corporation in the source system on line " + ch.getLineNum()
-                                + ", which is a GEDCOM 5.5.1 feature." + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
-                    }
-                } else {
-                    unknownTag(ch, loadInto);
+                switch (Tag.of(ch)) {
+                    case ADDRESS:
+                        Address address = new Address();
+                        loadInto.setAddress(address);
+                        new AddressParser(gedcomParser, ch, address).parse();
+                        break;
+                    case PHONE:
+                        loadInto.getPhoneNumbers(true).add(new StringWithCustomTags(ch));
+                        break;
+                    case WEB_ADDRESS:
+                        loadInto.getWwwUrls(true).add(new StringWithCustomTags(ch));
+                        if (g55()) {
+                            addGedcom551FeatureWarning(ch, "WWW URL was specified for the corporation in the source system");
+                        }
+                        break;
+                    case FAX:
+                        loadInto.getFaxNumbers(true).add(new StringWithCustomTags(ch));
+                        if (g55()) {
+                            addGedcom551FeatureWarning(ch, "fax number was specified for the corporation in the source system");
+                        }
+                        break;
+                    case EMAIL:
+                        loadInto.getEmails(true).add(new StringWithCustomTags(ch));
+                        if (g55()) {
+                            addGedcom551FeatureWarning(ch, "emails was specified for the corporation in the source system");
+                        }
+                        break;
+                    default:
+                        unknownTag(ch, loadInto);
+                        break;
                 }
             }
         }
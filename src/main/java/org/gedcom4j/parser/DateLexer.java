@@ -0,0 +1,634 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import org.gedcom4j.parser.ParsedDate.CalendarSystem;
+import org.gedcom4j.parser.ParsedDate.Precision;
+import org.gedcom4j.parser.ParsedDate.Qualifier;
+
+/**
+ * <p>
+ * Reads a GEDCOM date value into a {@link ParsedDate} in a single pass over its characters. Words are matched in place,
+ * ignoring case, so the only object made for a Gregorian or Julian date is the result.
+ * </p>
+ * <p>
+ * The grammar accepted is:
+ * </p>
+ * 
+ * <pre>
+ * value     = [escape] [qualifier] date [second] [phrase]
+ * qualifier = ABT | ABOUT | APPX | APPROX | CAL | CALC | EST | INT | BEF | BEFORE | AFT | AFTER
+ *           | BET | BTW | BETWEEN | FROM | TO, each optionally followed by a period
+ * second    = (AND | TO) date, after BET/BTW/BETWEEN; TO date, after FROM
+ * date      = [escape] [[day] month] year[/yy] [BC | B.C. | BCE | B.C.E.]
+ * phrase    = ( text ), after INT
+ * </pre>
+ * 
+ * @author frizbog
+ */
+final class DateLexer {
+
+    /**
+     * The Gregorian and Julian month abbreviations, in order
+     */
+    private static final String[] GREGORIAN_JULIAN_MONTHS = { "JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP",
+            "OCT", "NOV", "DEC" };
+
+    /**
+     * The Hebrew month abbreviations, in the order of {@link HebrewMonth}
+     */
+    private static final String[] HEBREW_MONTHS = { "TSH", "CSH", "KSL", "TVT", "SHV", "ADR", "ADS", "NSN", "IYR", "SVN", "TMZ",
+            "AAV", "ELL" };
+
+    /**
+     * The French Republican month abbreviations, in the order of {@link FrenchRepublicanMonth}
+     */
+    private static final String[] FRENCH_REPUBLICAN_MONTHS = { "VEND", "BRUM", "FRIM", "NIVO", "PLUV", "VENT", "GERM", "FLOR",
+            "PRAI", "MESS", "THER", "FRUC", "COMP" };
+
+    /**
+     * The date value being read
+     */
+    private final String text;
+
+    /**
+     * The position of the next character to read
+     */
+    private int pos;
+
+    /**
+     * The end of the most recent word matched by {@link #isWord(String)}
+     */
+    private int wordEnd;
+
+    /**
+     * The calendar of the date most recently read
+     */
+    private CalendarSystem calendar;
+
+    /**
+     * The precision of the date most recently read
+     */
+    private Precision precision;
+
+    /**
+     * The first day of the date most recently read, as a number of days since 1 January 1970
+     */
+    private int start;
+
+    /**
+     * The last day of the date most recently read, as a number of days since 1 January 1970
+     */
+    private int end;
+
+    /**
+     * Whether any date read had a dual year
+     */
+    private boolean dualYear;
+
+    /**
+     * Whether any date read had a year before the common era
+     */
+    private boolean beforeCommonEra;
+
+    /**
+     * Constructor
+     * 
+     * @param text
+     *            the date value to read
+     */
+    DateLexer(String text) {
+        this.text = text;
+    }
+
+    /**
+     * Get the number of days since 1 January 1970 for a Gregorian date
+     * 
+     * @param year
+     *            the year. Year 0 is 1 BC, year -1 is 2 BC, and so on.
+     * @param month
+     *            the month, 1-12
+     * @param day
+     *            the day of the month
+     * @return the number of days since 1 January 1970
+     */
+    static int gregorianDayNumber(int year, int month, int day) {
+        // Count from 1 March, so the leap day is at the end of the year, in 400-year eras with the same number of days
+        int y = month <= 2 ? year - 1 : year;
+        int era = (y >= 0 ? y : y - 399) / 400;
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        return era * 146097 + yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear - 719468;
+    }
+
+    /**
+     * Get the number of days since 1 January 1970 (Gregorian) for a Julian date
+     * 
+     * @param year
+     *            the year. Year 0 is 1 BC, year -1 is 2 BC, and so on.
+     * @param month
+     *            the month, 1-12
+     * @param day
+     *            the day of the month
+     * @return the number of days since 1 January 1970
+     */
+    static int julianDayNumber(int year, int month, int day) {
+        // Count from 1 March, so the leap day is at the end of the year, in 4-year eras with the same number of days
+        int y = month <= 2 ? year - 1 : year;
+        int era = (y >= 0 ? y : y - 3) / 4;
+        int yearOfEra = y - era * 4;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        return era * 1461 + yearOfEra * 365 + dayOfYear - 719470;
+    }
+
+    /**
+     * Read the date value
+     * 
+     * @return the parsed date, or null if the value isn't a date value that can be understood, refers to a day that
+     *         doesn't exist, or is a range that ends before it starts
+     */
+    ParsedDate lex() {
+        skipSpaces();
+        CalendarSystem defaultCalendar = readEscape(CalendarSystem.GREGORIAN);
+        if (defaultCalendar == null) {
+            return null;
+        }
+        skipSpaces();
+        Qualifier qualifier = readQualifier();
+        if (!readDate(defaultCalendar)) {
+            return null;
+        }
+        int earliest = start;
+        CalendarSystem firstCalendar = calendar;
+        Precision firstPrecision = precision;
+        skipSpaces();
+        if (qualifier == Qualifier.BETWEEN || qualifier == Qualifier.FROM) {
+            boolean second = isWord("TO") || qualifier == Qualifier.BETWEEN && isWord("AND");
+            if (second) {
+                pos = wordEnd;
+                if (qualifier == Qualifier.FROM) {
+                    qualifier = Qualifier.FROM_TO;
+                }
+                if (!readDate(firstCalendar) || end < earliest) {
+                    // The second date is missing, or is entirely before the first
+                    return null;
+                }
+                skipSpaces();
+            } else if (qualifier == Qualifier.BETWEEN) {
+                return null;
+            }
+        } else if (qualifier == Qualifier.INTERPRETED && pos < text.length() && text.charAt(pos) == '(') {
+            int close = text.indexOf(')', pos);
+            if (close < 0) {
+                return null;
+            }
+            pos = close + 1;
+            skipSpaces();
+        }
+        if (pos != text.length()) {
+            return null;
+        }
+        return new ParsedDate(earliest, end, qualifier, firstPrecision, firstCalendar, dualYear, beforeCommonEra);
+    }
+
+    /**
+     * Is the character a letter or digit?
+     * 
+     * @param c
+     *            the character
+     * @return true if the character is an ASCII letter or digit
+     */
+    private boolean isLetterOrDigit(char c) {
+        return c >= '0' && c <= '9' || c >= 'A' && c <= 'Z' || c >= 'a' && c <= 'z';
+    }
+
+    /**
+     * Does the next word match the one supplied, ignoring case? If so, {@link #wordEnd} is set to just past it, but the
+     * position is not moved.
+     * 
+     * @param word
+     *            the word, in upper case
+     * @return true if the text at the current position is the word, followed by something other than a letter or digit
+     */
+    private boolean isWord(String word) {
+        int after = pos + word.length();
+        if (!text.regionMatches(true, pos, word, 0, word.length()) || after < text.length() && isLetterOrDigit(text.charAt(
+                after))) {
+            return false;
+        }
+        wordEnd = after;
+        return true;
+    }
+
+    /**
+     * Read an optional suffix for a year before the common era
+     * 
+     * @return true if there was one
+     */
+    private boolean readBeforeCommonEra() {
+        int save = pos;
+        if (pos < text.length() && text.charAt(pos) == ' ') {
+            pos++;
+        }
+        if (isWord("B.C.E.") || isWord("B.C.") || isWord("BCE") || isWord("BC")) {
+            pos = wordEnd;
+            return true;
+        }
+        pos = save;
+        return false;
+    }
+
+    /**
+     * Read a single date, and work out its first and last days
+     * 
+     * @param defaultCalendar
+     *            the calendar to use if the date doesn't have an escape of its own
+     * @return true if a date was read, and refers to days that exist
+     */
+    private boolean readDate(CalendarSystem defaultCalendar) {
+        skipSpaces();
+        calendar = readEscape(defaultCalendar);
+        if (calendar == null) {
+            return false;
+        }
+        skipSpaces();
+        String[] months = monthsOf(calendar);
+
+        int day = 0;
+        int month = 0;
+        int firstStart = pos;
+        int first = readNumber(4);
+        if (first < 0) {
+            month = readMonth(months);
+            if (month == 0) {
+                return false;
+            }
+        } else {
+            int save = pos;
+            skipSpaces();
+            month = readMonth(months);
+            if (month == 0) {
+                pos = save;
+            } else {
+                if (save - firstStart > 2 || first < 1 || first > 31) {
+                    return false;
+                }
+                day = first;
+            }
+        }
+        int year;
+        if (month == 0) {
+            year = first;
+        } else {
+            skipSpaces();
+            year = readNumber(4);
+        }
+        if (year <= 0) {
+            return false;
+        }
+        precision = day > 0 ? Precision.DAY : month > 0 ? Precision.MONTH : Precision.YEAR;
+
+        int newYearDigits = -1;
+        if (pos < text.length() && text.charAt(pos) == '/') {
+            pos++;
+            int digitsStart = pos;
+            newYearDigits = readNumber(2);
+            if (newYearDigits < 0 || pos - digitsStart != 2) {
+                return false;
+            }
+            dualYear = true;
+        }
+        if (readBeforeCommonEra()) {
+            if (calendar == CalendarSystem.HEBREW || calendar == CalendarSystem.FRENCH_REPUBLICAN) {
+                return false;
+            }
+            beforeCommonEra = true;
+            year = 1 - year;
+        } else if (newYearDigits >= 0 && year >= 1582 && year <= 1752) {
+            year = resolveDualYear(year, newYearDigits);
+        }
+        if (pos < text.length() && isLetterOrDigit(text.charAt(pos))) {
+            return false;
+        }
+
+        switch (calendar) {
+            case GREGORIAN:
+            case JULIAN:
+                return spanGregorianJulian(year, month, day);
+            case HEBREW:
+                return spanHebrew(year, month, day);
+            case FRENCH_REPUBLICAN:
+                return spanFrenchRepublican(year, month, day);
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Read an optional calendar escape
+     * 
+     * @param defaultCalendar
+     *            the calendar to return if there is no escape
+     * @return the calendar, or null if there was an escape for a calendar that isn't supported
+     */
+    private CalendarSystem readEscape(CalendarSystem defaultCalendar) {
+        if (!text.startsWith("@#", pos)) {
+            return defaultCalendar;
+        }
+        int close = text.indexOf('@', pos + 2);
+        if (close < 0) {
+            return null;
+        }
+        int length = close + 1 - pos;
+        CalendarSystem result = null;
+        if (text.regionMatches(true, pos, "@#DGREGORIAN@", 0, length) && length == 13) {
+            result = CalendarSystem.GREGORIAN;
+        } else if (text.regionMatches(true, pos, "@#DJULIAN@", 0, length) && length == 10) {
+            result = CalendarSystem.JULIAN;
+        } else if (text.regionMatches(true, pos, "@#DHEBREW@", 0, length) && length == 10) {
+            result = CalendarSystem.HEBREW;
+        } else if (text.regionMatches(true, pos, "@#DFRENCH R@", 0, length) && length == 12) {
+            result = CalendarSystem.FRENCH_REPUBLICAN;
+        }
+        pos = close + 1;
+        return result;
+    }
+
+    /**
+     * Read a month abbreviation
+     * 
+     * @param months
+     *            the month abbreviations of the calendar, in order
+     * @return the month, 1-based, or 0 if there wasn't one of the abbreviations at the current position
+     */
+    private int readMonth(String[] months) {
+        for (int i = 0; i < months.length; i++) {
+            if (isWord(months[i])) {
+                pos = wordEnd;
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Read a number
+     * 
+     * @param maxDigits
+     *            the most digits the number can have
+     * @return the number, or -1 if there were no digits at the current position or too many
+     */
+    private int readNumber(int maxDigits) {
+        int result = 0;
+        int digits = 0;
+        while (pos < text.length()) {
+            char c = text.charAt(pos);
+            if (c < '0' || c > '9') {
+                break;
+            }
+            if (++digits > maxDigits) {
+                return -1;
+            }
+            result = result * 10 + c - '0';
+            pos++;
+        }
+        return digits == 0 ? -1 : result;
+    }
+
+    /**
+     * Read an optional qualifier, and the optional period and the space after it
+     * 
+     * @return the qualifier, or {@link Qualifier#NONE} if there wasn't one
+     */
+    private Qualifier readQualifier() {
+        Qualifier result = Qualifier.NONE;
+        if (isWord("ABT") || isWord("ABOUT") || isWord("APPX") || isWord("APPROX")) {
+            result = Qualifier.ABOUT;
+        } else if (isWord("CAL") || isWord("CALC")) {
+            result = Qualifier.CALCULATED;
+        } else if (isWord("EST")) {
+            result = Qualifier.ESTIMATED;
+        } else if (isWord("INT")) {
+            result = Qualifier.INTERPRETED;
+        } else if (isWord("BEF") || isWord("BEFORE")) {
+            result = Qualifier.BEFORE;
+        } else if (isWord("AFT") || isWord("AFTER")) {
+            result = Qualifier.AFTER;
+        } else if (isWord("BET") || isWord("BTW") || isWord("BETWEEN")) {
+            result = Qualifier.BETWEEN;
+        } else if (isWord("FROM")) {
+            result = Qualifier.FROM;
+        } else if (isWord("TO")) {
+            result = Qualifier.TO;
+        }
+        if (result != Qualifier.NONE) {
+            pos = wordEnd;
+            if (pos < text.length() && text.charAt(pos) == '.') {
+                pos++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Resolve a dual year, for the old/new dates preceding the English calendar switch of 1752, to the new year. See
+     * {@link DateParser#resolveEnglishCalendarSwitch(String)}.
+     * 
+     * @param oldYear
+     *            the old year, e.g., 1731 for 1731/32
+     * @param newYearDigits
+     *            the last two digits of the new year, e.g., 32 for 1731/32
+     * @return the new year
+     */
+    private int resolveDualYear(int oldYear, int newYearDigits) {
+        int century = oldYear / 100;
+        // Handle century boundary
+        if (newYearDigits == 0 && oldYear % 100 == 99) {
+            century = (oldYear + 1) / 100;
+        }
+        return century * 100 + newYearDigits;
+    }
+
+    /**
+     * Skip any spaces at the current position
+     */
+    private void skipSpaces() {
+        while (pos < text.length() && text.charAt(pos) == ' ') {
+            pos++;
+        }
+    }
+
+    /**
+     * Work out the first and last days of a French Republican date
+     * 
+     * @param year
+     *            the year
+     * @param month
+     *            the month, 1-13, or 0 if not given
+     * @param day
+     *            the day, or 0 if not given
+     * @return true if the date exists
+     */
+    private boolean spanFrenchRepublican(int year, int month, int day) {
+        int complementaryDays = FrenchRepublicanCalendarParser.isFrenchLeapYearRomme(year) ? 6 : 5;
+        int lastMonth = month == 0 ? FRENCH_REPUBLICAN_MONTHS.length : month;
+        int monthLength = lastMonth == FRENCH_REPUBLICAN_MONTHS.length ? complementaryDays : 30;
+        if (day > monthLength) {
+            return false;
+        }
+        FrenchRepublicanMonth[] months = FrenchRepublicanMonth.values();
+        start = (int) FrenchRepublicanCalendarParser.getDayNumber(year, months[month == 0 ? 0 : month - 1], day == 0 ? 1 : day);
+        if (day > 0) {
+            end = start;
+        } else if (month > 0) {
+            end = start + monthLength - 1;
+        } else {
+            end = (int) FrenchRepublicanCalendarParser.getDayNumber(year, months[lastMonth - 1], monthLength);
+        }
+        return true;
+    }
+
+    /**
+     * Work out the first and last days of a Gregorian or Julian date
+     * 
+     * @param year
+     *            the year. Year 0 is 1 BC, year -1 is 2 BC, and so on.
+     * @param month
+     *            the month, 1-12, or 0 if not given
+     * @param day
+     *            the day, or 0 if not given
+     * @return true if the date exists
+     */
+    private boolean spanGregorianJulian(int year, int month, int day) {
+        if (day > 0) {
+            if (day > daysInMonth(year, month)) {
+                return false;
+            }
+            start = dayNumber(year, month, day);
+            end = start;
+        } else if (month > 0) {
+            start = dayNumber(year, month, 1);
+            end = month == 12 ? dayNumber(year + 1, 1, 1) - 1 : dayNumber(year, month + 1, 1) - 1;
+        } else {
+            start = dayNumber(year, 1, 1);
+            end = dayNumber(year + 1, 1, 1) - 1;
+        }
+        return true;
+    }
+
+    /**
+     * Work out the first and last days of a Hebrew date
+     * 
+     * @param year
+     *            the year
+     * @param month
+     *            the month, 1-13, or 0 if not given
+     * @param day
+     *            the day, or 0 if not given
+     * @return true if the date exists
+     */
+    private boolean spanHebrew(int year, int month, int day) {
+        if (month == 0) {
+            start = (int) HebrewCalendarParser.getDayNumber(year, 1, 1);
+            int lastMonthLength = HebrewCalendarParser.getMonthLength(year, HEBREW_MONTHS.length);
+            end = (int) HebrewCalendarParser.getDayNumber(year, HEBREW_MONTHS.length, lastMonthLength);
+            return true;
+        }
+        int monthLength = HebrewCalendarParser.getMonthLength(year, month);
+        if (monthLength == 0 || day > monthLength) {
+            return false;
+        }
+        start = (int) HebrewCalendarParser.getDayNumber(year, month, day == 0 ? 1 : day);
+        end = day == 0 ? start + monthLength - 1 : start;
+        return true;
+    }
+
+    /**
+     * Get the number of days since 1 January 1970 for a date in the current calendar, which must be Gregorian or Julian
+     * 
+     * @param year
+     *            the year. Year 0 is 1 BC, year -1 is 2 BC, and so on.
+     * @param month
+     *            the month, 1-12
+     * @param day
+     *            the day of the month
+     * @return the number of days since 1 January 1970
+     */
+    private int dayNumber(int year, int month, int day) {
+        if (calendar == CalendarSystem.JULIAN || year < 1582 || year == 1582 && (month < 10 || month == 10 && day < 15)) {
+            return julianDayNumber(year, month, day);
+        }
+        return gregorianDayNumber(year, month, day);
+    }
+
+    /**
+     * Get the number of days in a month in the current calendar, which must be Gregorian or Julian
+     * 
+     * @param year
+     *            the year. Year 0 is 1 BC, year -1 is 2 BC, and so on.
+     * @param month
+     *            the month, 1-12
+     * @return the number of days in the month
+     */
+    private int daysInMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                boolean leap;
+                if (calendar == CalendarSystem.JULIAN || year < 1582) {
+                    leap = (year & 3) == 0;
+                } else {
+                    leap = year % 4 == 0 && (year % 100 != 0 || year % 400 == 0);
+                }
+                return leap ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Get the month abbreviations for a calendar
+     * 
+     * @param cal
+     *            the calendar
+     * @return the month abbreviations, in order
+     */
+    private String[] monthsOf(CalendarSystem cal) {
+        switch (cal) {
+            case HEBREW:
+                return HEBREW_MONTHS;
+            case FRENCH_REPUBLICAN:
+                return FRENCH_REPUBLICAN_MONTHS;
+            default:
+                return GREGORIAN_JULIAN_MONTHS;
+        }
+    }
+}
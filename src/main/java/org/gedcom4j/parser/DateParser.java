@@ -706,7 +706,7 @@ public class DateParser {
                 break;
             case FAVOR_LATEST:
                 if (frMonth == FrenchRepublicanMonth.JOUR_COMPLEMENTAIRS) {
-                    if (frc.isFrenchLeapYearRomme(frYear)) {
+                    if (FrenchRepublicanCalendarParser.isFrenchLeapYearRomme(frYear)) {
                         frDay = 6;
                     } else {
                         frDay = 5;
@@ -717,7 +717,7 @@ public class DateParser {
                 break;
             case FAVOR_MIDPOINT:
                 if (frMonth == FrenchRepublicanMonth.JOUR_COMPLEMENTAIRS) {
-                    if (frc.isFrenchLeapYearRomme(frYear)) {
+                    if (FrenchRepublicanCalendarParser.isFrenchLeapYearRomme(frYear)) {
                         frDay = 3;
                     } else {
                         frDay = 2;
@@ -758,7 +758,7 @@ public class DateParser {
                 break;
             case FAVOR_LATEST:
                 frMonth = FrenchRepublicanMonth.JOUR_COMPLEMENTAIRS;
-                if (frc.isFrenchLeapYearRomme(frYear)) {
+                if (FrenchRepublicanCalendarParser.isFrenchLeapYearRomme(frYear)) {
                     frDay = 6;
                 } else {
                     frDay = 5;
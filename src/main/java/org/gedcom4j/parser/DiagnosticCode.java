@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+/**
+ * <p>
+ * The kinds of problem the parser reports in a {@link ParseDiagnostic}. Each code knows whether it is an error or a
+ * warning, and how to turn the arguments of a diagnostic into a message. Messages are only made when asked for, so
+ * files with lots of problems don't spend time and memory formatting messages nobody reads.
+ * </p>
+ * <p>
+ * The codes cover the problems that can occur many times over in a messy file. Problems that occur at most a few times
+ * per file are reported as {@link #OTHER_ERROR} or {@link #OTHER_WARNING}, with the message as their only argument.
+ * </p>
+ * 
+ * @author frizbog
+ * @since 3.0.2
+ */
+public enum DiagnosticCode {
+    /**
+     * A tag the parser doesn't recognize, that isn't a custom tag. Arguments are the tag and its line number, then the
+     * tag, xref and line number of each ancestor, from the parent up to the root.
+     */
+    UNRECOGNIZED_TAG(ParseDiagnostic.Severity.ERROR) {
+        @Override
+        String render(Object[] args) {
+            StringBuilder sb = new StringBuilder(64);
+            sb.append("Line ").append(args[1]).append(": Cannot handle tag ").append(args[0]);
+            for (int i = 2; i + 2 < args.length; i += 3) {
+                sb.append(", child of ").append(args[i]);
+                if (args[i + 1] != null) {
+                    sb.append(" ").append(args[i + 1]);
+                }
+                sb.append(" on line ").append(args[i + 2]);
+            }
+            return sb.toString();
+        }
+    },
+
+    /**
+     * A line whose level is too deep for where it appears. Arguments are the tag, the line number, and the level of
+     * the parent that couldn't be found.
+     */
+    NO_PARENT_FOUND(ParseDiagnostic.Severity.ERROR) {
+        @Override
+        String render(Object[] args) {
+            return args[0] + " tag at line " + args[1] + ": Unable to find suitable parent node at level " + args[2];
+        }
+    },
+
+    /**
+     * A line without a level and tag, which was thrown away. The argument is the line number.
+     */
+    DISCARDED_LINE(ParseDiagnostic.Severity.WARNING) {
+        @Override
+        String render(Object[] args) {
+            return "Line " + args[0] + " did not begin with a level and tag, so it was discarded.";
+        }
+    },
+
+    /**
+     * A run of lines without levels and tags, which were treated as continuations of the line before. Arguments are the
+     * first line number of the run and the number of lines in it.
+     */
+    NON_STANDARD_CONTINUATION(ParseDiagnostic.Severity.WARNING) {
+        @Override
+        String render(Object[] args) {
+            int first = ((Integer) args[0]).intValue();
+            int count = ((Integer) args[1]).intValue();
+            if (count == 1) {
+                return "Line " + first + " did not begin with a level and tag, so it was treated as a non-standard continuation of the previous line.";
+            }
+            return "Lines " + first + " through " + (first + count - 1)
+                    + " did not begin with a level and tag, so they were treated as non-standard continuations of the previous line.";
+        }
+    },
+
+    /**
+     * Something only allowed in GEDCOM 5.5.1, in a file that says it is GEDCOM 5.5. The first argument is the line
+     * number, and the rest are pieces of the description of what was found and where, which are joined together.
+     */
+    GEDCOM_551_FEATURE_IN_55(ParseDiagnostic.Severity.WARNING) {
+        @Override
+        String render(Object[] args) {
+            StringBuilder sb = new StringBuilder(160);
+            sb.append("GEDCOM version is 5.5 but ");
+            for (int i = 1; i < args.length; i++) {
+                sb.append(args[i]);
+            }
+            sb.append(" on line ").append(args[0]).append(
+                    ", which is a GEDCOM 5.5.1 feature.  Data loaded but cannot be re-written unless GEDCOM version changes.");
+            return sb.toString();
+        }
+    },
+
+    /**
+     * A FACT tag, in a file that says it is GEDCOM 5.5. The argument is the line number.
+     */
+    FACT_IN_55(ParseDiagnostic.Severity.WARNING) {
+        @Override
+        String render(Object[] args) {
+            return "FACT tag specified on a GEDCOM 5.5 file at line " + args[0] + ", but FACT was not added until 5.5.1."
+                    + "  Data loaded but cannot be re-written unless GEDCOM version changes.";
+        }
+    },
+
+    /**
+     * A multimedia link with more than one file, in a file that says it is GEDCOM 5.5. The argument is the line number.
+     */
+    MULTIPLE_FILES_IN_55_LINK(ParseDiagnostic.Severity.WARNING) {
+        @Override
+        String render(Object[] args) {
+            return "GEDCOM version is 5.5, but multiple files referenced in multimedia reference on line " + args[0]
+                    + ", which is only allowed in 5.5.1. "
+                    + "Data will be loaded, but cannot be written back out unless the GEDCOM version is changed to 5.5.1";
+        }
+    },
+
+    /**
+     * A multimedia link without a FORM tag, in a file that says it is GEDCOM 5.5. The argument is the line number.
+     */
+    NO_FORM_IN_55_LINK(ParseDiagnostic.Severity.WARNING) {
+        @Override
+        String render(Object[] args) {
+            return "GEDCOM version is 5.5, but there is not a FORM tag in the multimedia link on line " + args[0]
+                    + ", a scenario which is only allowed in 5.5.1. "
+                    + "Data will be loaded, but cannot be written back out unless the GEDCOM version is changed to 5.5.1";
+        }
+    },
+
+    /**
+     * A note on a multimedia link, in a file that says it is GEDCOM 5.5.1. The argument is the line number.
+     */
+    NOTE_ON_551_LINK(ParseDiagnostic.Severity.WARNING) {
+        @Override
+        String render(Object[] args) {
+            return "Gedcom version was 5.5.1, but a NOTE was found on a multimedia link on line " + args[0]
+                    + ", which is no longer supported. "
+                    + "Data will be loaded, but cannot be written back out unless the GEDCOM version is changed to 5.5";
+        }
+    },
+
+    /**
+     * An event with a description, where only Y or nothing is allowed. The argument is the event's tag.
+     */
+    EVENT_DESCRIPTION(ParseDiagnostic.Severity.WARNING) {
+        @Override
+        String render(Object[] args) {
+            return args[0] + " tag had description rather than [Y|<NULL>] - violates standard";
+        }
+    },
+
+    /**
+     * Any other error. The argument is the message.
+     */
+    OTHER_ERROR(ParseDiagnostic.Severity.ERROR) {
+        @Override
+        String render(Object[] args) {
+            return String.valueOf(args[0]);
+        }
+    },
+
+    /**
+     * Any other warning. The argument is the message.
+     */
+    OTHER_WARNING(ParseDiagnostic.Severity.WARNING) {
+        @Override
+        String render(Object[] args) {
+            return String.valueOf(args[0]);
+        }
+    };
+
+    /**
+     * Whether problems with this code are errors or warnings
+     */
+    private final ParseDiagnostic.Severity severity;
+
+    /**
+     * Constructor
+     * 
+     * @param severity
+     *            whether problems with this code are errors or warnings
+     */
+    DiagnosticCode(ParseDiagnostic.Severity severity) {
+        this.severity = severity;
+    }
+
+    /**
+     * Get whether problems with this code are errors or warnings
+     * 
+     * @return whether problems with this code are errors or warnings
+     */
+    public ParseDiagnostic.Severity getSeverity() {
+        return severity;
+    }
+
+    /**
+     * Make the message for a diagnostic with this code
+     * 
+     * @param args
+     *            the arguments of the diagnostic
+     * @return the message
+     */
+    abstract String render(Object[] args);
+}
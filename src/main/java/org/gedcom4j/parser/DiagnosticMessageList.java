@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * The messages for a list of {@link ParseDiagnostic}s, made from each diagnostic when asked for. Messages added to the
+ * list become diagnostics with a catch-all code, so code that adds plain messages to the parser's errors and warnings
+ * keeps working.
+ * 
+ * @author frizbog
+ */
+class DiagnosticMessageList extends AbstractList<String> {
+
+    /**
+     * The parser that added messages are reported to
+     */
+    private final GedcomParser parser;
+
+    /**
+     * The diagnostics whose messages are in this list
+     */
+    private final List<ParseDiagnostic> diagnostics;
+
+    /**
+     * The code for messages added to this list
+     */
+    private final DiagnosticCode codeForAdded;
+
+    /**
+     * Constructor
+     * 
+     * @param parser
+     *            the parser that added messages are reported to
+     * @param diagnostics
+     *            the diagnostics whose messages are in this list
+     * @param codeForAdded
+     *            the code for messages added to this list
+     */
+    DiagnosticMessageList(GedcomParser parser, List<ParseDiagnostic> diagnostics, DiagnosticCode codeForAdded) {
+        this.parser = parser;
+        this.diagnostics = diagnostics;
+        this.codeForAdded = codeForAdded;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A message added at the end of the list is reported like any other diagnostic the parser finds: it is counted, passed
+     * to the diagnostic listeners, and only kept if its code is under its limit. When loading in parallel, it is held with
+     * the record being processed, so it stays in file order.
+     * </p>
+     */
+    @Override
+    public void add(int index, String element) {
+        if (index == diagnostics.size()) {
+            parser.report(codeForAdded, 0, element);
+        } else {
+            diagnostics.add(index, new ParseDiagnostic(codeForAdded, 0, null, element));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        diagnostics.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String get(int index) {
+        return diagnostics.get(index).getMessage();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String remove(int index) {
+        return diagnostics.remove(index).getMessage();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String set(int index, String element) {
+        return diagnostics.set(index, new ParseDiagnostic(codeForAdded, 0, null, element)).getMessage();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return diagnostics.size();
+    }
+}
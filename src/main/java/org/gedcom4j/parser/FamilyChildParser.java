@@ -57,21 +57,26 @@ class FamilyChildParser extends AbstractParser<FamilyChild> {
         loadInto.setFamily(f);
         if (stringTree.getChildren() != null) {
             for (StringTree ch : stringTree.getChildren()) {
-                if (Tag.NOTE.equalsText(ch.getTag())) {
-                    List<Note> notes = loadInto.getNotes(true);
-                    new NoteListParser(gedcomParser, ch, notes).parse();
-                } else if (Tag.PEDIGREE.equalsText(ch.getTag())) {
-                    loadInto.setPedigree(new StringWithCustomTags(ch));
-                } else if (Tag.ADOPTION.equalsText(ch.getTag())) {
-                    loadInto.setAdoptedBy(AdoptedByWhichParent.valueOf(ch.getValue()));
-                } else if (Tag.STATUS.equalsText(ch.getTag())) {
-                    loadInto.setStatus(new StringWithCustomTags(ch));
-                    if (g55()) {
-                        addWarning("GEDCOM version is 5.5 but status was specified for child-to-family link on line " + ch.getLineNum()
-                                + ", which is a GEDCOM 5.5.1 feature." + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
-                    }
-                } else {
-                    unknownTag(ch, loadInto);
+                switch (Tag.of(ch)) {
+                    case NOTE:
+                        List<Note> notes = loadInto.getNotes(true);
+                        new NoteListParser(gedcomParser, ch, notes).parse();
+                        break;
+                    case PEDIGREE:
+                        loadInto.setPedigree(new StringWithCustomTags(ch));
+                        break;
+                    case ADOPTION:
+                        loadInto.setAdoptedBy(AdoptedByWhichParent.valueOf(ch.getValue()));
+                        break;
+                    case STATUS:
+                        loadInto.setStatus(new StringWithCustomTags(ch));
+                        if (g55()) {
+                            addGedcom551FeatureWarning(ch, "status was specified for child-to-family link");
+                        }
+                        break;
+                    default:
+                        unknownTag(ch, loadInto);
+                        break;
                 }
             }
         }
@@ -63,87 +63,105 @@ class FamilyEventParser extends AbstractParser<FamilyEvent> {
         } else {
             loadInto.setyNull(null);
             loadInto.setDescription(new StringWithCustomTags(stringTree.getValue()));
-            addWarning(stringTree.getTag() + " tag had description rather than [Y|<NULL>] - violates standard");
+            gedcomParser.report(DiagnosticCode.EVENT_DESCRIPTION, stringTree.getLineNum(), stringTree.getTag());
         }
         if (stringTree.getChildren() != null) {
             for (StringTree ch : stringTree.getChildren()) {
-                if (Tag.TYPE.equalsText(ch.getTag())) {
-                    loadInto.setSubType(new StringWithCustomTags(ch));
-                } else if (Tag.DATE.equalsText(ch.getTag())) {
-                    loadInto.setDate(new StringWithCustomTags(ch));
-                } else if (Tag.PLACE.equalsText(ch.getTag())) {
-                    Place place = new Place();
-                    loadInto.setPlace(place);
-                    new PlaceParser(gedcomParser, ch, place).parse();
-                } else if (Tag.OBJECT_MULTIMEDIA.equalsText(ch.getTag())) {
-                    List<Multimedia> multimedia = loadInto.getMultimedia(true);
-                    new MultimediaLinkParser(gedcomParser, ch, multimedia).parse();
-                } else if (Tag.NOTE.equalsText(ch.getTag())) {
-                    List<Note> notes = loadInto.getNotes(true);
-                    new NoteListParser(gedcomParser, ch, notes).parse();
-                } else if (Tag.SOURCE.equalsText(ch.getTag())) {
-                    List<AbstractCitation> citations = loadInto.getCitations(true);
-                    new CitationListParser(gedcomParser, ch, citations).parse();
-                } else if (Tag.RESTRICTION.equalsText(ch.getTag())) {
-                    loadInto.setRestrictionNotice(new StringWithCustomTags(ch));
-                    if (g55()) {
-                        addWarning("GEDCOM version is 5.5 but restriction notice was specified for family event on line " + ch.getLineNum()
-                                + ", which is a GEDCOM 5.5.1 feature." + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
-                    }
-                } else if (Tag.RELIGION.equalsText(ch.getTag())) {
-                    loadInto.setReligiousAffiliation(new StringWithCustomTags(ch));
-                    if (g55()) {
-                        addWarning("GEDCOM version is 5.5 but religious affiliation was specified for family event on line " + ch.getLineNum()
-                                + ", which is a GEDCOM 5.5.1 feature." + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
-                    }
-                } else if (Tag.AGE.equalsText(ch.getTag())) {
-                    loadInto.setAge(new StringWithCustomTags(ch));
-                } else if (Tag.CAUSE.equalsText(ch.getTag())) {
-                    loadInto.setCause(new StringWithCustomTags(ch));
-                } else if (Tag.ADDRESS.equalsText(ch.getTag())) {
-                    Address address = new Address();
-                    loadInto.setAddress(address);
-                    new AddressParser(gedcomParser, ch, address).parse();
-                } else if (Tag.AGENCY.equalsText(ch.getTag())) {
-                    loadInto.setRespAgency(new StringWithCustomTags(ch));
-                } else if (Tag.PHONE.equalsText(ch.getTag())) {
-                    loadInto.getPhoneNumbers(true).add(new StringWithCustomTags(ch));
-                } else if (Tag.WEB_ADDRESS.equalsText(ch.getTag())) {
-                    loadInto.getWwwUrls(true).add(new StringWithCustomTags(ch));
-                    if (g55()) {
-                        addWarning("GEDCOM version is 5.5 but WWW URL was specified for " + loadInto.getType() + " family event on line " + ch.getLineNum()
-                                + ", which is a GEDCOM 5.5.1 feature." + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
-                    }
-                } else if (Tag.FAX.equalsText(ch.getTag())) {
-                    loadInto.getFaxNumbers(true).add(new StringWithCustomTags(ch));
-                    if (g55()) {
-                        addWarning("GEDCOM version is 5.5 but fax number was specified for " + loadInto.getType() + " family event on line " + ch.getLineNum()
-                                + ", which is a GEDCOM 5.5.1 feature." + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
-                    }
-                } else if (Tag.EMAIL.equalsText(ch.getTag())) {
-                    loadInto.getEmails(true).add(new StringWithCustomTags(ch));
-                    if (g55()) {
-                        addWarning("GEDCOM version is 5.5 but email was specified for " + loadInto.getType() + " family event on line " + ch.getLineNum()
-                                + ", which is a GEDCOM 5.5.1 feature." + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
-                    }
-                } else if (Tag.HUSBAND.equalsText(ch.getTag())) {
-                    loadInto.setHusbandAge(new StringWithCustomTags(ch.getChildren().get(0)));
-                } else if (Tag.WIFE.equalsText(ch.getTag())) {
-                    loadInto.setWifeAge(new StringWithCustomTags(ch.getChildren().get(0)));
-                } else if (Tag.CONCATENATION.equalsText(ch.getTag())) {
-                    if (loadInto.getDescription() == null) {
-                        loadInto.setDescription(new StringWithCustomTags(ch));
-                    } else {
-                        loadInto.getDescription().setValue(loadInto.getDescription().getValue() + ch.getValue());
-                    }
-                } else if (Tag.CONTINUATION.equalsText(ch.getTag())) {
-                    if (loadInto.getDescription() == null) {
-                        loadInto.setDescription(new StringWithCustomTags(ch.getValue() == null ? "" : ch.getValue()));
-                    } else {
-                        loadInto.getDescription().setValue(loadInto.getDescription().getValue() + "\n" + ch.getValue());
-                    }
-                } else {
-                    unknownTag(ch, loadInto);
+                switch (Tag.of(ch)) {
+                    case TYPE:
+                        loadInto.setSubType(new StringWithCustomTags(ch));
+                        break;
+                    case DATE:
+                        loadInto.setDate(new StringWithCustomTags(ch));
+                        loadInto.setDateSortKey(gedcomParser.getDateSortKey(ch.getValue()));
+                        break;
+                    case PLACE:
+                        Place place = new Place();
+                        loadInto.setPlace(place);
+                        new PlaceParser(gedcomParser, ch, place).parse();
+                        break;
+                    case OBJECT_MULTIMEDIA:
+                        List<Multimedia> multimedia = loadInto.getMultimedia(true);
+                        new MultimediaLinkParser(gedcomParser, ch, multimedia).parse();
+                        break;
+                    case NOTE:
+                        List<Note> notes = loadInto.getNotes(true);
+                        new NoteListParser(gedcomParser, ch, notes).parse();
+                        break;
+                    case SOURCE:
+                        List<AbstractCitation> citations = loadInto.getCitations(true);
+                        new CitationListParser(gedcomParser, ch, citations).parse();
+                        break;
+                    case RESTRICTION:
+                        loadInto.setRestrictionNotice(new StringWithCustomTags(ch));
+                        if (g55()) {
+                            addGedcom551FeatureWarning(ch, "restriction notice was specified for family event");
+                        }
+                        break;
+                    case RELIGION:
+                        loadInto.setReligiousAffiliation(new StringWithCustomTags(ch));
+                        if (g55()) {
+                            addGedcom551FeatureWarning(ch, "religious affiliation was specified for family event");
+                        }
+                        break;
+                    case AGE:
+                        loadInto.setAge(new StringWithCustomTags(ch));
+                        break;
+                    case CAUSE:
+                        loadInto.setCause(new StringWithCustomTags(ch));
+                        break;
+                    case ADDRESS:
+                        Address address = new Address();
+                        loadInto.setAddress(address);
+                        new AddressParser(gedcomParser, ch, address).parse();
+                        break;
+                    case AGENCY:
+                        loadInto.setRespAgency(new StringWithCustomTags(ch));
+                        break;
+                    case PHONE:
+                        loadInto.getPhoneNumbers(true).add(new StringWithCustomTags(ch));
+                        break;
+                    case WEB_ADDRESS:
+                        loadInto.getWwwUrls(true).add(new StringWithCustomTags(ch));
+                        if (g55()) {
+                            addGedcom551FeatureWarning(ch, "WWW URL was specified for ", loadInto.getType(), " family event");
+                        }
+                        break;
+                    case FAX:
+                        loadInto.getFaxNumbers(true).add(new StringWithCustomTags(ch));
+                        if (g55()) {
+                            addGedcom551FeatureWarning(ch, "fax number was specified for ", loadInto.getType(), " family event");
+                        }
+                        break;
+                    case EMAIL:
+                        loadInto.getEmails(true).add(new StringWithCustomTags(ch));
+                        if (g55()) {
+                            addGedcom551FeatureWarning(ch, "email was specified for ", loadInto.getType(), " family event");
+                        }
+                        break;
+                    case HUSBAND:
+                        loadInto.setHusbandAge(new StringWithCustomTags(ch.getChildren().get(0)));
+                        break;
+                    case WIFE:
+                        loadInto.setWifeAge(new StringWithCustomTags(ch.getChildren().get(0)));
+                        break;
+                    case CONCATENATION:
+                        if (loadInto.getDescription() == null) {
+                            loadInto.setDescription(new StringWithCustomTags(ch));
+                        } else {
+                            loadInto.getDescription().setValue(loadInto.getDescription().getValue() + ch.getValue());
+                        }
+                        break;
+                    case CONTINUATION:
+                        if (loadInto.getDescription() == null) {
+                            loadInto.setDescription(new StringWithCustomTags(ch.getValue() == null ? "" : ch.getValue()));
+                        } else {
+                            loadInto.getDescription().setValue(loadInto.getDescription().getValue() + "\n" + ch.getValue());
+                        }
+                        break;
+                    default:
+                        unknownTag(ch, loadInto);
+                        break;
                 }
             }
         }
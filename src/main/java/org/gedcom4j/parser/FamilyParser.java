@@ -55,54 +55,70 @@ class FamilyParser extends AbstractParser<Family> {
     void parse() {
         if (stringTree.getChildren() != null) {
             for (StringTree ch : stringTree.getChildren()) {
-                if (Tag.HUSBAND.equalsText(ch.getTag())) {
-                    loadInto.setHusband(getIndividual(ch.getValue()));
-                } else if (Tag.WIFE.equalsText(ch.getTag())) {
-                    loadInto.setWife(getIndividual(ch.getValue()));
-                } else if (Tag.CHILD.equalsText(ch.getTag())) {
-                    loadInto.getChildren(true).add(getIndividual(ch.getValue()));
-                } else if (Tag.NUM_CHILDREN.equalsText(ch.getTag())) {
-                    loadInto.setNumChildren(new StringWithCustomTags(ch));
-                } else if (Tag.SOURCE.equalsText(ch.getTag())) {
-                    List<AbstractCitation> citations = loadInto.getCitations(true);
-                    new CitationListParser(gedcomParser, ch, citations).parse();
-                } else if (Tag.OBJECT_MULTIMEDIA.equalsText(ch.getTag())) {
-                    List<Multimedia> multimedia = loadInto.getMultimedia(true);
-                    new MultimediaLinkParser(gedcomParser, ch, multimedia).parse();
-                } else if (Tag.RECORD_ID_NUMBER.equalsText(ch.getTag())) {
-                    loadInto.setAutomatedRecordId(new StringWithCustomTags(ch));
-                } else if (Tag.CHANGED_DATETIME.equalsText(ch.getTag())) {
-                    ChangeDate changeDate = new ChangeDate();
-                    loadInto.setChangeDate(changeDate);
-                    new ChangeDateParser(gedcomParser, ch, changeDate).parse();
-                } else if (Tag.NOTE.equalsText(ch.getTag())) {
-                    List<Note> notes = loadInto.getNotes(true);
-                    new NoteListParser(gedcomParser, ch, notes).parse();
-                } else if (Tag.RESTRICTION.equalsText(ch.getTag())) {
-                    loadInto.setRestrictionNotice(new StringWithCustomTags(ch));
-                    if (g55()) {
-                        addWarning("GEDCOM version is 5.5 but restriction notice was specified for family on line " + ch
-                                .getLineNum() + " , which is a GEDCOM 5.5.1 feature."
-                                + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
-                    }
-                } else if (Tag.REGISTRATION_FILE_NUMBER.equalsText(ch.getTag())) {
-                    loadInto.setRecFileNumber(new StringWithCustomTags(ch));
-                } else if (FamilyEventType.isValidTag(ch.getTag())) {
-                    FamilyEvent event = new FamilyEvent();
-                    loadInto.getEvents(true).add(event);
-                    new FamilyEventParser(gedcomParser, ch, event).parse();
-                } else if (Tag.SEALING_SPOUSE.equalsText(ch.getTag())) {
-                    LdsSpouseSealing ldsss = new LdsSpouseSealing();
-                    loadInto.getLdsSpouseSealings(true).add(ldsss);
-                    new LdsSpouseSealingParser(gedcomParser, ch, ldsss).parse();
-                } else if (Tag.SUBMITTER.equalsText(ch.getTag())) {
-                    loadInto.getSubmitters(true).add(getSubmitter(ch.getValue()));
-                } else if (Tag.REFERENCE.equalsText(ch.getTag())) {
-                    UserReference u = new UserReference();
-                    loadInto.getUserReferences(true).add(u);
-                    new UserReferenceParser(gedcomParser, ch, u).parse();
-                } else {
-                    unknownTag(ch, loadInto);
+                switch (Tag.of(ch)) {
+                    case HUSBAND:
+                        loadInto.setHusband(getIndividual(ch.getValue()));
+                        break;
+                    case WIFE:
+                        loadInto.setWife(getIndividual(ch.getValue()));
+                        break;
+                    case CHILD:
+                        loadInto.getChildren(true).add(getIndividual(ch.getValue()));
+                        break;
+                    case NUM_CHILDREN:
+                        loadInto.setNumChildren(new StringWithCustomTags(ch));
+                        break;
+                    case SOURCE:
+                        List<AbstractCitation> citations = loadInto.getCitations(true);
+                        new CitationListParser(gedcomParser, ch, citations).parse();
+                        break;
+                    case OBJECT_MULTIMEDIA:
+                        List<Multimedia> multimedia = loadInto.getMultimedia(true);
+                        new MultimediaLinkParser(gedcomParser, ch, multimedia).parse();
+                        break;
+                    case RECORD_ID_NUMBER:
+                        loadInto.setAutomatedRecordId(new StringWithCustomTags(ch));
+                        break;
+                    case CHANGED_DATETIME:
+                        ChangeDate changeDate = new ChangeDate();
+                        loadInto.setChangeDate(changeDate);
+                        new ChangeDateParser(gedcomParser, ch, changeDate).parse();
+                        break;
+                    case NOTE:
+                        List<Note> notes = loadInto.getNotes(true);
+                        new NoteListParser(gedcomParser, ch, notes).parse();
+                        break;
+                    case RESTRICTION:
+                        loadInto.setRestrictionNotice(new StringWithCustomTags(ch));
+                        if (g55()) {
+                            addGedcom551FeatureWarning(ch, "restriction notice was specified for family");
+                        }
+                        break;
+                    case REGISTRATION_FILE_NUMBER:
+                        loadInto.setRecFileNumber(new StringWithCustomTags(ch));
+                        break;
+                    case SEALING_SPOUSE:
+                        LdsSpouseSealing ldsss = new LdsSpouseSealing();
+                        loadInto.getLdsSpouseSealings(true).add(ldsss);
+                        new LdsSpouseSealingParser(gedcomParser, ch, ldsss).parse();
+                        break;
+                    case SUBMITTER:
+                        loadInto.getSubmitters(true).add(getSubmitter(ch.getValue()));
+                        break;
+                    case REFERENCE:
+                        UserReference u = new UserReference();
+                        loadInto.getUserReferences(true).add(u);
+                        new UserReferenceParser(gedcomParser, ch, u).parse();
+                        break;
+                    default:
+                        if (FamilyEventType.isValidTag(ch.getTag())) {
+                            FamilyEvent event = new FamilyEvent();
+                            loadInto.getEvents(true).add(event);
+                            new FamilyEventParser(gedcomParser, ch, event).parse();
+                        } else {
+                            unknownTag(ch, loadInto);
+                        }
+                        break;
                 }
             }
         }
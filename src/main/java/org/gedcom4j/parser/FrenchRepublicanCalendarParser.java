@@ -26,18 +26,111 @@
  */
 package org.gedcom4j.parser;
 
-import java.util.Calendar;
 import java.util.Date;
-import java.util.TimeZone;
 
 /**
+ * <p>
  * Class for parsing French Republican Calendar dates. Calculations based on Romme method. Only supports dates on or after September
  * 22, 1792 (Gregorian).
+ * </p>
+ * <p>
+ * Conversions are done on day numbers (days since 1 January 1970), using a table of the first day of each French Republican
+ * year that is worked out once, when the class is loaded, for years 1 to {@value #LAST_TABLE_YEAR}. Later years are worked out as
+ * needed. Nothing is allocated except the {@link Date} objects returned, and instances share the table, so they are safe to use
+ * from multiple threads.
+ * </p>
  * 
  * @author frizbog
  */
 class FrenchRepublicanCalendarParser {
 
+    /**
+     * The last French Republican year in the table
+     */
+    static final int LAST_TABLE_YEAR = 9999;
+
+    /**
+     * The number of milliseconds in a day
+     */
+    private static final long MILLIS_PER_DAY = 86400000L;
+
+    /**
+     * The day number of 21 September 1792, the day before the beginning of French Republican time
+     */
+    private static final int DAY_NUMBER_BEFORE_YEAR_ONE = -64749;
+
+    /**
+     * The day numbers of the day before the first day (1 Vendemiaire) of each French Republican year from 1 to
+     * {@link #LAST_TABLE_YEAR}, indexed by year
+     */
+    private static final int[] YEAR_STARTS = new int[LAST_TABLE_YEAR + 1];
+
+    static {
+        YEAR_STARTS[1] = DAY_NUMBER_BEFORE_YEAR_ONE;
+        for (int y = 2; y <= LAST_TABLE_YEAR; y++) {
+            YEAR_STARTS[y] = YEAR_STARTS[y - 1] + (isFrenchLeapYearRomme(y - 1) ? 366 : 365);
+        }
+    }
+
+    /**
+     * Get the day number (days since 1 January 1970) of a French Republican date. The date is not checked.
+     * 
+     * @param frenchRepublicanYear
+     *            the French Republican year, which must be at least 1
+     * @param frenchRepublicanMonth
+     *            the French Republican month
+     * @param dayOfMonth
+     *            the day of the month
+     * @return the day number of the date
+     */
+    static long getDayNumber(int frenchRepublicanYear, FrenchRepublicanMonth frenchRepublicanMonth, int dayOfMonth) {
+        return getDayBeforeYear(frenchRepublicanYear) + 30 * frenchRepublicanMonth.ordinal() + dayOfMonth;
+    }
+
+    /**
+     * Is the French Republican year supplied a French Leap Year? Uses the Romme rule, which says:
+     * <ul>
+     * <li>Years III, VII, XI, XV, and XX are to be leap years</li>
+     * <li>After that, every four years; <strong>but</strong> if the French year is divisible by 100 it must also be divisible by
+     * 400 to be a leap year (much like Gregorian).
+     * </ul>
+     * 
+     * @param frenchRepublicanYear
+     *            the French Republican Year
+     * @return true if it's a French Leap Year.
+     */
+    static boolean isFrenchLeapYearRomme(int frenchRepublicanYear) {
+        if (frenchRepublicanYear == 3 || frenchRepublicanYear == 7 || frenchRepublicanYear == 11 || frenchRepublicanYear == 15) {
+            return true;
+        }
+        if (frenchRepublicanYear >= 20 && frenchRepublicanYear % 4 == 0) {
+            // Probably a leap year
+            if (frenchRepublicanYear % 100 == 0) {
+                // Must be divisible by 400 if it's also divisible by 100 to be a leap year
+                return (frenchRepublicanYear % 400 == 0);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Get the day number (days since 1 January 1970) of the day before the first day of a French Republican year
+     * 
+     * @param frenchRepublicanYear
+     *            the French Republican year, which must be at least 1
+     * @return the day number of the day before the first day of the year
+     */
+    private static long getDayBeforeYear(int frenchRepublicanYear) {
+        if (frenchRepublicanYear <= LAST_TABLE_YEAR) {
+            return YEAR_STARTS[frenchRepublicanYear];
+        }
+        // 365 days per year, plus the leap days of years III, VII, XI and XV, and then every four years from XX
+        long yearsPassed = frenchRepublicanYear - 1L;
+        long leapDays = 4 + (yearsPassed / 4 - 4) - yearsPassed / 100 + yearsPassed / 400;
+        return DAY_NUMBER_BEFORE_YEAR_ONE + 365 * yearsPassed + leapDays;
+    }
+
     /**
      * This function converts a French Republican date into the Gregorian date.
      * 
@@ -54,27 +147,11 @@ class FrenchRepublicanCalendarParser {
             return null;
         }
 
-        // Start just before beginning of French Republican time - 21 SEP 1792
-        Calendar c = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
-        c.clear();
-        c.set(1792, Calendar.SEPTEMBER, 21, 0, 0, 0);
-
-        // Add years alrady passed
-        for (int i = 1; i <= frenchRepublicanYear - 1; i++) {
-            c.add(Calendar.DATE, 365); // 365 days per year
-            if (isFrenchLeapYearRomme(i)) {
-                c.add(Calendar.DATE, 1); // add a leap day
-            }
-
-        }
-
         // Figure out the month
         FrenchRepublicanMonth frm = FrenchRepublicanMonth.getFromGedcomAbbrev(frenchRepublicanMonthAbbrev);
         if (frm == null) {
             return null;
         }
-        // Add 30 days per month
-        c.add(Calendar.DATE, 30 * frm.ordinal());
 
         // Validate number of days in month
         if (dayOfMonth < 1) {
@@ -89,37 +166,7 @@ class FrenchRepublicanCalendarParser {
             return null;
         }
 
-        // Add days for days in the month
-        c.add(Calendar.DATE, dayOfMonth);
-
-        return c.getTime();
-    }
-
-    /**
-     * Is the French Republican year supplied a French Leap Year? Uses the Romme rule, which says:
-     * <ul>
-     * <li>Years III, VII, XI, XV, and XX are to be leap years</li>
-     * <li>After that, every four years; <strong>but</strong> if the French year is divisible by 100 it must also be divisible by
-     * 400 to be a leap year (much like Gregorian).
-     * </ul>
-     * 
-     * @param frenchRepublicanYear
-     *            the French Republican Year
-     * @return true if it's a French Leap Year.
-     */
-    boolean isFrenchLeapYearRomme(int frenchRepublicanYear) {
-        if (frenchRepublicanYear == 3 || frenchRepublicanYear == 7 || frenchRepublicanYear == 11 || frenchRepublicanYear == 15) {
-            return true;
-        }
-        if (frenchRepublicanYear >= 20 && frenchRepublicanYear % 4 == 0) {
-            // Probably a leap year
-            if (frenchRepublicanYear % 100 == 0) {
-                // Must be divisible by 400 if it's also divisible by 100 to be a leap year
-                return (frenchRepublicanYear % 400 == 0);
-            }
-            return true;
-        }
-        return false;
+        return new Date(getDayNumber(frenchRepublicanYear, frm, dayOfMonth) * MILLIS_PER_DAY);
     }
 
 }
@@ -27,17 +27,23 @@
 package org.gedcom4j.parser;
 
 import java.io.BufferedInputStream;
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.gedcom4j.exception.GedcomParserException;
 import org.gedcom4j.exception.ParserCancelledException;
 import org.gedcom4j.io.event.FileProgressEvent;
 import org.gedcom4j.io.event.FileProgressListener;
+import org.gedcom4j.io.reader.FileReadingStrategy;
 import org.gedcom4j.io.reader.GedcomFileReader;
 import org.gedcom4j.model.*;
 import org.gedcom4j.parser.event.ParseProgressEvent;
@@ -92,7 +98,13 @@ public class GedcomParser extends AbstractParser<Gedcom> {
     /**
      * The things that went wrong while parsing the gedcom file
      */
-    private final List<String> errors = new ArrayList<String>();
+    private final List<ParseDiagnostic> errorDiagnostics = new ArrayList<ParseDiagnostic>();
+
+    /**
+     * The messages for the things that went wrong while parsing the gedcom file, made from {@link #errorDiagnostics}
+     * when asked for
+     */
+    private final List<String> errors = new DiagnosticMessageList(this, errorDiagnostics, DiagnosticCode.OTHER_ERROR);
 
     /**
      * The content of the gedcom file
@@ -116,7 +128,34 @@ public class GedcomParser extends AbstractParser<Gedcom> {
     /**
      * The warnings issued during the parsing of the gedcom file
      */
-    private final List<String> warnings = new ArrayList<String>();
+    private final List<ParseDiagnostic> warningDiagnostics = new ArrayList<ParseDiagnostic>();
+
+    /**
+     * The messages for the warnings issued during the parsing of the gedcom file, made from {@link #warningDiagnostics}
+     * when asked for
+     */
+    private final List<String> warnings = new DiagnosticMessageList(this, warningDiagnostics, DiagnosticCode.OTHER_WARNING);
+
+    /**
+     * How many diagnostics of each code have been reported since loading started, indexed by the code's ordinal. This
+     * includes the diagnostics that weren't kept because their code was over its limit.
+     */
+    private final int[] diagnosticCounts = new int[DiagnosticCode.values().length];
+
+    /**
+     * The most diagnostics of each code to keep in the errors and warnings collections, indexed by the code's ordinal
+     */
+    private final int[] diagnosticLimits = new int[DiagnosticCode.values().length];
+
+    /**
+     * The listeners to be told about each diagnostic as it is reported
+     */
+    private final List<WeakReference<ParseDiagnosticListener>> diagnosticListeners = new CopyOnWriteArrayList<WeakReference<ParseDiagnosticListener>>();
+
+    /**
+     * The xref of the root-level record being loaded into the object model, when not loading in parallel
+     */
+    private String currentRecordXref;
 
     /**
      * Is the load/parse process being cancelled
@@ -144,14 +183,43 @@ public class GedcomParser extends AbstractParser<Gedcom> {
     private int parseNotificationRate = 500;
 
     /**
-     * The {@link StringTreeBuilder} that is assisting this class
+     * The 1-based line number that we've most recently read, so starts at zero (when we haven't read any lines yet)
+     */
+    private int lineNum;
+
+    /**
+     * The handler receiving each root-level record when streaming, or null when loading the whole file into
+     * {@link #gedcom}
      */
-    private StringTreeBuilder stringTreeBuilder;
+    private GedcomRecordHandler recordHandler;
 
     /**
-     * The 1-based line number that we've most recently read, so starts at zero (when we haven't read any lines yet)
+     * The number of threads to use to load records into the object model. 1 means load them sequentially on the
+     * calling thread.
      */
-    private int lineNum;
+    private int parallelism = 1;
+
+    /**
+     * The cache of canonical string values shared by all the records read by this parser
+     */
+    private StringCanonicalizer stringCanonicalizer = new StringCanonicalizer();
+
+    /**
+     * The cache of parsed dates, used when dates are parsed while loading
+     */
+    private ParsedDateCache parsedDateCache = new ParsedDateCache();
+
+    /**
+     * Which parts of the file to load
+     */
+    private LoadOptions loadOptions = new LoadOptions();
+
+    /**
+     * When loading in parallel, the record being read or parsed on the current thread, which collects its errors and
+     * warnings so they can be accepted in file order. Null when not loading in
+     * parallel.
+     */
+    private final ThreadLocal<ParallelRecordLoader.PendingRecord> pendingRecord = new ThreadLocal<ParallelRecordLoader.PendingRecord>();
 
     /**
      * Default constructor
@@ -162,6 +230,7 @@ public class GedcomParser extends AbstractParser<Gedcom> {
          */
         super(null, null, null);
         gedcomParser = this;
+        Arrays.fill(diagnosticLimits, Integer.MAX_VALUE);
     }
 
     /**
@@ -180,6 +249,61 @@ public class GedcomParser extends AbstractParser<Gedcom> {
         return errors;
     }
 
+    /**
+     * Get the errors found while parsing, with their codes, line numbers and details. The messages in
+     * {@link #getErrors()} are made from these.
+     * 
+     * @return the errors found while parsing
+     * @since 3.0.2
+     */
+    public List<ParseDiagnostic> getErrorDiagnostics() {
+        return errorDiagnostics;
+    }
+
+    /**
+     * Get how many diagnostics with a code have been reported since loading started, including any that weren't kept
+     * because the code's limit had been reached
+     * 
+     * @param code
+     *            the code
+     * @return how many diagnostics with that code have been reported
+     * @since 3.0.2
+     */
+    public int getDiagnosticCount(DiagnosticCode code) {
+        return diagnosticCounts[code.ordinal()];
+    }
+
+    /**
+     * Get how many diagnostics with each code have been reported since loading started, including any that weren't kept
+     * because the code's limit had been reached
+     * 
+     * @return how many diagnostics with each code have been reported, for the codes that have been reported at least
+     *         once
+     * @since 3.0.2
+     */
+    public Map<DiagnosticCode, Integer> getDiagnosticCounts() {
+        Map<DiagnosticCode, Integer> result = new EnumMap<DiagnosticCode, Integer>(DiagnosticCode.class);
+        for (DiagnosticCode code : DiagnosticCode.values()) {
+            if (diagnosticCounts[code.ordinal()] > 0) {
+                result.put(code, Integer.valueOf(diagnosticCounts[code.ordinal()]));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the most diagnostics with a code that will be kept in the errors and warnings collections
+     * 
+     * @param code
+     *            the code
+     * @return the most diagnostics with that code that will be kept. {@link Integer#MAX_VALUE} means there is no
+     *         limit.
+     * @since 3.0.2
+     */
+    public int getDiagnosticLimit(DiagnosticCode code) {
+        return diagnosticLimits[code.ordinal()];
+    }
+
     /**
      * Get the fileObservers
      * 
@@ -198,6 +322,48 @@ public class GedcomParser extends AbstractParser<Gedcom> {
         return gedcom;
     }
 
+    /**
+     * Get the cache of canonical string values used to cut down on duplicate strings in the data read by this parser.
+     * Its statistics show how effective it has been.
+     * 
+     * @return the cache of canonical string values
+     * @since 3.0.2
+     */
+    public StringCanonicalizer getStringCanonicalizer() {
+        return stringCanonicalizer;
+    }
+
+    /**
+     * Get the options for which parts of the file to load
+     * 
+     * @return the options for which parts of the file to load
+     * @since 3.0.2
+     */
+    public LoadOptions getLoadOptions() {
+        return loadOptions;
+    }
+
+    /**
+     * Get the number of threads used to load records into the object model
+     * 
+     * @return the number of threads used to load records into the object model
+     * @since 3.0.2
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Get the cache of parsed dates used when dates are parsed while loading (see
+     * {@link LoadOptions#setParsingDates(boolean)}). Its statistics show how effective it has been.
+     * 
+     * @return the cache of parsed dates
+     * @since 3.0.2
+     */
+    public ParsedDateCache getParsedDateCache() {
+        return parsedDateCache;
+    }
+
     /**
      * Get the parse notification rate (the number of items that get parsed between each notification, if listening)
      * 
@@ -234,6 +400,17 @@ public class GedcomParser extends AbstractParser<Gedcom> {
         return warnings;
     }
 
+    /**
+     * Get the warnings issued while parsing, with their codes, line numbers and details. The messages in
+     * {@link #getWarnings()} are made from these.
+     * 
+     * @return the warnings issued while parsing
+     * @since 3.0.2
+     */
+    public List<ParseDiagnostic> getWarningDiagnostics() {
+        return warningDiagnostics;
+    }
+
     /**
      * Is the load and parse operation cancelled?
      * 
@@ -261,6 +438,52 @@ public class GedcomParser extends AbstractParser<Gedcom> {
         return strictLineBreaks;
     }
 
+    /**
+     * Get an iterator over the root-level records in some GEDCOM data, which reads the data lazily as records are
+     * requested. Nothing is loaded into {@link #getGedcom()}. The caller remains responsible for closing the stream.
+     * 
+     * @param bytes
+     *            the input stream over the bytes of the file
+     * @return an iterator over the root-level records
+     * @throws IOException
+     *             if there is a problem reading the start of the data
+     * @throws GedcomParserException
+     *             if the character encoding of the data cannot be determined or is not supported
+     * @since 3.0.2
+     */
+    public GedcomRecordIterator iterateRecords(BufferedInputStream bytes) throws IOException, GedcomParserException {
+        resetForLoad();
+        return new GedcomRecordIterator(this, new GedcomFileReader(this, bytes), null);
+    }
+
+    /**
+     * Get an iterator over the root-level records in a GEDCOM file, which reads the file lazily as records are
+     * requested. Nothing is loaded into {@link #getGedcom()}. The file is closed when the iterator reaches the end of
+     * the file or is closed.
+     * 
+     * @param file
+     *            the file to read
+     * @return an iterator over the root-level records
+     * @throws IOException
+     *             if the file cannot be opened or read
+     * @throws GedcomParserException
+     *             if the character encoding of the file cannot be determined or is not supported
+     * @since 3.0.2
+     */
+    public GedcomRecordIterator iterateRecords(File file) throws IOException, GedcomParserException {
+        BufferedInputStream bis = new BufferedInputStream(new FileInputStream(file));
+        try {
+            resetForLoad();
+            return new GedcomRecordIterator(this, new GedcomFileReader(this, bis, file.length()), bis);
+        } catch (IOException e) {
+            bis.close();
+            throw e;
+        } catch (GedcomParserException e) {
+            bis.close();
+            throw e;
+        }
+    }
+
     /**
      * Read data from an {@link java.io.InputStream} and construct a {@link StringTree} object from its contents
      * 
@@ -272,37 +495,113 @@ public class GedcomParser extends AbstractParser<Gedcom> {
      *             if there is an error with parsing the data from the stream
      */
     public void load(BufferedInputStream bytes) throws IOException, GedcomParserException {
-        // Reset counters and stuff
-        lineNum = 0;
-        errors.clear();
-        warnings.clear();
-        cancelled = false;
+        recordHandler = null;
+        resetForLoad();
+        load(new GedcomFileReader(this, bytes));
+    }
 
-        if (cancelled) {
-            throw new ParserCancelledException("File load/parse cancelled");
-        }
-        GedcomFileReader gfr = new GedcomFileReader(this, bytes);
-        stringTreeBuilder = new StringTreeBuilder(this);
-        String line = gfr.nextLine();
-        while (line != null) {
+    /**
+     * Load a gedcom file, reading it with a {@link FileReadingStrategy#BUFFERED_STREAM}
+     * 
+     * @param file
+     *            the file to load
+     * @throws IOException
+     *             if the file cannot be read
+     * @throws GedcomParserException
+     *             if the file cannot be parsed
+     * @since 3.0.2
+     */
+    public void load(File file) throws IOException, GedcomParserException {
+        load(file, FileReadingStrategy.BUFFERED_STREAM);
+    }
 
-            if (line.charAt(0) == '0') {
-                // We've hit the start of the next root node
-                parseAndLoadPreviousStringTree();
-            }
+    /**
+     * Load a gedcom file, using the specified strategy for getting the bytes off the disk
+     * 
+     * @param file
+     *            the file to load
+     * @param strategy
+     *            the strategy for reading the file
+     * @throws IOException
+     *             if the file cannot be read
+     * @throws GedcomParserException
+     *             if the file cannot be parsed
+     * @since 3.0.2
+     */
+    public void load(File file, FileReadingStrategy strategy) throws IOException, GedcomParserException {
+        recordHandler = null;
+        readFile(file, strategy);
+    }
 
-            lineNum++;
-            stringTreeBuilder.appendLine(line);
-            line = gfr.nextLine();
-            if (cancelled) {
-                throw new ParserCancelledException("File load/parse is cancelled");
-            }
-            if (lineNum % parseNotificationRate == 0) {
-                notifyParseObservers(new ParseProgressEvent(this, gedcom, false, lineNum));
-            }
+    /**
+     * Open a GEDCOM file for lazy loading. The file is scanned once to index where each root-level record starts, and
+     * the header, submission and trailer are loaded into {@link #getGedcom()}; every other record is only read and
+     * parsed when it is requested from the returned object. This keeps memory use bounded for very large files, where
+     * only some of the records are needed. The parser is used to load each record as it is requested, so it should not
+     * be used for anything else until the returned object is closed.
+     * 
+     * @param file
+     *            the file to open
+     * @return the lazily loaded file, which must be closed when finished with
+     * @throws IOException
+     *             if the file cannot be read
+     * @throws GedcomParserException
+     *             if the file cannot be indexed, or its header cannot be parsed
+     * @since 3.0.2
+     */
+    public LazyGedcom loadLazily(File file) throws IOException, GedcomParserException {
+        recordHandler = null;
+        resetForLoad();
+        clearRecords();
+        return new LazyGedcom(this, file, RecordIndex.build(this, file));
+    }
 
-        }
-        parseAndLoadPreviousStringTree();
+    /**
+     * Open a GEDCOM file for lazy loading, like {@link #loadLazily(File)}, but using a sidecar file to save the index of
+     * where each record starts between runs. If the sidecar file holds an up-to-date index (judged by the size and
+     * modification time of the GEDCOM file), it is used as-is and the GEDCOM file is not scanned at all. If the GEDCOM
+     * file has changed, only the part of it from the first changed record onwards is indexed again, and the sidecar
+     * file is updated. If the sidecar file doesn't exist (or can't be read), the GEDCOM file is indexed and the sidecar
+     * file is created.
+     * 
+     * @param file
+     *            the file to open
+     * @param indexFile
+     *            the sidecar file to keep the index of the file in
+     * @return the lazily loaded file, which must be closed when finished with
+     * @throws IOException
+     *             if the file cannot be read, or the sidecar file cannot be written
+     * @throws GedcomParserException
+     *             if the file cannot be indexed, or its header cannot be parsed
+     * @since 3.0.2
+     * @see #indexFile(File, File)
+     */
+    public LazyGedcom loadLazily(File file, File indexFile) throws IOException, GedcomParserException {
+        recordHandler = null;
+        resetForLoad();
+        clearRecords();
+        return new LazyGedcom(this, file, RecordIndex.load(this, file, indexFile));
+    }
+
+    /**
+     * Create or update the sidecar index file for a GEDCOM file, for use by {@link #loadLazily(File, File)}, without
+     * loading anything. Useful for preparing the index of a big file ahead of time, so that processes that open it later
+     * can start quickly.
+     * 
+     * @param file
+     *            the GEDCOM file to index
+     * @param indexFile
+     *            the sidecar file to keep the index of the file in
+     * @return the number of root-level records in the file
+     * @throws IOException
+     *             if the file cannot be read, or the sidecar file cannot be written
+     * @throws GedcomParserException
+     *             if the file cannot be indexed
+     * @since 3.0.2
+     */
+    public int indexFile(File file, File indexFile) throws IOException, GedcomParserException {
+        cancelled = false;
+        return RecordIndex.load(this, file, indexFile).count;
     }
 
     /**
@@ -316,17 +615,7 @@ public class GedcomParser extends AbstractParser<Gedcom> {
      *             if the file cannot be parsed
      */
     public void load(String filename) throws IOException, GedcomParserException {
-        FileInputStream fis = new FileInputStream(filename);
-        BufferedInputStream bis = null;
-        try {
-            bis = new BufferedInputStream(fis);
-            load(bis);
-        } finally {
-            if (bis != null) {
-                bis.close();
-            }
-            fis.close();
-        }
+        load(new File(filename), FileReadingStrategy.BUFFERED_STREAM);
     }
 
     /**
@@ -351,6 +640,20 @@ public class GedcomParser extends AbstractParser<Gedcom> {
         }
     }
 
+    /**
+     * Register a listener to be told about each error and warning as it is reported. Listeners are told about every
+     * diagnostic, even those not kept because their code's limit has been reached, so setting the limits to zero with
+     * {@link #setDiagnosticLimits(int)} lets diagnostics be streamed to a listener rather than collected. When loading in
+     * parallel, listeners are told about diagnostics on the calling thread, in file order.
+     * 
+     * @param listener
+     *            the listener you want told. Only a weak reference is kept, so the caller must keep a reference to it.
+     * @since 3.0.2
+     */
+    public void registerDiagnosticListener(ParseDiagnosticListener listener) {
+        diagnosticListeners.add(new WeakReference<ParseDiagnosticListener>(listener));
+    }
+
     /**
      * Register a observer (listener) to be informed about progress and completion.
      * 
@@ -371,6 +674,91 @@ public class GedcomParser extends AbstractParser<Gedcom> {
         parseObservers.add(new WeakReference<ParseProgressListener>(observer));
     }
 
+    /**
+     * Set the options for which parts of the file to load. By default, everything is loaded.
+     * 
+     * @param loadOptions
+     *            the options for which parts of the file to load. Required.
+     * @since 3.0.2
+     */
+    public void setLoadOptions(LoadOptions loadOptions) {
+        if (loadOptions == null) {
+            throw new IllegalArgumentException("Load options are required");
+        }
+        this.loadOptions = loadOptions;
+    }
+
+    /**
+     * Set the most diagnostics with a code to keep in the errors and warnings collections. Any more are counted, and
+     * passed to the diagnostic listeners, but not kept. This bounds the memory used for badly formed files.
+     * 
+     * @param code
+     *            the code
+     * @param limit
+     *            the most diagnostics with that code to keep. Must not be negative. {@link Integer#MAX_VALUE}, the
+     *            default, means there is no limit.
+     * @since 3.0.2
+     */
+    public void setDiagnosticLimit(DiagnosticCode code, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Diagnostic limit must not be negative");
+        }
+        diagnosticLimits[code.ordinal()] = limit;
+    }
+
+    /**
+     * Set the most diagnostics with each code to keep in the errors and warnings collections
+     * 
+     * @param limit
+     *            the most diagnostics with each code to keep. Must not be negative. {@link Integer#MAX_VALUE}, the
+     *            default, means there is no limit.
+     * @since 3.0.2
+     * @see #setDiagnosticLimit(DiagnosticCode, int)
+     */
+    public void setDiagnosticLimits(int limit) {
+        for (DiagnosticCode code : DiagnosticCode.values()) {
+            setDiagnosticLimit(code, limit);
+        }
+    }
+
+    /**
+     * <p>
+     * Set the number of threads to use to load records into the object model. The file is always read on the calling
+     * thread, but with a value greater than 1, converting each root-level record into objects is spread across a pool
+     * of that many threads. The resulting {@link Gedcom}, errors and warnings are the same as for a sequential load.
+     * Parallel loading applies to the <code>load</code> methods only - records passed to a {@link GedcomRecordHandler}
+     * are always parsed sequentially.
+     * </p>
+     * <p>
+     * This is only worth doing for large files on machines with several cores; the default is 1 (sequential).
+     * </p>
+     * 
+     * @param parallelism
+     *            the number of threads to use. Must be at least 1.
+     * @since 3.0.2
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Set the cache of parsed dates used when dates are parsed while loading. Each parser has its own cache by default;
+     * a process that parses many files can share one cache among them by passing it to each parser.
+     * 
+     * @param parsedDateCache
+     *            the cache of parsed dates to use. Required.
+     * @since 3.0.2
+     */
+    public void setParsedDateCache(ParsedDateCache parsedDateCache) {
+        if (parsedDateCache == null) {
+            throw new IllegalArgumentException("A parsed date cache is required");
+        }
+        this.parsedDateCache = parsedDateCache;
+    }
+
     /**
      * Set the parse notification rate (the number of items that get parsed between each notification, if listening)
      * 
@@ -418,6 +806,107 @@ public class GedcomParser extends AbstractParser<Gedcom> {
         this.strictLineBreaks = strictLineBreaks;
     }
 
+    /**
+     * Set the cache of canonical string values used to cut down on duplicate strings in the data read by this parser.
+     * Each parser has its own cache by default; a process that parses many similar files can share one cache among
+     * them by passing it to each parser.
+     * 
+     * @param stringCanonicalizer
+     *            the cache of canonical string values to use. Required.
+     * @since 3.0.2
+     */
+    public void setStringCanonicalizer(StringCanonicalizer stringCanonicalizer) {
+        if (stringCanonicalizer == null) {
+            throw new IllegalArgumentException("A string canonicalizer is required");
+        }
+        this.stringCanonicalizer = stringCanonicalizer;
+    }
+
+    /**
+     * Stream through GEDCOM data from an {@link java.io.InputStream}, passing each root-level record to the supplied
+     * handler rather than accumulating them in {@link #getGedcom()}. Only the header, submission and trailer are kept in
+     * {@link #getGedcom()}. Errors and warnings are still collected as with the <code>load</code> methods.
+     * 
+     * @param bytes
+     *            the input stream over the bytes of the file
+     * @param handler
+     *            the handler to receive each root-level record. Required.
+     * @throws IOException
+     *             if there is a problem reading the data from the reader
+     * @throws GedcomParserException
+     *             if there is an error with parsing the data from the stream
+     * @since 3.0.2
+     */
+    public void stream(BufferedInputStream bytes, GedcomRecordHandler handler) throws IOException, GedcomParserException {
+        startStreaming(handler);
+        try {
+            resetForLoad();
+            load(new GedcomFileReader(this, bytes));
+        } finally {
+            recordHandler = null;
+        }
+    }
+
+    /**
+     * Stream through a GEDCOM file, passing each root-level record to the supplied handler rather than accumulating
+     * them in {@link #getGedcom()}. Only the header, submission and trailer are kept in {@link #getGedcom()}. Errors and
+     * warnings are still collected as with the <code>load</code> methods.
+     * 
+     * @param file
+     *            the file to read
+     * @param strategy
+     *            the strategy for reading the file
+     * @param handler
+     *            the handler to receive each root-level record. Required.
+     * @throws IOException
+     *             if the file cannot be read
+     * @throws GedcomParserException
+     *             if the file cannot be parsed
+     * @since 3.0.2
+     */
+    public void stream(File file, FileReadingStrategy strategy, GedcomRecordHandler handler) throws IOException, GedcomParserException {
+        startStreaming(handler);
+        try {
+            readFile(file, strategy);
+        } finally {
+            recordHandler = null;
+        }
+    }
+
+    /**
+     * Stream through a GEDCOM file, reading it with a {@link FileReadingStrategy#BUFFERED_STREAM}, passing each
+     * root-level record to the supplied handler rather than accumulating them in {@link #getGedcom()}.
+     * 
+     * @param file
+     *            the file to read
+     * @param handler
+     *            the handler to receive each root-level record. Required.
+     * @throws IOException
+     *             if the file cannot be read
+     * @throws GedcomParserException
+     *             if the file cannot be parsed
+     * @since 3.0.2
+     * @see #stream(File, FileReadingStrategy, GedcomRecordHandler)
+     */
+    public void stream(File file, GedcomRecordHandler handler) throws IOException, GedcomParserException {
+        stream(file, FileReadingStrategy.BUFFERED_STREAM, handler);
+    }
+
+    /**
+     * Unregister a listener so it is no longer told about errors and warnings
+     * 
+     * @param listener
+     *            the listener you no longer want told
+     * @since 3.0.2
+     */
+    public void unregisterDiagnosticListener(ParseDiagnosticListener listener) {
+        for (WeakReference<ParseDiagnosticListener> listenerRef : diagnosticListeners) {
+            if (listenerRef.get() == null || listenerRef.get() == listener) {
+                diagnosticListeners.remove(listenerRef);
+            }
+        }
+    }
+
     /**
      * Unregister a observer (listener) to be informed about progress and completion.
      * 
@@ -456,6 +945,22 @@ public class GedcomParser extends AbstractParser<Gedcom> {
         parseObservers.add(new WeakReference<ParseProgressListener>(observer));
     }
 
+    /**
+     * Get the sortable key for a date being loaded, if dates are being parsed while loading
+     * 
+     * @param dateString
+     *            the date string
+     * @return the sortable key for the date, {@link DateSortKey#UNPARSEABLE} if it can't be parsed, or
+     *         {@link DateSortKey#NONE} if there is no date or dates aren't being parsed
+     */
+    long getDateSortKey(String dateString) {
+        if (dateString == null || !loadOptions.isParsingDates()) {
+            return DateSortKey.NONE;
+        }
+        ParsedDate d = parsedDateCache.parse(dateString);
+        return d == null ? DateSortKey.UNPARSEABLE : d.getSortKey();
+    }
+
     /**
      * Get the line number we're reading
      * 
@@ -465,6 +970,238 @@ public class GedcomParser extends AbstractParser<Gedcom> {
         return lineNum;
     }
 
+    /**
+     * Set the line number we're reading, for when records are read from somewhere other than the start of a file
+     * 
+     * @param lineNum
+     *            the line number of the line most recently read
+     */
+    void setLineNum(int lineNum) {
+        this.lineNum = lineNum;
+    }
+
+    /**
+     * Check whether loading has been cancelled, and notify the parse observers if enough lines have been read since the
+     * last notification. Called after each line is read.
+     * 
+     * @throws ParserCancelledException
+     *             if loading has been cancelled
+     */
+    void checkProgress() throws ParserCancelledException {
+        if (cancelled) {
+            throw new ParserCancelledException("File load/parse is cancelled");
+        }
+        if (lineNum % parseNotificationRate == 0) {
+            notifyParseObservers(new ParseProgressEvent(this, gedcom, false, lineNum));
+        }
+    }
+
+    /**
+     * Count a line that has been read from the file, and add it to the string tree being built
+     * 
+     * @param stringTreeBuilder
+     *            the builder for the string tree of the current root-level item
+     * @param line
+     *            the line read from the file
+     * @throws GedcomParserException
+     *             if the line is not well formed
+     */
+    void lineRead(StringTreeBuilder stringTreeBuilder, String line) throws GedcomParserException {
+        lineNum++;
+        stringTreeBuilder.appendLine(line);
+    }
+
+    /**
+     * Set the record being read or parsed on the current thread, when loading in parallel
+     * 
+     * @param r
+     *            the record being read or parsed on the current thread, or null when done with it
+     */
+    void setPendingRecord(ParallelRecordLoader.PendingRecord r) {
+        if (r == null) {
+            pendingRecord.remove();
+        } else {
+            pendingRecord.set(r);
+        }
+    }
+
+    /**
+     * Will a diagnostic with the supplied code be kept, or passed to a listener? If not, the details that describe it
+     * needn't be worked out, although it still has to be reported so it is counted. When loading in parallel, the count
+     * read here may be slightly out of date, which can only mean details are worked out that turn out not to be needed.
+     * 
+     * @param code
+     *            the code
+     * @return true if a diagnostic with the code would be kept, or there are listeners to pass it to
+     */
+    boolean isDiagnosticWanted(DiagnosticCode code) {
+        int ordinal = code.ordinal();
+        return diagnosticCounts[ordinal] < diagnosticLimits[ordinal] || !diagnosticListeners.isEmpty();
+    }
+
+    /**
+     * Keep a diagnostic, if its code is under its limit, and tell the listeners about it. Only called on the thread that
+     * started loading.
+     * 
+     * @param d
+     *            the diagnostic
+     * @return true if the diagnostic was kept in the errors or warnings collection
+     */
+    boolean accept(ParseDiagnostic d) {
+        int ordinal = d.getCode().ordinal();
+        boolean kept = diagnosticCounts[ordinal] < diagnosticLimits[ordinal];
+        diagnosticCounts[ordinal]++;
+        if (kept) {
+            if (d.getSeverity() == ParseDiagnostic.Severity.ERROR) {
+                errorDiagnostics.add(d);
+            } else {
+                warningDiagnostics.add(d);
+            }
+        }
+        for (WeakReference<ParseDiagnosticListener> listenerRef : diagnosticListeners) {
+            ParseDiagnosticListener listener = listenerRef.get();
+            if (listener == null) {
+                diagnosticListeners.remove(listenerRef);
+            } else {
+                listener.diagnosticReported(d);
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void addError(String string) {
+        report(DiagnosticCode.OTHER_ERROR, 0, string);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void addWarning(String string) {
+        report(DiagnosticCode.OTHER_WARNING, 0, string);
+    }
+
+    /**
+     * Report a diagnostic found in the root-level record being loaded into the object model. When loading in parallel,
+     * the diagnostic is held with the record being processed, so it can be accepted in file order.
+     * 
+     * @param code
+     *            what kind of problem was found
+     * @param diagnosticLineNum
+     *            the line number where the problem was found, or 0 if not known
+     * @param args
+     *            the details needed to describe the problem, which depend on the code
+     */
+    void report(DiagnosticCode code, int diagnosticLineNum, Object... args) {
+        ParallelRecordLoader.PendingRecord r = pendingRecord.get();
+        if (r == null) {
+            accept(new ParseDiagnostic(code, diagnosticLineNum, currentRecordXref, args));
+        } else {
+            r.diagnostics.add(new ParseDiagnostic(code, diagnosticLineNum, r.getXref(), args));
+        }
+    }
+
+    /**
+     * Report a diagnostic. When loading in parallel, the diagnostic is held with the record being processed, so it can
+     * be accepted in file order.
+     * 
+     * @param d
+     *            the diagnostic
+     */
+    void report(ParseDiagnostic d) {
+        ParallelRecordLoader.PendingRecord r = pendingRecord.get();
+        if (r == null) {
+            accept(d);
+        } else {
+            r.diagnostics.add(d);
+        }
+    }
+
+    /**
+     * Load a single root-level item
+     * 
+     * @param rootLevelItem
+     *            the string tree for the root level item
+     * @throws GedcomParserException
+     *             if the data cannot be parsed because it's not in the format expected
+     */
+    void loadRootItem(StringTree rootLevelItem) throws GedcomParserException {
+        // When loading in parallel, the record being processed carries its own xref, and this field is left alone
+        boolean sequential = pendingRecord.get() == null;
+        if (sequential) {
+            currentRecordXref = rootLevelItem.getId();
+        }
+        switch (Tag.of(rootLevelItem)) {
+            case HEADER:
+                Header header = gedcom.getHeader();
+                if (header == null) {
+                    header = new Header();
+                    gedcom.setHeader(header);
+                }
+                new HeaderParser(this, rootLevelItem, header).parse();
+                break;
+            case SUBMITTER:
+                Submitter submitter = getSubmitter(rootLevelItem.getId());
+                new SubmitterParser(this, rootLevelItem, submitter).parse();
+                break;
+            case INDIVIDUAL:
+                Individual i = getIndividual(rootLevelItem.getId());
+                new IndividualParser(this, rootLevelItem, i).parse();
+                break;
+            case SUBMISSION:
+                Submission submission = new Submission(rootLevelItem.getId());
+                gedcom.setSubmission(submission);
+                if (gedcom.getHeader() == null) {
+                    gedcom.setHeader(new Header());
+                }
+                if (gedcom.getHeader().getSubmission() == null) {
+                    /*
+                     * The GEDCOM spec puts a cross reference to the root-level SUBN element in the HEAD structure. Now that
+                     * we have a submission object, represent that cross reference in the header object
+                     */
+                    gedcom.getHeader().setSubmission(submission);
+                }
+                new SubmissionParser(this, rootLevelItem, submission).parse();
+                break;
+            case NOTE:
+                List<Note> dummyList = new ArrayList<Note>();
+                new NoteListParser(this, rootLevelItem, dummyList).parse();
+                if (!dummyList.isEmpty()) {
+                    throw new GedcomParserException("At root level NOTE structures should have @ID@'s");
+                }
+                break;
+            case FAMILY:
+                Family f = getFamily(rootLevelItem.getId());
+                new FamilyParser(this, rootLevelItem, f).parse();
+                break;
+            case TRAILER:
+                gedcom.setTrailer(new Trailer());
+                break;
+            case SOURCE:
+                Source s = getSource(rootLevelItem.getId());
+                new SourceParser(this, rootLevelItem, s).parse();
+                break;
+            case REPOSITORY:
+                Repository r = getRepository(rootLevelItem.getId());
+                new RepositoryParser(this, rootLevelItem, r).parse();
+                break;
+            case OBJECT_MULTIMEDIA:
+                Multimedia multimedia = getMultimedia(rootLevelItem.getId());
+                new MultimediaRecordParser(this, rootLevelItem, multimedia).parse();
+                break;
+            default:
+                unknownTag(rootLevelItem, gedcom);
+                break;
+        }
+        if (sequential) {
+            currentRecordXref = null;
+        }
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -477,63 +1214,92 @@ public class GedcomParser extends AbstractParser<Gedcom> {
     }
 
     /**
-     * Load a single root-level item
+     * Discard all the cross-referenceable records in {@link #gedcom}
+     */
+    void clearRecords() {
+        gedcom.getFamilies().clear();
+        gedcom.getIndividuals().clear();
+        gedcom.getMultimedia().clear();
+        gedcom.getNotes().clear();
+        gedcom.getRepositories().clear();
+        gedcom.getSources().clear();
+        gedcom.getSubmitters().clear();
+    }
+
+    /**
+     * Pass the object that was just loaded for a root-level item to the streaming handler, then discard all the
+     * records accumulated in {@link #gedcom} (including placeholders for cross-referenced records) so they can be
+     * garbage collected
      * 
      * @param rootLevelItem
-     *            the string tree for the root level item
+     *            the string tree for the root level item that was just loaded
+     */
+    private void handleLoadedRootItem(StringTree rootLevelItem) {
+        String xref = rootLevelItem.getId();
+        switch (Tag.of(rootLevelItem)) {
+            case HEADER:
+                recordHandler.handleHeader(gedcom.getHeader());
+                break;
+            case SUBMITTER:
+                recordHandler.handleSubmitter(gedcom.getSubmitters().get(xref));
+                break;
+            case INDIVIDUAL:
+                recordHandler.handleIndividual(gedcom.getIndividuals().get(xref));
+                break;
+            case SUBMISSION:
+                recordHandler.handleSubmission(gedcom.getSubmission());
+                break;
+            case NOTE:
+                recordHandler.handleNote(gedcom.getNotes().get(xref));
+                break;
+            case FAMILY:
+                recordHandler.handleFamily(gedcom.getFamilies().get(xref));
+                break;
+            case SOURCE:
+                recordHandler.handleSource(gedcom.getSources().get(xref));
+                break;
+            case REPOSITORY:
+                recordHandler.handleRepository(gedcom.getRepositories().get(xref));
+                break;
+            case OBJECT_MULTIMEDIA:
+                recordHandler.handleMultimedia(gedcom.getMultimedia().get(xref));
+                break;
+            default:
+                break;
+        }
+        clearRecords();
+    }
+
+    /**
+     * Read all the root-level items from the supplied reader, loading them into the object model (or passing them to
+     * the {@link #recordHandler}) as they are completed
+     * 
+     * @param gfr
+     *            the reader for the file
+     * @throws IOException
+     *             if there is a problem reading the data from the reader
      * @throws GedcomParserException
-     *             if the data cannot be parsed because it's not in the format expected
+     *             if there is an error with parsing the data
      */
-    private void loadRootItem(StringTree rootLevelItem) throws GedcomParserException {
-        if (Tag.HEADER.equalsText(rootLevelItem.getTag())) {
-            Header header = gedcom.getHeader();
-            if (header == null) {
-                header = new Header();
-                gedcom.setHeader(header);
-            }
-            new HeaderParser(this, rootLevelItem, header).parse();
-        } else if (Tag.SUBMITTER.equalsText(rootLevelItem.getTag())) {
-            Submitter submitter = getSubmitter(rootLevelItem.getId());
-            new SubmitterParser(this, rootLevelItem, submitter).parse();
-        } else if (Tag.INDIVIDUAL.equalsText(rootLevelItem.getTag())) {
-            Individual i = getIndividual(rootLevelItem.getId());
-            new IndividualParser(this, rootLevelItem, i).parse();
-        } else if (Tag.SUBMISSION.equalsText(rootLevelItem.getTag())) {
-            Submission s = new Submission(rootLevelItem.getId());
-            gedcom.setSubmission(s);
-            if (gedcom.getHeader() == null) {
-                gedcom.setHeader(new Header());
-            }
-            if (gedcom.getHeader().getSubmission() == null) {
-                /*
-                 * The GEDCOM spec puts a cross reference to the root-level SUBN element in the HEAD structure. Now that
-                 * we have a submission object, represent that cross reference in the header object
-                 */
-                gedcom.getHeader().setSubmission(s);
-            }
-            new SubmissionParser(this, rootLevelItem, s).parse();
-        } else if (Tag.NOTE.equalsText(rootLevelItem.getTag())) {
-            List<Note> dummyList = new ArrayList<Note>();
-            new NoteListParser(this, rootLevelItem, dummyList).parse();
-            if (!dummyList.isEmpty()) {
-                throw new GedcomParserException("At root level NOTE structures should have @ID@'s");
-            }
-        } else if (Tag.FAMILY.equalsText(rootLevelItem.getTag())) {
-            Family f = getFamily(rootLevelItem.getId());
-            new FamilyParser(this, rootLevelItem, f).parse();
-        } else if (Tag.TRAILER.equalsText(rootLevelItem.getTag())) {
-            gedcom.setTrailer(new Trailer());
-        } else if (Tag.SOURCE.equalsText(rootLevelItem.getTag())) {
-            Source s = getSource(rootLevelItem.getId());
-            new SourceParser(this, rootLevelItem, s).parse();
-        } else if (Tag.REPOSITORY.equalsText(rootLevelItem.getTag())) {
-            Repository r = getRepository(rootLevelItem.getId());
-            new RepositoryParser(this, rootLevelItem, r).parse();
-        } else if (Tag.OBJECT_MULTIMEDIA.equalsText(rootLevelItem.getTag())) {
-            Multimedia multimedia = getMultimedia(rootLevelItem.getId());
-            new MultimediaRecordParser(this, rootLevelItem, multimedia).parse();
+    private void load(GedcomFileReader gfr) throws IOException, GedcomParserException {
+        GedcomRecordIterator records = new GedcomRecordIterator(this, gfr, null);
+        if (parallelism > 1 && recordHandler == null) {
+            new ParallelRecordLoader(this, parallelism).load(records);
         } else {
-            unknownTag(rootLevelItem, gedcom);
+            StringTree rootLevelItem = records.readRootItem();
+            while (rootLevelItem != null) {
+                if (recordHandler == null) {
+                    loadRootItem(rootLevelItem);
+                } else if (recordHandler.handleStringTree(rootLevelItem)) {
+                    loadRootItem(rootLevelItem);
+                    handleLoadedRootItem(rootLevelItem);
+                }
+                rootLevelItem = records.readRootItem();
+            }
+        }
+        if (recordHandler == null) {
+            removeSkippedRecords();
+            numberRecords();
         }
     }
 
@@ -560,25 +1326,109 @@ public class GedcomParser extends AbstractParser<Gedcom> {
     }
 
     /**
-     * Parse the {@link StringTreeBuilder}'s string tree in memory, load it into the object model, then discard that
-     * string tree buffer
+     * Read a file, using the specified strategy for getting the bytes off the disk, and parse it into the object model
+     * or pass it to the {@link #recordHandler} as appropriate
      * 
+     * @param file
+     *            the file to read
+     * @param strategy
+     *            the strategy for reading the file
+     * @throws IOException
+     *             if the file cannot be read
      * @throws GedcomParserException
-     *             if the string tree contents cannot be parsed, or parsing was cancelled
-     */
-    private void parseAndLoadPreviousStringTree() throws GedcomParserException {
-        StringTree tree = stringTreeBuilder.getTree();
-        if (tree != null && tree.getLevel() == -1 && tree.getChildren() != null && tree.getChildren().size() == 1) {
-            // We've still got the prior root node in memory - parse it and add to object model
-            StringTree rootLevelItem = stringTreeBuilder.getTree().getChildren().get(0);
-            if (rootLevelItem.getLevel() != 0) {
-                throw new GedcomParserException("Expected a root level item in the buffer, but found " + rootLevelItem.getLevel() + " " + rootLevelItem.getTag()
-                        + " from line " + lineNum);
+     *             if the file cannot be parsed
+     */
+    private void readFile(File file, FileReadingStrategy strategy) throws IOException, GedcomParserException {
+        FileInputStream fis = new FileInputStream(file);
+        BufferedInputStream bis = null;
+        try {
+            resetForLoad();
+            if (strategy == FileReadingStrategy.MEMORY_MAPPED) {
+                load(new GedcomFileReader(this, fis.getChannel()));
+            } else {
+                bis = new BufferedInputStream(fis);
+                load(new GedcomFileReader(this, bis, file.length()));
+            }
+        } finally {
+            if (bis != null) {
+                bis.close();
             }
-            loadRootItem(rootLevelItem);
-            // And discard it, now that it's loaded
-            stringTreeBuilder = new StringTreeBuilder(this);
+            fis.close();
+        }
+    }
+
+    /**
+     * Take the placeholders for records that were referred to, but whose type was skipped by the {@link #loadOptions},
+     * out of {@link #gedcom}, so that it only holds the kinds of records that were loaded
+     */
+    private void removeSkippedRecords() {
+        if (!loadOptions.isRecordLoaded(Tag.FAMILY.tagText)) {
+            gedcom.getFamilies().clear();
+        }
+        if (!loadOptions.isRecordLoaded(Tag.INDIVIDUAL.tagText)) {
+            gedcom.getIndividuals().clear();
+        }
+        if (!loadOptions.isRecordLoaded(Tag.OBJECT_MULTIMEDIA.tagText)) {
+            gedcom.getMultimedia().clear();
+        }
+        if (!loadOptions.isRecordLoaded(Tag.NOTE.tagText)) {
+            gedcom.getNotes().clear();
+        }
+        if (!loadOptions.isRecordLoaded(Tag.REPOSITORY.tagText)) {
+            gedcom.getRepositories().clear();
+        }
+        if (!loadOptions.isRecordLoaded(Tag.SOURCE.tagText)) {
+            gedcom.getSources().clear();
+        }
+        if (!loadOptions.isRecordLoaded(Tag.SUBMITTER.tagText)) {
+            gedcom.getSubmitters().clear();
+        }
+    }
+
+    /**
+     * Number the individuals and families that have been loaded, from 0 up, so that graph operations can keep track of
+     * them with arrays rather than hashing them. Done once everything is loaded, in order of xref, so the numbers have no
+     * gaps and are the same every time the file is loaded, however many threads did the loading.
+     */
+    private void numberRecords() {
+        List<String> xrefs = new ArrayList<String>(gedcom.getIndividuals().keySet());
+        Collections.sort(xrefs);
+        int ordinal = 0;
+        for (String xref : xrefs) {
+            gedcom.getIndividuals().get(xref).setOrdinal(ordinal++);
+        }
+        xrefs = new ArrayList<String>(gedcom.getFamilies().keySet());
+        Collections.sort(xrefs);
+        ordinal = 0;
+        for (String xref : xrefs) {
+            gedcom.getFamilies().get(xref).setOrdinal(ordinal++);
+        }
+    }
+
+    /**
+     * Reset counters and stuff before loading a file
+     */
+    private void resetForLoad() {
+        lineNum = 0;
+        errorDiagnostics.clear();
+        warningDiagnostics.clear();
+        Arrays.fill(diagnosticCounts, 0);
+        currentRecordXref = null;
+        cancelled = false;
+    }
+
+    /**
+     * Get ready to stream records to the supplied handler
+     * 
+     * @param handler
+     *            the handler to receive each root-level record
+     */
+    private void startStreaming(GedcomRecordHandler handler) {
+        if (handler == null) {
+            throw new IllegalArgumentException("A record handler is required for streaming");
         }
+        recordHandler = handler;
+        clearRecords();
     }
 
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import org.gedcom4j.model.*;
+
+/**
+ * <p>
+ * A callback interface for streaming through a GEDCOM file one root-level record at a time, without building up a
+ * complete {@link Gedcom} object graph in memory. Pass an implementation to {@link GedcomParser#stream(java.io.File,
+ * GedcomRecordHandler)} or {@link GedcomParser#stream(java.io.BufferedInputStream, GedcomRecordHandler)}.
+ * </p>
+ * <p>
+ * For each root-level record in the file, {@link #handleStringTree(StringTree)} is called first with the raw
+ * {@link StringTree} for the record. If it returns true, the record is parsed into the object model and passed to the
+ * matching <code>handleXXX</code> method. Either way, the parser drops its references to the record once the handler
+ * methods return, so memory use stays constant regardless of the size of the file.
+ * </p>
+ * <p>
+ * Because other records are not kept, cross-references in a streamed record (e.g., the families an individual is a
+ * spouse in) point to placeholder objects that have only their xref populated.
+ * </p>
+ * <p>
+ * Most implementations will want to extend {@link GedcomRecordHandlerAdapter} rather than implement this interface
+ * directly.
+ * </p>
+ * 
+ * @author frizbog
+ * @since 3.0.2
+ */
+public interface GedcomRecordHandler {
+
+    /**
+     * Handle a family record
+     * 
+     * @param family
+     *            the family that was parsed
+     */
+    void handleFamily(Family family);
+
+    /**
+     * Handle the header record. The header is retained by the parser (in {@link GedcomParser#getGedcom()}) while the
+     * rest of the file is streamed, since the GEDCOM version it declares governs how the remaining records are parsed.
+     * 
+     * @param header
+     *            the header that was parsed
+     */
+    void handleHeader(Header header);
+
+    /**
+     * Handle an individual record
+     * 
+     * @param individual
+     *            the individual that was parsed
+     */
+    void handleIndividual(Individual individual);
+
+    /**
+     * Handle a multimedia record
+     * 
+     * @param multimedia
+     *            the multimedia record that was parsed
+     */
+    void handleMultimedia(Multimedia multimedia);
+
+    /**
+     * Handle a root-level note record
+     * 
+     * @param note
+     *            the note that was parsed
+     */
+    void handleNote(Note note);
+
+    /**
+     * Handle a repository record
+     * 
+     * @param repository
+     *            the repository that was parsed
+     */
+    void handleRepository(Repository repository);
+
+    /**
+     * Handle a source record
+     * 
+     * @param source
+     *            the source that was parsed
+     */
+    void handleSource(Source source);
+
+    /**
+     * Examine the raw data for a root-level record, before it is parsed
+     * 
+     * @param rootLevelItem
+     *            the string tree for the root-level record, at level 0
+     * @return true if the record should be parsed into the object model and passed to the appropriate
+     *         <code>handleXXX</code> method; false if it should be skipped
+     */
+    boolean handleStringTree(StringTree rootLevelItem);
+
+    /**
+     * Handle a submission record
+     * 
+     * @param submission
+     *            the submission that was parsed
+     */
+    void handleSubmission(Submission submission);
+
+    /**
+     * Handle a submitter record
+     * 
+     * @param submitter
+     *            the submitter that was parsed
+     */
+    void handleSubmitter(Submitter submitter);
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.exception.GedcomRecordIterationException;
+import org.gedcom4j.io.reader.GedcomFileReader;
+import org.gedcom4j.model.StringTree;
+
+/**
+ * <p>
+ * Iterates over the root-level records in a GEDCOM file, reading the file lazily as records are requested. Each record
+ * is returned as a raw {@link StringTree} at level 0 (with its children), and is read from the file only when
+ * {@link #hasNext()} or {@link #next()} asks for it - so a caller that stops early (for example, after finding a
+ * particular xref, or after the first few hundred individuals) never reads the rest of the file.
+ * </p>
+ * <p>
+ * Get an instance from {@link GedcomParser#iterateRecords(java.io.File)} or
+ * {@link GedcomParser#iterateRecords(java.io.BufferedInputStream)}. Errors and warnings found while reading records are
+ * added to the {@link GedcomParser}'s collections, and the parser's file and parse listeners are notified as usual.
+ * Problems reading or parsing the data are thrown as {@link GedcomRecordIterationException}s, since the
+ * {@link Iterator} methods cannot throw checked exceptions.
+ * </p>
+ * <p>
+ * This class is {@link Iterable} for convenience in for-each loops, but can only be iterated once. If the iteration is
+ * abandoned before the end of the file, call {@link #close()} to release the underlying stream.
+ * </p>
+ * 
+ * @author frizbog
+ * @since 3.0.2
+ */
+public class GedcomRecordIterator implements Iterator<StringTree>, Iterable<StringTree>, Closeable {
+
+    /**
+     * The parser we're reading records for
+     */
+    private final GedcomParser parser;
+
+    /**
+     * The reader for the file
+     */
+    private final GedcomFileReader reader;
+
+    /**
+     * The stream to close when done, or null if the caller owns the stream
+     */
+    private final InputStream streamToClose;
+
+    /**
+     * The first line of the next root-level record, which has been read from the file but not yet added to a string
+     * tree. Null if not read yet.
+     */
+    private String pendingLine;
+
+    /**
+     * The next record to return, if it has been read already
+     */
+    private StringTree nextRecord;
+
+    /**
+     * Have we reached the end of the file?
+     */
+    private boolean endOfFile;
+
+    /**
+     * Constructor
+     * 
+     * @param parser
+     *            the parser we're reading records for
+     * @param reader
+     *            the reader for the file
+     * @param streamToClose
+     *            the stream to close when iteration finishes or is closed, or null if the caller will close it
+     */
+    GedcomRecordIterator(GedcomParser parser, GedcomFileReader reader, InputStream streamToClose) {
+        this.parser = parser;
+        this.reader = reader;
+        this.streamToClose = streamToClose;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        endOfFile = true;
+        nextRecord = null;
+        pendingLine = null;
+        if (streamToClose != null) {
+            streamToClose.close();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws GedcomRecordIterationException
+     *             if the next record cannot be read or parsed
+     */
+    @Override
+    public boolean hasNext() {
+        if (nextRecord == null && !endOfFile) {
+            try {
+                nextRecord = readRootItem();
+            } catch (IOException e) {
+                throw new GedcomRecordIterationException("Unable to read record from line " + parser.getLineNum(), e);
+            } catch (GedcomParserException e) {
+                throw new GedcomRecordIterationException("Unable to parse record at line " + parser.getLineNum(), e);
+            }
+        }
+        return nextRecord != null;
+    }
+
+    /**
+     * Returns this object, which can only be iterated over once.
+     * 
+     * @return this object
+     */
+    @Override
+    public Iterator<StringTree> iterator() {
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws GedcomRecordIterationException
+     *             if the next record cannot be read or parsed
+     */
+    @Override
+    public StringTree next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        StringTree result = nextRecord;
+        nextRecord = null;
+        return result;
+    }
+
+    /**
+     * Not supported
+     * 
+     * @throws UnsupportedOperationException
+     *             always
+     */
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Records cannot be removed from a GEDCOM file being read");
+    }
+
+    /**
+     * Read lines from the file until a complete root-level record has been built up, or the end of the file is reached.
+     * The line that begins the following record is held back for next time.
+     * 
+     * @return the next root-level record, or null if there are no more
+     * @throws IOException
+     *             if the data cannot be read
+     * @throws GedcomParserException
+     *             if the data cannot be parsed, or the load was cancelled
+     */
+    StringTree readRootItem() throws IOException, GedcomParserException {
+        String line = pendingLine;
+        pendingLine = null;
+        if (line == null && !endOfFile) {
+            line = reader.nextLine();
+        }
+        while (line != null) {
+            StringTreeBuilder stringTreeBuilder = new StringTreeBuilder(parser);
+            do {
+                parser.lineRead(stringTreeBuilder, line);
+                line = reader.nextLine();
+                parser.checkProgress();
+            } while (line != null && line.charAt(0) != '0');
+            stringTreeBuilder.finish();
+
+            StringTree tree = stringTreeBuilder.getTree();
+            if (tree.getChildren() != null && tree.getChildren().size() == 1) {
+                StringTree rootLevelItem = tree.getChildren().get(0);
+                if (rootLevelItem.getLevel() != 0) {
+                    throw new GedcomParserException("Expected a root level item in the buffer, but found " + rootLevelItem.getLevel() + " "
+                            + rootLevelItem.getTag() + " from line " + parser.getLineNum());
+                }
+                pendingLine = line;
+                endOfFile = line == null;
+                return rootLevelItem;
+            }
+        }
+        endOfFile = true;
+        if (streamToClose != null) {
+            streamToClose.close();
+        }
+        return null;
+    }
+}
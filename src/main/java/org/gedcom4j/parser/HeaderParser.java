@@ -53,57 +53,71 @@ class HeaderParser extends AbstractParser<Header> {
     void parse() {
         if (stringTree.getChildren() != null) {
             for (StringTree ch : stringTree.getChildren()) {
-                if (Tag.SOURCE.equalsText(ch.getTag())) {
-                    SourceSystem sourceSystem = new SourceSystem();
-                    loadInto.setSourceSystem(sourceSystem);
-                    new SourceSystemParser(gedcomParser, ch, sourceSystem).parse();
-                } else if (Tag.DESTINATION.equalsText(ch.getTag())) {
-                    loadInto.setDestinationSystem(new StringWithCustomTags(ch));
-                } else if (Tag.DATE.equalsText(ch.getTag())) {
-                    loadInto.setDate(new StringWithCustomTags(ch));
-                    // one optional time subitem is the only possibility here
-                    if (ch.getChildren() != null && !ch.getChildren().isEmpty()) {
-                        loadInto.setTime(new StringWithCustomTags(ch.getChildren().get(0)));
-                    }
-                } else if (Tag.CHARACTER_SET.equalsText(ch.getTag())) {
-                    loadInto.setCharacterSet(new CharacterSet());
-                    loadInto.getCharacterSet().setCharacterSetName(new StringWithCustomTags(ch));
-                    // one optional version subitem is the only possibility here
-                    if (ch.getChildren() != null && !ch.getChildren().isEmpty()) {
-                        loadInto.getCharacterSet().setVersionNum(new StringWithCustomTags(ch.getChildren().get(0)));
-                    }
-                } else if (Tag.SUBMITTER.equalsText(ch.getTag())) {
-                    loadInto.setSubmitter(getSubmitter(ch.getValue()));
-                } else if (Tag.FILE.equalsText(ch.getTag())) {
-                    loadInto.setFileName(new StringWithCustomTags(ch));
-                } else if (Tag.GEDCOM_VERSION.equalsText(ch.getTag())) {
-                    GedcomVersion gedcomVersion = new GedcomVersion();
-                    loadInto.setGedcomVersion(gedcomVersion);
-                    new GedcomVersionParser(gedcomParser, ch, gedcomVersion).parse();
-                } else if (Tag.COPYRIGHT.equalsText(ch.getTag())) {
-                    loadMultiLinesOfText(ch, loadInto.getCopyrightData(true), loadInto);
-                    if (g55() && loadInto.getCopyrightData().size() > 1) {
-                        gedcomParser.getWarnings().add(
-                                "GEDCOM version is 5.5, but multiple lines of copyright data were specified, which is only allowed in GEDCOM 5.5.1. "
-                                        + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
-                    }
-                } else if (Tag.SUBMISSION.equalsText(ch.getTag())) {
-                    if (loadInto.getSubmission() == null) {
-                        /*
-                         * There can only be one SUBMISSION record per GEDCOM, and it's found at the root level, but the
-                         * HEAD structure has a cross-reference to that root-level structure, so we're setting it here
-                         * (if it hasn't already been loaded, which it probably isn't yet)
-                         */
-                        loadInto.setSubmission(gedcomParser.getGedcom().getSubmission());
-                    }
-                } else if (Tag.LANGUAGE.equalsText(ch.getTag())) {
-                    loadInto.setLanguage(new StringWithCustomTags(ch));
-                } else if (Tag.PLACE.equalsText(ch.getTag())) {
-                    loadInto.setPlaceHierarchy(new StringWithCustomTags(ch.getChildren().get(0)));
-                } else if (Tag.NOTE.equalsText(ch.getTag())) {
-                    new NoteListParser(gedcomParser, ch, loadInto.getNotes(true)).parse();
-                } else {
-                    unknownTag(ch, loadInto);
+                switch (Tag.of(ch)) {
+                    case SOURCE:
+                        SourceSystem sourceSystem = new SourceSystem();
+                        loadInto.setSourceSystem(sourceSystem);
+                        new SourceSystemParser(gedcomParser, ch, sourceSystem).parse();
+                        break;
+                    case DESTINATION:
+                        loadInto.setDestinationSystem(new StringWithCustomTags(ch));
+                        break;
+                    case DATE:
+                        loadInto.setDate(new StringWithCustomTags(ch));
+                        // one optional time subitem is the only possibility here
+                        if (ch.getChildren() != null && !ch.getChildren().isEmpty()) {
+                            loadInto.setTime(new StringWithCustomTags(ch.getChildren().get(0)));
+                        }
+                        break;
+                    case CHARACTER_SET:
+                        loadInto.setCharacterSet(new CharacterSet());
+                        loadInto.getCharacterSet().setCharacterSetName(new StringWithCustomTags(ch));
+                        // one optional version subitem is the only possibility here
+                        if (ch.getChildren() != null && !ch.getChildren().isEmpty()) {
+                            loadInto.getCharacterSet().setVersionNum(new StringWithCustomTags(ch.getChildren().get(0)));
+                        }
+                        break;
+                    case SUBMITTER:
+                        loadInto.setSubmitter(getSubmitter(ch.getValue()));
+                        break;
+                    case FILE:
+                        loadInto.setFileName(new StringWithCustomTags(ch));
+                        break;
+                    case GEDCOM_VERSION:
+                        GedcomVersion gedcomVersion = new GedcomVersion();
+                        loadInto.setGedcomVersion(gedcomVersion);
+                        new GedcomVersionParser(gedcomParser, ch, gedcomVersion).parse();
+                        break;
+                    case COPYRIGHT:
+                        loadMultiLinesOfText(ch, loadInto.getCopyrightData(true), loadInto);
+                        if (g55() && loadInto.getCopyrightData().size() > 1) {
+                            addWarning(
+                                    "GEDCOM version is 5.5, but multiple lines of copyright data were specified, which is only allowed in GEDCOM 5.5.1. "
+                                            + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
+                        }
+                        break;
+                    case SUBMISSION:
+                        if (loadInto.getSubmission() == null) {
+                            /*
+                             * There can only be one SUBMISSION record per GEDCOM, and it's found at the root level, but the
+                             * HEAD structure has a cross-reference to that root-level structure, so we're setting it here
+                             * (if it hasn't already been loaded, which it probably isn't yet)
+                             */
+                            loadInto.setSubmission(gedcomParser.getGedcom().getSubmission());
+                        }
+                        break;
+                    case LANGUAGE:
+                        loadInto.setLanguage(new StringWithCustomTags(ch));
+                        break;
+                    case PLACE:
+                        loadInto.setPlaceHierarchy(new StringWithCustomTags(ch.getChildren().get(0)));
+                        break;
+                    case NOTE:
+                        new NoteListParser(gedcomParser, ch, loadInto.getNotes(true)).parse();
+                        break;
+                    default:
+                        unknownTag(ch, loadInto);
+                        break;
                 }
             }
         }
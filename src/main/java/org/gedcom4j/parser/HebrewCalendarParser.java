@@ -26,94 +26,129 @@
  */
 package org.gedcom4j.parser;
 
-import java.util.Calendar;
 import java.util.Date;
-import java.util.TimeZone;
-import java.util.concurrent.TimeUnit;
 
 /**
  * <p>
  * A class for converting Hebrew dates into Gregorian dates. No ability is provided for the reverse. All dates processed as if
  * before sunset.
  * </p>
+ * <p>
+ * Conversions are done on day numbers (days since 1 January 1970), using tables of the first day of each Hebrew year that are
+ * worked out once, when the class is loaded, for years {@value #FIRST_TABLE_YEAR} to {@value #LAST_TABLE_YEAR}. Years outside
+ * that range are worked out as needed. Nothing is allocated except the {@link Date} objects returned, and instances share the
+ * tables, so they are safe to use from multiple threads.
+ * </p>
  * 
  * @author frizbog
  */
 class HebrewCalendarParser {
 
     /**
-     * This function converts a Hebrew date into the Gregorian date
-     * 
-     * @param hebrewYear
-     *            the hebrew year
-     * @param hebrewMonthAbbrev
-     *            the hebrew month abbreviation in GEDCOM format
-     * @param dayOfMonth
-     * @return the date in Gregorian form
+     * The first Hebrew year in the tables
      */
-    Date convertHebrewDateToGregorian(int hebrewYear, String hebrewMonthAbbrev, int dayOfMonth) {
+    static final int FIRST_TABLE_YEAR = 1;
 
-        HebrewMonth hebrewMonth = HebrewMonth.getFromAbbreviation(hebrewMonthAbbrev);
-        int hebrewMonthNum = hebrewMonth.ordinal() + 1; // one-based
+    /**
+     * The last Hebrew year in the tables
+     */
+    static final int LAST_TABLE_YEAR = 9999;
 
-        Calendar c = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
-        c.setTime(getFirstDayOfHebrewYear(hebrewYear));
+    /**
+     * The number of milliseconds in a day
+     */
+    private static final long MILLIS_PER_DAY = 86400000L;
 
+    /**
+     * The day number of 1 January 1900 - the starting point for working out the first day of a year
+     */
+    private static final int DAY_NUMBER_1900 = -25567;
+
+    /**
+     * The day number of 14 September 1752, when the Gregorian calendar was adopted by England and its colonies
+     */
+    private static final int DAY_NUMBER_GREGORIAN_REFORMATION = -79366;
+
+    /**
+     * The day numbers of the first day (1 Tishrei) of each Hebrew year from {@link #FIRST_TABLE_YEAR} to {@link #LAST_TABLE_YEAR}
+     * + 1, so the length of every year in the table can be worked out too
+     */
+    private static final int[] YEAR_STARTS = new int[LAST_TABLE_YEAR - FIRST_TABLE_YEAR + 2];
+
+    static {
+        for (int i = 0; i < YEAR_STARTS.length; i++) {
+            YEAR_STARTS[i] = (int) calculateFirstDayOfYear(FIRST_TABLE_YEAR + i);
+        }
+    }
+
+    /**
+     * Get the day number (days since 1 January 1970) of a Hebrew date
+     * 
+     * @param hebrewYear
+     *            the Hebrew year
+     * @param hebrewMonthNum
+     *            the Hebrew month, 1-13 (see {@link HebrewMonth})
+     * @param dayOfMonth
+     *            the day of the month
+     * @return the day number of the date
+     */
+    static long getDayNumber(int hebrewYear, int hebrewMonthNum, int dayOfMonth) {
+        long result = getFirstDayOfYear(hebrewYear);
+        int lengthOfYear = getLengthOfYear(hebrewYear);
         // Now count up days within the year
         for (int m = 1; m <= hebrewMonthNum - 1; m++) {
-            int monthLength = getMonthLength(hebrewYear, HebrewMonth.getFrom1BasedNumber(m));
-            c.add(Calendar.DAY_OF_YEAR, +monthLength);
+            result += getMonthLength(hebrewYear, lengthOfYear, m);
         }
-        c.add(Calendar.DAY_OF_YEAR, dayOfMonth - 1);
-        return c.getTime();
+        return result + dayOfMonth - 1;
     }
 
     /**
-     * Get the number of days in the month and year requeted
+     * Get the day number (days since 1 January 1970) of the first day of a given Hebrew year (1 Tishrei)
+     * 
+     * @param hebrewYear
+     *            the hebrew year (e.g., 5776)
+     * @return the day number of the first day of the hebrew year supplied
+     */
+    static long getFirstDayOfYear(int hebrewYear) {
+        if (hebrewYear >= FIRST_TABLE_YEAR && hebrewYear <= LAST_TABLE_YEAR + 1) {
+            return YEAR_STARTS[hebrewYear - FIRST_TABLE_YEAR];
+        }
+        return calculateFirstDayOfYear(hebrewYear);
+    }
+
+    /**
+     * Get the number of days in a Hebrew year
+     * 
+     * @param hebrewYear
+     *            the Hebrew year
+     * @return the number of days in the year
+     */
+    static int getLengthOfYear(int hebrewYear) {
+        // subtract the date of this year from the date of next year
+        return (int) (getFirstDayOfYear(hebrewYear + 1) - getFirstDayOfYear(hebrewYear));
+    }
+
+    /**
+     * Get the number of days in the month and year requested
      * 
      * @param hebrewYear
      *            the hebrew year
-     * @param hebrewMonth
-     *            the Hebrew month
+     * @param hebrewMonthNum
+     *            the Hebrew month, 1-13 (see {@link HebrewMonth})
      * @return the number of days in the month on the specified year
      */
-    int getMonthLength(int hebrewYear, HebrewMonth hebrewMonth) {
-
-        int hebrewMonthNum = hebrewMonth.ordinal() + 1;
-        boolean leapYear = isLeapYear(hebrewYear);
-        int lenHebrewYear = getLengthOfYear(hebrewYear);
-        /*
-         * The regular length of a non-leap Hebrew year is 354 days. The regular length of a Hebrew leap year is 384 days.
-         * 
-         * If the year is shorter by one less day, it is called a haser year. Kislev on a haser year has 29 days. If the year is
-         * longer by one day, it is called a shalem year. Cheshvan on a shalem year is 30 days.
-         */
-        boolean haserYear = (lenHebrewYear == 353 || lenHebrewYear == 383);
-        boolean shalemYear = (lenHebrewYear == 355 || lenHebrewYear == 385);
-        int monthLength = 0;
-        if (hebrewMonthNum == 1 || hebrewMonthNum == 5 || hebrewMonthNum == 8 || hebrewMonthNum == 10 || hebrewMonthNum == 12) {
-            monthLength = 30;
-        } else if (hebrewMonthNum == 4 || hebrewMonthNum == 7 || hebrewMonthNum == 9 || hebrewMonthNum == 11
-                || hebrewMonthNum == 13) {
-            monthLength = 29;
-        } else if (hebrewMonthNum == 6) {
-            monthLength = (leapYear ? 30 : 0);
-        } else if (hebrewMonthNum == 2) {
-            monthLength = (shalemYear ? 30 : 29);
-        } else if (hebrewMonthNum == 3) {
-            monthLength = (haserYear ? 29 : 30);
-        }
-        return monthLength;
+    static int getMonthLength(int hebrewYear, int hebrewMonthNum) {
+        return getMonthLength(hebrewYear, getLengthOfYear(hebrewYear), hebrewMonthNum);
     }
 
     /**
-     * Get the Gregorian Date corresponding to the first day of a given Hebrew year (1 Tishrei)
+     * Work out the day number (days since 1 January 1970) of the first day of a given Hebrew year (1 Tishrei)
      * 
      * @param hebrewYear
      *            the hebrew year (e.g., 5776)
-     * @return the gregorian date of the first day of the hebrew year supplied
+     * @return the day number of the first day of the hebrew year supplied
      */
-    private Date getFirstDayOfHebrewYear(int hebrewYear) {
+    private static long calculateFirstDayOfYear(int hebrewYear) {
         /*
          * Calculate how many days, hours and chalakim (1/1080th of an hour, about 3.333 secs) it has been from the molad (start of
          * new moon) at the beginning of the year.
@@ -125,14 +160,14 @@ class HebrewCalendarParser {
         int chalakim = 793 * monthsSinceFirstMolad;
         chalakim += 204;
         // carry the excess Chalakim over to the hours
-        int hours = (int) Math.floor(chalakim / 1080);
+        int hours = chalakim / 1080;
         chalakim = chalakim % 1080;
 
         hours += monthsSinceFirstMolad * 12;
         hours += 5;
 
         // carry the excess hours over to the days
-        int days = (int) Math.floor(hours / 24);
+        int days = hours / 24;
         hours = hours % 24;
 
         days += 29 * monthsSinceFirstMolad;
@@ -161,14 +196,12 @@ class HebrewCalendarParser {
              * This prevents the year from being 356 days. We have to push Rosh Hashanah off two days because if we pushed it off
              * only one day, Rosh Hashanah would comes out on a Wednesday. Check the Hebrew year 5745 for an example.
              */
-            dayOfWeek = 5;
             days += 2;
         } else if (isLeapYear(hebrewYear - 1) && dayOfWeek == 2 && (hours * 1080) + chalakim >= (15 * 1080) + 589) {
             /*
              * This prevents the previous year from being 382 days. Check the Hebrew Year 5766 for an example. If Rosh Hashanah was
              * not pushed off a day then 5765 would be 382 days
              */
-            dayOfWeek = 3;
             days += 1;
         } else {
             // see rule 2 above. Check the Hebrew year 5765 for an example
@@ -179,46 +212,61 @@ class HebrewCalendarParser {
             }
             // see rule 1 above. Check the Hebrew year 5765 for an example
             if (dayOfWeek == 1 || dayOfWeek == 4 || dayOfWeek == 6) {
-                dayOfWeek += 1;
-                dayOfWeek = dayOfWeek % 7;
                 days += 1;
             }
         }
 
-        // Adjust by the number of days since creation for 1 Jan 1900 - starting point for making date adjustments since Java dates
-        // are around the epoch
+        // Adjust by the number of days since creation for 1 Jan 1900
         days -= 2067025;
-
-        Calendar c = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
-        c.clear();
-        c.set(1900, 0, 1, 0, 0);
-        c.add(Calendar.DATE, days);
-
-        // Sep 14, 1752, when Gregorian was adopted by England and its colonies
-        Calendar gregorianReformation = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
-        gregorianReformation.clear();
-        gregorianReformation.set(1752, Calendar.SEPTEMBER, 14, 0, 0);
+        long result = DAY_NUMBER_1900 + (long) days;
 
         // Adjust for the Gregorian Reformation if needed
-        if (c.before(gregorianReformation)) {
-            c.add(Calendar.DATE, -10);
+        if (result < DAY_NUMBER_GREGORIAN_REFORMATION) {
+            result -= 10;
         }
-
-        return c.getTime();
+        return result;
     }
 
     /**
-     * This function gets the number of days of a Hebrew year.
+     * Get the number of days in a month of a Hebrew year of a given length
      * 
      * @param hebrewYear
      *            the Hebrew year
-     * @return the number of days in the year
+     * @param lenHebrewYear
+     *            the number of days in the Hebrew year
+     * @param hebrewMonthNum
+     *            the Hebrew month, 1-13 (see {@link HebrewMonth})
+     * @return the number of days in the month
      */
-    private int getLengthOfYear(int hebrewYear) {
-        // subtract the date of this year from the date of next year
-        Date thisNewYear = getFirstDayOfHebrewYear(hebrewYear);
-        Date nextNewYear = getFirstDayOfHebrewYear(hebrewYear + 1);
-        return (int) TimeUnit.DAYS.convert(nextNewYear.getTime() - thisNewYear.getTime(), TimeUnit.MILLISECONDS);
+    private static int getMonthLength(int hebrewYear, int lenHebrewYear, int hebrewMonthNum) {
+        /*
+         * The regular length of a non-leap Hebrew year is 354 days. The regular length of a Hebrew leap year is 384 days.
+         * 
+         * If the year is shorter by one less day, it is called a haser year. Kislev on a haser year has 29 days. If the year is
+         * longer by one day, it is called a shalem year. Cheshvan on a shalem year is 30 days.
+         */
+        switch (hebrewMonthNum) {
+            case 1:
+            case 5:
+            case 8:
+            case 10:
+            case 12:
+                return 30;
+            case 4:
+            case 7:
+            case 9:
+            case 11:
+            case 13:
+                return 29;
+            case 6:
+                return isLeapYear(hebrewYear) ? 30 : 0;
+            case 2:
+                return lenHebrewYear == 355 || lenHebrewYear == 385 ? 30 : 29;
+            case 3:
+                return lenHebrewYear == 353 || lenHebrewYear == 383 ? 29 : 30;
+            default:
+                return 0;
+        }
     }
 
     /**
@@ -228,12 +276,12 @@ class HebrewCalendarParser {
      *            the Hebrew year
      * @return the number of months since the first Molad
      */
-    private int getMonthsSinceFirstMolad(int hebrewYear) {
+    private static int getMonthsSinceFirstMolad(int hebrewYear) {
         // The months of this year haven't happened yet, so go back a year
         int y = hebrewYear - 1;
 
         // Get how many 19 year cycles there has been and multiply it by 235 (which is the number of months in a 19-year cycle)
-        int result = (int) (Math.floor(y / 19) * 235);
+        int result = (int) ((double) (y / 19) * 235);
 
         // Get the remaining years after the last complete 19 year cycle.
         y = yearInLeapCycle(y);
@@ -265,7 +313,7 @@ class HebrewCalendarParser {
      *            the Hebrew year
      * @return true if and only if the hebrew year supplied is a leap year
      */
-    private boolean isLeapYear(int hebrewYear) {
+    private static boolean isLeapYear(int hebrewYear) {
         int yearInCycle = yearInLeapCycle(hebrewYear);
 
         return (yearInCycle == 3 || yearInCycle == 6 || yearInCycle == 8 || yearInCycle == 11 || yearInCycle == 14
@@ -280,8 +328,37 @@ class HebrewCalendarParser {
      *            the Hebrew year
      * @return which year within the cycle we're in. The 19th year of the cycle is zero.
      */
-    private int yearInLeapCycle(int hebrewYear) {
+    private static int yearInLeapCycle(int hebrewYear) {
         return hebrewYear % 19;
     }
 
+    /**
+     * This function converts a Hebrew date into the Gregorian date
+     * 
+     * @param hebrewYear
+     *            the hebrew year
+     * @param hebrewMonthAbbrev
+     *            the hebrew month abbreviation in GEDCOM format
+     * @param dayOfMonth
+     * @return the date in Gregorian form
+     */
+    Date convertHebrewDateToGregorian(int hebrewYear, String hebrewMonthAbbrev, int dayOfMonth) {
+        HebrewMonth hebrewMonth = HebrewMonth.getFromAbbreviation(hebrewMonthAbbrev);
+        int hebrewMonthNum = hebrewMonth.ordinal() + 1; // one-based
+        return new Date(getDayNumber(hebrewYear, hebrewMonthNum, dayOfMonth) * MILLIS_PER_DAY);
+    }
+
+    /**
+     * Get the number of days in the month and year requeted
+     * 
+     * @param hebrewYear
+     *            the hebrew year
+     * @param hebrewMonth
+     *            the Hebrew month
+     * @return the number of days in the month on the specified year
+     */
+    int getMonthLength(int hebrewYear, HebrewMonth hebrewMonth) {
+        return getMonthLength(hebrewYear, hebrewMonth.ordinal() + 1);
+    }
+
 }
@@ -55,67 +55,81 @@ class IndividualAttributeParser extends AbstractParser<IndividualAttribute> {
     void parse() {
         loadInto.setType(IndividualAttributeType.getFromTag(stringTree.getTag()));
         if (IndividualAttributeType.FACT.equals(loadInto.getType()) && g55()) {
-            addWarning("FACT tag specified on a GEDCOM 5.5 file at line " + stringTree.getLineNum() + ", but FACT was not added until 5.5.1."
-                    + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
+            gedcomParser.report(DiagnosticCode.FACT_IN_55, stringTree.getLineNum(), Integer.valueOf(stringTree.getLineNum()));
         }
         loadInto.setDescription(new StringWithCustomTags(stringTree.getValue()));
         if (stringTree.getChildren() != null) {
             for (StringTree ch : stringTree.getChildren()) {
-                if (Tag.TYPE.equalsText(ch.getTag())) {
-                    loadInto.setSubType(new StringWithCustomTags(ch));
-                } else if (Tag.DATE.equalsText(ch.getTag())) {
-                    loadInto.setDate(new StringWithCustomTags(ch));
-                } else if (Tag.PLACE.equalsText(ch.getTag())) {
-                    Place place = new Place();
-                    loadInto.setPlace(place);
-                    new PlaceParser(gedcomParser, ch, place).parse();
-                } else if (Tag.AGE.equalsText(ch.getTag())) {
-                    loadInto.setAge(new StringWithCustomTags(ch));
-                } else if (Tag.CAUSE.equalsText(ch.getTag())) {
-                    loadInto.setCause(new StringWithCustomTags(ch));
-                } else if (Tag.SOURCE.equalsText(ch.getTag())) {
-                    List<AbstractCitation> citations = loadInto.getCitations(true);
-                    new CitationListParser(gedcomParser, ch, citations).parse();
-                } else if (Tag.AGENCY.equalsText(ch.getTag())) {
-                    loadInto.setRespAgency(new StringWithCustomTags(ch));
-                } else if (Tag.PHONE.equalsText(ch.getTag())) {
-                    loadInto.getPhoneNumbers(true).add(new StringWithCustomTags(ch));
-                } else if (Tag.WEB_ADDRESS.equalsText(ch.getTag())) {
-                    loadInto.getWwwUrls(true).add(new StringWithCustomTags(ch));
-                    if (g55()) {
-                        addWarning("GEDCOM version is 5.5 but WWW URL was specified for " + loadInto.getType() + " attribute on line " + ch.getLineNum()
-                                + ", which is a GEDCOM 5.5.1 feature." + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
-                    }
-                } else if (Tag.FAX.equalsText(ch.getTag())) {
-                    loadInto.getFaxNumbers(true).add(new StringWithCustomTags(ch));
-                    if (g55()) {
-                        addWarning("GEDCOM version is 5.5 but fax was specified for " + loadInto.getType() + " attribute on line " + ch.getLineNum()
-                                + ", which is a GEDCOM 5.5.1 feature." + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
-                    }
-                } else if (Tag.EMAIL.equalsText(ch.getTag())) {
-                    loadInto.getEmails(true).add(new StringWithCustomTags(ch));
-                    if (g55()) {
-                        addWarning("GEDCOM version is 5.5 but email was specified for " + loadInto.getType() + " attribute on line " + ch.getLineNum()
-                                + ", which is a GEDCOM 5.5.1 feature." + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
-                    }
-                } else if (Tag.ADDRESS.equalsText(ch.getTag())) {
-                    Address address = new Address();
-                    loadInto.setAddress(address);
-                    new AddressParser(gedcomParser, ch, address).parse();
-                } else if (Tag.OBJECT_MULTIMEDIA.equalsText(ch.getTag())) {
-                    List<Multimedia> multimedia = loadInto.getMultimedia(true);
-                    new MultimediaLinkParser(gedcomParser, ch, multimedia).parse();
-                } else if (Tag.NOTE.equalsText(ch.getTag())) {
-                    List<Note> notes = loadInto.getNotes(true);
-                    new NoteListParser(gedcomParser, ch, notes).parse();
-                } else if (Tag.CONCATENATION.equalsText(ch.getTag())) {
-                    if (loadInto.getDescription() == null) {
-                        loadInto.setDescription(new StringWithCustomTags(ch));
-                    } else {
-                        loadInto.getDescription().setValue(loadInto.getDescription().getValue() + ch.getValue());
-                    }
-                } else {
-                    unknownTag(ch, loadInto);
+                switch (Tag.of(ch)) {
+                    case TYPE:
+                        loadInto.setSubType(new StringWithCustomTags(ch));
+                        break;
+                    case DATE:
+                        loadInto.setDate(new StringWithCustomTags(ch));
+                        loadInto.setDateSortKey(gedcomParser.getDateSortKey(ch.getValue()));
+                        break;
+                    case PLACE:
+                        Place place = new Place();
+                        loadInto.setPlace(place);
+                        new PlaceParser(gedcomParser, ch, place).parse();
+                        break;
+                    case AGE:
+                        loadInto.setAge(new StringWithCustomTags(ch));
+                        break;
+                    case CAUSE:
+                        loadInto.setCause(new StringWithCustomTags(ch));
+                        break;
+                    case SOURCE:
+                        List<AbstractCitation> citations = loadInto.getCitations(true);
+                        new CitationListParser(gedcomParser, ch, citations).parse();
+                        break;
+                    case AGENCY:
+                        loadInto.setRespAgency(new StringWithCustomTags(ch));
+                        break;
+                    case PHONE:
+                        loadInto.getPhoneNumbers(true).add(new StringWithCustomTags(ch));
+                        break;
+                    case WEB_ADDRESS:
+                        loadInto.getWwwUrls(true).add(new StringWithCustomTags(ch));
+                        if (g55()) {
+                            addGedcom551FeatureWarning(ch, "WWW URL was specified for ", loadInto.getType(), " attribute");
+                        }
+                        break;
+                    case FAX:
+                        loadInto.getFaxNumbers(true).add(new StringWithCustomTags(ch));
+                        if (g55()) {
+                            addGedcom551FeatureWarning(ch, "fax was specified for ", loadInto.getType(), " attribute");
+                        }
+                        break;
+                    case EMAIL:
+                        loadInto.getEmails(true).add(new StringWithCustomTags(ch));
+                        if (g55()) {
+                            addGedcom551FeatureWarning(ch, "email was specified for ", loadInto.getType(), " attribute");
+                        }
+                        break;
+                    case ADDRESS:
+                        Address address = new Address();
+                        loadInto.setAddress(address);
+                        new AddressParser(gedcomParser, ch, address).parse();
+                        break;
+                    case OBJECT_MULTIMEDIA:
+                        List<Multimedia> multimedia = loadInto.getMultimedia(true);
+                        new MultimediaLinkParser(gedcomParser, ch, multimedia).parse();
+                        break;
+                    case NOTE:
+                        List<Note> notes = loadInto.getNotes(true);
+                        new NoteListParser(gedcomParser, ch, notes).parse();
+                        break;
+                    case CONCATENATION:
+                        if (loadInto.getDescription() == null) {
+                            loadInto.setDescription(new StringWithCustomTags(ch));
+                        } else {
+                            loadInto.getDescription().setValue(loadInto.getDescription().getValue() + ch.getValue());
+                        }
+                        break;
+                    default:
+                        unknownTag(ch, loadInto);
+                        break;
                 }
             }
         }
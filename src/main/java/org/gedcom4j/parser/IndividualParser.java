@@ -55,93 +55,117 @@ class IndividualParser extends AbstractParser<Individual> {
     void parse() {
         if (stringTree.getChildren() != null) {
             for (StringTree ch : stringTree.getChildren()) {
-                if (Tag.NAME.equalsText(ch.getTag())) {
-                    PersonalName pn = new PersonalName();
-                    loadInto.getNames(true).add(pn);
-                    new PersonalNameParser(gedcomParser, ch, pn).parse();
-                } else if (Tag.SEX.equalsText(ch.getTag())) {
-                    loadInto.setSex(new StringWithCustomTags(ch));
-                } else if (Tag.ADDRESS.equalsText(ch.getTag())) {
-                    Address address = new Address();
-                    loadInto.setAddress(address);
-                    new AddressParser(gedcomParser, ch, address).parse();
-                } else if (Tag.PHONE.equalsText(ch.getTag())) {
-                    loadInto.getPhoneNumbers(true).add(new StringWithCustomTags(ch));
-                } else if (Tag.WEB_ADDRESS.equalsText(ch.getTag())) {
-                    loadInto.getWwwUrls(true).add(new StringWithCustomTags(ch));
-                    if (g55()) {
-                        addWarning("GEDCOM version is 5.5 but WWW URL was specified for individual " + loadInto.getXref() + " on line " + ch.getLineNum()
-                                + ", which is a GEDCOM 5.5.1 feature." + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
-                    }
-                } else if (Tag.FAX.equalsText(ch.getTag())) {
-                    loadInto.getFaxNumbers(true).add(new StringWithCustomTags(ch));
-                    if (g55()) {
-                        addWarning("GEDCOM version is 5.5 but fax was specified for individual " + loadInto.getXref() + "on line " + ch.getLineNum()
-                                + ", which is a GEDCOM 5.5.1 feature." + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
-                    }
-                } else if (Tag.EMAIL.equalsText(ch.getTag())) {
-                    loadInto.getEmails(true).add(new StringWithCustomTags(ch));
-                    if (g55()) {
-                        addWarning("GEDCOM version is 5.5 but email was specified for individual " + loadInto.getXref() + " on line " + ch.getLineNum()
-                                + ", which is a GEDCOM 5.5.1 feature." + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
-                    }
-                } else if (IndividualEventType.isValidTag(ch.getTag())) {
-                    IndividualEvent event = new IndividualEvent();
-                    loadInto.getEvents(true).add(event);
-                    new IndividualEventParser(gedcomParser, ch, event).parse();
-                } else if (IndividualAttributeType.isValidTag(ch.getTag())) {
-                    IndividualAttribute a = new IndividualAttribute();
-                    loadInto.getAttributes(true).add(a);
-                    new IndividualAttributeParser(gedcomParser, ch, a).parse();
-                } else if (LdsIndividualOrdinanceType.isValidTag(ch.getTag())) {
-                    LdsIndividualOrdinance ord = new LdsIndividualOrdinance();
-                    loadInto.getLdsIndividualOrdinances(true).add(ord);
-                    new LdsIndividualOrdinanceParser(gedcomParser, ch, ord).parse();
-                } else if (Tag.NOTE.equalsText(ch.getTag())) {
-                    List<Note> notes = loadInto.getNotes(true);
-                    new NoteListParser(gedcomParser, ch, notes).parse();
-                } else if (Tag.CHANGED_DATETIME.equalsText(ch.getTag())) {
-                    ChangeDate changeDate = new ChangeDate();
-                    loadInto.setChangeDate(changeDate);
-                    new ChangeDateParser(gedcomParser, ch, changeDate).parse();
-                } else if (Tag.RECORD_ID_NUMBER.equalsText(ch.getTag())) {
-                    loadInto.setRecIdNumber(new StringWithCustomTags(ch));
-                } else if (Tag.REGISTRATION_FILE_NUMBER.equalsText(ch.getTag())) {
-                    loadInto.setPermanentRecFileNumber(new StringWithCustomTags(ch));
-                } else if (Tag.OBJECT_MULTIMEDIA.equalsText(ch.getTag())) {
-                    List<Multimedia> multimedia = loadInto.getMultimedia(true);
-                    new MultimediaLinkParser(gedcomParser, ch, multimedia).parse();
-                } else if (Tag.RESTRICTION.equalsText(ch.getTag())) {
-                    loadInto.setRestrictionNotice(new StringWithCustomTags(ch));
-                } else if (Tag.SOURCE.equalsText(ch.getTag())) {
-                    List<AbstractCitation> citations = loadInto.getCitations(true);
-                    new CitationListParser(gedcomParser, ch, citations).parse();
-                } else if (Tag.ALIAS.equalsText(ch.getTag())) {
-                    loadInto.getAliases(true).add(new StringWithCustomTags(ch));
-                } else if (Tag.FAMILY_WHERE_SPOUSE.equalsText(ch.getTag())) {
-                    loadFamilyWhereSpouse(ch, loadInto.getFamiliesWhereSpouse(true));
-                } else if (Tag.FAMILY_WHERE_CHILD.equalsText(ch.getTag())) {
-                    FamilyChild fc = new FamilyChild();
-                    loadInto.getFamiliesWhereChild(true).add(fc);
-                    new FamilyChildParser(gedcomParser, ch, fc).parse();
-                } else if (Tag.ASSOCIATION.equalsText(ch.getTag())) {
-                    Association a = new Association();
-                    loadInto.getAssociations(true).add(a);
-                    new AssociationParser(gedcomParser, ch, a).parse();
-                } else if (Tag.ANCESTOR_INTEREST.equalsText(ch.getTag())) {
-                    loadInto.getAncestorInterest(true).add(getSubmitter(ch.getValue()));
-                } else if (Tag.DESCENDANT_INTEREST.equalsText(ch.getTag())) {
-                    loadInto.getDescendantInterest(true).add(getSubmitter(ch.getValue()));
-                } else if (Tag.ANCESTRAL_FILE_NUMBER.equalsText(ch.getTag())) {
-                    loadInto.setAncestralFileNumber(new StringWithCustomTags(ch));
-                } else if (Tag.REFERENCE.equalsText(ch.getTag())) {
-                    UserReference u = new UserReference();
-                    loadInto.getUserReferences(true).add(u);
-                    new UserReferenceParser(gedcomParser, ch, u).parse();
-                } else if (Tag.SUBMITTER.equalsText(ch.getTag())) {
-                    loadInto.getSubmitters(true).add(getSubmitter(ch.getValue()));
-                } else {
-                    unknownTag(ch, loadInto);
+                switch (Tag.of(ch)) {
+                    case NAME:
+                        PersonalName pn = new PersonalName();
+                        loadInto.getNames(true).add(pn);
+                        new PersonalNameParser(gedcomParser, ch, pn).parse();
+                        break;
+                    case SEX:
+                        loadInto.setSex(new StringWithCustomTags(ch));
+                        break;
+                    case ADDRESS:
+                        Address address = new Address();
+                        loadInto.setAddress(address);
+                        new AddressParser(gedcomParser, ch, address).parse();
+                        break;
+                    case PHONE:
+                        loadInto.getPhoneNumbers(true).add(new StringWithCustomTags(ch));
+                        break;
+                    case WEB_ADDRESS:
+                        loadInto.getWwwUrls(true).add(new StringWithCustomTags(ch));
+                        if (g55()) {
+                            addGedcom551FeatureWarning(ch, "WWW URL was specified for individual ", loadInto.getXref());
+                        }
+                        break;
+                    case FAX:
+                        loadInto.getFaxNumbers(true).add(new StringWithCustomTags(ch));
+                        if (g55()) {
+                            addGedcom551FeatureWarning(ch, "fax was specified for individual ", loadInto.getXref());
+                        }
+                        break;
+                    case EMAIL:
+                        loadInto.getEmails(true).add(new StringWithCustomTags(ch));
+                        if (g55()) {
+                            addGedcom551FeatureWarning(ch, "email was specified for individual ", loadInto.getXref());
+                        }
+                        break;
+                    case NOTE:
+                        List<Note> notes = loadInto.getNotes(true);
+                        new NoteListParser(gedcomParser, ch, notes).parse();
+                        break;
+                    case CHANGED_DATETIME:
+                        ChangeDate changeDate = new ChangeDate();
+                        loadInto.setChangeDate(changeDate);
+                        new ChangeDateParser(gedcomParser, ch, changeDate).parse();
+                        break;
+                    case RECORD_ID_NUMBER:
+                        loadInto.setRecIdNumber(new StringWithCustomTags(ch));
+                        break;
+                    case REGISTRATION_FILE_NUMBER:
+                        loadInto.setPermanentRecFileNumber(new StringWithCustomTags(ch));
+                        break;
+                    case OBJECT_MULTIMEDIA:
+                        List<Multimedia> multimedia = loadInto.getMultimedia(true);
+                        new MultimediaLinkParser(gedcomParser, ch, multimedia).parse();
+                        break;
+                    case RESTRICTION:
+                        loadInto.setRestrictionNotice(new StringWithCustomTags(ch));
+                        break;
+                    case SOURCE:
+                        List<AbstractCitation> citations = loadInto.getCitations(true);
+                        new CitationListParser(gedcomParser, ch, citations).parse();
+                        break;
+                    case ALIAS:
+                        loadInto.getAliases(true).add(new StringWithCustomTags(ch));
+                        break;
+                    case FAMILY_WHERE_SPOUSE:
+                        loadFamilyWhereSpouse(ch, loadInto.getFamiliesWhereSpouse(true));
+                        break;
+                    case FAMILY_WHERE_CHILD:
+                        FamilyChild fc = new FamilyChild();
+                        loadInto.getFamiliesWhereChild(true).add(fc);
+                        new FamilyChildParser(gedcomParser, ch, fc).parse();
+                        break;
+                    case ASSOCIATION:
+                        Association association = new Association();
+                        loadInto.getAssociations(true).add(association);
+                        new AssociationParser(gedcomParser, ch, association).parse();
+                        break;
+                    case ANCESTOR_INTEREST:
+                        loadInto.getAncestorInterest(true).add(getSubmitter(ch.getValue()));
+                        break;
+                    case DESCENDANT_INTEREST:
+                        loadInto.getDescendantInterest(true).add(getSubmitter(ch.getValue()));
+                        break;
+                    case ANCESTRAL_FILE_NUMBER:
+                        loadInto.setAncestralFileNumber(new StringWithCustomTags(ch));
+                        break;
+                    case REFERENCE:
+                        UserReference u = new UserReference();
+                        loadInto.getUserReferences(true).add(u);
+                        new UserReferenceParser(gedcomParser, ch, u).parse();
+                        break;
+                    case SUBMITTER:
+                        loadInto.getSubmitters(true).add(getSubmitter(ch.getValue()));
+                        break;
+                    default:
+                        if (IndividualEventType.isValidTag(ch.getTag())) {
+                            IndividualEvent event = new IndividualEvent();
+                            loadInto.getEvents(true).add(event);
+                            new IndividualEventParser(gedcomParser, ch, event).parse();
+                        } else if (IndividualAttributeType.isValidTag(ch.getTag())) {
+                            IndividualAttribute attribute = new IndividualAttribute();
+                            loadInto.getAttributes(true).add(attribute);
+                            new IndividualAttributeParser(gedcomParser, ch, attribute).parse();
+                        } else if (LdsIndividualOrdinanceType.isValidTag(ch.getTag())) {
+                            LdsIndividualOrdinance ord = new LdsIndividualOrdinance();
+                            loadInto.getLdsIndividualOrdinances(true).add(ord);
+                            new LdsIndividualOrdinanceParser(gedcomParser, ch, ord).parse();
+                        } else {
+                            unknownTag(ch, loadInto);
+                        }
+                        break;
                 }
             }
         }
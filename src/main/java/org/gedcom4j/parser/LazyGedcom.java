@@ -0,0 +1,624 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.Charset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.io.reader.GedcomFileReader;
+import org.gedcom4j.model.AbstractElement;
+import org.gedcom4j.model.Family;
+import org.gedcom4j.model.Gedcom;
+import org.gedcom4j.model.Header;
+import org.gedcom4j.model.Individual;
+import org.gedcom4j.model.Multimedia;
+import org.gedcom4j.model.Note;
+import org.gedcom4j.model.Repository;
+import org.gedcom4j.model.Source;
+import org.gedcom4j.model.StringTree;
+import org.gedcom4j.model.Submission;
+import org.gedcom4j.model.Submitter;
+
+/**
+ * <p>
+ * A GEDCOM file whose records are loaded only when they are asked for. When the file is opened, it is scanned once to
+ * build an index of where each root-level record starts, and the header, submission and trailer are loaded; after that,
+ * each record is read and parsed from its place in the file the first time it is requested. The most recently used
+ * records are cached, up to {@link #getMaxCachedRecords()} of them, so memory use stays bounded no matter how big the
+ * file is. Get one of these from {@link GedcomParser#loadLazily(File)}.
+ * </p>
+ * <p>
+ * As when streaming with a {@link GedcomRecordHandler}, cross-references inside a lazily loaded record (for example,
+ * the families an individual is a child in) point to placeholder objects that have only their xref filled in. Use the
+ * getters on this class with that xref to get the complete record.
+ * </p>
+ * <p>
+ * Errors and warnings found while parsing are added to the parser's {@link GedcomParser#getErrors()} and
+ * {@link GedcomParser#getWarnings()} as each record is loaded, so they only cover the records loaded so far. This class
+ * is thread-safe, but records are loaded one at a time. Remember to {@link #close()} it when finished, to release the
+ * file.
+ * </p>
+ * 
+ * @author frizbog
+ * @since 3.0.2
+ */
+public class LazyGedcom implements Closeable {
+
+    /**
+     * The default maximum number of records to keep in the cache
+     */
+    public static final int DEFAULT_MAX_CACHED_RECORDS = 1000;
+
+    /**
+     * The parser that records are loaded with. Its {@link GedcomParser#getGedcom()} holds the header, submission and
+     * trailer, and is used as scratch space for loading each record.
+     */
+    private final GedcomParser parser;
+
+    /**
+     * The index of the records in the file
+     */
+    private final RecordIndex index;
+
+    /**
+     * The file, open for reading records from
+     */
+    private final RandomAccessFile file;
+
+    /**
+     * The lines to put in front of each record's bytes so that it is read with the same character encoding as the
+     * whole file. Consists of a header containing just the character set (if any), preceded by the UTF-8 byte order
+     * marker for UTF-8 files that have one.
+     */
+    private final byte[] prefix;
+
+    /**
+     * The number of lines in the {@link #prefix}
+     */
+    private final int prefixLines;
+
+    /**
+     * The records that have been loaded recently, keyed by their position in the index, least recently used first
+     */
+    private final LinkedHashMap<Integer, AbstractElement> cache = new LinkedHashMap<Integer, AbstractElement>(16, 0.75f, true) {
+        /**
+         * Serial version UID
+         */
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, AbstractElement> eldest) {
+            return size() > maxCachedRecords;
+        }
+    };
+
+    /**
+     * The maximum number of records to keep in the cache
+     */
+    private int maxCachedRecords = DEFAULT_MAX_CACHED_RECORDS;
+
+    /**
+     * Constructor. Loads the header, submission and trailer.
+     * 
+     * @param parser
+     *            the parser to load records with
+     * @param gedcomFile
+     *            the file to read
+     * @param index
+     *            the index of the file
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the header can't be parsed
+     */
+    LazyGedcom(GedcomParser parser, File gedcomFile, RecordIndex index) throws IOException, GedcomParserException {
+        this.parser = parser;
+        this.index = index;
+        file = new RandomAccessFile(gedcomFile, "r");
+        try {
+            loadHeader();
+            String prefixText = "0 HEAD\n";
+            if (index.layout == RecordIndex.Layout.SINGLE_BYTE) {
+                prefixText += "1 CHAR " + getCharacterSetName() + "\n";
+            }
+            prefixLines = (index.layout == RecordIndex.Layout.SINGLE_BYTE ? 2 : 1);
+            prefix = encodePrefix(prefixText);
+            loadSpecialRecord(Tag.SUBMISSION.tagText);
+            loadSpecialRecord(Tag.TRAILER.tagText);
+        } catch (IOException e) {
+            file.close();
+            throw e;
+        } catch (GedcomParserException e) {
+            file.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Close the file. Records that have already been loaded can still be used, but no more can be loaded.
+     * 
+     * @throws IOException
+     *             if the file can't be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        cache.clear();
+        file.close();
+    }
+
+    /**
+     * Get the number of records in the cache right now
+     * 
+     * @return the number of records in the cache right now
+     */
+    public synchronized int getCachedRecordCount() {
+        return cache.size();
+    }
+
+    /**
+     * Get the errors found while parsing the records loaded so far
+     * 
+     * @return the errors found while parsing the records loaded so far
+     */
+    public List<String> getErrors() {
+        return parser.getErrors();
+    }
+
+    /**
+     * Get the family with the supplied xref, loading it if needed
+     * 
+     * @param xref
+     *            the xref of the family
+     * @return the family, or null if there is no family with that xref in the file
+     * @throws IOException
+     *             if the record can't be read from the file
+     * @throws GedcomParserException
+     *             if the record can't be parsed
+     */
+    public Family getFamily(String xref) throws IOException, GedcomParserException {
+        return (Family) getRecord(Tag.FAMILY.tagText, xref);
+    }
+
+    /**
+     * Get the xrefs of all the families in the file, in the order they appear
+     * 
+     * @return the xrefs of all the families in the file
+     */
+    public List<String> getFamilyXrefs() {
+        return index.getXrefs(Tag.FAMILY.tagText);
+    }
+
+    /**
+     * Get the header of the file
+     * 
+     * @return the header of the file
+     */
+    public Header getHeader() {
+        return parser.getGedcom().getHeader();
+    }
+
+    /**
+     * Get the individual with the supplied xref, loading it if needed
+     * 
+     * @param xref
+     *            the xref of the individual
+     * @return the individual, or null if there is no individual with that xref in the file
+     * @throws IOException
+     *             if the record can't be read from the file
+     * @throws GedcomParserException
+     *             if the record can't be parsed
+     */
+    public Individual getIndividual(String xref) throws IOException, GedcomParserException {
+        return (Individual) getRecord(Tag.INDIVIDUAL.tagText, xref);
+    }
+
+    /**
+     * Get the xrefs of all the individuals in the file, in the order they appear
+     * 
+     * @return the xrefs of all the individuals in the file
+     */
+    public List<String> getIndividualXrefs() {
+        return index.getXrefs(Tag.INDIVIDUAL.tagText);
+    }
+
+    /**
+     * Get the maximum number of records to keep in the cache
+     * 
+     * @return the maximum number of records to keep in the cache
+     */
+    public synchronized int getMaxCachedRecords() {
+        return maxCachedRecords;
+    }
+
+    /**
+     * Get the multimedia record with the supplied xref, loading it if needed
+     * 
+     * @param xref
+     *            the xref of the multimedia record
+     * @return the multimedia record, or null if there is no multimedia record with that xref in the file
+     * @throws IOException
+     *             if the record can't be read from the file
+     * @throws GedcomParserException
+     *             if the record can't be parsed
+     */
+    public Multimedia getMultimedia(String xref) throws IOException, GedcomParserException {
+        return (Multimedia) getRecord(Tag.OBJECT_MULTIMEDIA.tagText, xref);
+    }
+
+    /**
+     * Get the xrefs of all the multimedia records in the file, in the order they appear
+     * 
+     * @return the xrefs of all the multimedia records in the file
+     */
+    public List<String> getMultimediaXrefs() {
+        return index.getXrefs(Tag.OBJECT_MULTIMEDIA.tagText);
+    }
+
+    /**
+     * Get the note with the supplied xref, loading it if needed
+     * 
+     * @param xref
+     *            the xref of the note
+     * @return the note, or null if there is no root-level note with that xref in the file
+     * @throws IOException
+     *             if the record can't be read from the file
+     * @throws GedcomParserException
+     *             if the record can't be parsed
+     */
+    public Note getNote(String xref) throws IOException, GedcomParserException {
+        return (Note) getRecord(Tag.NOTE.tagText, xref);
+    }
+
+    /**
+     * Get the xrefs of all the root-level notes in the file, in the order they appear
+     * 
+     * @return the xrefs of all the root-level notes in the file
+     */
+    public List<String> getNoteXrefs() {
+        return index.getXrefs(Tag.NOTE.tagText);
+    }
+
+    /**
+     * Get the repository with the supplied xref, loading it if needed
+     * 
+     * @param xref
+     *            the xref of the repository
+     * @return the repository, or null if there is no repository with that xref in the file
+     * @throws IOException
+     *             if the record can't be read from the file
+     * @throws GedcomParserException
+     *             if the record can't be parsed
+     */
+    public Repository getRepository(String xref) throws IOException, GedcomParserException {
+        return (Repository) getRecord(Tag.REPOSITORY.tagText, xref);
+    }
+
+    /**
+     * Get the xrefs of all the repositories in the file, in the order they appear
+     * 
+     * @return the xrefs of all the repositories in the file
+     */
+    public List<String> getRepositoryXrefs() {
+        return index.getXrefs(Tag.REPOSITORY.tagText);
+    }
+
+    /**
+     * Get the source with the supplied xref, loading it if needed
+     * 
+     * @param xref
+     *            the xref of the source
+     * @return the source, or null if there is no source with that xref in the file
+     * @throws IOException
+     *             if the record can't be read from the file
+     * @throws GedcomParserException
+     *             if the record can't be parsed
+     */
+    public Source getSource(String xref) throws IOException, GedcomParserException {
+        return (Source) getRecord(Tag.SOURCE.tagText, xref);
+    }
+
+    /**
+     * Get the xrefs of all the sources in the file, in the order they appear
+     * 
+     * @return the xrefs of all the sources in the file
+     */
+    public List<String> getSourceXrefs() {
+        return index.getXrefs(Tag.SOURCE.tagText);
+    }
+
+    /**
+     * Get the submission record of the file
+     * 
+     * @return the submission record of the file, or null if there isn't one
+     */
+    public Submission getSubmission() {
+        return parser.getGedcom().getSubmission();
+    }
+
+    /**
+     * Get the submitter with the supplied xref, loading it if needed
+     * 
+     * @param xref
+     *            the xref of the submitter
+     * @return the submitter, or null if there is no submitter with that xref in the file
+     * @throws IOException
+     *             if the record can't be read from the file
+     * @throws GedcomParserException
+     *             if the record can't be parsed
+     */
+    public Submitter getSubmitter(String xref) throws IOException, GedcomParserException {
+        return (Submitter) getRecord(Tag.SUBMITTER.tagText, xref);
+    }
+
+    /**
+     * Get the xrefs of all the submitters in the file, in the order they appear
+     * 
+     * @return the xrefs of all the submitters in the file
+     */
+    public List<String> getSubmitterXrefs() {
+        return index.getXrefs(Tag.SUBMITTER.tagText);
+    }
+
+    /**
+     * Get the warnings found while parsing the records loaded so far
+     * 
+     * @return the warnings found while parsing the records loaded so far
+     */
+    public List<String> getWarnings() {
+        return parser.getWarnings();
+    }
+
+    /**
+     * Set the maximum number of records to keep in the cache. If there are more than this in the cache already, the
+     * least recently used ones are dropped.
+     * 
+     * @param maxCachedRecords
+     *            the maximum number of records to keep in the cache. Must be at least 1.
+     */
+    public synchronized void setMaxCachedRecords(int maxCachedRecords) {
+        if (maxCachedRecords < 1) {
+            throw new IllegalArgumentException("At least one record must be cached");
+        }
+        this.maxCachedRecords = maxCachedRecords;
+        while (cache.size() > maxCachedRecords) {
+            cache.remove(cache.keySet().iterator().next());
+        }
+    }
+
+    /**
+     * Encode the prefix for each record's bytes in the same way as the file
+     * 
+     * @param prefixText
+     *            the text of the prefix
+     * @return the bytes of the prefix
+     */
+    private byte[] encodePrefix(String prefixText) {
+        switch (index.layout) {
+            case UTF16_BIG_ENDIAN:
+                return prefixText.getBytes(Charset.forName("UTF-16BE"));
+            case UTF16_LITTLE_ENDIAN:
+                return prefixText.getBytes(Charset.forName("UTF-16LE"));
+            default:
+                byte[] text = prefixText.getBytes(Charset.forName("US-ASCII"));
+                if (!index.byteOrderMarker) {
+                    return text;
+                }
+                byte[] result = new byte[text.length + 3];
+                result[0] = (byte) 0xEF;
+                result[1] = (byte) 0xBB;
+                result[2] = (byte) 0xBF;
+                System.arraycopy(text, 0, result, 3, text.length);
+                return result;
+        }
+    }
+
+    /**
+     * Get the name of the character set in the header, as the file reader would have found it
+     * 
+     * @return the name of the character set in the header. Defaults to ANSEL, like the file reader.
+     */
+    private String getCharacterSetName() {
+        Header header = parser.getGedcom().getHeader();
+        if (header == null || header.getCharacterSet() == null || header.getCharacterSet().getCharacterSetName() == null
+                || header.getCharacterSet().getCharacterSetName().getValue() == null) {
+            return "ANSEL";
+        }
+        return header.getCharacterSet().getCharacterSetName().getValue();
+    }
+
+    /**
+     * Get a record, from the cache if it is there or from the file if not
+     * 
+     * @param tag
+     *            the tag of the record
+     * @param xref
+     *            the xref of the record
+     * @return the record, or null if there is no record with that tag and xref in the file (or records with that tag
+     *         aren't being loaded)
+     * @throws IOException
+     *             if the record can't be read from the file
+     * @throws GedcomParserException
+     *             if the record can't be parsed
+     */
+    private synchronized AbstractElement getRecord(String tag, String xref) throws IOException, GedcomParserException {
+        int r = index.find(tag, xref);
+        if (r < 0 || !parser.getLoadOptions().isRecordLoaded(tag)) {
+            return null;
+        }
+        Integer key = Integer.valueOf(r);
+        AbstractElement result = cache.get(key);
+        if (result == null) {
+            for (int d = r; d >= 0; d = index.nextDuplicate[d]) {
+                loadRecord(d);
+            }
+            result = takeLoadedRecord(tag, xref);
+            cache.put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Load the header, from the start of the file up to the end of the header record
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the header can't be parsed
+     */
+    private void loadHeader() throws IOException, GedcomParserException {
+        int r = index.indexOf(Tag.HEADER.tagText);
+        if (r < 0) {
+            return;
+        }
+        long end = index.getEnd(r);
+        GedcomRecordIterator records = new GedcomRecordIterator(parser, new GedcomFileReader(parser, new BufferedInputStream(
+                new ByteArrayInputStream(readBytes(0, end, null)))), null);
+        StringTree rootLevelItem = records.readRootItem();
+        while (rootLevelItem != null) {
+            parser.loadRootItem(rootLevelItem);
+            rootLevelItem = records.readRootItem();
+        }
+    }
+
+    /**
+     * Read a record from the file and load it into the parser's scratch {@link Gedcom}
+     * 
+     * @param r
+     *            the index of the record
+     * @throws IOException
+     *             if the record can't be read from the file
+     * @throws GedcomParserException
+     *             if the record can't be parsed
+     */
+    private void loadRecord(int r) throws IOException, GedcomParserException {
+        byte[] bytes = readBytes(index.starts[r], index.getEnd(r), prefix);
+        parser.setLineNum(index.lineNums[r] - 1 - prefixLines);
+        GedcomRecordIterator records = new GedcomRecordIterator(parser, new GedcomFileReader(parser, new BufferedInputStream(
+                new ByteArrayInputStream(bytes))), null);
+        // The first root-level item is the header from the prefix, which is only there to set the encoding
+        StringTree rootLevelItem = records.readRootItem();
+        rootLevelItem = records.readRootItem();
+        while (rootLevelItem != null) {
+            parser.loadRootItem(rootLevelItem);
+            rootLevelItem = records.readRootItem();
+        }
+    }
+
+    /**
+     * Load a record that isn't cross-referenced, and so stays in the parser's {@link Gedcom} rather than being cached
+     * 
+     * @param tag
+     *            the tag of the record
+     * @throws IOException
+     *             if the record can't be read from the file
+     * @throws GedcomParserException
+     *             if the record can't be parsed
+     */
+    private void loadSpecialRecord(String tag) throws IOException, GedcomParserException {
+        int r = index.indexOf(tag);
+        if (r >= 0) {
+            loadRecord(r);
+            parser.clearRecords();
+        }
+    }
+
+    /**
+     * Read some bytes from the file
+     * 
+     * @param start
+     *            the offset of the first byte to read
+     * @param end
+     *            the offset just past the last byte to read
+     * @param before
+     *            bytes to put in front of those read from the file, or null if none
+     * @return the bytes
+     * @throws IOException
+     *             if the file can't be read
+     */
+    private byte[] readBytes(long start, long end, byte[] before) throws IOException {
+        int beforeLength = (before == null ? 0 : before.length);
+        byte[] result = new byte[beforeLength + (int) (end - start)];
+        if (before != null) {
+            System.arraycopy(before, 0, result, 0, beforeLength);
+        }
+        file.seek(start);
+        file.readFully(result, beforeLength, result.length - beforeLength);
+        return result;
+    }
+
+    /**
+     * Take a record that has just been loaded out of the parser's scratch {@link Gedcom}, and discard everything else
+     * that was put there while loading it (placeholders for the records it refers to)
+     * 
+     * @param tag
+     *            the tag of the record
+     * @param xref
+     *            the xref of the record
+     * @return the record
+     */
+    private AbstractElement takeLoadedRecord(String tag, String xref) {
+        Gedcom g = parser.getGedcom();
+        AbstractElement result;
+        switch (Tag.forText(tag)) {
+            case FAMILY:
+                result = g.getFamilies().get(xref);
+                break;
+            case INDIVIDUAL:
+                result = g.getIndividuals().get(xref);
+                break;
+            case NOTE:
+                result = g.getNotes().get(xref);
+                break;
+            case OBJECT_MULTIMEDIA:
+                result = g.getMultimedia().get(xref);
+                break;
+            case REPOSITORY:
+                result = g.getRepositories().get(xref);
+                break;
+            case SOURCE:
+                result = g.getSources().get(xref);
+                break;
+            case SUBMITTER:
+                result = g.getSubmitters().get(xref);
+                break;
+            default:
+                result = null;
+                break;
+        }
+        parser.clearRecords();
+        return result;
+    }
+}
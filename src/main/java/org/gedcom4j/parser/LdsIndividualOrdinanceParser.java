@@ -57,26 +57,36 @@ class LdsIndividualOrdinanceParser extends AbstractParser<LdsIndividualOrdinance
         loadInto.setyNull(stringTree.getValue());
         if (stringTree.getChildren() != null) {
             for (StringTree ch : stringTree.getChildren()) {
-                if (Tag.DATE.equalsText(ch.getTag())) {
-                    loadInto.setDate(new StringWithCustomTags(ch));
-                } else if (Tag.PLACE.equalsText(ch.getTag())) {
-                    loadInto.setPlace(new StringWithCustomTags(ch));
-                } else if (Tag.STATUS.equalsText(ch.getTag())) {
-                    loadInto.setStatus(new StringWithCustomTags(ch));
-                } else if (Tag.TEMPLE.equalsText(ch.getTag())) {
-                    loadInto.setTemple(new StringWithCustomTags(ch));
-                } else if (Tag.SOURCE.equalsText(ch.getTag())) {
-                    List<AbstractCitation> citations = loadInto.getCitations(true);
-                    new CitationListParser(gedcomParser, ch, citations).parse();
-                } else if (Tag.NOTE.equalsText(ch.getTag())) {
-                    List<Note> notes = loadInto.getNotes(true);
-                    new NoteListParser(gedcomParser, ch, notes).parse();
-                } else if (Tag.FAMILY_WHERE_CHILD.equalsText(ch.getTag())) {
-                    FamilyChild fc = new FamilyChild();
-                    loadInto.setFamilyWhereChild(fc);
-                    new FamilyChildParser(gedcomParser, ch, fc).parse();
-                } else {
-                    unknownTag(ch, loadInto);
+                switch (Tag.of(ch)) {
+                    case DATE:
+                        loadInto.setDate(new StringWithCustomTags(ch));
+                        loadInto.setDateSortKey(gedcomParser.getDateSortKey(ch.getValue()));
+                        break;
+                    case PLACE:
+                        loadInto.setPlace(new StringWithCustomTags(ch));
+                        break;
+                    case STATUS:
+                        loadInto.setStatus(new StringWithCustomTags(ch));
+                        break;
+                    case TEMPLE:
+                        loadInto.setTemple(new StringWithCustomTags(ch));
+                        break;
+                    case SOURCE:
+                        List<AbstractCitation> citations = loadInto.getCitations(true);
+                        new CitationListParser(gedcomParser, ch, citations).parse();
+                        break;
+                    case NOTE:
+                        List<Note> notes = loadInto.getNotes(true);
+                        new NoteListParser(gedcomParser, ch, notes).parse();
+                        break;
+                    case FAMILY_WHERE_CHILD:
+                        FamilyChild fc = new FamilyChild();
+                        loadInto.setFamilyWhereChild(fc);
+                        new FamilyChildParser(gedcomParser, ch, fc).parse();
+                        break;
+                    default:
+                        unknownTag(ch, loadInto);
+                        break;
                 }
             }
         }
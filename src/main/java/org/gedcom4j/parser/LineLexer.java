@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import org.gedcom4j.exception.GedcomParserException;
+
+/**
+ * Breaks up a line in a GEDCOM file into its component parts - level, xref id, tag and value. Unlike copying the line
+ * into pieces up front, this class just records where each piece starts and ends in the line, so one instance can be
+ * reused for every line in the file. Strings are only made for the pieces that are asked for, and a tag the parser
+ * knows about is looked up directly from the characters of the line, so for most lines the value is the only new
+ * string.
+ * 
+ * @author frizbog
+ */
+class LineLexer {
+
+    /**
+     * The line currently being lexed
+     */
+    private String line;
+
+    /**
+     * The level of the line
+     */
+    private int level;
+
+    /**
+     * The index of the first character of the xref id, or -1 if the line has none
+     */
+    private int idStart;
+
+    /**
+     * The index just past the last character of the xref id
+     */
+    private int idEnd;
+
+    /**
+     * The index of the first character of the tag
+     */
+    private int tagStart;
+
+    /**
+     * The index just past the last character of the tag. Same as {@link #tagStart} if the line has no tag.
+     */
+    private int tagEnd;
+
+    /**
+     * The index of the first character of the value, or -1 if the line has no value
+     */
+    private int valueStart;
+
+    /**
+     * Get the level of the line
+     * 
+     * @return the level of the line
+     */
+    int getLevel() {
+        return level;
+    }
+
+    /**
+     * Get the xref id of the line
+     * 
+     * @return the xref id of the line, including the surrounding @ signs, or null if the line has none
+     */
+    String getId() {
+        if (idStart < 0) {
+            return null;
+        }
+        return line.substring(idStart, idEnd).intern();
+    }
+
+    /**
+     * Get the tag of the line, without making a string of it
+     * 
+     * @return the tag of the line, or {@link Tag#UNRECOGNIZED} if it's not a tag the parser knows about (or is missing)
+     */
+    Tag getTag() {
+        return Tag.forText(line, tagStart, tagEnd);
+    }
+
+    /**
+     * Get the text of the tag of the line. Only needed when {@link #getTag()} doesn't recognize it.
+     * 
+     * @return the text of the tag of the line, or null if the line has no tag
+     */
+    String getTagText() {
+        if (tagStart >= tagEnd) {
+            return null;
+        }
+        return line.substring(tagStart, tagEnd);
+    }
+
+    /**
+     * Get the value of the line - everything after the tag and the space following it
+     * 
+     * @return the value of the line, or null if nothing follows the tag
+     */
+    String getValue() {
+        if (valueStart < 0) {
+            return null;
+        }
+        return line.substring(valueStart);
+    }
+
+    /**
+     * Is the tag of the line a custom tag - i.e., does it begin with an underscore?
+     * 
+     * @return true if the tag of the line begins with an underscore
+     */
+    boolean isCustomTag() {
+        return tagStart < tagEnd && '_' == line.charAt(tagStart);
+    }
+
+    /**
+     * Find the pieces of a line of text from a GEDCOM file. Replaces whatever was found for the previous line.
+     * 
+     * @param lineToLex
+     *            a single line of text from the GEDCOM file
+     * @param lineNum
+     *            which line in the file this is
+     * @throws GedcomParserException
+     *             if the line does not begin with a 1 or 2 digit number for the level followed by a space
+     */
+    void lex(String lineToLex, int lineNum) throws GedcomParserException {
+        line = lineToLex;
+        int len = line.length();
+        if (len < 2) {
+            throw new GedcomParserException("Line " + lineNum + " does not begin with a 1 or 2 digit number for the level followed by a space: " + line);
+        }
+
+        int idx;
+        if (' ' == line.charAt(1)) {
+            // Second character in line is a space, so assume a 1-digit level
+            level = Character.digit(line.charAt(0), 10);
+            idx = 2;
+        } else {
+            // Second character in line is not a space, so assume a 2-digit level
+            int tens = Character.digit(line.charAt(0), 10);
+            int units = Character.digit(line.charAt(1), 10);
+            level = (tens < 0 || units < 0 ? -1 : tens * 10 + units);
+            idx = 3;
+        }
+        if (level < 0) {
+            throw new GedcomParserException("Line " + lineNum + " does not begin with a 1 or 2 digit number for the level followed by a space: " + line);
+        }
+
+        idStart = -1;
+        idEnd = -1;
+        if (idx < len && '@' == line.charAt(idx)) {
+            idStart = idx;
+            while (idx < len && line.charAt(idx) != ' ') {
+                idx++;
+            }
+            idEnd = idx;
+            idx++;
+        }
+
+        tagStart = idx;
+        while (idx < len && line.charAt(idx) != ' ') {
+            idx++;
+        }
+        tagEnd = idx;
+
+        valueStart = (idx < len ? idx + 1 : -1);
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * <p>
+ * Options for loading only part of a GEDCOM file, for jobs that don't need all of it. Parts of the file that are
+ * skipped are thrown away as the lines are read, before any {@link org.gedcom4j.model.StringTree} nodes or strings are
+ * made for them, so skipping large parts of a file saves both time and memory. Options can:
+ * </p>
+ * <ul>
+ * <li>limit the root-level records that are loaded to certain types - e.g., just <code>INDI</code> and
+ * <code>FAM</code> records. The header (<code>HEAD</code>) and trailer (<code>TRLR</code>) are always loaded, since the
+ * header governs how the rest of the file is read.</li>
+ * <li>skip certain tags, along with everything beneath them, wherever they appear below the root level - e.g.,
+ * <code>NOTE</code> or <code>OBJE</code></li>
+ * <li>skip all custom tags (those beginning with an underscore), along with everything beneath them, at any level</li>
+ * </ul>
+ * <p>
+ * The options also say how the embedded binary data of GEDCOM 5.5 multimedia records (<code>BLOB</code>s) is kept - as
+ * the encoded lines of text, or decoded into bytes on the heap, outside the heap, or in temporary files. See
+ * {@link BlobStorage}.
+ * </p>
+ * <p>
+ * The options can also have the dates of events and LDS ordinances parsed as they are loaded, so each one carries a
+ * sortable key for its date (see {@link org.gedcom4j.model.DateSortKey}) and code that sorts or compares by date
+ * doesn't have to parse the same strings again and again.
+ * </p>
+ * <p>
+ * References to records that were skipped are treated the same way as references to records that aren't in the file:
+ * the reference points to an object with just its xref filled in. When loading into a
+ * {@link org.gedcom4j.model.Gedcom}, those placeholder objects are <i>not</i> left in the maps of records for skipped
+ * record types - so, for example, if sources are skipped, {@link org.gedcom4j.model.Gedcom#getSources()} will be empty
+ * even if the individuals that were loaded cite sources.
+ * </p>
+ * <p>
+ * Set the options on a parser with {@link GedcomParser#setLoadOptions(LoadOptions)} before loading. By default,
+ * everything is loaded.
+ * </p>
+ * 
+ * @author frizbog
+ * @since 3.0.2
+ */
+public class LoadOptions {
+
+    /**
+     * The tags of the root-level records to load, or null to load all of them
+     */
+    private Set<String> recordTagsToLoad;
+
+    /**
+     * The tags to skip, along with everything beneath them, below the root level
+     */
+    private Set<String> tagsToSkip = Collections.emptySet();
+
+    /**
+     * Whether to skip custom tags (those beginning with an underscore), along with everything beneath them
+     */
+    private boolean skipCustomTags;
+
+    /**
+     * How embedded binary data is kept
+     */
+    private BlobStorage blobStorage = BlobStorage.TEXT;
+
+    /**
+     * The directory to create temporary files for embedded binary data in, or null for the default temporary directory
+     */
+    private File blobDirectory;
+
+    /**
+     * Whether the dates of events and LDS ordinances are parsed as they are loaded
+     */
+    private boolean parsingDates;
+
+    /**
+     * Get the directory that temporary files for embedded binary data are created in, when using
+     * {@link BlobStorage#TEMP_FILE}
+     * 
+     * @return the directory, or null if the default temporary directory is used
+     */
+    public File getBlobDirectory() {
+        return blobDirectory;
+    }
+
+    /**
+     * Get how embedded binary data (<code>BLOB</code>s) is kept
+     * 
+     * @return how embedded binary data is kept
+     */
+    public BlobStorage getBlobStorage() {
+        return blobStorage;
+    }
+
+    /**
+     * Get the tags of the root-level records to load
+     * 
+     * @return the tags of the root-level records to load, or null if all of them are loaded
+     */
+    public Set<String> getRecordTagsToLoad() {
+        return recordTagsToLoad;
+    }
+
+    /**
+     * Get the tags that are skipped, along with everything beneath them, below the root level
+     * 
+     * @return the tags that are skipped below the root level. Never null.
+     */
+    public Set<String> getTagsToSkip() {
+        return tagsToSkip;
+    }
+
+    /**
+     * Are the dates of events and LDS ordinances parsed as they are loaded?
+     * 
+     * @return true if the dates of events and LDS ordinances are parsed as they are loaded
+     */
+    public boolean isParsingDates() {
+        return parsingDates;
+    }
+
+    /**
+     * Are custom tags (those beginning with an underscore) skipped, along with everything beneath them?
+     * 
+     * @return true if custom tags are skipped
+     */
+    public boolean isSkipCustomTags() {
+        return skipCustomTags;
+    }
+
+    /**
+     * Set the directory to create temporary files for embedded binary data in, when using {@link BlobStorage#TEMP_FILE}
+     * 
+     * @param blobDirectory
+     *            the directory, or null to use the default temporary directory
+     */
+    public void setBlobDirectory(File blobDirectory) {
+        this.blobDirectory = blobDirectory;
+    }
+
+    /**
+     * Set how embedded binary data (<code>BLOB</code>s) is kept
+     * 
+     * @param blobStorage
+     *            how embedded binary data is kept. Required.
+     */
+    public void setBlobStorage(BlobStorage blobStorage) {
+        if (blobStorage == null) {
+            throw new IllegalArgumentException("Blob storage is required");
+        }
+        this.blobStorage = blobStorage;
+    }
+
+    /**
+     * Set whether the dates of events and LDS ordinances are parsed as they are loaded. When they are, each distinct
+     * date string is parsed once, through the parser's {@link ParsedDateCache}, and the result is kept on the event or
+     * ordinance as a sortable key - see {@link org.gedcom4j.model.AbstractEvent#getDateSortKey()}. Dates that can't be
+     * parsed are flagged with {@link org.gedcom4j.model.DateSortKey#UNPARSEABLE}. Off by default.
+     * 
+     * @param parsingDates
+     *            true if the dates of events and LDS ordinances should be parsed as they are loaded
+     */
+    public void setParsingDates(boolean parsingDates) {
+        this.parsingDates = parsingDates;
+    }
+
+    /**
+     * Set the types of root-level records to load. Records of other types are skipped, except for the header and
+     * trailer, which are always loaded.
+     * 
+     * @param tags
+     *            the tags of the root-level records to load - e.g., <code>"INDI", "FAM"</code>. Pass null to load all
+     *            records.
+     */
+    public void setRecordTagsToLoad(String... tags) {
+        if (tags == null) {
+            recordTagsToLoad = null;
+        } else {
+            recordTagsToLoad = Collections.unmodifiableSet(new HashSet<String>(Arrays.asList(tags)));
+        }
+    }
+
+    /**
+     * Set whether to skip custom tags (those beginning with an underscore), along with everything beneath them, at any
+     * level - including custom root-level records
+     * 
+     * @param skipCustomTags
+     *            true to skip custom tags
+     */
+    public void setSkipCustomTags(boolean skipCustomTags) {
+        this.skipCustomTags = skipCustomTags;
+    }
+
+    /**
+     * Set the tags to skip, along with everything beneath them, wherever they appear below the root level
+     * 
+     * @param tags
+     *            the tags to skip - e.g., <code>"NOTE", "OBJE"</code>. Pass none to skip nothing.
+     */
+    public void setTagsToSkip(String... tags) {
+        if (tags == null || tags.length == 0) {
+            tagsToSkip = Collections.emptySet();
+        } else {
+            tagsToSkip = Collections.unmodifiableSet(new HashSet<String>(Arrays.asList(tags)));
+        }
+    }
+
+    /**
+     * Is the supplied root-level record type loaded?
+     * 
+     * @param tag
+     *            the tag of the root-level record
+     * @return true if records with that tag are loaded
+     */
+    boolean isRecordLoaded(String tag) {
+        if (Tag.HEADER.equalsText(tag) || Tag.TRAILER.equalsText(tag)) {
+            return true;
+        }
+        if (skipCustomTags && tag != null && tag.startsWith("_")) {
+            return false;
+        }
+        return recordTagsToLoad == null || recordTagsToLoad.contains(tag);
+    }
+
+    /**
+     * Should the line just lexed be skipped, along with everything beneath it? Only makes a string out of the tag if it's
+     * one the parser doesn't know about and there are specific tags to skip.
+     * 
+     * @param lexer
+     *            the lexer holding the line
+     * @param tag
+     *            the tag of the line, as found by the lexer
+     * @return true if the line, and everything beneath it, should be skipped
+     */
+    boolean isSkipped(LineLexer lexer, Tag tag) {
+        if (skipCustomTags && lexer.isCustomTag()) {
+            return true;
+        }
+        if (lexer.getLevel() == 0) {
+            if (recordTagsToLoad == null || tag == Tag.HEADER || tag == Tag.TRAILER) {
+                return false;
+            }
+            return !recordTagsToLoad.contains(tag == Tag.UNRECOGNIZED ? lexer.getTagText() : tag.tagText);
+        }
+        if (tagsToSkip.isEmpty()) {
+            return false;
+        }
+        return tagsToSkip.contains(tag == Tag.UNRECOGNIZED ? lexer.getTagText() : tag.tagText);
+    }
+
+    /**
+     * Does this set of options skip anything at all?
+     * 
+     * @return true if anything might be skipped
+     */
+    boolean isSkippingAnything() {
+        return skipCustomTags || recordTagsToLoad != null || !tagsToSkip.isEmpty();
+    }
+}
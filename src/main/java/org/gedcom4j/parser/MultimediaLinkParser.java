@@ -98,14 +98,10 @@ class MultimediaLinkParser extends AbstractParser<List<Multimedia>> {
         }
         if (g55()) {
             if (fileTagCount > 1) {
-                addWarning("GEDCOM version is 5.5, but multiple files referenced in multimedia reference on line " + obje.getLineNum()
-                        + ", which is only allowed in 5.5.1. "
-                        + "Data will be loaded, but cannot be written back out unless the GEDCOM version is changed to 5.5.1");
+                gedcomParser.report(DiagnosticCode.MULTIPLE_FILES_IN_55_LINK, obje.getLineNum(), Integer.valueOf(obje.getLineNum()));
             }
             if (formTagCount == 0) {
-                addWarning("GEDCOM version is 5.5, but there is not a FORM tag in the multimedia link on line " + obje.getLineNum()
-                        + ", a scenario which is only allowed in 5.5.1. "
-                        + "Data will be loaded, but cannot be written back out unless the GEDCOM version is changed to 5.5.1");
+                gedcomParser.report(DiagnosticCode.NO_FORM_IN_55_LINK, obje.getLineNum(), Integer.valueOf(obje.getLineNum()));
             }
         }
         if (formTagCount > 1) {
@@ -134,17 +130,23 @@ class MultimediaLinkParser extends AbstractParser<List<Multimedia>> {
         m.getFileReferences(true).add(currentFileRef);
         if (objeChildren != null) {
             for (StringTree ch : objeChildren) {
-                if (Tag.FORM.equalsText(ch.getTag())) {
-                    currentFileRef.setFormat(new StringWithCustomTags(ch));
-                } else if (Tag.TITLE.equalsText(ch.getTag())) {
-                    m.setEmbeddedTitle(new StringWithCustomTags(ch));
-                } else if (Tag.FILE.equalsText(ch.getTag())) {
-                    currentFileRef.setReferenceToFile(new StringWithCustomTags(ch));
-                } else if (Tag.NOTE.equalsText(ch.getTag())) {
-                    List<Note> notes = m.getNotes(true);
-                    new NoteListParser(gedcomParser, ch, notes).parse();
-                } else {
-                    unknownTag(ch, m);
+                switch (Tag.of(ch)) {
+                    case FORM:
+                        currentFileRef.setFormat(new StringWithCustomTags(ch));
+                        break;
+                    case TITLE:
+                        m.setEmbeddedTitle(new StringWithCustomTags(ch));
+                        break;
+                    case FILE:
+                        currentFileRef.setReferenceToFile(new StringWithCustomTags(ch));
+                        break;
+                    case NOTE:
+                        List<Note> notes = m.getNotes(true);
+                        new NoteListParser(gedcomParser, ch, notes).parse();
+                        break;
+                    default:
+                        unknownTag(ch, m);
+                        break;
                 }
             }
         }
@@ -163,26 +165,29 @@ class MultimediaLinkParser extends AbstractParser<List<Multimedia>> {
     private void loadFileReferences551(Multimedia m, List<StringTree> objeChildren) {
         if (objeChildren != null) {
             for (StringTree ch : objeChildren) {
-                if (Tag.FILE.equalsText(ch.getTag())) {
-                    FileReference fr = new FileReference();
-                    m.getFileReferences(true).add(fr);
-                    new FileReference551Parser(gedcomParser, ch, fr).parse();
-                } else if (Tag.TITLE.equalsText(ch.getTag())) {
-                    if (m.getFileReferences() != null) {
-                        for (FileReference fr : m.getFileReferences()) {
-                            fr.setTitle(new StringWithCustomTags(ch.getTag().intern()));
+                switch (Tag.of(ch)) {
+                    case FILE:
+                        FileReference fileRef = new FileReference();
+                        m.getFileReferences(true).add(fileRef);
+                        new FileReference551Parser(gedcomParser, ch, fileRef).parse();
+                        break;
+                    case TITLE:
+                        if (m.getFileReferences() != null) {
+                            for (FileReference fr : m.getFileReferences()) {
+                                fr.setTitle(new StringWithCustomTags(ch.getTag().intern()));
+                            }
+                        }
+                        break;
+                    case NOTE:
+                        List<Note> notes = m.getNotes(true);
+                        new NoteListParser(gedcomParser, ch, notes).parse();
+                        if (!g55()) {
+                            gedcomParser.report(DiagnosticCode.NOTE_ON_551_LINK, ch.getLineNum(), Integer.valueOf(ch.getLineNum()));
                         }
-                    }
-                } else if (Tag.NOTE.equalsText(ch.getTag())) {
-                    List<Note> notes = m.getNotes(true);
-                    new NoteListParser(gedcomParser, ch, notes).parse();
-                    if (!g55()) {
-                        addWarning("Gedcom version was 5.5.1, but a NOTE was found on a multimedia link on line " + ch.getLineNum()
-                                + ", which is no longer supported. "
-                                + "Data will be loaded, but cannot be written back out unless the GEDCOM version is changed to 5.5");
-                    }
-                } else {
-                    unknownTag(ch, m);
+                        break;
+                    default:
+                        unknownTag(ch, m);
+                        break;
                 }
             }
         }
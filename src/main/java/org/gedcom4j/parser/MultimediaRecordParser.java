@@ -26,9 +26,17 @@
  */
 package org.gedcom4j.parser;
 
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import org.gedcom4j.io.encoding.BlobCodec;
 import org.gedcom4j.model.*;
 
 /**
@@ -37,6 +45,34 @@ import org.gedcom4j.model.*;
  */
 class MultimediaRecordParser extends AbstractParser<Multimedia> {
 
+    /**
+     * An output stream that writes into a buffer that is already big enough
+     */
+    private static class ByteBufferOutputStream extends OutputStream {
+        /**
+         * The buffer to write into
+         */
+        private final ByteBuffer buffer;
+
+        /**
+         * Constructor
+         * 
+         * @param buffer
+         *            the buffer to write into
+         */
+        ByteBufferOutputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void write(int b) {
+            buffer.put((byte) b);
+        }
+    }
+
     /**
      * Constructor
      * 
@@ -92,42 +128,55 @@ class MultimediaRecordParser extends AbstractParser<Multimedia> {
             addError("Root level multimedia record at line " + obje.getLineNum() + " had no child records");
         } else {
             for (StringTree ch : obje.getChildren()) {
-                if (Tag.FORM.equalsText(ch.getTag())) {
-                    loadInto.setEmbeddedMediaFormat(new StringWithCustomTags(ch));
-                } else if (Tag.TITLE.equalsText(ch.getTag())) {
-                    loadInto.setEmbeddedTitle(new StringWithCustomTags(ch));
-                } else if (Tag.NOTE.equalsText(ch.getTag())) {
-                    List<Note> notes = loadInto.getNotes(true);
-                    new NoteListParser(gedcomParser, ch, notes).parse();
-                } else if (Tag.SOURCE.equalsText(ch.getTag())) {
-                    List<AbstractCitation> citations = loadInto.getCitations(true);
-                    new CitationListParser(gedcomParser, ch, citations).parse();
-                } else if (Tag.BLOB.equalsText(ch.getTag())) {
-                    loadMultiLinesOfText(ch, loadInto.getBlob(true), loadInto);
-                    if (!g55()) {
-                        addWarning("GEDCOM version is 5.5.1, but a BLOB tag was found at line " + ch.getLineNum() + ". "
-                                + "Data will be loaded but will not be writeable unless GEDCOM version is changed to 5.5.1");
-                    }
-                } else if (Tag.OBJECT_MULTIMEDIA.equalsText(ch.getTag())) {
-                    List<Multimedia> continuedObjects = new ArrayList<Multimedia>();
-                    new MultimediaLinkParser(gedcomParser, ch, continuedObjects).parse();
-                    loadInto.setContinuedObject(continuedObjects.get(0));
-                    if (!g55()) {
-                        addWarning("GEDCOM version is 5.5.1, but a chained OBJE tag was found at line " + ch.getLineNum() + ". "
-                                + "Data will be loaded but will not be writeable unless GEDCOM version is changed to 5.5.1");
-                    }
-                } else if (Tag.REFERENCE.equalsText(ch.getTag())) {
-                    UserReference u = new UserReference();
-                    loadInto.getUserReferences(true).add(u);
-                    new UserReferenceParser(gedcomParser, ch, u).parse();
-                } else if (Tag.RECORD_ID_NUMBER.equalsText(ch.getTag())) {
-                    loadInto.setRecIdNumber(new StringWithCustomTags(ch));
-                } else if (Tag.CHANGED_DATETIME.equalsText(ch.getTag())) {
-                    ChangeDate changeDate = new ChangeDate();
-                    loadInto.setChangeDate(changeDate);
-                    new ChangeDateParser(gedcomParser, ch, changeDate).parse();
-                } else {
-                    unknownTag(ch, loadInto);
+                switch (Tag.of(ch)) {
+                    case FORM:
+                        loadInto.setEmbeddedMediaFormat(new StringWithCustomTags(ch));
+                        break;
+                    case TITLE:
+                        loadInto.setEmbeddedTitle(new StringWithCustomTags(ch));
+                        break;
+                    case NOTE:
+                        List<Note> notes = loadInto.getNotes(true);
+                        new NoteListParser(gedcomParser, ch, notes).parse();
+                        break;
+                    case SOURCE:
+                        List<AbstractCitation> citations = loadInto.getCitations(true);
+                        new CitationListParser(gedcomParser, ch, citations).parse();
+                        break;
+                    case BLOB:
+                        if (gedcomParser.getLoadOptions().getBlobStorage() == BlobStorage.TEXT || !loadBinaryBlob(ch)) {
+                            loadMultiLinesOfText(ch, loadInto.getBlob(true), loadInto);
+                        }
+                        if (!g55()) {
+                            addWarning("GEDCOM version is 5.5.1, but a BLOB tag was found at line " + ch.getLineNum() + ". "
+                                    + "Data will be loaded but will not be writeable unless GEDCOM version is changed to 5.5.1");
+                        }
+                        break;
+                    case OBJECT_MULTIMEDIA:
+                        List<Multimedia> continuedObjects = new ArrayList<Multimedia>();
+                        new MultimediaLinkParser(gedcomParser, ch, continuedObjects).parse();
+                        loadInto.setContinuedObject(continuedObjects.get(0));
+                        if (!g55()) {
+                            addWarning("GEDCOM version is 5.5.1, but a chained OBJE tag was found at line " + ch.getLineNum() + ". "
+                                    + "Data will be loaded but will not be writeable unless GEDCOM version is changed to 5.5.1");
+                        }
+                        break;
+                    case REFERENCE:
+                        UserReference u = new UserReference();
+                        loadInto.getUserReferences(true).add(u);
+                        new UserReferenceParser(gedcomParser, ch, u).parse();
+                        break;
+                    case RECORD_ID_NUMBER:
+                        loadInto.setRecIdNumber(new StringWithCustomTags(ch));
+                        break;
+                    case CHANGED_DATETIME:
+                        ChangeDate changeDate = new ChangeDate();
+                        loadInto.setChangeDate(changeDate);
+                        new ChangeDateParser(gedcomParser, ch, changeDate).parse();
+                        break;
+                    default:
+                        unknownTag(ch, loadInto);
+                        break;
                 }
             }
         }
@@ -145,28 +194,36 @@ class MultimediaRecordParser extends AbstractParser<Multimedia> {
         Multimedia m = getMultimedia(obje.getId());
         if (obje.getChildren() != null) {
             for (StringTree ch : obje.getChildren()) {
-                if (Tag.FILE.equalsText(ch.getTag())) {
-                    FileReference fr = new FileReference();
-                    m.getFileReferences(true).add(fr);
-                    new FileReference551Parser(gedcomParser, ch, fr).parse();
-                } else if (Tag.NOTE.equalsText(ch.getTag())) {
-                    List<Note> notes = m.getNotes(true);
-                    new NoteListParser(gedcomParser, ch, notes).parse();
-                } else if (Tag.SOURCE.equalsText(ch.getTag())) {
-                    List<AbstractCitation> citations = m.getCitations(true);
-                    new CitationListParser(gedcomParser, ch, citations).parse();
-                } else if (Tag.REFERENCE.equalsText(ch.getTag())) {
-                    UserReference u = new UserReference();
-                    m.getUserReferences(true).add(u);
-                    new UserReferenceParser(gedcomParser, ch, u).parse();
-                } else if (Tag.RECORD_ID_NUMBER.equalsText(ch.getTag())) {
-                    m.setRecIdNumber(new StringWithCustomTags(ch));
-                } else if (Tag.CHANGED_DATETIME.equalsText(ch.getTag())) {
-                    ChangeDate changeDate = new ChangeDate();
-                    m.setChangeDate(changeDate);
-                    new ChangeDateParser(gedcomParser, ch, changeDate).parse();
-                } else {
-                    unknownTag(ch, m);
+                switch (Tag.of(ch)) {
+                    case FILE:
+                        FileReference fr = new FileReference();
+                        m.getFileReferences(true).add(fr);
+                        new FileReference551Parser(gedcomParser, ch, fr).parse();
+                        break;
+                    case NOTE:
+                        List<Note> notes = m.getNotes(true);
+                        new NoteListParser(gedcomParser, ch, notes).parse();
+                        break;
+                    case SOURCE:
+                        List<AbstractCitation> citations = m.getCitations(true);
+                        new CitationListParser(gedcomParser, ch, citations).parse();
+                        break;
+                    case REFERENCE:
+                        UserReference u = new UserReference();
+                        m.getUserReferences(true).add(u);
+                        new UserReferenceParser(gedcomParser, ch, u).parse();
+                        break;
+                    case RECORD_ID_NUMBER:
+                        m.setRecIdNumber(new StringWithCustomTags(ch));
+                        break;
+                    case CHANGED_DATETIME:
+                        ChangeDate changeDate = new ChangeDate();
+                        m.setChangeDate(changeDate);
+                        new ChangeDateParser(gedcomParser, ch, changeDate).parse();
+                        break;
+                    default:
+                        unknownTag(ch, m);
+                        break;
                 }
 
             }
@@ -174,4 +231,97 @@ class MultimediaRecordParser extends AbstractParser<Multimedia> {
 
     }
 
+    /**
+     * Decode the lines of text of a BLOB into bytes, kept as set in the {@link LoadOptions}
+     * 
+     * @param blob
+     *            the node for the BLOB tag
+     * @return true if the blob was decoded, false if it couldn't be stored, and should be kept as text instead
+     */
+    private boolean loadBinaryBlob(StringTree blob) {
+        // Work out how many bytes there will be, so that storage of the right size can be set up
+        long characters = (blob.getValue() == null ? 0 : blob.getValue().length());
+        if (blob.getChildren() != null) {
+            for (StringTree ch : blob.getChildren()) {
+                if (ch.getValue() != null) {
+                    characters += ch.getValue().length();
+                }
+            }
+        }
+        long maxLength = BlobCodec.decodedLength(characters);
+        BlobStorage storage = gedcomParser.getLoadOptions().getBlobStorage();
+        if (storage != BlobStorage.TEMP_FILE && maxLength > Integer.MAX_VALUE) {
+            storage = BlobStorage.TEMP_FILE;
+        }
+
+        File file = null;
+        ByteBuffer buffer = null;
+        OutputStream out;
+        try {
+            if (storage == BlobStorage.TEMP_FILE) {
+                file = File.createTempFile("gedcom4j-blob", ".bin", gedcomParser.getLoadOptions().getBlobDirectory());
+                out = new BufferedOutputStream(new FileOutputStream(file));
+            } else {
+                buffer = (storage == BlobStorage.DIRECT_BUFFER ? ByteBuffer.allocateDirect((int) maxLength) : ByteBuffer.allocate(
+                        (int) maxLength));
+                out = new ByteBufferOutputStream(buffer);
+            }
+            BlobCodec.Decoder decoder = new BlobCodec.Decoder(out);
+            try {
+                decoder.decode(blob.getValue());
+                if (blob.getChildren() != null) {
+                    for (StringTree ch : blob.getChildren()) {
+                        switch (Tag.of(ch)) {
+                            case CONTINUATION:
+                            case CONCATENATION:
+                                decoder.decode(ch.getValue());
+                                break;
+                            default:
+                                // Handled once the data is stored - see below
+                                break;
+                        }
+                    }
+                }
+                decoder.finish();
+            } finally {
+                out.close();
+            }
+            if (decoder.getInvalidCharacters() > 0) {
+                addWarning("BLOB at line " + blob.getLineNum() + " contained " + decoder.getInvalidCharacters()
+                        + " character(s) that are not valid in BLOB data, which were ignored");
+            }
+        } catch (IOException e) {
+            if (file != null) {
+                file.delete();
+            }
+            addError("Unable to store decoded BLOB data from line " + blob.getLineNum() + " - keeping it as text instead: " + e.getMessage());
+            return false;
+        }
+
+        // Only now that the data is stored, so they aren't handled a second time when falling back to text
+        if (blob.getChildren() != null) {
+            for (StringTree ch : blob.getChildren()) {
+                switch (Tag.of(ch)) {
+                    case CONTINUATION:
+                    case CONCATENATION:
+                        break;
+                    default:
+                        unknownTag(ch, loadInto);
+                        break;
+                }
+            }
+        }
+
+        if (file != null) {
+            loadInto.setBinaryBlob(new BinaryBlob(file));
+        } else if (buffer.isDirect()) {
+            buffer.flip();
+            loadInto.setBinaryBlob(new BinaryBlob(buffer));
+        } else if (buffer.position() == buffer.capacity()) {
+            loadInto.setBinaryBlob(new BinaryBlob(buffer.array()));
+        } else {
+            loadInto.setBinaryBlob(new BinaryBlob(Arrays.copyOf(buffer.array(), buffer.position())));
+        }
+        return true;
+    }
 }
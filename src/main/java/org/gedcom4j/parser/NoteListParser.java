@@ -27,6 +27,7 @@
 package org.gedcom4j.parser;
 
 import java.util.List;
+import java.util.Map;
 
 import org.gedcom4j.model.*;
 
@@ -72,38 +73,57 @@ class NoteListParser extends AbstractParser<List<Note>> {
             }
             note = getNote(stringTree.getId());
         }
-        note.getLines(true).add(stringTree.getValue());
-        if (stringTree.getChildren() != null) {
-            for (StringTree ch : stringTree.getChildren()) {
-                if (Tag.CONCATENATION.equalsText(ch.getTag())) {
-                    if (note.getLines().isEmpty()) {
-                        note.getLines(true).add(ch.getValue());
-                    } else {
-                        String lastNote = note.getLines().get(note.getLines().size() - 1);
-                        if (lastNote == null || lastNote.length() == 0) {
-                            note.getLines().set(note.getLines().size() - 1, ch.getValue());
+        List<String> lines = note.getLines(true);
+        lines.add(stringTree.getValue());
+        List<StringTree> children = stringTree.getChildren();
+        if (children != null) {
+            // The last line of the note, while it is being built up from CONC lines
+            StringBuilder line = null;
+            for (int i = 0; i < children.size(); i++) {
+                StringTree ch = children.get(i);
+                switch (Tag.of(ch)) {
+                    case CONCATENATION:
+                        if (line != null) {
+                            if (ch.getValue() != null) {
+                                line.append(ch.getValue());
+                            }
                         } else {
-                            note.getLines().set(note.getLines().size() - 1, lastNote + ch.getValue());
+                            String lastNote = lines.get(lines.size() - 1);
+                            if (lastNote == null || lastNote.length() == 0) {
+                                lines.set(lines.size() - 1, ch.getValue());
+                            } else if (ch.getValue() != null) {
+                                line = startLine(lastNote, children, i);
+                                line.append(ch.getValue());
+                            }
                         }
-                    }
-                } else if (Tag.CONTINUATION.equalsText(ch.getTag())) {
-                    note.getLines(true).add(ch.getValue() == null ? "" : ch.getValue());
-                } else if (Tag.SOURCE.equalsText(ch.getTag())) {
-                    new CitationListParser(gedcomParser, ch, note.getCitations(true)).parse();
-                } else if (Tag.REFERENCE.equalsText(ch.getTag())) {
-                    UserReference u = new UserReference();
-                    note.getUserReferences(true).add(u);
-                    new UserReferenceParser(gedcomParser, ch, u).parse();
-                } else if (Tag.RECORD_ID_NUMBER.equalsText(ch.getTag())) {
-                    note.setRecIdNumber(new StringWithCustomTags(ch));
-                } else if (Tag.CHANGED_DATETIME.equalsText(ch.getTag())) {
-                    ChangeDate changeDate = new ChangeDate();
-                    note.setChangeDate(changeDate);
-                    new ChangeDateParser(gedcomParser, ch, changeDate).parse();
-                } else {
-                    unknownTag(ch, note);
+                        break;
+                    case CONTINUATION:
+                        finishLine(line, lines);
+                        line = null;
+                        lines.add(ch.getValue() == null ? "" : ch.getValue());
+                        break;
+                    case SOURCE:
+                        new CitationListParser(gedcomParser, ch, note.getCitations(true)).parse();
+                        break;
+                    case REFERENCE:
+                        UserReference u = new UserReference();
+                        note.getUserReferences(true).add(u);
+                        new UserReferenceParser(gedcomParser, ch, u).parse();
+                        break;
+                    case RECORD_ID_NUMBER:
+                        note.setRecIdNumber(new StringWithCustomTags(ch));
+                        break;
+                    case CHANGED_DATETIME:
+                        ChangeDate changeDate = new ChangeDate();
+                        note.setChangeDate(changeDate);
+                        new ChangeDateParser(gedcomParser, ch, changeDate).parse();
+                        break;
+                    default:
+                        unknownTag(ch, note);
+                        break;
                 }
             }
+            finishLine(line, lines);
         }
     }
 
@@ -115,14 +135,16 @@ class NoteListParser extends AbstractParser<List<Note>> {
      * @return the note with the specified xref
      */
     private Note getNote(String xref) {
-        Note note;
-        note = gedcomParser.getGedcom().getNotes().get(xref);
-        if (note == null) {
-            note = new Note();
-            note.setXref(xref);
-            gedcomParser.getGedcom().getNotes().put(xref, note);
+        Map<String, Note> notes = gedcomParser.getGedcom().getNotes();
+        synchronized (notes) {
+            Note note = notes.get(xref);
+            if (note == null) {
+                note = new Note();
+                note.setXref(xref);
+                notes.put(xref, note);
+            }
+            return note;
         }
-        return note;
     }
 
 }
@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.model.StringTree;
+
+/**
+ * <p>
+ * Loads root-level records into the object model using a pool of threads, for {@link GedcomParser#setParallelism(int)}.
+ * The file is still read and broken into {@link StringTree}s sequentially on the calling thread, but the conversion of
+ * each record's string tree into objects is handed off to the pool.
+ * </p>
+ * <p>
+ * The result is the same as loading sequentially:
+ * </p>
+ * <ul>
+ * <li>Records only refer to each other by xref, and placeholders for cross-referenced records are created under a lock
+ * (see {@link AbstractParser#getIndividual(String)} and the like), so it doesn't matter which record gets parsed
+ * first.</li>
+ * <li>Errors and warnings are collected per record and added to the parser's collections in file order.</li>
+ * <li>Records that change the {@link org.gedcom4j.model.Gedcom} as a whole (header, submission, trailer, and custom
+ * root-level tags) are loaded on the calling thread, in order. Since the header governs how everything after it is
+ * parsed, all earlier records are finished before a header is loaded.</li>
+ * <li>If the same record appears more than once in the file, all earlier records are finished before it is loaded, so
+ * the repeated data is merged in file order.</li>
+ * </ul>
+ * 
+ * @author frizbog
+ */
+class ParallelRecordLoader {
+
+    /**
+     * A root-level record that has been read from the file, along with the errors and warnings found while reading and
+     * parsing it
+     */
+    static class PendingRecord {
+        /**
+         * The string tree for the record. Null if this holds only the messages found at the end of the file.
+         */
+        private StringTree rootLevelItem;
+
+        /**
+         * The errors and warnings for this record, in the order they were reported
+         */
+        final List<ParseDiagnostic> diagnostics = new ArrayList<ParseDiagnostic>(0);
+
+        /**
+         * The result of parsing the record on another thread, or null if the record was loaded on the calling thread
+         */
+        private Future<Void> future;
+
+        /**
+         * Get the xref of the record
+         * 
+         * @return the xref of the record, or null if it hasn't been read yet or has no xref
+         */
+        String getXref() {
+            return rootLevelItem == null ? null : rootLevelItem.getId();
+        }
+    }
+
+    /**
+     * The most records that can be waiting to be parsed, per thread, before reading stops to let the parsing catch up
+     */
+    private static final int MAX_PENDING_PER_THREAD = 64;
+
+    /**
+     * The parser we're loading records for
+     */
+    private final GedcomParser parser;
+
+    /**
+     * The number of threads to parse with
+     */
+    private final int parallelism;
+
+    /**
+     * The records that have been read but whose errors and warnings haven't been added to the parser yet, in file order
+     */
+    private final LinkedList<PendingRecord> pending = new LinkedList<PendingRecord>();
+
+    /**
+     * The tags and xrefs of the root-level records seen so far, to spot repeated records
+     */
+    private final Set<String> recordsSeen = new HashSet<String>();
+
+    /**
+     * Constructor
+     * 
+     * @param parser
+     *            the parser we're loading records for
+     * @param parallelism
+     *            the number of threads to parse with
+     */
+    ParallelRecordLoader(GedcomParser parser, int parallelism) {
+        this.parser = parser;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Read all the records and load them into the object model
+     * 
+     * @param records
+     *            the source of records
+     * @throws IOException
+     *             if the data cannot be read
+     * @throws GedcomParserException
+     *             if the data cannot be parsed, or loading was cancelled
+     */
+    void load(GedcomRecordIterator records) throws IOException, GedcomParserException {
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            boolean endOfFile;
+            do {
+                PendingRecord r = read(records);
+                endOfFile = r.rootLevelItem == null;
+                if (!endOfFile) {
+                    Tag tag = Tag.of(r.rootLevelItem);
+                    if (tag == Tag.HEADER || !recordsSeen.add(r.rootLevelItem.getTag() + r.rootLevelItem.getId())) {
+                        finishAll();
+                    }
+                    pending.add(r);
+                    if (isSharedWithWholeFile(tag)) {
+                        parseOnThisThread(r);
+                    } else {
+                        r.future = executor.submit(new ParseTask(r));
+                    }
+                } else {
+                    pending.add(r);
+                }
+                while (pending.size() > parallelism * MAX_PENDING_PER_THREAD) {
+                    finish(pending.removeFirst());
+                }
+                while (!pending.isEmpty() && (pending.getFirst().future == null || pending.getFirst().future.isDone())) {
+                    finish(pending.removeFirst());
+                }
+            } while (!endOfFile);
+            finishAll();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Wait for a record to be parsed, if needed, and add its errors and warnings to the parser
+     * 
+     * @param r
+     *            the record
+     * @throws GedcomParserException
+     *             if the record couldn't be parsed
+     */
+    private void finish(PendingRecord r) throws GedcomParserException {
+        try {
+            if (r.future != null) {
+                r.future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GedcomParserException("Interrupted while waiting for records to be parsed", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof GedcomParserException) {
+                throw (GedcomParserException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new GedcomParserException(cause);
+        } finally {
+            for (ParseDiagnostic d : r.diagnostics) {
+                parser.accept(d);
+            }
+            r.rootLevelItem = null;
+        }
+    }
+
+    /**
+     * Finish all the pending records, in order
+     * 
+     * @throws GedcomParserException
+     *             if a record couldn't be parsed
+     */
+    private void finishAll() throws GedcomParserException {
+        while (!pending.isEmpty()) {
+            finish(pending.removeFirst());
+        }
+    }
+
+    /**
+     * Does the record with the supplied tag change the {@link org.gedcom4j.model.Gedcom} as a whole, so that it needs
+     * to be loaded on the calling thread, in file order?
+     * 
+     * @param tag
+     *            the tag of the root-level record
+     * @return true if the record needs to be loaded on the calling thread
+     */
+    private boolean isSharedWithWholeFile(Tag tag) {
+        switch (tag) {
+            case INDIVIDUAL:
+            case FAMILY:
+            case SOURCE:
+            case NOTE:
+            case REPOSITORY:
+            case OBJECT_MULTIMEDIA:
+            case SUBMITTER:
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Load a record into the object model on the current thread, collecting its errors and warnings
+     * 
+     * @param r
+     *            the record
+     * @throws GedcomParserException
+     *             if the record couldn't be parsed
+     */
+    private void parse(PendingRecord r) throws GedcomParserException {
+        parser.setPendingRecord(r);
+        try {
+            parser.loadRootItem(r.rootLevelItem);
+        } finally {
+            parser.setPendingRecord(null);
+        }
+    }
+
+    /**
+     * Load a record into the object model on the calling thread. If it can't be loaded, the earlier records are
+     * finished first, so that the errors and exception are the same as when loading sequentially.
+     * 
+     * @param r
+     *            the record, which must be the last one in the {@link #pending} list
+     * @throws GedcomParserException
+     *             if the record, or an earlier one, couldn't be parsed
+     */
+    private void parseOnThisThread(PendingRecord r) throws GedcomParserException {
+        try {
+            parse(r);
+        } catch (GedcomParserException e) {
+            finishAll();
+            throw e;
+        } catch (RuntimeException e) {
+            finishAll();
+            throw e;
+        }
+    }
+
+    /**
+     * Read the next record from the file, collecting its errors and warnings
+     * 
+     * @param records
+     *            the source of records
+     * @return the record. Its string tree will be null if the end of the file was reached.
+     * @throws IOException
+     *             if the data cannot be read
+     * @throws GedcomParserException
+     *             if the data cannot be parsed, or loading was cancelled
+     */
+    private PendingRecord read(GedcomRecordIterator records) throws IOException, GedcomParserException {
+        PendingRecord r = new PendingRecord();
+        parser.setPendingRecord(r);
+        try {
+            r.rootLevelItem = records.readRootItem();
+        } catch (IOException e) {
+            finishAll();
+            finish(r);
+            throw e;
+        } catch (GedcomParserException e) {
+            finishAll();
+            finish(r);
+            throw e;
+        } finally {
+            parser.setPendingRecord(null);
+        }
+        return r;
+    }
+
+    /**
+     * A task to load a record into the object model on a pooled thread
+     */
+    private class ParseTask implements Callable<Void> {
+        /**
+         * The record to load
+         */
+        private final PendingRecord record;
+
+        /**
+         * Constructor
+         * 
+         * @param record
+         *            the record to load
+         */
+        ParseTask(PendingRecord record) {
+            this.record = record;
+        }
+
+        @Override
+        public Void call() throws GedcomParserException {
+            parse(record);
+            return null;
+        }
+    }
+}
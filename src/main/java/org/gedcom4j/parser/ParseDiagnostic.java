@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import java.util.Arrays;
+
+/**
+ * A problem found while parsing a GEDCOM file: what kind of problem it is, where it was found, and the details needed
+ * to describe it. The message describing the problem is only made when {@link #getMessage()} is called.
+ * 
+ * @author frizbog
+ * @since 3.0.2
+ */
+public final class ParseDiagnostic {
+
+    /**
+     * How serious a problem is
+     */
+    public enum Severity {
+        /** Data could not be loaded as it appears in the file */
+        ERROR,
+        /** Data was loaded, but the file doesn't follow the standard */
+        WARNING;
+    }
+
+    /**
+     * What kind of problem this is
+     */
+    private final DiagnosticCode code;
+
+    /**
+     * The line number where the problem was found, or 0 if not known
+     */
+    private final int lineNum;
+
+    /**
+     * The xref of the root-level record where the problem was found, or null if not known or the record has no xref
+     */
+    private final String recordXref;
+
+    /**
+     * The details needed to describe the problem, which depend on the {@link #code}
+     */
+    private final Object[] arguments;
+
+    /**
+     * Constructor
+     * 
+     * @param code
+     *            what kind of problem this is
+     * @param lineNum
+     *            the line number where the problem was found, or 0 if not known
+     * @param recordXref
+     *            the xref of the root-level record where the problem was found, or null if not known
+     * @param arguments
+     *            the details needed to describe the problem, which depend on the code
+     */
+    public ParseDiagnostic(DiagnosticCode code, int lineNum, String recordXref, Object... arguments) {
+        if (code == null) {
+            throw new IllegalArgumentException("code is required");
+        }
+        this.code = code;
+        this.lineNum = lineNum;
+        this.recordXref = recordXref;
+        this.arguments = arguments;
+    }
+
+    /**
+     * Get the details needed to describe the problem, which depend on the {@link #getCode()}
+     * 
+     * @return a copy of the details needed to describe the problem
+     */
+    public Object[] getArguments() {
+        return arguments.clone();
+    }
+
+    /**
+     * Get what kind of problem this is
+     * 
+     * @return what kind of problem this is
+     */
+    public DiagnosticCode getCode() {
+        return code;
+    }
+
+    /**
+     * Get the line number where the problem was found
+     * 
+     * @return the line number where the problem was found, or 0 if not known
+     */
+    public int getLineNum() {
+        return lineNum;
+    }
+
+    /**
+     * Get the message describing the problem. The message is made each time this is called, rather than being kept.
+     * 
+     * @return the message describing the problem
+     */
+    public String getMessage() {
+        return code.render(arguments);
+    }
+
+    /**
+     * Get the xref of the root-level record where the problem was found
+     * 
+     * @return the xref of the root-level record where the problem was found, or null if not known or the record has no
+     *         xref
+     */
+    public String getRecordXref() {
+        return recordXref;
+    }
+
+    /**
+     * Get how serious the problem is
+     * 
+     * @return how serious the problem is
+     */
+    public Severity getSeverity() {
+        return code.getSeverity();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ParseDiagnostic)) {
+            return false;
+        }
+        ParseDiagnostic other = (ParseDiagnostic) obj;
+        return code == other.code && lineNum == other.lineNum && (recordXref == null ? other.recordXref == null : recordXref.equals(
+                other.recordXref)) && Arrays.equals(arguments, other.arguments);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = code.hashCode();
+        result = prime * result + lineNum;
+        result = prime * result + (recordXref == null ? 0 : recordXref.hashCode());
+        result = prime * result + Arrays.hashCode(arguments);
+        return result;
+    }
+
+    /**
+     * Returns the message describing the problem
+     * 
+     * @return the message describing the problem
+     */
+    @Override
+    public String toString() {
+        return getMessage();
+    }
+}
@@ -0,0 +1,432 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import java.util.Date;
+
+import org.gedcom4j.model.DateSortKey;
+import org.gedcom4j.parser.DateParser.ImpreciseDatePreference;
+
+/**
+ * <p>
+ * A GEDCOM date value, parsed once into a small immutable form that can be sorted and compared cheaply. It keeps the
+ * earliest and latest days the value could refer to, as day numbers (days since 1 January 1970, the same epoch as
+ * {@link Date}), plus what kind of value it was: approximate, a range, a period, and so on. Unlike the
+ * {@link java.util.Date} returned by {@link DateParser}, this keeps how precise the date was and what qualified it.
+ * </p>
+ * <p>
+ * Values are parsed by a hand-written lexer in a single pass, without regular expressions, {@link java.util.Calendar}s
+ * or {@link java.text.SimpleDateFormat}s, and accept the same relaxed forms as {@link DateParser}: all the GEDCOM date
+ * forms, plus common variations like <code>BEF.</code>, <code>BETWEEN</code>, <code>APPROX</code> and
+ * <code>BCE</code>, in any case.
+ * </p>
+ * <p>
+ * Dates with no calendar escape, or the <code>@#DGREGORIAN@</code> escape, are read the same way as
+ * {@link DateParser} and {@link java.util.GregorianCalendar} read them: as Julian dates before 15 October 1582, and
+ * Gregorian dates from then on. Dates with the <code>@#DJULIAN@</code> escape are read as Julian dates whatever the
+ * year. Hebrew and French Republican dates are converted to the same days as {@link DateParser} converts them to.
+ * </p>
+ * 
+ * @author frizbog
+ * @since 3.0.2
+ */
+public final class ParsedDate implements Comparable<ParsedDate> {
+
+    /**
+     * What kind of value a date is: an exact date, an approximate one, a range, or a period
+     */
+    public enum Qualifier {
+        /** A plain date, e.g., <code>17 JUL 2016</code> */
+        NONE,
+        /** An approximate date, e.g., <code>ABT 1850</code> */
+        ABOUT,
+        /** A calculated date, e.g., <code>CAL 1850</code> */
+        CALCULATED,
+        /** An estimated date, e.g., <code>EST 1850</code> */
+        ESTIMATED,
+        /** A date interpreted from a phrase, e.g., <code>INT 1850 (mid-century)</code> */
+        INTERPRETED,
+        /** A range before a date, e.g., <code>BEF 1850</code> */
+        BEFORE,
+        /** A range after a date, e.g., <code>AFT 1850</code> */
+        AFTER,
+        /** A range between two dates, e.g., <code>BET 1850 AND 1860</code> */
+        BETWEEN,
+        /** A period starting on a date, e.g., <code>FROM 1850</code> */
+        FROM,
+        /** A period ending on a date, e.g., <code>TO 1850</code> */
+        TO,
+        /** A period from one date to another, e.g., <code>FROM 1850 TO 1860</code> */
+        FROM_TO;
+    }
+
+    /**
+     * How much of a date was given
+     */
+    public enum Precision {
+        /** Day, month and year */
+        DAY,
+        /** Month and year */
+        MONTH,
+        /** Year only */
+        YEAR;
+    }
+
+    /**
+     * The calendar a date was written in
+     */
+    public enum CalendarSystem {
+        /** Gregorian, the default. Dates before 15 October 1582 are read as Julian dates. */
+        GREGORIAN,
+        /** Julian, from the <code>@#DJULIAN@</code> escape */
+        JULIAN,
+        /** Hebrew, from the <code>@#DHEBREW@</code> escape */
+        HEBREW,
+        /** French Republican, from the <code>@#DFRENCH R@</code> escape */
+        FRENCH_REPUBLICAN;
+    }
+
+    /**
+     * The number of milliseconds in a day
+     */
+    private static final long MILLIS_PER_DAY = 86400000L;
+
+    /**
+     * The bits of {@link #flags} holding the ordinal of the {@link Qualifier}
+     */
+    private static final int QUALIFIER_MASK = 0xF;
+
+    /**
+     * Where in {@link #flags} the ordinal of the {@link Precision} is
+     */
+    private static final int PRECISION_SHIFT = 4;
+
+    /**
+     * Where in {@link #flags} the ordinal of the {@link CalendarSystem} is
+     */
+    private static final int CALENDAR_SHIFT = 6;
+
+    /**
+     * The bit in {@link #flags} set when a year was written as a dual year, like <code>1731/32</code>
+     */
+    private static final int DUAL_YEAR = 1 << 8;
+
+    /**
+     * The bit in {@link #flags} set when a year was before the common era
+     */
+    private static final int BEFORE_COMMON_ERA = 1 << 9;
+
+    /**
+     * The qualifiers, by ordinal
+     */
+    private static final Qualifier[] QUALIFIERS = Qualifier.values();
+
+    /**
+     * The precisions, by ordinal
+     */
+    private static final Precision[] PRECISIONS = Precision.values();
+
+    /**
+     * The calendars, by ordinal
+     */
+    private static final CalendarSystem[] CALENDARS = CalendarSystem.values();
+
+    /**
+     * The earliest day the value could refer to, as a number of days since 1 January 1970
+     */
+    private final int earliest;
+
+    /**
+     * The latest day the value could refer to, as a number of days since 1 January 1970
+     */
+    private final int latest;
+
+    /**
+     * The qualifier, precision and calendar of the value, and whether it had a dual year or a year before the common
+     * era, packed into one int
+     */
+    private final int flags;
+
+    /**
+     * Constructor
+     * 
+     * @param earliest
+     *            the earliest day the value could refer to, as a number of days since 1 January 1970
+     * @param latest
+     *            the latest day the value could refer to, as a number of days since 1 January 1970
+     * @param qualifier
+     *            what kind of value it is
+     * @param precision
+     *            how much of the (first) date was given
+     * @param calendar
+     *            the calendar the (first) date was written in
+     * @param dualYear
+     *            true if a year was written as a dual year
+     * @param beforeCommonEra
+     *            true if a year was before the common era
+     */
+    ParsedDate(int earliest, int latest, Qualifier qualifier, Precision precision, CalendarSystem calendar, boolean dualYear,
+            boolean beforeCommonEra) {
+        this.earliest = earliest;
+        this.latest = latest;
+        flags = qualifier.ordinal() | precision.ordinal() << PRECISION_SHIFT | calendar.ordinal() << CALENDAR_SHIFT
+                | (dualYear ? DUAL_YEAR : 0) | (beforeCommonEra ? BEFORE_COMMON_ERA : 0);
+    }
+
+    /**
+     * Parse a GEDCOM date value
+     * 
+     * @param dateString
+     *            the date value
+     * @return the parsed date, or null if the string is null or isn't a date value that can be understood, or refers
+     *         to a day that doesn't exist
+     */
+    public static ParsedDate parse(String dateString) {
+        if (dateString == null) {
+            return null;
+        }
+        return new DateLexer(dateString).lex();
+    }
+
+    /**
+     * Format a day number as an ISO 8601 date, in the proleptic Gregorian calendar
+     * 
+     * @param sb
+     *            the builder to add the formatted date to
+     * @param dayNumber
+     *            the number of days since 1 January 1970
+     */
+    private static void appendIsoDate(StringBuilder sb, int dayNumber) {
+        // Days since 1 March of year 0, split into 400-year eras that each have the same number of days
+        long z = dayNumber + 719468L;
+        long era = (z >= 0 ? z : z - 146096) / 146097;
+        long dayOfEra = z - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long mp = (5 * dayOfYear + 2) / 153;
+        long day = dayOfYear - (153 * mp + 2) / 5 + 1;
+        long month = mp < 10 ? mp + 3 : mp - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        sb.append(year).append('-');
+        if (month < 10) {
+            sb.append('0');
+        }
+        sb.append(month).append('-');
+        if (day < 10) {
+            sb.append('0');
+        }
+        sb.append(day);
+    }
+
+    /**
+     * Orders dates by their earliest day, then their latest day, then by the kind of value they are
+     */
+    @Override
+    public int compareTo(ParsedDate o) {
+        if (earliest != o.earliest) {
+            return earliest < o.earliest ? -1 : 1;
+        }
+        if (latest != o.latest) {
+            return latest < o.latest ? -1 : 1;
+        }
+        if (flags != o.flags) {
+            return flags < o.flags ? -1 : 1;
+        }
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ParsedDate)) {
+            return false;
+        }
+        ParsedDate other = (ParsedDate) obj;
+        return earliest == other.earliest && latest == other.latest && flags == other.flags;
+    }
+
+    /**
+     * Get the calendar the date, or the first of two dates, was written in
+     * 
+     * @return the calendar
+     */
+    public CalendarSystem getCalendar() {
+        return CALENDARS[flags >> CALENDAR_SHIFT & 0x3];
+    }
+
+    /**
+     * Get a single day to represent the value, the same way {@link DateParser#parse(String, ImpreciseDatePreference)}
+     * chooses one. The one difference is that the midpoint of a month or year is always the middle day of it, whereas
+     * {@link DateParser} uses 1 July for all Gregorian years (even 1582, which was shortened by the calendar reform), the
+     * middle of Adar for Hebrew years, and 1 Germinal for French Republican years.
+     * 
+     * @param pref
+     *            the preference for handling an imprecise date
+     * @return the day, as a number of days since 1 January 1970
+     */
+    public int getDayNumber(ImpreciseDatePreference pref) {
+        switch (pref) {
+            case PRECISE:
+            case FAVOR_EARLIEST:
+                return earliest;
+            case FAVOR_LATEST:
+                return latest;
+            case FAVOR_MIDPOINT:
+                if (isTwoDates()) {
+                    return earliest + (latest - earliest) / 2;
+                }
+                if (getPrecision() == Precision.DAY) {
+                    return earliest;
+                }
+                return earliest + (latest - earliest + 1) / 2 - 1;
+            default:
+                throw new IllegalArgumentException("Unexpected value for imprecise date preference: " + pref);
+        }
+    }
+
+    /**
+     * Get the earliest day the value could refer to. For a single date, this is the first day of the day, month or
+     * year given. For ranges and periods between two dates, it is the first day of the first date. Open-ended ranges and
+     * periods, like <code>BEF 1850</code>, are not extended; their qualifier says which way they are open.
+     * 
+     * @return the earliest day, as a number of days since 1 January 1970
+     */
+    public int getEarliestDayNumber() {
+        return earliest;
+    }
+
+    /**
+     * Get the latest day the value could refer to. For a single date, this is the last day of the day, month or year
+     * given. For ranges and periods between two dates, it is the last day of the second date.
+     * 
+     * @return the latest day, as a number of days since 1 January 1970
+     */
+    public int getLatestDayNumber() {
+        return latest;
+    }
+
+    /**
+     * Get how much of the date, or the first of two dates, was given
+     * 
+     * @return how much of the date was given
+     */
+    public Precision getPrecision() {
+        return PRECISIONS[flags >> PRECISION_SHIFT & 0x3];
+    }
+
+    /**
+     * Get what kind of value this is
+     * 
+     * @return what kind of value this is
+     */
+    public Qualifier getQualifier() {
+        return QUALIFIERS[flags & QUALIFIER_MASK];
+    }
+
+    /**
+     * Get the sortable key for this date, as kept on events and LDS ordinances when dates are parsed while loading
+     * 
+     * @return the sortable key, made from the earliest and latest days
+     * @see DateSortKey
+     */
+    public long getSortKey() {
+        return DateSortKey.of(earliest, latest);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = earliest;
+        result = prime * result + latest;
+        result = prime * result + flags;
+        return result;
+    }
+
+    /**
+     * Was a year before the common era, e.g., <code>44 BC</code>?
+     * 
+     * @return true if a year was before the common era
+     */
+    public boolean isBeforeCommonEra() {
+        return (flags & BEFORE_COMMON_ERA) != 0;
+    }
+
+    /**
+     * Was a year written as a dual year, e.g., <code>22 FEB 1731/32</code>?
+     * 
+     * @return true if a year was written as a dual year
+     */
+    public boolean isDualYear() {
+        return (flags & DUAL_YEAR) != 0;
+    }
+
+    /**
+     * Is this a range or period between two dates?
+     * 
+     * @return true if this is a range or period between two dates
+     */
+    public boolean isTwoDates() {
+        Qualifier q = getQualifier();
+        return q == Qualifier.BETWEEN || q == Qualifier.FROM_TO;
+    }
+
+    /**
+     * Get a single day to represent the value as a {@link Date}, the same way
+     * {@link DateParser#parse(String, ImpreciseDatePreference)} chooses one
+     * 
+     * @param pref
+     *            the preference for handling an imprecise date
+     * @return the day, at midnight UTC
+     */
+    public Date toDate(ImpreciseDatePreference pref) {
+        return new Date(getDayNumber(pref) * MILLIS_PER_DAY);
+    }
+
+    /**
+     * Returns the qualifier and the earliest and latest days, in ISO 8601 form, e.g.,
+     * <code>ABOUT 1850-01-01/1850-12-31</code>
+     * 
+     * @return the qualifier and the earliest and latest days
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(40);
+        sb.append(getQualifier()).append(' ');
+        appendIsoDate(sb, earliest);
+        sb.append('/');
+        appendIsoDate(sb, latest);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * A bounded cache of parsed date values, so that each distinct date string is only parsed once even though values like
+ * <code>ABT 1850</code> occur over and over in a file. Values that can't be parsed are cached too, so they are only
+ * tried once.
+ * </p>
+ * <p>
+ * A {@link GedcomParser} uses one of these when dates are parsed while loading (see
+ * {@link LoadOptions#setParsingDates(boolean)}). Each parser has its own by default; a process that parses many files
+ * can share one among them with {@link GedcomParser#setParsedDateCache(ParsedDateCache)}.
+ * </p>
+ * <p>
+ * Instances are safe to use from multiple threads. The cache is split into segments by hash code, each with its own
+ * lock and its own least-recently-used ordering, so threads parsing different records rarely wait on each other.
+ * </p>
+ * 
+ * @author frizbog
+ * @since 3.0.2
+ */
+public class ParsedDateCache {
+
+    /**
+     * The default maximum number of date strings kept in the cache
+     */
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    /**
+     * The number of segments used for caches big enough to be worth splitting up. A power of two.
+     */
+    private static final int NUM_SEGMENTS = 16;
+
+    /**
+     * The smallest number of entries per segment worth having - caches smaller than this many entries per segment use a
+     * single segment
+     */
+    private static final int MIN_SEGMENT_SIZE = 64;
+
+    /**
+     * Stands in for the result of a date string that couldn't be parsed, since the maps can't tell a null value from a
+     * missing one without a second lookup
+     */
+    private static final Object UNPARSEABLE = new Object();
+
+    /**
+     * A part of the cache, holding the date strings whose hash codes fall in it, least recently used first
+     */
+    private static final class Segment extends LinkedHashMap<String, Object> {
+        /**
+         * Serial Version UID
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The maximum number of entries in this segment
+         */
+        private final int capacity;
+
+        /**
+         * The number of times a date string was found in this segment
+         */
+        private long hits;
+
+        /**
+         * The number of times a date string was not found in this segment, and had to be parsed
+         */
+        private long misses;
+
+        /**
+         * Constructor
+         * 
+         * @param capacity
+         *            the maximum number of entries in this segment
+         */
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+            return size() > capacity;
+        }
+    }
+
+    /**
+     * The segments of the cache. The length is a power of two.
+     */
+    private final Segment[] segments;
+
+    /**
+     * The maximum number of date strings kept in the cache
+     */
+    private final int maxSize;
+
+    /**
+     * Default constructor, for a cache of {@link #DEFAULT_MAX_SIZE} date strings
+     */
+    public ParsedDateCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Constructor
+     * 
+     * @param maxSize
+     *            the maximum number of date strings to keep in the cache. Must be at least 1.
+     */
+    public ParsedDateCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be at least 1");
+        }
+        this.maxSize = maxSize;
+        int numSegments = (maxSize >= NUM_SEGMENTS * MIN_SEGMENT_SIZE ? NUM_SEGMENTS : 1);
+        segments = new Segment[numSegments];
+        for (int i = 0; i < numSegments; i++) {
+            // Spread the remainder over the first few segments so the capacities add up to maxSize
+            segments[i] = new Segment(maxSize / numSegments + (i < maxSize % numSegments ? 1 : 0));
+        }
+    }
+
+    /**
+     * Get the number of times a date string was found in the cache
+     * 
+     * @return the number of times a date string was found in the cache
+     */
+    public long getHitCount() {
+        long result = 0;
+        for (Segment s : segments) {
+            synchronized (s) {
+                result += s.hits;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the maximum number of date strings kept in the cache
+     * 
+     * @return the maximum number of date strings kept in the cache
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Get the number of times a date string was not found in the cache, and had to be parsed
+     * 
+     * @return the number of times a date string was not found in the cache
+     */
+    public long getMissCount() {
+        long result = 0;
+        for (Segment s : segments) {
+            synchronized (s) {
+                result += s.misses;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the number of date strings in the cache
+     * 
+     * @return the number of date strings in the cache
+     */
+    public int getSize() {
+        int result = 0;
+        for (Segment s : segments) {
+            synchronized (s) {
+                result += s.size();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Parse a date string, or get the result of parsing it from the cache
+     * 
+     * @param dateString
+     *            the date string
+     * @return the parsed date, or null if the string is null or can't be parsed (see {@link ParsedDate#parse(String)})
+     */
+    public ParsedDate parse(String dateString) {
+        if (dateString == null) {
+            return null;
+        }
+        int h = dateString.hashCode();
+        h ^= (h >>> 16);
+        Segment segment = segments[h & (segments.length - 1)];
+        Object result;
+        synchronized (segment) {
+            result = segment.get(dateString);
+            if (result != null) {
+                segment.hits++;
+                return result == UNPARSEABLE ? null : (ParsedDate) result;
+            }
+            segment.misses++;
+        }
+        // Parse outside the lock. Another thread may parse the same string at the same time, but gets the same result.
+        ParsedDate parsed = ParsedDate.parse(dateString);
+        synchronized (segment) {
+            segment.put(dateString, parsed == null ? UNPARSEABLE : parsed);
+        }
+        return parsed;
+    }
+}
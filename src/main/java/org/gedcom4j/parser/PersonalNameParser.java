@@ -55,34 +55,46 @@ class PersonalNameParser extends AbstractParser<PersonalName> {
         loadInto.setBasic(stringTree.getValue());
         if (stringTree.getChildren() != null) {
             for (StringTree ch : stringTree.getChildren()) {
-                if (Tag.NAME_PREFIX.equalsText(ch.getTag())) {
-                    loadInto.setPrefix(new StringWithCustomTags(ch));
-                } else if (Tag.GIVEN_NAME.equalsText(ch.getTag())) {
-                    loadInto.setGivenName(new StringWithCustomTags(ch));
-                } else if (Tag.NICKNAME.equalsText(ch.getTag())) {
-                    loadInto.setNickname(new StringWithCustomTags(ch));
-                } else if (Tag.SURNAME_PREFIX.equalsText(ch.getTag())) {
-                    loadInto.setSurnamePrefix(new StringWithCustomTags(ch));
-                } else if (Tag.SURNAME.equalsText(ch.getTag())) {
-                    loadInto.setSurname(new StringWithCustomTags(ch));
-                } else if (Tag.NAME_SUFFIX.equalsText(ch.getTag())) {
-                    loadInto.setSuffix(new StringWithCustomTags(ch));
-                } else if (Tag.SOURCE.equalsText(ch.getTag())) {
-                    List<AbstractCitation> citations = loadInto.getCitations(true);
-                    new CitationListParser(gedcomParser, ch, citations).parse();
-                } else if (Tag.NOTE.equalsText(ch.getTag())) {
-                    List<Note> notes = loadInto.getNotes(true);
-                    new NoteListParser(gedcomParser, ch, notes).parse();
-                } else if (Tag.ROMANIZED.equalsText(ch.getTag())) {
-                    PersonalNameVariation pnv = new PersonalNameVariation();
-                    loadInto.getRomanized(true).add(pnv);
-                    loadPersonalNameVariation(ch, pnv);
-                } else if (Tag.PHONETIC.equalsText(ch.getTag())) {
-                    PersonalNameVariation pnv = new PersonalNameVariation();
-                    loadInto.getPhonetic(true).add(pnv);
-                    loadPersonalNameVariation(ch, pnv);
-                } else {
-                    unknownTag(ch, loadInto);
+                switch (Tag.of(ch)) {
+                    case NAME_PREFIX:
+                        loadInto.setPrefix(new StringWithCustomTags(ch));
+                        break;
+                    case GIVEN_NAME:
+                        loadInto.setGivenName(new StringWithCustomTags(ch));
+                        break;
+                    case NICKNAME:
+                        loadInto.setNickname(new StringWithCustomTags(ch));
+                        break;
+                    case SURNAME_PREFIX:
+                        loadInto.setSurnamePrefix(new StringWithCustomTags(ch));
+                        break;
+                    case SURNAME:
+                        loadInto.setSurname(new StringWithCustomTags(ch));
+                        break;
+                    case NAME_SUFFIX:
+                        loadInto.setSuffix(new StringWithCustomTags(ch));
+                        break;
+                    case SOURCE:
+                        List<AbstractCitation> citations = loadInto.getCitations(true);
+                        new CitationListParser(gedcomParser, ch, citations).parse();
+                        break;
+                    case NOTE:
+                        List<Note> notes = loadInto.getNotes(true);
+                        new NoteListParser(gedcomParser, ch, notes).parse();
+                        break;
+                    case ROMANIZED:
+                        PersonalNameVariation romanized = new PersonalNameVariation();
+                        loadInto.getRomanized(true).add(romanized);
+                        loadPersonalNameVariation(ch, romanized);
+                        break;
+                    case PHONETIC:
+                        PersonalNameVariation phonetic = new PersonalNameVariation();
+                        loadInto.getPhonetic(true).add(phonetic);
+                        loadPersonalNameVariation(ch, phonetic);
+                        break;
+                    default:
+                        unknownTag(ch, loadInto);
+                        break;
                 }
             }
         }
@@ -101,28 +113,39 @@ class PersonalNameParser extends AbstractParser<PersonalName> {
         pnv.setVariation(romnOrPhon.getValue());
         if (romnOrPhon.getChildren() != null) {
             for (StringTree ch : romnOrPhon.getChildren()) {
-                if (Tag.NAME_PREFIX.equalsText(ch.getTag())) {
-                    pnv.setPrefix(new StringWithCustomTags(ch));
-                } else if (Tag.GIVEN_NAME.equalsText(ch.getTag())) {
-                    pnv.setGivenName(new StringWithCustomTags(ch));
-                } else if (Tag.NICKNAME.equalsText(ch.getTag())) {
-                    pnv.setNickname(new StringWithCustomTags(ch));
-                } else if (Tag.SURNAME_PREFIX.equalsText(ch.getTag())) {
-                    pnv.setSurnamePrefix(new StringWithCustomTags(ch));
-                } else if (Tag.SURNAME.equalsText(ch.getTag())) {
-                    pnv.setSurname(new StringWithCustomTags(ch));
-                } else if (Tag.NAME_SUFFIX.equalsText(ch.getTag())) {
-                    pnv.setSuffix(new StringWithCustomTags(ch));
-                } else if (Tag.SOURCE.equalsText(ch.getTag())) {
-                    List<AbstractCitation> citations = pnv.getCitations(true);
-                    new CitationListParser(gedcomParser, ch, citations).parse();
-                } else if (Tag.NOTE.equalsText(ch.getTag())) {
-                    List<Note> notes = pnv.getNotes(true);
-                    new NoteListParser(gedcomParser, ch, notes).parse();
-                } else if (Tag.TYPE.equalsText(ch.getTag())) {
-                    pnv.setVariationType(new StringWithCustomTags(ch));
-                } else {
-                    unknownTag(ch, pnv);
+                switch (Tag.of(ch)) {
+                    case NAME_PREFIX:
+                        pnv.setPrefix(new StringWithCustomTags(ch));
+                        break;
+                    case GIVEN_NAME:
+                        pnv.setGivenName(new StringWithCustomTags(ch));
+                        break;
+                    case NICKNAME:
+                        pnv.setNickname(new StringWithCustomTags(ch));
+                        break;
+                    case SURNAME_PREFIX:
+                        pnv.setSurnamePrefix(new StringWithCustomTags(ch));
+                        break;
+                    case SURNAME:
+                        pnv.setSurname(new StringWithCustomTags(ch));
+                        break;
+                    case NAME_SUFFIX:
+                        pnv.setSuffix(new StringWithCustomTags(ch));
+                        break;
+                    case SOURCE:
+                        List<AbstractCitation> citations = pnv.getCitations(true);
+                        new CitationListParser(gedcomParser, ch, citations).parse();
+                        break;
+                    case NOTE:
+                        List<Note> notes = pnv.getNotes(true);
+                        new NoteListParser(gedcomParser, ch, notes).parse();
+                        break;
+                    case TYPE:
+                        pnv.setVariationType(new StringWithCustomTags(ch));
+                        break;
+                    default:
+                        unknownTag(ch, pnv);
+                        break;
                 }
             }
         }
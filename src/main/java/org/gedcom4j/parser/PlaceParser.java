@@ -56,70 +56,77 @@ class PlaceParser extends AbstractParser<Place> {
         loadInto.setPlaceName(stringTree.getValue());
         if (stringTree.getChildren() != null) {
             for (StringTree ch : stringTree.getChildren()) {
-                if (Tag.FORM.equalsText(ch.getTag())) {
-                    loadInto.setPlaceFormat(new StringWithCustomTags(ch));
-                } else if (Tag.SOURCE.equalsText(ch.getTag())) {
-                    List<AbstractCitation> citations = loadInto.getCitations(true);
-                    new CitationListParser(gedcomParser, ch, citations).parse();
-                } else if (Tag.NOTE.equalsText(ch.getTag())) {
-                    List<Note> notes = loadInto.getNotes(true);
-                    new NoteListParser(gedcomParser, ch, notes).parse();
-                } else if (Tag.CONCATENATION.equalsText(ch.getTag())) {
-                    loadInto.setPlaceName(loadInto.getPlaceName() + (ch.getValue() == null ? "" : ch.getValue()));
-                } else if (Tag.CONTINUATION.equalsText(ch.getTag())) {
-                    loadInto.setPlaceName(loadInto.getPlaceName() + "\n" + (ch.getValue() == null ? "" : ch.getValue()));
-                } else if (Tag.ROMANIZED.equalsText(ch.getTag())) {
-                    if (g55()) {
-                        addWarning("GEDCOM version is 5.5 but a romanized variation was specified on a place on line " + ch.getLineNum()
-                                + ", which is a GEDCOM 5.5.1 feature." + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
-                    }
-                    AbstractNameVariation nv = new PersonalNameVariation();
-                    loadInto.getRomanized(true).add(nv);
-                    nv.setVariation(ch.getValue());
-                    if (ch.getChildren() != null) {
-                        for (StringTree gch : ch.getChildren()) {
-                            if (Tag.TYPE.equalsText(gch.getTag())) {
-                                nv.setVariationType(new StringWithCustomTags(gch));
-                            } else {
-                                unknownTag(gch, nv);
+                switch (Tag.of(ch)) {
+                    case FORM:
+                        loadInto.setPlaceFormat(new StringWithCustomTags(ch));
+                        break;
+                    case SOURCE:
+                        List<AbstractCitation> citations = loadInto.getCitations(true);
+                        new CitationListParser(gedcomParser, ch, citations).parse();
+                        break;
+                    case NOTE:
+                        List<Note> notes = loadInto.getNotes(true);
+                        new NoteListParser(gedcomParser, ch, notes).parse();
+                        break;
+                    case CONCATENATION:
+                        loadInto.setPlaceName(loadInto.getPlaceName() + (ch.getValue() == null ? "" : ch.getValue()));
+                        break;
+                    case CONTINUATION:
+                        loadInto.setPlaceName(loadInto.getPlaceName() + "\n" + (ch.getValue() == null ? "" : ch.getValue()));
+                        break;
+                    case ROMANIZED:
+                        if (g55()) {
+                            addGedcom551FeatureWarning(ch, "a romanized variation was specified on a place");
+                        }
+                        AbstractNameVariation romanized = new PersonalNameVariation();
+                        loadInto.getRomanized(true).add(romanized);
+                        romanized.setVariation(ch.getValue());
+                        if (ch.getChildren() != null) {
+                            for (StringTree gch : ch.getChildren()) {
+                                if (Tag.TYPE.equalsText(gch.getTag())) {
+                                    romanized.setVariationType(new StringWithCustomTags(gch));
+                                } else {
+                                    unknownTag(gch, romanized);
+                                }
                             }
                         }
-                    }
-                } else if (Tag.PHONETIC.equalsText(ch.getTag())) {
-                    if (g55()) {
-                        addWarning("GEDCOM version is 5.5 but a phonetic variation was specified on a place on line " + ch.getLineNum()
-                                + ", which is a GEDCOM 5.5.1 feature." + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
-                    }
-                    AbstractNameVariation nv = new PersonalNameVariation();
-                    loadInto.getPhonetic(true).add(nv);
-                    nv.setVariation(ch.getValue());
-                    if (ch.getChildren() != null) {
-                        for (StringTree gch : ch.getChildren()) {
-                            if (Tag.TYPE.equalsText(gch.getTag())) {
-                                nv.setVariationType(new StringWithCustomTags(gch));
-                            } else {
-                                unknownTag(gch, nv);
+                        break;
+                    case PHONETIC:
+                        if (g55()) {
+                            addGedcom551FeatureWarning(ch, "a phonetic variation was specified on a place");
+                        }
+                        AbstractNameVariation phonetic = new PersonalNameVariation();
+                        loadInto.getPhonetic(true).add(phonetic);
+                        phonetic.setVariation(ch.getValue());
+                        if (ch.getChildren() != null) {
+                            for (StringTree gch : ch.getChildren()) {
+                                if (Tag.TYPE.equalsText(gch.getTag())) {
+                                    phonetic.setVariationType(new StringWithCustomTags(gch));
+                                } else {
+                                    unknownTag(gch, phonetic);
+                                }
                             }
                         }
-                    }
-                } else if (Tag.MAP.equalsText(ch.getTag())) {
-                    if (g55()) {
-                        addWarning("GEDCOM version is 5.5 but a map coordinate was specified on a place on line " + ch.getLineNum()
-                                + ", which is a GEDCOM 5.5.1 feature." + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
-                    }
-                    if (ch.getChildren() != null) {
-                        for (StringTree gch : ch.getChildren()) {
-                            if (Tag.LATITUDE.equalsText(gch.getTag())) {
-                                loadInto.setLatitude(new StringWithCustomTags(gch));
-                            } else if (Tag.LONGITUDE.equalsText(gch.getTag())) {
-                                loadInto.setLongitude(new StringWithCustomTags(gch));
-                            } else {
-                                unknownTag(gch, loadInto);
+                        break;
+                    case MAP:
+                        if (g55()) {
+                            addGedcom551FeatureWarning(ch, "a map coordinate was specified on a place");
+                        }
+                        if (ch.getChildren() != null) {
+                            for (StringTree gch : ch.getChildren()) {
+                                if (Tag.LATITUDE.equalsText(gch.getTag())) {
+                                    loadInto.setLatitude(new StringWithCustomTags(gch));
+                                } else if (Tag.LONGITUDE.equalsText(gch.getTag())) {
+                                    loadInto.setLongitude(new StringWithCustomTags(gch));
+                                } else {
+                                    unknownTag(gch, loadInto);
+                                }
                             }
                         }
-                    }
-                } else {
-                    unknownTag(ch, loadInto);
+                        break;
+                    default:
+                        unknownTag(ch, loadInto);
+                        break;
                 }
             }
         }
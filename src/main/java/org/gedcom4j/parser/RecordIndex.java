@@ -0,0 +1,853 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.exception.ParserCancelledException;
+
+/**
+ * <p>
+ * An index of the root-level records in a GEDCOM file: the tag, xref, starting byte offset and starting line number of
+ * each one, in file order. Each record ends where the next one starts (or at the end of the file, for the last one).
+ * Used by {@link LazyGedcom} to find a record in the file without reading the rest of it.
+ * </p>
+ * <p>
+ * The index is built by scanning the raw bytes of the file, without decoding them into strings, so it is much quicker
+ * than reading the file. This works because line breaks, levels, xrefs and tags are always plain ASCII characters; the
+ * scan only needs to know whether the file uses one byte per character unit (ANSEL, ASCII and UTF-8) or two (UTF-16,
+ * in either byte order). Lines are counted and split the same way the readers in {@link org.gedcom4j.io.reader} do:
+ * carriage returns and line feeds both end lines, blank lines don't count, and leading whitespace is ignored.
+ * </p>
+ * <p>
+ * An index can be saved to a sidecar file with {@link #write(File)} and read back with {@link #read(File)}, so that a
+ * big file only needs to be scanned once. The saved index records the size and modification time of the GEDCOM file,
+ * so a stale index can be recognized, and a CRC-32 checksum of each record's bytes, so that a stale index can be
+ * brought up to date by {@link #refresh(GedcomParser, RecordIndex, File)} without indexing the unchanged records
+ * again.
+ * </p>
+ * 
+ * @author frizbog
+ */
+class RecordIndex {
+
+    /**
+     * The layout of the character units in a file
+     */
+    enum Layout {
+        /** One byte per character unit - ANSEL, ASCII, and UTF-8 */
+        SINGLE_BYTE,
+        /** Two bytes per character unit, most significant byte first */
+        UTF16_BIG_ENDIAN,
+        /** Two bytes per character unit, least significant byte first */
+        UTF16_LITTLE_ENDIAN;
+    }
+
+    /**
+     * The number of bytes to read at a time while scanning
+     */
+    private static final int BLOCK_SIZE = 65536;
+
+    /**
+     * The longest first line of a record that is kept to find its xref and tag. Anything past this is part of the
+     * value, which isn't needed.
+     */
+    private static final int MAX_HEADING_LENGTH = 256;
+
+    /**
+     * The first four bytes of a saved index file ("G4JI")
+     */
+    private static final int MAGIC_NUMBER = 0x47344A49;
+
+    /**
+     * The version of saved index files. Version 1 files may have records for lines that began with 0 but not a level,
+     * so aren't read.
+     */
+    private static final int FILE_FORMAT_VERSION = 2;
+
+    /**
+     * The number of bytes at the start of a saved index file, before the records
+     */
+    private static final int SAVED_HEADING_LENGTH = 30;
+
+    /**
+     * The fewest bytes a record can take up in a saved index file - its start, line number, checksum, an empty tag, and
+     * no xref
+     */
+    private static final int MIN_SAVED_RECORD_LENGTH = 19;
+
+    /**
+     * Work out the layout of the character units of a file from its first few bytes, the same way
+     * {@link org.gedcom4j.io.reader.GedcomFileReader} does
+     * 
+     * @param b
+     *            the first bytes of the file (at least two, if the file has that many)
+     * @param len
+     *            the number of bytes in b
+     * @return the layout of the character units in the file
+     */
+    static Layout detectLayout(byte[] b, int len) {
+        if (len < 2) {
+            return Layout.SINGLE_BYTE;
+        }
+        int firstTwo = ((b[0] & 0xFF) << 8) | (b[1] & 0xFF);
+        if (firstTwo == 0xFFFE || firstTwo == 0x3000 || firstTwo == 0x0D00 || firstTwo == 0x0A00) {
+            return Layout.UTF16_LITTLE_ENDIAN;
+        }
+        if (firstTwo == 0xFEFF || firstTwo == 0x0030 || firstTwo == 0x000D || firstTwo == 0x000A) {
+            return Layout.UTF16_BIG_ENDIAN;
+        }
+        return Layout.SINGLE_BYTE;
+    }
+
+    /**
+     * The layout of the character units in the file
+     */
+    final Layout layout;
+
+    /**
+     * Does the file begin with a byte order marker?
+     */
+    final boolean byteOrderMarker;
+
+    /**
+     * The total number of bytes in the file
+     */
+    final long fileLength;
+
+    /**
+     * The modification time of the file when it was indexed, in milliseconds since the epoch, as returned by
+     * {@link File#lastModified()}. Zero if not known.
+     */
+    long lastModified;
+
+    /**
+     * The number of records in the index
+     */
+    int count;
+
+    /**
+     * The tag of each record
+     */
+    String[] tags;
+
+    /**
+     * The xref of each record, or null if the record doesn't have one
+     */
+    String[] xrefs;
+
+    /**
+     * The byte offset of the start of each record
+     */
+    long[] starts;
+
+    /**
+     * The line number of the first line of each record
+     */
+    int[] lineNums;
+
+    /**
+     * The CRC-32 checksum of the bytes of each record
+     */
+    int[] checksums;
+
+    /**
+     * The index of the next record with the same tag and xref, or -1 if there isn't one. Usually -1, since a record
+     * normally appears only once in a file.
+     */
+    int[] nextDuplicate;
+
+    /**
+     * An open-addressed hash table for finding records by xref. Each slot holds a record index plus one, or zero for an
+     * empty slot. Only the first of a set of duplicate records is in the table.
+     */
+    private int[] byXref;
+
+    /**
+     * Constructor, for an empty index to be filled in
+     * 
+     * @param layout
+     *            the layout of the character units in the file
+     * @param byteOrderMarker
+     *            does the file begin with a byte order marker?
+     * @param fileLength
+     *            the total number of bytes in the file
+     * @param capacity
+     *            the number of records to make room for
+     */
+    RecordIndex(Layout layout, boolean byteOrderMarker, long fileLength, int capacity) {
+        this.layout = layout;
+        this.byteOrderMarker = byteOrderMarker;
+        this.fileLength = fileLength;
+        tags = new String[Math.max(capacity, 16)];
+        xrefs = new String[tags.length];
+        starts = new long[tags.length];
+        lineNums = new int[tags.length];
+        checksums = new int[tags.length];
+    }
+
+    /**
+     * Build an index by scanning a GEDCOM file
+     * 
+     * @param parser
+     *            the parser the index is being built for, which is checked for cancellation
+     * @param in
+     *            the contents of the file, from the beginning
+     * @param fileLength
+     *            the total number of bytes in the file
+     * @return the index
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file was cancelled, or the first line of a record can't be understood
+     */
+    static RecordIndex build(GedcomParser parser, InputStream in, long fileLength) throws IOException, GedcomParserException {
+        byte[] block = new byte[BLOCK_SIZE];
+        int len = readBlock(in, block);
+
+        Layout layout = detectLayout(block, len);
+        int pos = countByteOrderMarker(layout, block, len);
+        RecordIndex result = new RecordIndex(layout, pos > 0, fileLength, (int) Math.min(fileLength / 200, 1 << 20));
+        result.scan(parser, in, block, len, pos, 0, 0);
+        return result;
+    }
+
+    /**
+     * Build an index by scanning a GEDCOM file
+     * 
+     * @param parser
+     *            the parser the index is being built for, which is checked for cancellation
+     * @param file
+     *            the file
+     * @return the index
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file was cancelled, or the first line of a record can't be understood
+     */
+    static RecordIndex build(GedcomParser parser, File file) throws IOException, GedcomParserException {
+        long lastModified = file.lastModified();
+        InputStream in = new BufferedInputStream(new FileInputStream(file));
+        try {
+            RecordIndex result = build(parser, in, file.length());
+            result.lastModified = lastModified;
+            return result;
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Get the index of a GEDCOM file from its sidecar index file, if it is up to date. If not, the index is built (or
+     * brought up to date, if the sidecar file holds an index of an earlier version of the file), and saved in the
+     * sidecar file for next time.
+     * 
+     * @param parser
+     *            the parser the index is being built for, which is checked for cancellation
+     * @param file
+     *            the GEDCOM file
+     * @param indexFile
+     *            the sidecar index file
+     * @return the index of the GEDCOM file
+     * @throws IOException
+     *             if either file can't be read, or the sidecar index file can't be written
+     * @throws GedcomParserException
+     *             if the file was cancelled, or the first line of a record can't be understood
+     */
+    static RecordIndex load(GedcomParser parser, File file, File indexFile) throws IOException, GedcomParserException {
+        RecordIndex saved = read(indexFile);
+        if (saved != null && saved.isCurrent(file)) {
+            return saved;
+        }
+        RecordIndex result = (saved == null ? build(parser, file) : refresh(parser, saved, file));
+        result.write(indexFile);
+        return result;
+    }
+
+    /**
+     * Count the bytes of the byte order marker at the start of a file
+     * 
+     * @param layout
+     *            the layout of the character units in the file
+     * @param b
+     *            the first bytes of the file
+     * @param len
+     *            the number of bytes in b
+     * @return the number of bytes in the byte order marker, or zero if the file doesn't begin with one
+     */
+    static int countByteOrderMarker(Layout layout, byte[] b, int len) {
+        if (len >= 3 && (b[0] & 0xFF) == 0xEF && (b[1] & 0xFF) == 0xBB && (b[2] & 0xFF) == 0xBF) {
+            return 3;
+        }
+        if (layout != Layout.SINGLE_BYTE && len >= 2 && ((b[0] & 0xFF) == 0xFF && (b[1] & 0xFF) == 0xFE || (b[0] & 0xFF) == 0xFE
+                && (b[1] & 0xFF) == 0xFF)) {
+            return 2;
+        }
+        return 0;
+    }
+
+    /**
+     * Read an index saved by {@link #write(File)}
+     * 
+     * @param indexFile
+     *            the file the index was saved in
+     * @return the index, or null if the file doesn't exist, or doesn't hold a saved index of a version that can be read
+     * @throws IOException
+     *             if the file can't be read
+     */
+    static RecordIndex read(File indexFile) throws IOException {
+        if (!indexFile.isFile()) {
+            return null;
+        }
+        DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)));
+        try {
+            if (in.readInt() != MAGIC_NUMBER || in.readInt() != FILE_FORMAT_VERSION) {
+                return null;
+            }
+            long fileLength = in.readLong();
+            long lastModified = in.readLong();
+            int layoutOrdinal = in.readByte();
+            boolean byteOrderMarker = in.readBoolean();
+            int count = in.readInt();
+            if (layoutOrdinal < 0 || layoutOrdinal >= Layout.values().length || count < 0
+                    || count > (indexFile.length() - SAVED_HEADING_LENGTH) / MIN_SAVED_RECORD_LENGTH) {
+                // Corrupt - in particular, don't set aside room for more records than the file could hold
+                return null;
+            }
+            RecordIndex result = new RecordIndex(Layout.values()[layoutOrdinal], byteOrderMarker, fileLength, count);
+            result.lastModified = lastModified;
+            for (int r = 0; r < count; r++) {
+                result.add(in.readLong(), in.readInt());
+                result.checksums[r] = in.readInt();
+                String tag = in.readUTF();
+                result.tags[r] = (tag.length() == 0 ? null : tag.intern());
+                if (in.readBoolean()) {
+                    result.xrefs[r] = in.readUTF().intern();
+                }
+            }
+            result.buildXrefTable();
+            return result;
+        } catch (EOFException e) {
+            // Truncated, probably because writing it was interrupted
+            return null;
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Bring an index up to date with a file that has changed since it was indexed. The records at the start of the file
+     * whose bytes haven't changed (according to their checksums) are kept, and the file is only indexed again from the
+     * first one that has changed. Appending records to the end of a file, or changing records near the end, is therefore
+     * much quicker than indexing the whole file again.
+     * 
+     * @param parser
+     *            the parser the index is being built for, which is checked for cancellation
+     * @param old
+     *            the index of the file before it changed
+     * @param file
+     *            the file
+     * @return the up-to-date index of the file
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file was cancelled, or the first line of a record can't be understood
+     */
+    static RecordIndex refresh(GedcomParser parser, RecordIndex old, File file) throws IOException, GedcomParserException {
+        long fileLength = file.length();
+        InputStream in = new BufferedInputStream(new FileInputStream(file), BLOCK_SIZE);
+        try {
+            byte[] block = new byte[BLOCK_SIZE];
+            int len = readBlock(in, block);
+            Layout layout = detectLayout(block, len);
+            int bomLength = countByteOrderMarker(layout, block, len);
+            if (layout != old.layout || (bomLength > 0) != old.byteOrderMarker || old.count == 0) {
+                in.close();
+                in = new BufferedInputStream(new FileInputStream(file));
+                RecordIndex result = build(parser, in, fileLength);
+                result.lastModified = file.lastModified();
+                return result;
+            }
+
+            // Find the first record whose bytes have changed
+            in.close();
+            in = new BufferedInputStream(new FileInputStream(file), BLOCK_SIZE);
+            long offset = 0;
+            CRC32 crc = new CRC32();
+            int unchanged = 0;
+            // The last record is always indexed again, in case lines were added to the end of it
+            while (unchanged < old.count - 1) {
+                long end = old.getEnd(unchanged);
+                if (end > fileLength) {
+                    break;
+                }
+                offset += skipFully(in, old.starts[unchanged] - offset);
+                crc.reset();
+                while (offset < end) {
+                    int r = in.read(block, 0, (int) Math.min(block.length, end - offset));
+                    if (r < 0) {
+                        break;
+                    }
+                    crc.update(block, 0, r);
+                    offset += r;
+                }
+                if ((int) crc.getValue() != old.checksums[unchanged]) {
+                    break;
+                }
+                unchanged++;
+                if (parser.isCancelled()) {
+                    throw new ParserCancelledException("File load is cancelled");
+                }
+            }
+            in.close();
+
+            // Keep the unchanged records, and index the rest of the file from where they stop
+            RecordIndex result = new RecordIndex(layout, bomLength > 0, fileLength, old.count);
+            result.lastModified = file.lastModified();
+            System.arraycopy(old.tags, 0, result.tags, 0, unchanged);
+            System.arraycopy(old.xrefs, 0, result.xrefs, 0, unchanged);
+            System.arraycopy(old.starts, 0, result.starts, 0, unchanged);
+            System.arraycopy(old.lineNums, 0, result.lineNums, 0, unchanged);
+            System.arraycopy(old.checksums, 0, result.checksums, 0, unchanged);
+            result.count = unchanged;
+            long resumeAt = (unchanged == 0 ? 0 : old.starts[unchanged]);
+            int resumeLine = (unchanged == 0 ? 0 : old.lineNums[unchanged] - 1);
+            in = new BufferedInputStream(new FileInputStream(file), BLOCK_SIZE);
+            skipFully(in, resumeAt);
+            len = readBlock(in, block);
+            result.scan(parser, in, block, len, (unchanged == 0 ? bomLength : 0), resumeAt, resumeLine);
+            return result;
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Save the index to a file, so it can be read back with {@link #read(File)}. The index is written to a temporary
+     * file first, and then renamed, so that a process that is stopped part way through writing never leaves a
+     * half-written index behind.
+     * 
+     * @param indexFile
+     *            the file to save the index in
+     * @throws IOException
+     *             if the file can't be written
+     */
+    void write(File indexFile) throws IOException {
+        File tempFile = new File(indexFile.getPath() + ".tmp");
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)));
+        try {
+            out.writeInt(MAGIC_NUMBER);
+            out.writeInt(FILE_FORMAT_VERSION);
+            out.writeLong(fileLength);
+            out.writeLong(lastModified);
+            out.writeByte(layout.ordinal());
+            out.writeBoolean(byteOrderMarker);
+            out.writeInt(count);
+            for (int r = 0; r < count; r++) {
+                out.writeLong(starts[r]);
+                out.writeInt(lineNums[r]);
+                out.writeInt(checksums[r]);
+                out.writeUTF(tags[r] == null ? "" : tags[r]);
+                out.writeBoolean(xrefs[r] != null);
+                if (xrefs[r] != null) {
+                    out.writeUTF(xrefs[r]);
+                }
+            }
+        } finally {
+            out.close();
+        }
+        if (!tempFile.renameTo(indexFile)) {
+            // Some platforms won't rename over an existing file
+            if (!indexFile.delete() || !tempFile.renameTo(indexFile)) {
+                throw new IOException("Unable to replace index file " + indexFile);
+            }
+        }
+    }
+
+    /**
+     * Is this index up to date with the supplied file - that is, is the file the same size, and was it last modified at
+     * the same time, as when it was indexed?
+     * 
+     * @param file
+     *            the file
+     * @return true if the index is up to date with the file
+     */
+    boolean isCurrent(File file) {
+        return file.length() == fileLength && file.lastModified() == lastModified;
+    }
+
+    /**
+     * Skip over some bytes of a stream
+     * 
+     * @param in
+     *            the stream
+     * @param n
+     *            the number of bytes to skip
+     * @return the number of bytes skipped, which is less than n only at the end of the stream
+     * @throws IOException
+     *             if the stream can't be read
+     */
+    private static long skipFully(InputStream in, long n) throws IOException {
+        long total = 0;
+        while (total < n) {
+            long s = in.skip(n - total);
+            if (s <= 0) {
+                if (in.read() < 0) {
+                    break;
+                }
+                s = 1;
+            }
+            total += s;
+        }
+        return total;
+    }
+
+    /**
+     * Scan the bytes of the file, adding each record found to the index, and build the table for finding records by
+     * xref once the end of the file is reached
+     * 
+     * @param parser
+     *            the parser the index is being built for, which is checked for cancellation
+     * @param in
+     *            the rest of the file, after the bytes already in the block
+     * @param block
+     *            the block of bytes to start with
+     * @param len
+     *            the number of bytes in the block
+     * @param pos
+     *            where in the block to start scanning
+     * @param blockOffset
+     *            the offset in the file of the start of the block
+     * @param lineNum
+     *            the number of lines before the start of the scan
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file was cancelled, or the first line of a record can't be understood
+     */
+    private void scan(GedcomParser parser, InputStream in, byte[] block, int len, int pos, long blockOffset, int lineNum)
+            throws IOException, GedcomParserException {
+        int unitSize = (layout == Layout.SINGLE_BYTE ? 1 : 2);
+        LineLexer lexer = new LineLexer();
+        char[] heading = new char[MAX_HEADING_LENGTH];
+        int headingLength = -1; // -1 when the current line is not the first line of a record
+        boolean lineHasContent = false;
+        int lines = lineNum;
+        CRC32 crc = new CRC32();
+        int checksumFrom = -1; // Where in the block the bytes of the current record not yet checksummed start
+        int levelZeroAt = -1; // Where in the block a line began with 0, when the next character isn't known yet
+        int levelZeroLine = 0;
+
+        while (len > 0) {
+            int limit = len - (len % unitSize);
+            for (; pos < limit; pos += unitSize) {
+                char c;
+                if (layout == Layout.UTF16_LITTLE_ENDIAN) {
+                    c = (char) ((block[pos] & 0xFF) | ((block[pos + 1] & 0xFF) << 8));
+                } else if (layout == Layout.UTF16_BIG_ENDIAN) {
+                    c = (char) (((block[pos] & 0xFF) << 8) | (block[pos + 1] & 0xFF));
+                } else {
+                    c = (char) (block[pos] & 0xFF);
+                }
+                if (levelZeroAt >= 0) {
+                    // A record starts with a line beginning "0 " - anything else after the 0 is not a level
+                    if (c == ' ') {
+                        if (checksumFrom >= 0) {
+                            crc.update(block, checksumFrom, levelZeroAt - checksumFrom);
+                            checksums[count - 1] = (int) crc.getValue();
+                            crc.reset();
+                        }
+                        checksumFrom = levelZeroAt;
+                        add(blockOffset + levelZeroAt, levelZeroLine);
+                        heading[0] = '0';
+                        heading[1] = c;
+                        headingLength = 2;
+                        levelZeroAt = -1;
+                        continue;
+                    }
+                    levelZeroAt = -1;
+                }
+                if (c == '\n' || c == '\r') {
+                    if (headingLength >= 0) {
+                        setHeading(lexer, new String(heading, 0, headingLength), lines);
+                        headingLength = -1;
+                    }
+                    lineHasContent = false;
+                } else if (!lineHasContent) {
+                    if (!Character.isWhitespace(c)) {
+                        lineHasContent = true;
+                        lines++;
+                        if (c == '0') {
+                            levelZeroAt = pos;
+                            levelZeroLine = lines;
+                        }
+                    }
+                } else if (headingLength >= 0 && headingLength < MAX_HEADING_LENGTH) {
+                    heading[headingLength++] = c;
+                }
+            }
+            // Keep any partial character unit for the next block, along with a 0 that might start a record
+            int keepFrom = (levelZeroAt >= 0 ? levelZeroAt : limit);
+            int leftOver = len - keepFrom;
+            if (checksumFrom >= 0) {
+                crc.update(block, checksumFrom, keepFrom - checksumFrom);
+                checksumFrom = 0;
+            }
+            System.arraycopy(block, keepFrom, block, 0, leftOver);
+            blockOffset += keepFrom;
+            pos = limit - keepFrom;
+            if (levelZeroAt >= 0) {
+                levelZeroAt = 0;
+            }
+            if (parser.isCancelled()) {
+                throw new ParserCancelledException("File load is cancelled");
+            }
+            int r = readBlock(in, block, leftOver);
+            if (r <= 0) {
+                if (checksumFrom >= 0) {
+                    crc.update(block, 0, leftOver);
+                }
+                break;
+            }
+            len = leftOver + r;
+        }
+        if (headingLength >= 0) {
+            setHeading(lexer, new String(heading, 0, headingLength), lines);
+        }
+        if (checksumFrom >= 0) {
+            checksums[count - 1] = (int) crc.getValue();
+        }
+        buildXrefTable();
+    }
+
+    /**
+     * Read as many bytes as will fit into a block, or until the end of the stream
+     * 
+     * @param in
+     *            the stream to read
+     * @param block
+     *            the block to fill
+     * @return the number of bytes read, which is less than the size of the block only at the end of the stream
+     * @throws IOException
+     *             if the stream can't be read
+     */
+    private static int readBlock(InputStream in, byte[] block) throws IOException {
+        int r = readBlock(in, block, 0);
+        return r < 0 ? 0 : r;
+    }
+
+    /**
+     * Read as many bytes as will fit into the rest of a block, or until the end of the stream
+     * 
+     * @param in
+     *            the stream to read
+     * @param block
+     *            the block to fill
+     * @param offset
+     *            where in the block to start putting the bytes
+     * @return the number of bytes read, or -1 if the end of the stream had already been reached
+     * @throws IOException
+     *             if the stream can't be read
+     */
+    private static int readBlock(InputStream in, byte[] block, int offset) throws IOException {
+        int total = 0;
+        while (offset + total < block.length) {
+            int r = in.read(block, offset + total, block.length - offset - total);
+            if (r < 0) {
+                return total == 0 ? -1 : total;
+            }
+            total += r;
+        }
+        return total;
+    }
+
+    /**
+     * Find the first record with the supplied tag and xref
+     * 
+     * @param tag
+     *            the tag of the record
+     * @param xref
+     *            the xref of the record
+     * @return the index of the first record with that tag and xref, or -1 if there isn't one
+     */
+    int find(String tag, String xref) {
+        if (xref == null || byXref == null) {
+            return -1;
+        }
+        int mask = byXref.length - 1;
+        int slot = spread(xref.hashCode()) & mask;
+        int entry;
+        while ((entry = byXref[slot]) != 0) {
+            int r = entry - 1;
+            if (xref.equals(xrefs[r]) && tag.equals(tags[r])) {
+                return r;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Get the byte offset just past the end of a record
+     * 
+     * @param r
+     *            the index of the record
+     * @return the byte offset just past the end of the record
+     */
+    long getEnd(int r) {
+        return (r + 1 < count ? starts[r + 1] : fileLength);
+    }
+
+    /**
+     * Get the xrefs of all the records with the supplied tag, in file order, with duplicates left out
+     * 
+     * @param tag
+     *            the tag
+     * @return the xrefs of all the records with the tag
+     */
+    List<String> getXrefs(String tag) {
+        List<String> result = new ArrayList<String>();
+        for (int r = 0; r < count; r++) {
+            if (xrefs[r] != null && tag.equals(tags[r]) && find(tag, xrefs[r]) == r) {
+                result.add(xrefs[r]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Find the first record with the supplied tag, regardless of xref
+     * 
+     * @param tag
+     *            the tag
+     * @return the index of the first record with that tag, or -1 if there isn't one
+     */
+    int indexOf(String tag) {
+        for (int r = 0; r < count; r++) {
+            if (tag.equals(tags[r])) {
+                return r;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Add a record that starts at the supplied offset
+     * 
+     * @param start
+     *            the byte offset the record starts at
+     * @param lineNum
+     *            the line number of the first line of the record
+     */
+    void add(long start, int lineNum) {
+        if (count == starts.length) {
+            int newLength = count * 2;
+            tags = Arrays.copyOf(tags, newLength);
+            xrefs = Arrays.copyOf(xrefs, newLength);
+            starts = Arrays.copyOf(starts, newLength);
+            lineNums = Arrays.copyOf(lineNums, newLength);
+            checksums = Arrays.copyOf(checksums, newLength);
+        }
+        starts[count] = start;
+        lineNums[count] = lineNum;
+        count++;
+    }
+
+    /**
+     * Build the table for finding records by xref, and link up duplicates. Called once all the records have been added.
+     */
+    void buildXrefTable() {
+        nextDuplicate = new int[count];
+        Arrays.fill(nextDuplicate, -1);
+        int size = Integer.highestOneBit(Math.max(count, 8) * 2 - 1) << 1;
+        byXref = new int[size];
+        int mask = size - 1;
+        int[] lastDuplicate = new int[count];
+        for (int r = 0; r < count; r++) {
+            lastDuplicate[r] = r;
+            if (xrefs[r] == null) {
+                continue;
+            }
+            int first = find(tags[r], xrefs[r]);
+            if (first >= 0) {
+                nextDuplicate[lastDuplicate[first]] = r;
+                lastDuplicate[first] = r;
+                continue;
+            }
+            int slot = spread(xrefs[r].hashCode()) & mask;
+            while (byXref[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            byXref[slot] = r + 1;
+        }
+    }
+
+    /**
+     * Mix the bits of a hash code, so that xrefs that differ only in their high bits spread out in the table
+     * 
+     * @param h
+     *            the hash code
+     * @return the mixed hash code
+     */
+    private static int spread(int h) {
+        int x = h * 0x9E3779B9;
+        return x ^ (x >>> 16);
+    }
+
+    /**
+     * Record the tag and xref of the most recently added record, from its first line
+     * 
+     * @param lexer
+     *            a lexer to break up the line with
+     * @param line
+     *            the first line of the record (or as much of it as was kept)
+     * @param lineNum
+     *            the line number of the line
+     * @throws GedcomParserException
+     *             if the line can't be broken up
+     */
+    private void setHeading(LineLexer lexer, String line, int lineNum) throws GedcomParserException {
+        lexer.lex(line, lineNum);
+        String tag = lexer.getTagText();
+        tags[count - 1] = (tag == null ? null : tag.intern());
+        xrefs[count - 1] = lexer.getId();
+    }
+}
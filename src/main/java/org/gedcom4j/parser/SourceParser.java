@@ -55,39 +55,53 @@ class SourceParser extends AbstractParser<Source> {
     void parse() {
         if (stringTree.getChildren() != null) {
             for (StringTree ch : stringTree.getChildren()) {
-                if (Tag.DATA_FOR_SOURCE.equalsText(ch.getTag())) {
-                    loadInto.setData(new SourceData());
-                    loadSourceData(ch, loadInto.getData());
-                } else if (Tag.TITLE.equalsText(ch.getTag())) {
-                    loadMultiLinesOfText(ch, loadInto.getTitle(true), loadInto);
-                } else if (Tag.PUBLICATION_FACTS.equalsText(ch.getTag())) {
-                    loadMultiLinesOfText(ch, loadInto.getPublicationFacts(true), loadInto);
-                } else if (Tag.TEXT.equalsText(ch.getTag())) {
-                    loadMultiLinesOfText(ch, loadInto.getSourceText(true), loadInto);
-                } else if (Tag.ABBREVIATION.equalsText(ch.getTag())) {
-                    loadInto.setSourceFiledBy(new StringWithCustomTags(ch));
-                } else if (Tag.AUTHORS.equalsText(ch.getTag())) {
-                    loadMultiLinesOfText(ch, loadInto.getOriginatorsAuthors(true), loadInto);
-                } else if (Tag.REPOSITORY.equalsText(ch.getTag())) {
-                    loadInto.setRepositoryCitation(loadRepositoryCitation(ch));
-                } else if (Tag.NOTE.equalsText(ch.getTag())) {
-                    List<Note> notes = loadInto.getNotes(true);
-                    new NoteListParser(gedcomParser, ch, notes).parse();
-                } else if (Tag.OBJECT_MULTIMEDIA.equalsText(ch.getTag())) {
-                    List<Multimedia> multimedia = loadInto.getMultimedia(true);
-                    new MultimediaLinkParser(gedcomParser, ch, multimedia).parse();
-                } else if (Tag.REFERENCE.equalsText(ch.getTag())) {
-                    UserReference u = new UserReference();
-                    loadInto.getUserReferences(true).add(u);
-                    new UserReferenceParser(gedcomParser, ch, u).parse();
-                } else if (Tag.RECORD_ID_NUMBER.equalsText(ch.getTag())) {
-                    loadInto.setRecIdNumber(new StringWithCustomTags(ch));
-                } else if (Tag.CHANGED_DATETIME.equalsText(ch.getTag())) {
-                    ChangeDate changeDate = new ChangeDate();
-                    loadInto.setChangeDate(changeDate);
-                    new ChangeDateParser(gedcomParser, ch, changeDate).parse();
-                } else {
-                    unknownTag(ch, loadInto);
+                switch (Tag.of(ch)) {
+                    case DATA:
+                        loadInto.setData(new SourceData());
+                        loadSourceData(ch, loadInto.getData());
+                        break;
+                    case TITLE:
+                        loadMultiLinesOfText(ch, loadInto.getTitle(true), loadInto);
+                        break;
+                    case PUBLICATION_FACTS:
+                        loadMultiLinesOfText(ch, loadInto.getPublicationFacts(true), loadInto);
+                        break;
+                    case TEXT:
+                        loadMultiLinesOfText(ch, loadInto.getSourceText(true), loadInto);
+                        break;
+                    case ABBREVIATION:
+                        loadInto.setSourceFiledBy(new StringWithCustomTags(ch));
+                        break;
+                    case AUTHORS:
+                        loadMultiLinesOfText(ch, loadInto.getOriginatorsAuthors(true), loadInto);
+                        break;
+                    case REPOSITORY:
+                        loadInto.setRepositoryCitation(loadRepositoryCitation(ch));
+                        break;
+                    case NOTE:
+                        List<Note> notes = loadInto.getNotes(true);
+                        new NoteListParser(gedcomParser, ch, notes).parse();
+                        break;
+                    case OBJECT_MULTIMEDIA:
+                        List<Multimedia> multimedia = loadInto.getMultimedia(true);
+                        new MultimediaLinkParser(gedcomParser, ch, multimedia).parse();
+                        break;
+                    case REFERENCE:
+                        UserReference u = new UserReference();
+                        loadInto.getUserReferences(true).add(u);
+                        new UserReferenceParser(gedcomParser, ch, u).parse();
+                        break;
+                    case RECORD_ID_NUMBER:
+                        loadInto.setRecIdNumber(new StringWithCustomTags(ch));
+                        break;
+                    case CHANGED_DATETIME:
+                        ChangeDate changeDate = new ChangeDate();
+                        loadInto.setChangeDate(changeDate);
+                        new ChangeDateParser(gedcomParser, ch, changeDate).parse();
+                        break;
+                    default:
+                        unknownTag(ch, loadInto);
+                        break;
                 }
             }
         }
@@ -140,15 +154,20 @@ class SourceParser extends AbstractParser<Source> {
     private void loadSourceData(StringTree dataNode, SourceData sourceData) {
         if (dataNode.getChildren() != null) {
             for (StringTree ch : dataNode.getChildren()) {
-                if (Tag.EVENT.equalsText(ch.getTag())) {
-                    loadSourceDataEventRecorded(ch, sourceData);
-                } else if (Tag.NOTE.equalsText(ch.getTag())) {
-                    List<Note> notes = sourceData.getNotes(true);
-                    new NoteListParser(gedcomParser, ch, notes).parse();
-                } else if (Tag.AGENCY.equalsText(ch.getTag())) {
-                    sourceData.setRespAgency(new StringWithCustomTags(ch));
-                } else {
-                    unknownTag(ch, sourceData);
+                switch (Tag.of(ch)) {
+                    case EVENT:
+                        loadSourceDataEventRecorded(ch, sourceData);
+                        break;
+                    case NOTE:
+                        List<Note> notes = sourceData.getNotes(true);
+                        new NoteListParser(gedcomParser, ch, notes).parse();
+                        break;
+                    case AGENCY:
+                        sourceData.setRespAgency(new StringWithCustomTags(ch));
+                        break;
+                    default:
+                        unknownTag(ch, sourceData);
+                        break;
                 }
             }
         }
@@ -57,20 +57,26 @@ class SourceSystemParser extends AbstractParser<SourceSystem> {
         loadInto.setSystemId(stringTree.getValue());
         if (stringTree.getChildren() != null) {
             for (StringTree ch : stringTree.getChildren()) {
-                if (Tag.VERSION.equalsText(ch.getTag())) {
-                    loadInto.setVersionNum(new StringWithCustomTags(ch));
-                } else if (Tag.NAME.equalsText(ch.getTag())) {
-                    loadInto.setProductName(new StringWithCustomTags(ch));
-                } else if (Tag.CORPORATION.equalsText(ch.getTag())) {
-                    Corporation corporation = new Corporation();
-                    loadInto.setCorporation(corporation);
-                    new CorporationParser(gedcomParser, ch, corporation).parse();
-                } else if (Tag.DATA_FOR_CITATION.equalsText(ch.getTag())) {
-                    HeaderSourceData headerSourceData = new HeaderSourceData();
-                    loadInto.setSourceData(headerSourceData);
-                    new HeaderSourceDataParser(gedcomParser, ch, headerSourceData).parse();
-                } else {
-                    unknownTag(ch, loadInto);
+                switch (Tag.of(ch)) {
+                    case VERSION:
+                        loadInto.setVersionNum(new StringWithCustomTags(ch));
+                        break;
+                    case NAME:
+                        loadInto.setProductName(new StringWithCustomTags(ch));
+                        break;
+                    case CORPORATION:
+                        Corporation corporation = new Corporation();
+                        loadInto.setCorporation(corporation);
+                        new CorporationParser(gedcomParser, ch, corporation).parse();
+                        break;
+                    case DATA:
+                        HeaderSourceData headerSourceData = new HeaderSourceData();
+                        loadInto.setSourceData(headerSourceData);
+                        new HeaderSourceDataParser(gedcomParser, ch, headerSourceData).parse();
+                        break;
+                    default:
+                        unknownTag(ch, loadInto);
+                        break;
                 }
             }
         }
@@ -26,226 +26,497 @@
  */
 package org.gedcom4j.parser;
 
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 
 /**
- * A class to handle canonical strings, to reduce memory consumption by repeated instances of frequently used string
- * values. Unlike string.intern(), this implementation does not put things in permgen (or does it)? It also has a max
- * size, only canonicalizes strings repeated more than a certain number of times.
+ * <p>
+ * A cache of canonical instances of string values, so that the many repeats of the same value in a GEDCOM file (place
+ * names, dates, source titles and so on) share a single string in memory rather than each having their own copy.
+ * Unlike {@link String#intern()}, the cache has a fixed maximum size and can be thrown away when no longer needed.
+ * </p>
+ * <p>
+ * A {@link GedcomParser} has one of these for the whole of each parse. A long-running process that parses many files
+ * with similar content can share one between parsers with {@link GedcomParser#setStringCanonicalizer(StringCanonicalizer)}
+ * so that values common to all the files don't get loaded into the cache over and over.
+ * </p>
+ * <p>
+ * The cache decides what to keep based on how often values are seen, not just on how recently. Every value looked up
+ * is counted in a compact, approximate frequency table (a count-min sketch), whose counts are periodically halved so
+ * that they reflect recent history. Once the cache is full, a new value only takes the place of an existing entry if it
+ * has been seen more often than that entry - so a stream of values that each occur only once can't push out values
+ * that occur over and over. Entries that have been looked up more than once are kept apart from the rest, and are the
+ * last to be considered for replacement.
+ * </p>
+ * <p>
+ * Instances are safe to use from multiple threads. The cache is split into segments by hash code, each with its own
+ * lock, so threads parsing different records rarely wait on each other.
+ * </p>
  * 
  * @author frizbog
- *
+ * @since 3.0.2
  */
-class StringCanonicalizer {
+public class StringCanonicalizer {
 
     /**
-     * A canonicalized string
-     * 
-     * @author frizbog
+     * The default maximum number of strings kept in the cache
      */
-    class CanonicalizedString {
-        /**
-         * The number of times this entry is used
-         */
-        long count;
-
-        /**
-         * The value of this entry
-         */
-        final String value;
-
-        /**
-         * Constructor
-         * 
-         * @param str
-         *            the string value
-         */
-        CanonicalizedString(String str) {
-            value = str;
-            count = 0;
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public String toString() {
-            StringBuilder builder = new StringBuilder();
-            builder.append("CanonicalizedString [count=");
-            builder.append(count);
-            builder.append(", ");
-            if (value != null) {
-                builder.append("value=");
-                builder.append(value);
-            }
-            builder.append("]");
-            return builder.toString();
-        }
-
-    }
+    public static final int DEFAULT_MAX_SIZE = 10000;
 
     /**
-     * The string pool
+     * The number of segments used for caches big enough to be worth splitting up. A power of two.
      */
-    final ConcurrentMap<String, CanonicalizedString> stringPool = new ConcurrentHashMap<String, CanonicalizedString>(100);
+    private static final int NUM_SEGMENTS = 16;
 
     /**
-     * The minimum number of usages that a canonicalized string has to have to remain in the pool during cleanup
+     * The smallest number of entries per segment worth having - caches smaller than this many entries per segment use a
+     * single segment
      */
-    private int poolUsageThreshold = 25;
+    private static final int MIN_SEGMENT_SIZE = 64;
 
     /**
-     * The max size of the string pool
+     * The segments of the cache. The length is a power of two.
      */
-    private int maxPoolSize = 1000;
+    private final Segment[] segments;
 
     /**
-     * The number of eviction events that occurred
+     * The maximum number of strings kept in the cache
      */
-    int numEvictions = 0;
+    private final int maxSize;
 
     /**
-     * The number of items evicted
+     * Default constructor, for a cache of {@link #DEFAULT_MAX_SIZE} strings
      */
-    private int numEvictedCumulative = 0;
+    public StringCanonicalizer() {
+        this(DEFAULT_MAX_SIZE);
+    }
 
     /**
-     * A flag to indicate whether we've maxed out the pool to keep from thrashing
+     * Constructor
+     * 
+     * @param maxSize
+     *            the maximum number of strings to keep in the cache. Must be at least 1.
      */
-    private boolean maxedOut = false;
+    public StringCanonicalizer(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be at least 1");
+        }
+        this.maxSize = maxSize;
+        int numSegments = (maxSize >= NUM_SEGMENTS * MIN_SEGMENT_SIZE ? NUM_SEGMENTS : 1);
+        segments = new Segment[numSegments];
+        for (int i = 0; i < numSegments; i++) {
+            // Spread the remainder over the first few segments so the capacities add up to maxSize
+            segments[i] = new Segment(maxSize / numSegments + (i < maxSize % numSegments ? 1 : 0));
+        }
+    }
 
     /**
-     * Default constructor
+     * Get the canonical version of a string
+     * 
+     * @param str
+     *            the string we want to get a canonical version of
+     * @return either the string itself, or an equal string that was seen earlier and kept in the cache
      */
-    public StringCanonicalizer() {
-        this(500, 25);
+    public String getCanonicalVersion(String str) {
+        if (str == null) {
+            return null;
+        }
+        if (str.length() == 0) {
+            return "";
+        }
+        int hash = spread(str.hashCode());
+        return segments[hash & (segments.length - 1)].canonicalize(str, hash);
     }
 
     /**
-     * Constructor that lets you specify the pool size and usage threshold
+     * Get the number of times a value had to be admitted to the cache by taking the place of another
      * 
-     * @param maxPoolSize
-     *            the maximum number of items in the pool
-     * @param poolUsageThreshold
-     *            the minimum number of uses to remain in the pool during an eviction
-     */
-    private StringCanonicalizer(int maxPoolSize, int poolUsageThreshold) {
-        this.maxPoolSize = maxPoolSize;
-        this.poolUsageThreshold = poolUsageThreshold;
+     * @return the number of times a value had to be admitted to the cache by taking the place of another
+     */
+    public long getEvictionCount() {
+        long result = 0;
+        for (Segment s : segments) {
+            synchronized (s) {
+                result += s.evictions;
+            }
+        }
+        return result;
     }
 
     /**
-     * Get the maximum number of items in the pool
+     * Get the number of times a string was found in the cache
      * 
-     * @return the maximum number of items in the pool
+     * @return the number of times a string was found in the cache
      */
-    public int getMaxPoolSize() {
-        return maxPoolSize;
+    public long getHitCount() {
+        long result = 0;
+        for (Segment s : segments) {
+            synchronized (s) {
+                result += s.hits;
+            }
+        }
+        return result;
     }
 
     /**
-     * Get the cumulative total count of items that have been evicted from the pool
+     * Get the maximum number of strings kept in the cache
      * 
-     * @return the cumulative total count of items that have been evicted from the pool
+     * @return the maximum number of strings kept in the cache
      */
-    public int getNumEvictedCumulative() {
-        return numEvictedCumulative;
+    public int getMaxSize() {
+        return maxSize;
     }
 
     /**
-     * Get the number of times the pool has been evicted
+     * Get the number of times a string was not found in the cache
      * 
-     * @return the number of times the pool has been evicted
+     * @return the number of times a string was not found in the cache
      */
-    public int getNumEvictions() {
-        return numEvictions;
+    public long getMissCount() {
+        long result = 0;
+        for (Segment s : segments) {
+            synchronized (s) {
+                result += s.misses;
+            }
+        }
+        return result;
     }
 
     /**
-     * Get the minimum usage to remain in the pool after eviction
+     * Get the number of times a string was not found in the cache, and was not added to it either because it has not
+     * been seen as often as the entry it would have replaced
      * 
-     * @return the minimum usage to remain in the pool after eviction
+     * @return the number of times a string was turned away from the cache
      */
-    public int getPoolUsageThreshold() {
-        return poolUsageThreshold;
+    public long getRejectionCount() {
+        long result = 0;
+        for (Segment s : segments) {
+            synchronized (s) {
+                result += s.rejections;
+            }
+        }
+        return result;
     }
 
     /**
-     * Is the pool maxed out? Meaning - is it full, and evictions aren't helping?
+     * Get the number of strings currently in the cache
      * 
-     * @return is the pool maxed out?
+     * @return the number of strings currently in the cache
      */
-    public boolean isMaxedOut() {
-        return maxedOut;
+    public int getSize() {
+        int result = 0;
+        for (Segment s : segments) {
+            synchronized (s) {
+                result += s.size();
+            }
+        }
+        return result;
     }
 
     /**
-     * Get the canonical version of a string
+     * Empty the cache, and reset the statistics
+     */
+    public void reset() {
+        for (Segment s : segments) {
+            s.reset();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("StringCanonicalizer [size=");
+        builder.append(getSize());
+        builder.append(", maxSize=");
+        builder.append(maxSize);
+        builder.append(", hits=");
+        builder.append(getHitCount());
+        builder.append(", misses=");
+        builder.append(getMissCount());
+        builder.append(", evictions=");
+        builder.append(getEvictionCount());
+        builder.append(", rejections=");
+        builder.append(getRejectionCount());
+        builder.append("]");
+        return builder.toString();
+    }
+
+    /**
+     * Mix the bits of a hash code, so that strings whose hash codes differ only in the high bits still land in
+     * different segments and sketch cells
      * 
-     * @param str
-     *            the string we want to get a canonical version of
-     * @return either the string itself, or the canonicalized version, depending on the state of the string pool
+     * @param h
+     *            the hash code
+     * @return the mixed hash code
      */
-    String getCanonicalVersion(String str) {
-        if (str == null) {
-            return str;
+    private static int spread(int h) {
+        int x = h * 0x9E3779B9;
+        return x ^ (x >>> 16);
+    }
+
+    /**
+     * An approximate count of how often each hash code has been seen. Made up of four rows of 4-bit counters, each
+     * indexed by a different hash of the value; the estimate for a value is the smallest of its four counters, which is
+     * never less than the true count (until the counts are aged). Once the number of values counted reaches ten times
+     * the size of the segment, all the counters are halved, so values that were common a long time ago but not lately
+     * gradually lose their standing.
+     */
+    static final class FrequencySketch {
+
+        /**
+         * The seeds for the hash of each row
+         */
+        private static final int[] SEEDS = { 0x97CB3127, 0xB3F4A6E5, 0xC2B2AE35, 0x85EBCA6B };
+
+        /**
+         * The counters. Each long holds sixteen 4-bit counters.
+         */
+        private final long[] table;
+
+        /**
+         * The number of values counted since the counters were last halved
+         */
+        private int additions;
+
+        /**
+         * The number of values to count before halving the counters
+         */
+        private final int sampleSize;
+
+        /**
+         * Constructor
+         * 
+         * @param capacity
+         *            the number of entries in the cache this sketch serves
+         */
+        FrequencySketch(int capacity) {
+            // Sixteen counters per entry, rounded up to a power of two, so that the estimates stay close to the true counts
+            table = new long[Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1];
+            sampleSize = capacity * 10;
         }
-        if (str.length() == 0) {
-            return "".intern();
+
+        /**
+         * Get the estimated number of times a value has been seen
+         * 
+         * @param hash
+         *            the (spread) hash code of the value
+         * @return the estimated number of times the value has been seen, up to 15
+         */
+        int frequency(int hash) {
+            int result = 15;
+            for (int row = 0; row < SEEDS.length; row++) {
+                int index = indexOf(hash, row);
+                int count = (int) ((table[index >>> 4] >>> ((index & 15) << 2)) & 0xFL);
+                result = Math.min(result, count);
+            }
+            return result;
         }
-        CanonicalizedString canon;
-        canon = stringPool.get(str);
-        if (canon != null) {
-            canon.count++;
-            return canon.value;
+
+        /**
+         * Count one more sighting of a value
+         * 
+         * @param hash
+         *            the (spread) hash code of the value
+         */
+        void increment(int hash) {
+            for (int row = 0; row < SEEDS.length; row++) {
+                int index = indexOf(hash, row);
+                int shift = (index & 15) << 2;
+                if (((table[index >>> 4] >>> shift) & 0xFL) < 15) {
+                    table[index >>> 4] += (1L << shift);
+                }
+            }
+            if (++additions >= sampleSize) {
+                halve();
+            }
         }
 
-        // Pool is too big - try and evict the lowest used entries
-        if (stringPool.size() > maxPoolSize) {
-            evictLowValueEntries();
-            // If evicting didn't help, return the original string and mark the pool as maxed out to prevent thrashing
-            if (stringPool.size() > maxPoolSize) {
-                maxedOut = true;
-                return str;
+        /**
+         * Set all the counts back to zero
+         */
+        void clear() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] = 0;
             }
+            additions = 0;
         }
-        canon = new CanonicalizedString(str);
-        stringPool.put(str, canon);
-        return canon.value;
-    }
 
-    /**
-     * Clear the string pool entirely
-     */
-    void reset() {
-        stringPool.clear();
-        numEvictedCumulative = 0;
-        numEvictions = 0;
-        maxedOut = false;
+        /**
+         * Halve all the counters
+         */
+        private void halve() {
+            for (int i = 0; i < table.length; i++) {
+                // Shift every 4-bit counter right by one, dropping the bit that moves into the next counter
+                table[i] = (table[i] >>> 1) & 0x7777777777777777L;
+            }
+            additions /= 2;
+        }
+
+        /**
+         * Get the index of the counter for a value in one of the rows
+         * 
+         * @param hash
+         *            the (spread) hash code of the value
+         * @param row
+         *            the row
+         * @return the index of the counter, counting 4-bit counters from the start of {@link #table}
+         */
+        private int indexOf(int hash, int row) {
+            int h = (hash ^ SEEDS[row]) * SEEDS[row];
+            h ^= h >>> 15;
+            return h & (table.length * 16 - 1);
+        }
     }
 
     /**
-     * Evict all items that have fewer than uses
+     * One part of the cache, covering the strings whose hash codes fall into it. Entries start out on probation; one
+     * that is looked up again is moved to the protected part, which holds most of the segment. When room has to be made,
+     * the candidate to be replaced is the least recently used entry on probation, so values that have proven their worth
+     * are only at risk once they have dropped out of the protected part.
      */
-    private void evictLowValueEntries() {
-        if (maxedOut) {
-            return;
+    private static final class Segment {
+        /**
+         * The fraction of the segment set aside for entries that have been looked up more than once
+         */
+        private static final double PROTECTED_FRACTION = 0.8;
+
+        /**
+         * The entries on probation, each mapped to itself, from least to most recently used
+         */
+        private final LinkedHashMap<String, String> probation = new LinkedHashMap<String, String>(16, 0.75f, true);
+
+        /**
+         * The entries that have been looked up more than once, each mapped to itself, from least to most recently used
+         */
+        private final LinkedHashMap<String, String> protectedEntries = new LinkedHashMap<String, String>(16, 0.75f, true);
+
+        /**
+         * How often the strings looked up in this segment have been seen
+         */
+        private final FrequencySketch sketch;
+
+        /**
+         * The maximum number of strings in this segment
+         */
+        private final int capacity;
+
+        /**
+         * The maximum number of strings in {@link #protectedEntries}
+         */
+        private final int protectedCapacity;
+
+        /**
+         * The number of times a string was found in this segment
+         */
+        private long hits;
+
+        /**
+         * The number of times a string was not found in this segment
+         */
+        private long misses;
+
+        /**
+         * The number of times an entry was replaced to make room for a more frequently seen one
+         */
+        private long evictions;
+
+        /**
+         * The number of times a string was not admitted because it had not been seen as often as the entry it would
+         * have replaced
+         */
+        private long rejections;
+
+        /**
+         * Constructor
+         * 
+         * @param capacity
+         *            the maximum number of strings in this segment
+         */
+        Segment(int capacity) {
+            this.capacity = capacity;
+            protectedCapacity = (int) (capacity * PROTECTED_FRACTION);
+            sketch = new FrequencySketch(capacity);
         }
-        numEvictions++;
-        int before = stringPool.size();
-        for (CanonicalizedString canon : stringPool.values()) {
-            if (canon.count < poolUsageThreshold) {
-                stringPool.remove(canon.value);
+
+        /**
+         * Get the canonical version of a string
+         * 
+         * @param str
+         *            the string
+         * @param hash
+         *            the (spread) hash code of the string
+         * @return the canonical version of the string
+         */
+        synchronized String canonicalize(String str, int hash) {
+            sketch.increment(hash);
+            String canon = protectedEntries.get(str);
+            if (canon != null) {
+                hits++;
+                return canon;
+            }
+            canon = probation.remove(str);
+            if (canon != null) {
+                hits++;
+                promote(canon);
+                return canon;
+            }
+            misses++;
+            if (size() < capacity) {
+                probation.put(str, str);
+                return str;
+            }
+            Iterator<String> lru = (probation.isEmpty() ? protectedEntries : probation).keySet().iterator();
+            String victim = lru.next();
+            if (sketch.frequency(hash) > sketch.frequency(spread(victim.hashCode()))) {
+                lru.remove();
+                probation.put(str, str);
+                evictions++;
+            } else {
+                rejections++;
             }
+            return str;
         }
-        int after = stringPool.size();
-        numEvictedCumulative += (before - after);
-        if ((before - after) < 2) {
-            maxedOut = true;
+
+        /**
+         * Empty the segment, and reset its statistics
+         */
+        synchronized void reset() {
+            probation.clear();
+            protectedEntries.clear();
+            sketch.clear();
+            hits = 0;
+            misses = 0;
+            evictions = 0;
+            rejections = 0;
         }
-        // System.out.println((before - after) + " item(s) evicted from string pool - was " + before + ", now " +
-        // after);
-    }
 
+        /**
+         * Get the number of strings in this segment. Callers must hold the lock.
+         * 
+         * @return the number of strings in this segment
+         */
+        int size() {
+            return probation.size() + protectedEntries.size();
+        }
+
+        /**
+         * Move an entry that has been looked up again into the protected part, moving the least recently used protected
+         * entry back to probation if that makes the protected part too big
+         * 
+         * @param canon
+         *            the entry, which has already been removed from probation
+         */
+        private void promote(String canon) {
+            protectedEntries.put(canon, canon);
+            if (protectedEntries.size() > protectedCapacity) {
+                Iterator<String> lru = protectedEntries.keySet().iterator();
+                String demoted = lru.next();
+                lru.remove();
+                probation.put(demoted, demoted);
+            }
+        }
+    }
 }
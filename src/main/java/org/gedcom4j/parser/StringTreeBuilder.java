@@ -26,8 +26,6 @@
  */
 package org.gedcom4j.parser;
 
-import java.util.Arrays;
-
 import org.gedcom4j.exception.GedcomParserException;
 import org.gedcom4j.model.StringTree;
 
@@ -74,10 +72,38 @@ class StringTreeBuilder {
     private final StringTree[] lastNodeAtLevel = new StringTree[100];
 
     /**
-     * A flag indicating whether the current line from the input file begins with a 1-2 digit level number followed by a
-     * space
+     * The highest index in {@link #lastNodeAtLevel} that might not be null, so that clearing the child levels only has
+     * to touch the entries actually in use
+     */
+    private int deepestLevel = -1;
+
+    /**
+     * The lexer that breaks each line into its pieces. Reused for every line.
+     */
+    private final LineLexer lexer = new LineLexer();
+
+    /**
+     * Which parts of the file to skip
+     */
+    private final LoadOptions loadOptions;
+
+    /**
+     * The level of the line at the top of the subtree currently being skipped, or -1 if lines aren't being skipped.
+     * Lines deeper than this are skipped.
+     */
+    private int skippingBelowLevel = -1;
+
+    /**
+     * The line number of the first line in the current run of lines that were treated as non-standard continuations of
+     * the previous line, or 0 if the last line read wasn't one
+     */
+    private int continuationRunStart;
+
+    /**
+     * The number of lines in the current run of lines that were treated as non-standard continuations of the previous
+     * line
      */
-    private boolean beginsWithLevelAndSpace;
+    private int continuationRunLength;
 
     /**
      * The string tree node that represents the current line and all its children.
@@ -110,9 +136,10 @@ class StringTreeBuilder {
     private String line;
 
     /**
-     * A canonicalizing string pool to reduce the number of repeated instances of strings, without using String.intern()
+     * A canonicalizing string pool to reduce the number of repeated instances of strings, without using String.intern().
+     * Belongs to the parser, so it's shared by all the records in the file.
      */
-    private final StringCanonicalizer canonizer = new StringCanonicalizer();
+    private final StringCanonicalizer canonizer;
 
     /**
      * Constructor
@@ -123,6 +150,8 @@ class StringTreeBuilder {
      */
     StringTreeBuilder(GedcomParser parser) {
         this.parser = parser;
+        canonizer = parser.getStringCanonicalizer();
+        loadOptions = parser.getLoadOptions();
         getTree().setLevel(-1);
         mostRecentlyAdded = null;
         lineNum = parser.getLineNum();
@@ -150,69 +179,74 @@ class StringTreeBuilder {
     void appendLine(String l) throws GedcomParserException {
         line = l;
         lineNum++;
-        treeForCurrentLine = new StringTree();
-        treeForCurrentLine.setLineNum(lineNum);
 
-        checkIfNewLevelLine();
-
-        if (beginsWithLevelAndSpace) {
-            addNewNode();
+        if (startsWithLevelAndSpace()) {
+            warnAboutContinuationRun();
+            lexer.lex(line, lineNum);
+            Tag tag = lexer.getTag();
+            if (isSkipped(tag)) {
+                return;
+            }
+            treeForCurrentLine = new StringTree();
+            treeForCurrentLine.setLineNum(lineNum);
+            addNewNode(tag);
             mostRecentlyAdded = treeForCurrentLine;
-        } else {
+        } else if (parser.isStrictLineBreaks()) {
+            throw new GedcomParserException("Line " + lineNum + " does not begin with a 1 or 2 digit number for the level followed by a space: " + line);
+        } else if (skippingBelowLevel < 0) {
+            // Probably a non-standard file - see Issue 100
+            treeForCurrentLine = new StringTree();
+            treeForCurrentLine.setLineNum(lineNum);
             makeConcatenationOfPreviousNode();
         }
     }
 
     /**
-     * Add a new node to the correct parent node in the StringTree
+     * Finish building the string tree, after the last line for it has been appended. Adds any warning still owed for
+     * the lines just read.
+     */
+    void finish() {
+        warnAboutContinuationRun();
+    }
+
+    /**
+     * Add a new node for the line just lexed to the correct parent node in the StringTree
      * 
-     * @throws GedcomParserException
-     *             if there are file lines that are not well formed - see {@link LinePieces#LinePieces(String, int)}
+     * @param tag
+     *            the tag of the line
      */
-    private void addNewNode() throws GedcomParserException {
-        LinePieces lp = new LinePieces(line, lineNum);
-        treeForCurrentLine.setLevel(lp.level);
-        treeForCurrentLine.setId(lp.id);
-        treeForCurrentLine.setTag(lp.tag.intern());
-        treeForCurrentLine.setValue(canonizer.getCanonicalVersion(lp.remainder));
-        lp = null;
+    private void addNewNode(Tag tag) {
+        int level = lexer.getLevel();
+        treeForCurrentLine.setLevel(level);
+        treeForCurrentLine.setId(lexer.getId());
+        if (tag == Tag.UNRECOGNIZED) {
+            String tagText = lexer.getTagText();
+            treeForCurrentLine.setTag(tagText == null ? null : tagText.intern());
+        } else {
+            // Share the tag's own copy of the text, rather than making a new one from the line
+            treeForCurrentLine.setTag(tag.tagText);
+        }
+        treeForCurrentLine.setTagSymbol(tag.getSymbol());
+        treeForCurrentLine.setValue(canonizer.getCanonicalVersion(lexer.getValue()));
 
         StringTree addTo = null;
-        if (treeForCurrentLine.getLevel() == 0) {
+        if (level == 0) {
             addTo = getTree();
         } else {
-            addTo = lastNodeAtLevel[treeForCurrentLine.getLevel() - 1];
+            addTo = lastNodeAtLevel[level - 1];
         }
         if (addTo == null) {
-            parser.getErrors().add(treeForCurrentLine.getTag() + " tag at line " + treeForCurrentLine.getLineNum()
-                    + ": Unable to find suitable parent node at level " + (treeForCurrentLine.getLevel() - 1));
+            report(DiagnosticCode.NO_PARENT_FOUND, treeForCurrentLine.getLineNum(), treeForCurrentLine.getTag(), Integer.valueOf(
+                    treeForCurrentLine.getLineNum()), Integer.valueOf(level - 1));
         } else {
             addTo.getChildren(true).add(treeForCurrentLine);
             treeForCurrentLine.setParent(addTo);
-            lastNodeAtLevel[treeForCurrentLine.getLevel()] = treeForCurrentLine;
+            lastNodeAtLevel[level] = treeForCurrentLine;
         }
-        Arrays.fill(lastNodeAtLevel, treeForCurrentLine.getLevel() + 1, 100, null);
-    }
-
-    /**
-     * Check that the line has a level number so we can know whether it's a new line or a continuation of the previous
-     * one
-     * 
-     * @throws GedcomParserException
-     *             if we can't determine whether the current line is a new leveled line in the file or not when strict
-     *             line breaks are off, or that the line does not begin with a level number when strict line breaks are
-     *             enabled.
-     */
-    private void checkIfNewLevelLine() throws GedcomParserException {
-        beginsWithLevelAndSpace = false;
-        try {
-            // Probably sets it to true, but might not for a non-standard file - see Issue 100
-            beginsWithLevelAndSpace = startsWithLevelAndSpace();
-        } catch (GedcomParserException e) {
-            if (parser.isStrictLineBreaks()) {
-                throw e;
-            }
+        for (int i = level + 1; i <= deepestLevel; i++) {
+            lastNodeAtLevel[i] = null;
         }
+        deepestLevel = level;
     }
 
     /**
@@ -222,7 +256,7 @@ class StringTreeBuilder {
         // Doesn't begin with a level number followed by a space, and we don't have strictLineBreaks
         // required, so it's probably meant to be a continuation of the previous text value.
         if (mostRecentlyAdded == null) {
-            parser.getWarnings().add("Line " + lineNum + " did not begin with a level and tag, so it was discarded.");
+            report(DiagnosticCode.DISCARDED_LINE, lineNum, Integer.valueOf(lineNum));
         } else {
             // Try to add as a CONT line to previous node, as if the file had been properly escaped
             treeForCurrentLine.setLevel(mostRecentlyAdded.getLevel() + 1);
@@ -230,40 +264,78 @@ class StringTreeBuilder {
             treeForCurrentLine.setValue(line);
             treeForCurrentLine.setParent(mostRecentlyAdded);
             mostRecentlyAdded.getChildren(true).add(treeForCurrentLine);
-            parser.getWarnings().add("Line " + lineNum + " did not begin with a level and tag, so it was treated as a "
-                    + "non-standard continuation of the previous line.");
+            if (continuationRunLength == 0) {
+                continuationRunStart = lineNum;
+            }
+            continuationRunLength++;
         }
     }
 
     /**
-     * Does this line start with a 1-2 digit level number and a space?
+     * Report a diagnostic for the record being built
      * 
-     * @return true if and only if the line begins with a 1-2 digit level number followed by a space
-     * @throws GedcomParserException
-     *             if the line does not begin with a 1-2 digit number followed by a space
+     * @param code
+     *            what kind of problem was found
+     * @param diagnosticLineNum
+     *            the line number where the problem was found
+     * @param args
+     *            the details needed to describe the problem, which depend on the code
      */
-    private boolean startsWithLevelAndSpace() throws GedcomParserException {
-
-        try {
-            char c1 = line.charAt(0);
-            char c2 = line.charAt(1);
-            char c3 = line.charAt(2);
+    private void report(DiagnosticCode code, int diagnosticLineNum, Object... args) {
+        String xref = lastNodeAtLevel[0] == null ? null : lastNodeAtLevel[0].getId();
+        parser.report(new ParseDiagnostic(code, diagnosticLineNum, xref, args));
+    }
 
-            if (Character.isDigit(c1)) {
-                if (' ' == c2) {
-                    return true;
-                } else if (Character.isDigit(c2) && ' ' == c3) {
-                    return true;
-                } else {
-                    throw new GedcomParserException("Line " + lineNum + " does not begin with a 1 or 2 digit number for the level followed by a space: "
-                            + line);
-                }
+    /**
+     * Should the line just lexed be skipped, according to the {@link LoadOptions}? Once a line is skipped, so is
+     * everything beneath it.
+     * 
+     * @param tag
+     *            the tag of the line
+     * @return true if the line should be skipped
+     */
+    private boolean isSkipped(Tag tag) {
+        int level = lexer.getLevel();
+        if (skippingBelowLevel >= 0) {
+            if (level > skippingBelowLevel) {
+                return true;
             }
-            throw new GedcomParserException("Line " + lineNum + " does not begin with a 1 or 2 digit number for the level followed by a space: " + line);
-        } catch (IndexOutOfBoundsException e) {
-            throw new GedcomParserException("Line " + lineNum + " does not begin with a 1 or 2 digit number for the level followed by a space: " + line, e);
+            skippingBelowLevel = -1;
+        }
+        if (loadOptions.isSkippingAnything() && loadOptions.isSkipped(lexer, tag)) {
+            skippingBelowLevel = level;
+            return true;
         }
+        return false;
+    }
 
+    /**
+     * Does this line start with a 1-2 digit level number and a space? Checked without throwing exceptions, since in a
+     * non-standard file a great many lines may not.
+     * 
+     * @return true if and only if the line begins with a 1-2 digit level number followed by a space
+     */
+    private boolean startsWithLevelAndSpace() {
+        if (line.length() < 3 || !Character.isDigit(line.charAt(0))) {
+            return false;
+        }
+        char c2 = line.charAt(1);
+        return ' ' == c2 || (Character.isDigit(c2) && ' ' == line.charAt(2));
+    }
+
+    /**
+     * Add a single warning for the current run of lines that were treated as non-standard continuations of the previous
+     * line, if there is one, and start over. Files with hand-wrapped text can have a great many such lines, so they get
+     * a warning per run of lines rather than per line.
+     */
+    private void warnAboutContinuationRun() {
+        if (continuationRunLength == 0) {
+            return;
+        }
+        report(DiagnosticCode.NON_STANDARD_CONTINUATION, continuationRunStart, Integer.valueOf(continuationRunStart), Integer
+                .valueOf(continuationRunLength));
+        continuationRunLength = 0;
+        continuationRunStart = 0;
     }
 
 }
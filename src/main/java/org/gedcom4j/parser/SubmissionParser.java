@@ -55,22 +55,31 @@ class SubmissionParser extends AbstractParser<Submission> {
     void parse() {
         if (stringTree.getChildren() != null) {
             for (StringTree ch : stringTree.getChildren()) {
-                if (Tag.SUBMITTER.equalsText(ch.getTag())) {
-                    loadInto.setSubmitter(getSubmitter(ch.getValue()));
-                } else if (Tag.FAMILY_FILE.equalsText(ch.getTag())) {
-                    loadInto.setNameOfFamilyFile(new StringWithCustomTags(ch));
-                } else if (Tag.TEMPLE.equalsText(ch.getTag())) {
-                    loadInto.setTempleCode(new StringWithCustomTags(ch));
-                } else if (Tag.ANCESTORS.equalsText(ch.getTag())) {
-                    loadInto.setAncestorsCount(new StringWithCustomTags(ch));
-                } else if (Tag.DESCENDANTS.equalsText(ch.getTag())) {
-                    loadInto.setDescendantsCount(new StringWithCustomTags(ch));
-                } else if (Tag.ORDINANCE_PROCESS_FLAG.equalsText(ch.getTag())) {
-                    loadInto.setOrdinanceProcessFlag(new StringWithCustomTags(ch));
-                } else if (Tag.RECORD_ID_NUMBER.equalsText(ch.getTag())) {
-                    loadInto.setRecIdNumber(new StringWithCustomTags(ch));
-                } else {
-                    unknownTag(ch, loadInto);
+                switch (Tag.of(ch)) {
+                    case SUBMITTER:
+                        loadInto.setSubmitter(getSubmitter(ch.getValue()));
+                        break;
+                    case FAMILY_FILE:
+                        loadInto.setNameOfFamilyFile(new StringWithCustomTags(ch));
+                        break;
+                    case TEMPLE:
+                        loadInto.setTempleCode(new StringWithCustomTags(ch));
+                        break;
+                    case ANCESTORS:
+                        loadInto.setAncestorsCount(new StringWithCustomTags(ch));
+                        break;
+                    case DESCENDANTS:
+                        loadInto.setDescendantsCount(new StringWithCustomTags(ch));
+                        break;
+                    case ORDINANCE_PROCESS_FLAG:
+                        loadInto.setOrdinanceProcessFlag(new StringWithCustomTags(ch));
+                        break;
+                    case RECORD_ID_NUMBER:
+                        loadInto.setRecIdNumber(new StringWithCustomTags(ch));
+                        break;
+                    default:
+                        unknownTag(ch, loadInto);
+                        break;
                 }
             }
         }
@@ -26,15 +26,21 @@
  */
 package org.gedcom4j.parser;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import org.gedcom4j.model.StringTree;
+
 /**
  * <p>
  * An enumeration of many - not all - of the tags supported by GEDCOM 5.5 and 5.5.1. Some noted omissions include
  * Individual Event Type tags and Family Event Type tags.
  * </p>
  * <p>
- * <b>Note:</b> There are multiple tags that have the same tag text. This represents the different uses of the same
- * three-to-five-character tag string in different contexts. As such, there is no function for deriving a tag from its
- * text.
+ * Each tag has its own text, so the {@link Tag} for a node in a {@link StringTree} can be looked up once with
+ * {@link #of(StringTree)} and used in a <code>switch</code> statement, rather than comparing the node's tag text to
+ * many tags one at a time.
+ * </p>
  * 
  * @author frizbog
  */
@@ -89,10 +95,8 @@ enum Tag {
     CORPORATION("CORP"),
     /** Country */
     COUNTRY("CTRY"),
-    /** Data for a citation */
-    DATA_FOR_CITATION("DATA"),
-    /** Data for a source */
-    DATA_FOR_SOURCE("DATA"),
+    /** Data for a citation or a source */
+    DATA("DATA"),
     /** Date */
     DATE("DATE"),
     /** Interest in a descendant */
@@ -217,6 +221,8 @@ enum Tag {
     TRAILER("TRLR"),
     /** Type */
     TYPE("TYPE"),
+    /** Any tag not otherwise listed in this enum - see {@link #of(StringTree)} */
+    UNRECOGNIZED(""),
     /** Version */
     VERSION("VERS"),
     /** Web address (URL) */
@@ -224,6 +230,101 @@ enum Tag {
     /** Wife */
     WIFE("WIFE");
 
+    /**
+     * The values of this enum, indexed by {@link StringTree#getTagSymbol()} - 1
+     */
+    private static final Tag[] BY_SYMBOL = values();
+
+    /**
+     * The values of this enum, keyed by their tag text
+     */
+    private static final Map<String, Tag> BY_TEXT = new HashMap<String, Tag>();
+
+    /**
+     * An open-addressed hash table of the values of this enum, for looking up tag text without first copying it into a
+     * string - see {@link #forText(CharSequence, int, int)}. The size is a power of two, and at least twice the number
+     * of tags, so probe sequences stay short.
+     */
+    private static final Tag[] BY_HASH = new Tag[256];
+
+    static {
+        for (Tag t : BY_SYMBOL) {
+            BY_TEXT.put(t.tagText, t);
+            if (t != UNRECOGNIZED) {
+                int slot = t.tagText.hashCode() & (BY_HASH.length - 1);
+                while (BY_HASH[slot] != null) {
+                    slot = (slot + 1) & (BY_HASH.length - 1);
+                }
+                BY_HASH[slot] = t;
+            }
+        }
+    }
+
+    /**
+     * Get the tag corresponding to some tag text
+     * 
+     * @param text
+     *            the tag text
+     * @return the tag whose text is the supplied text, or {@link #UNRECOGNIZED} if there isn't one
+     */
+    static Tag forText(String text) {
+        Tag result = BY_TEXT.get(text);
+        if (result == null) {
+            return UNRECOGNIZED;
+        }
+        return result;
+    }
+
+    /**
+     * Get the tag corresponding to a range of characters, without making a string out of them
+     * 
+     * @param chars
+     *            the characters containing the tag text
+     * @param start
+     *            the index of the first character of the tag text
+     * @param end
+     *            the index just past the last character of the tag text
+     * @return the tag whose text is the characters in the range, or {@link #UNRECOGNIZED} if there isn't one
+     */
+    static Tag forText(CharSequence chars, int start, int end) {
+        if (start >= end) {
+            return UNRECOGNIZED;
+        }
+        // Same hash as String.hashCode(), so it matches the one used to fill the table
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + chars.charAt(i);
+        }
+        int slot = hash & (BY_HASH.length - 1);
+        Tag t;
+        while ((t = BY_HASH[slot]) != null) {
+            if (t.matches(chars, start, end)) {
+                return t;
+            }
+            slot = (slot + 1) & (BY_HASH.length - 1);
+        }
+        return UNRECOGNIZED;
+    }
+
+    /**
+     * Get the tag for a string tree node. The tag is looked up from the node's tag text the first time, and the result
+     * kept in the node's {@link StringTree#getTagSymbol()} for later.
+     * 
+     * @param node
+     *            the string tree node
+     * @return the tag for the node, or {@link #UNRECOGNIZED} if the node's tag text doesn't correspond to any of the
+     *         values of this enum
+     */
+    static Tag of(StringTree node) {
+        int symbol = node.getTagSymbol();
+        if (symbol < 1 || symbol > BY_SYMBOL.length) {
+            Tag t = forText(node.getTag());
+            node.setTagSymbol(t.getSymbol());
+            return t;
+        }
+        return BY_SYMBOL[symbol - 1];
+    }
+
     /**
      * The text string for the tag
      */
@@ -247,9 +348,44 @@ enum Tag {
      * @return true iff the string provided matches the text string for this tag
      */
     public boolean equalsText(String s) {
+        if (this == UNRECOGNIZED) {
+            return false;
+        }
         return tagText.equals(s);
     }
 
+    /**
+     * Get the number to store in {@link StringTree#setTagSymbol(int)} for this tag
+     * 
+     * @return the number to store in {@link StringTree#setTagSymbol(int)} for this tag - always 1 or more
+     */
+    int getSymbol() {
+        return ordinal() + 1;
+    }
+
+    /**
+     * Does the text of this tag match a range of characters?
+     * 
+     * @param chars
+     *            the characters to compare against
+     * @param start
+     *            the index of the first character to compare
+     * @param end
+     *            the index just past the last character to compare
+     * @return true iff the characters in the range are the same as the text of this tag
+     */
+    private boolean matches(CharSequence chars, int start, int end) {
+        if (end - start != tagText.length()) {
+            return false;
+        }
+        for (int i = 0; i < tagText.length(); i++) {
+            if (tagText.charAt(i) != chars.charAt(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public String toString() {
         return tagText;
@@ -26,13 +26,16 @@
  */
 package org.gedcom4j.relationship;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.gedcom4j.model.Family;
 import org.gedcom4j.model.FamilyChild;
 import org.gedcom4j.model.FamilySpouse;
 import org.gedcom4j.model.Individual;
+import org.gedcom4j.model.VisitedIndividuals;
 
 /**
  * A class for doing more advanced ancestry calculations than the basic {@link Individual#getAncestors()} method
@@ -52,14 +55,14 @@ public class AncestryCalculator {
      * The set of people who have been checked already to see if they are an ancestor of the first individual. This is
      * to keep things efficient and to prevent infinite recursion and looping.
      */
-    private Set<Individual> checkedAlready;
+    private VisitedIndividuals checkedAlready;
 
     /**
      * The "target list", or set of ancestors for the first individual. As we traverse the tree up through the second
      * individual's ancestors, we will check each one against this set (hence, "target set") for a match. The first
      * ancestor we find of individual 2 that is also some ancestor of individual 1 is our lowest common ancestor.
      */
-    private Set<Individual> targetList;
+    private VisitedIndividuals targetList;
 
     /**
      * A count of generations
@@ -75,17 +78,9 @@ public class AncestryCalculator {
      * @return the set of all ancestors for the individual, and all their spouses
      */
     public Set<Individual> getExtendedAncestry(Individual individual) {
-        Set<Individual> result = new HashSet<Individual>();
-
-        // Get every family this individual was a child of
-        if (individual.getFamiliesWhereChild() != null) {
-            for (FamilyChild fc : individual.getFamiliesWhereChild()) {
-                addFatherAndAllHisWives(result, fc);
-                addMotherAndAllHerHusbands(result, fc);
-            }
-        }
-
-        return result;
+        List<Individual> result = new ArrayList<Individual>();
+        addExtendedAncestry(individual, new VisitedIndividuals(), new VisitedIndividuals(), result);
+        return new HashSet<Individual>(result);
     }
 
     /**
@@ -129,29 +124,59 @@ public class AncestryCalculator {
         return result;
     }
 
+    /**
+     * Add the extended ancestry of an individual to a running list, recursively
+     * 
+     * @param individual
+     *            the individual whose extended ancestry is being added
+     * @param included
+     *            the people in the running list already, so nobody is added twice
+     * @param expanded
+     *            the parents whose spouses and ancestry have been added already, so nobody is expanded twice
+     * @param result
+     *            the running list we are adding to
+     */
+    private void addExtendedAncestry(Individual individual, VisitedIndividuals included, VisitedIndividuals expanded, List<Individual> result) {
+        // Get every family this individual was a child of
+        if (individual.getFamiliesWhereChild() != null) {
+            for (FamilyChild fc : individual.getFamiliesWhereChild()) {
+                addFatherAndAllHisWives(included, expanded, result, fc);
+                addMotherAndAllHerHusbands(included, expanded, result, fc);
+            }
+        }
+    }
+
     /**
      * Add father and all his wives
      * 
+     * @param included
+     *            the people in the result already
+     * @param expanded
+     *            the parents whose spouses and ancestry have been added already
      * @param result
      *            the result we are adding to
      * @param fc
      *            the family/child object we're working from
      */
-    private void addFatherAndAllHisWives(Set<Individual> result, FamilyChild fc) {
+    private void addFatherAndAllHisWives(VisitedIndividuals included, VisitedIndividuals expanded, List<Individual> result, FamilyChild fc) {
         Individual dad = fc.getFamily().getHusband();
-        if (dad != null && !result.contains(dad)) {
-            result.add(dad);
+        if (dad != null && expanded.add(dad)) {
+            if (included.add(dad)) {
+                result.add(dad);
+            }
             if (dad.getFamiliesWhereSpouse() != null) {
                 for (FamilySpouse fs : dad.getFamiliesWhereSpouse()) {
                     Individual dadsWife = fs.getFamily().getWife();
                     if (dadsWife != null) {
-                        result.add(dadsWife);
-                        result.addAll(getExtendedAncestry(dadsWife));
+                        if (included.add(dadsWife)) {
+                            result.add(dadsWife);
+                        }
+                        addExtendedAncestry(dadsWife, included, expanded, result);
                     }
                 }
             }
             // And include his extended ancestry as well (recursively)
-            result.addAll(getExtendedAncestry(dad));
+            addExtendedAncestry(dad, included, expanded, result);
         }
     }
 
@@ -222,26 +247,34 @@ public class AncestryCalculator {
     /**
      * Add mother and all her husbands
      * 
+     * @param included
+     *            the people in the result already
+     * @param expanded
+     *            the parents whose spouses and ancestry have been added already
      * @param result
      *            the result we are adding to
      * @param fc
      *            the family/child object we're working from
      */
-    private void addMotherAndAllHerHusbands(Set<Individual> result, FamilyChild fc) {
+    private void addMotherAndAllHerHusbands(VisitedIndividuals included, VisitedIndividuals expanded, List<Individual> result, FamilyChild fc) {
         Individual mom = fc.getFamily().getWife();
-        if (mom != null && !result.contains(mom)) {
-            result.add(mom);
+        if (mom != null && expanded.add(mom)) {
+            if (included.add(mom)) {
+                result.add(mom);
+            }
             if (mom.getFamiliesWhereSpouse() != null) {
                 for (FamilySpouse fs : mom.getFamiliesWhereSpouse()) {
                     Individual momsHusband = fs.getFamily().getHusband();
                     if (momsHusband != null) {
-                        result.add(momsHusband);
-                        result.addAll(getExtendedAncestry(momsHusband));
+                        if (included.add(momsHusband)) {
+                            result.add(momsHusband);
+                        }
+                        addExtendedAncestry(momsHusband, included, expanded, result);
                     }
                 }
             }
             // And include her extended ancestry as well (recursively)
-            result.addAll(getExtendedAncestry(mom));
+            addExtendedAncestry(mom, included, expanded, result);
         }
     }
 
@@ -321,8 +354,9 @@ public class AncestryCalculator {
      *            the first individual in the search
      */
     private void initializeLcaSearch(Individual individual1) {
-        targetList = getExtendedAncestry(individual1);
-        checkedAlready = new HashSet<Individual>();
+        targetList = new VisitedIndividuals();
+        addExtendedAncestry(individual1, targetList, new VisitedIndividuals(), new ArrayList<Individual>());
+        checkedAlready = new VisitedIndividuals();
         addedAnyCommonAncestors = false;
     }
 
@@ -0,0 +1,459 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.relationship;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.gedcom4j.model.Family;
+import org.gedcom4j.model.FamilyChild;
+import org.gedcom4j.model.FamilySpouse;
+import org.gedcom4j.model.Gedcom;
+import org.gedcom4j.model.Individual;
+
+/**
+ * <p>
+ * A read-only snapshot of who is whose parent, child and spouse in a {@link Gedcom}, for answering ancestry and
+ * descendancy questions quickly and many times over. Walking the object model means going from an individual to their
+ * {@link FamilyChild} and {@link FamilySpouse} links, to the families, to the husbands, wives and children - a lot of
+ * pointer chasing. The graph instead numbers the individuals from 0 up and keeps each kind of link in two arrays of
+ * <code>int</code>s (compressed sparse rows): the neighbours of individual <code>i</code> are at positions
+ * <code>start[i]</code> up to <code>start[i + 1]</code> of the neighbour array.
+ * </p>
+ * <p>
+ * When the individuals were all numbered when the file was loaded (see {@link Individual#getOrdinal()}), the graph uses
+ * the same numbers. Otherwise, it numbers them itself. Either way, {@link #indexOf(Individual)} gives the number for an
+ * individual, and {@link #getIndividual(int)} the individual for a number.
+ * </p>
+ * <p>
+ * The graph is built once, and does not change if the {@link Gedcom} it was built from does - build a new one after
+ * changing the data. Once built, a graph can be used by any number of threads at once.
+ * </p>
+ * 
+ * @author frizbog
+ * @since 3.0.2
+ */
+public final class GedcomGraph {
+
+    /**
+     * The individuals, by their number in the graph
+     */
+    private final Individual[] individuals;
+
+    /**
+     * The numbers of the individuals, when they aren't the ordinals the individuals were loaded with; otherwise null
+     */
+    private final Map<Individual, Integer> indexes;
+
+    /**
+     * Where the parents of each individual start in {@link #parents}, with an extra entry at the end
+     */
+    private final int[] parentStarts;
+
+    /**
+     * The parents of all the individuals, one after the other
+     */
+    private final int[] parents;
+
+    /**
+     * Where the children of each individual start in {@link #children}, with an extra entry at the end
+     */
+    private final int[] childStarts;
+
+    /**
+     * The children of all the individuals, one after the other
+     */
+    private final int[] children;
+
+    /**
+     * Where the spouses of each individual start in {@link #spouses}, with an extra entry at the end
+     */
+    private final int[] spouseStarts;
+
+    /**
+     * The spouses of all the individuals, one after the other
+     */
+    private final int[] spouses;
+
+    /**
+     * The individuals who are male
+     */
+    private final BitSet male = new BitSet();
+
+    /**
+     * The individuals who are female
+     */
+    private final BitSet female = new BitSet();
+
+    /**
+     * Build a graph of the individuals in a {@link Gedcom} and how they are related
+     * 
+     * @param gedcom
+     *            the gedcom to build the graph from
+     */
+    public GedcomGraph(Gedcom gedcom) {
+        int size = gedcom.getIndividuals().size();
+        individuals = new Individual[size];
+        boolean ordinalsUsable = true;
+        for (Individual i : gedcom.getIndividuals().values()) {
+            int ordinal = i.getOrdinal();
+            if (ordinal < 0 || ordinal >= size || individuals[ordinal] != null) {
+                ordinalsUsable = false;
+                break;
+            }
+            individuals[ordinal] = i;
+        }
+        if (ordinalsUsable) {
+            indexes = null;
+        } else {
+            Arrays.fill(individuals, null);
+            indexes = new IdentityHashMap<Individual, Integer>(size);
+            int index = 0;
+            for (Individual i : gedcom.getIndividuals().values()) {
+                individuals[index] = i;
+                indexes.put(i, Integer.valueOf(index++));
+            }
+        }
+
+        parentStarts = new int[size + 1];
+        childStarts = new int[size + 1];
+        spouseStarts = new int[size + 1];
+        IntList parentList = new IntList(size * 2);
+        IntList childList = new IntList(size * 2);
+        IntList spouseList = new IntList(size);
+        for (int index = 0; index < size; index++) {
+            Individual i = individuals[index];
+            parentStarts[index] = parentList.size;
+            childStarts[index] = childList.size;
+            spouseStarts[index] = spouseList.size;
+            if (i.getFamiliesWhereChild() != null) {
+                for (FamilyChild fc : i.getFamiliesWhereChild()) {
+                    if (fc != null && fc.getFamily() != null) {
+                        parentList.addOnce(indexOf(fc.getFamily().getHusband()), parentStarts[index]);
+                        parentList.addOnce(indexOf(fc.getFamily().getWife()), parentStarts[index]);
+                    }
+                }
+            }
+            if (i.getFamiliesWhereSpouse() != null) {
+                for (FamilySpouse fs : i.getFamiliesWhereSpouse()) {
+                    Family f = fs == null ? null : fs.getFamily();
+                    if (f == null) {
+                        continue;
+                    }
+                    if (f.getHusband() == i) {
+                        spouseList.addOnce(indexOf(f.getWife()), spouseStarts[index]);
+                    } else if (f.getWife() == i) {
+                        spouseList.addOnce(indexOf(f.getHusband()), spouseStarts[index]);
+                    }
+                    if (f.getChildren() != null) {
+                        for (Individual c : f.getChildren()) {
+                            childList.addOnce(indexOf(c), childStarts[index]);
+                        }
+                    }
+                }
+            }
+            if (i.getSex() != null && "M".equals(i.getSex().getValue())) {
+                male.set(index);
+            } else if (i.getSex() != null && "F".equals(i.getSex().getValue())) {
+                female.set(index);
+            }
+        }
+        parentStarts[size] = parentList.size;
+        childStarts[size] = childList.size;
+        spouseStarts[size] = spouseList.size;
+        parents = parentList.toArray();
+        children = childList.toArray();
+        spouses = spouseList.toArray();
+    }
+
+    /**
+     * Get the ancestors of an individual - their parents, their parents' parents, and so on. If the individual is their
+     * own ancestor (through a mistake in the data), they are included.
+     * 
+     * @param index
+     *            the number of the individual
+     * @return the numbers of the individual's ancestors
+     */
+    public BitSet getAncestors(int index) {
+        return reach(index, parentStarts, parents);
+    }
+
+    /**
+     * Get one of the children of an individual
+     * 
+     * @param index
+     *            the number of the individual
+     * @param n
+     *            which child, from 0 up to {@link #getChildCount(int)}
+     * @return the number of the child
+     */
+    public int getChild(int index, int n) {
+        return children[childStarts[index] + n];
+    }
+
+    /**
+     * Get how many children an individual has, in all the families where they are a spouse
+     * 
+     * @param index
+     *            the number of the individual
+     * @return how many children the individual has
+     */
+    public int getChildCount(int index) {
+        return childStarts[index + 1] - childStarts[index];
+    }
+
+    /**
+     * Get the descendants of an individual - their children, their children's children, and so on. If the individual is
+     * their own descendant (through a mistake in the data), they are included.
+     * 
+     * @param index
+     *            the number of the individual
+     * @return the numbers of the individual's descendants
+     */
+    public BitSet getDescendants(int index) {
+        return reach(index, childStarts, children);
+    }
+
+    /**
+     * Get an individual by their number in the graph
+     * 
+     * @param index
+     *            the number of the individual
+     * @return the individual
+     */
+    public Individual getIndividual(int index) {
+        return individuals[index];
+    }
+
+    /**
+     * Get the individuals with the numbers in a set, such as one returned by {@link #getAncestors(int)}
+     * 
+     * @param indexes
+     *            the numbers of the individuals
+     * @return the individuals, in the order of their numbers
+     */
+    public List<Individual> getIndividuals(BitSet indexes) {
+        List<Individual> result = new ArrayList<Individual>(indexes.cardinality());
+        for (int i = indexes.nextSetBit(0); i >= 0; i = indexes.nextSetBit(i + 1)) {
+            result.add(individuals[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Get one of the parents of an individual
+     * 
+     * @param index
+     *            the number of the individual
+     * @param n
+     *            which parent, from 0 up to {@link #getParentCount(int)}
+     * @return the number of the parent
+     */
+    public int getParent(int index, int n) {
+        return parents[parentStarts[index] + n];
+    }
+
+    /**
+     * Get how many parents an individual has, in all the families where they are a child - so step-parents and adoptive
+     * parents are counted too
+     * 
+     * @param index
+     *            the number of the individual
+     * @return how many parents the individual has
+     */
+    public int getParentCount(int index) {
+        return parentStarts[index + 1] - parentStarts[index];
+    }
+
+    /**
+     * Get one of the spouses of an individual
+     * 
+     * @param index
+     *            the number of the individual
+     * @param n
+     *            which spouse, from 0 up to {@link #getSpouseCount(int)}
+     * @return the number of the spouse
+     */
+    public int getSpouse(int index, int n) {
+        return spouses[spouseStarts[index] + n];
+    }
+
+    /**
+     * Get how many spouses an individual has
+     * 
+     * @param index
+     *            the number of the individual
+     * @return how many spouses the individual has
+     */
+    public int getSpouseCount(int index) {
+        return spouseStarts[index + 1] - spouseStarts[index];
+    }
+
+    /**
+     * Get the number of an individual in the graph
+     * 
+     * @param individual
+     *            the individual
+     * @return the number of the individual, or -1 if the individual is null or not in the graph
+     */
+    public int indexOf(Individual individual) {
+        if (individual == null) {
+            return -1;
+        }
+        if (indexes != null) {
+            Integer index = indexes.get(individual);
+            return index == null ? -1 : index.intValue();
+        }
+        int ordinal = individual.getOrdinal();
+        return ordinal >= 0 && ordinal < individuals.length && individuals[ordinal] == individual ? ordinal : -1;
+    }
+
+    /**
+     * Is an individual female?
+     * 
+     * @param index
+     *            the number of the individual
+     * @return true if the individual's sex is given as female
+     */
+    public boolean isFemale(int index) {
+        return female.get(index);
+    }
+
+    /**
+     * Is an individual male?
+     * 
+     * @param index
+     *            the number of the individual
+     * @return true if the individual's sex is given as male
+     */
+    public boolean isMale(int index) {
+        return male.get(index);
+    }
+
+    /**
+     * Get the number of individuals in the graph
+     * 
+     * @return the number of individuals in the graph
+     */
+    public int size() {
+        return individuals.length;
+    }
+
+    /**
+     * Get everyone that can be reached from an individual by following one kind of link, over and over
+     * 
+     * @param index
+     *            the number of the individual to start from
+     * @param starts
+     *            where the links of each individual start in <code>links</code>
+     * @param links
+     *            the links of all the individuals, one after the other
+     * @return the numbers of the individuals that can be reached
+     */
+    private BitSet reach(int index, int[] starts, int[] links) {
+        BitSet result = new BitSet(individuals.length);
+        int[] stack = new int[16];
+        int top = 0;
+        stack[top++] = index;
+        while (top > 0) {
+            int i = stack[--top];
+            for (int e = starts[i]; e < starts[i + 1]; e++) {
+                int next = links[e];
+                if (!result.get(next)) {
+                    result.set(next);
+                    if (top == stack.length) {
+                        stack = Arrays.copyOf(stack, top * 2);
+                    }
+                    stack[top++] = next;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * A growable list of <code>int</code>s, for building up the neighbour arrays without boxing
+     */
+    private static final class IntList {
+
+        /**
+         * The values, with room for more at the end
+         */
+        private int[] values;
+
+        /**
+         * The number of values in the list
+         */
+        private int size;
+
+        /**
+         * Constructor
+         * 
+         * @param capacity
+         *            how many values to make room for to start with
+         */
+        IntList(int capacity) {
+            values = new int[Math.max(capacity, 16)];
+        }
+
+        /**
+         * Add a value to the end of the list, unless it's negative or is already in the list from a given position on
+         * 
+         * @param value
+         *            the value to add
+         * @param from
+         *            the position from which to look for the value already being there
+         */
+        void addOnce(int value, int from) {
+            if (value < 0) {
+                return;
+            }
+            for (int k = from; k < size; k++) {
+                if (values[k] == value) {
+                    return;
+                }
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        /**
+         * Get the values in the list
+         * 
+         * @return an array of exactly the values in the list
+         */
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
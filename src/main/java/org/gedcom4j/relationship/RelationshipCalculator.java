@@ -85,7 +85,7 @@ public class RelationshipCalculator {
     /**
      * People we have looked at already
      */
-    private Set<Individual> lookedAt = new HashSet<Individual>();
+    private VisitedIndividuals lookedAt = new VisitedIndividuals();
 
     /**
      * <p>
@@ -123,7 +123,7 @@ public class RelationshipCalculator {
         // We currently have taken no steps away from individual 1
         currentChain = new ArrayList<SimpleRelationship>();
 
-        lookedAt = new HashSet<Individual>();
+        lookedAt = new VisitedIndividuals();
 
         // Start with individual 1 and recurse
         if (individual1 != individual2) { // NOPMD - Deliberately comparing with !=
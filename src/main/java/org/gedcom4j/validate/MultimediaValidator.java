@@ -186,7 +186,7 @@ class MultimediaValidator extends AbstractValidator {
      * Validate that the multimedia object conforms to GEDCOM 5.5 rules
      */
     private void validate55() {
-        if (mm.getBlob() == null || mm.getBlob().isEmpty()) {
+        if ((mm.getBlob() == null || mm.getBlob().isEmpty()) && mm.getBinaryBlob() == null) {
             if (rootValidator.isAutorepairEnabled()) {
                 addError("Embedded media object has an empty blob object - cannot repair", mm);
             } else {
@@ -228,9 +228,12 @@ class MultimediaValidator extends AbstractValidator {
         }
 
         // Blobs must be empty in 5.5.1
-        if (mm.getBlob() != null && !mm.getBlob().isEmpty()) {
+        if (mm.getBlob() != null && !mm.getBlob().isEmpty() || mm.getBinaryBlob() != null) {
             if (rootValidator.isAutorepairEnabled()) {
-                mm.getBlob().clear();
+                if (mm.getBlob() != null) {
+                    mm.getBlob().clear();
+                }
+                mm.setBinaryBlob(null);
                 addInfo("Embedded media object had a populated blob object, " + "which is not allowed in GEDCOM 5.5.1 - repaired (cleared)", mm);
             } else {
                 addError("Embedded media object has a populated blob object, which is not allowed in GEDCOM 5.5.1", mm);
@@ -604,7 +604,7 @@ public class GedcomWriter extends AbstractEmitter<Gedcom> {
      */
     private void checkVersionCompatibility551() throws GedcomWriterVersionDataMismatchException {
         for (Multimedia m : writeFrom.getMultimedia().values()) {
-            if (m.getBlob() != null && !m.getBlob().isEmpty()) {
+            if (m.getBlob() != null && !m.getBlob().isEmpty() || m.getBinaryBlob() != null) {
                 throw new GedcomWriterVersionDataMismatchException("Gedcom version is 5.5.1, but multimedia item " + m.getXref()
                         + " contains BLOB data which is unsupported in 5.5.1");
             }
@@ -26,11 +26,15 @@
  */
 package org.gedcom4j.writer;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collection;
 
 import org.gedcom4j.exception.GedcomWriterException;
 import org.gedcom4j.exception.GedcomWriterVersionDataMismatchException;
 import org.gedcom4j.exception.WriterCancelledException;
+import org.gedcom4j.io.encoding.BlobCodec;
+import org.gedcom4j.model.BinaryBlob;
 import org.gedcom4j.model.Multimedia;
 import org.gedcom4j.model.UserReference;
 
@@ -71,8 +75,12 @@ class Multimedia55Emitter extends AbstractEmitter<Collection<Multimedia>> {
             emitTagIfValueNotNull(1, "TITL", m.getEmbeddedTitle());
             new NotesEmitter(baseWriter, 1, m.getNotes()).emit();
             emitTag(1, "BLOB");
-            for (String b : m.getBlob()) {
-                emitTagWithRequiredValue(2, "CONT", b);
+            if (m.getBinaryBlob() != null) {
+                emitBinaryBlob(m);
+            } else {
+                for (String b : m.getBlob()) {
+                    emitTagWithRequiredValue(2, "CONT", b);
+                }
             }
             if (m.getContinuedObject() != null && m.getContinuedObject().getXref() != null) {
                 emitTagWithRequiredValue(1, "OBJE", m.getContinuedObject().getXref());
@@ -93,4 +101,31 @@ class Multimedia55Emitter extends AbstractEmitter<Collection<Multimedia>> {
         }
     }
 
+    /**
+     * Emit the decoded binary data of a multimedia object, encoding it into lines of blob text one line at a time
+     * 
+     * @param m
+     *            the multimedia object whose binary data is to be emitted
+     * @throws GedcomWriterException
+     *             if the binary data can't be read
+     */
+    private void emitBinaryBlob(Multimedia m) throws GedcomWriterException {
+        BinaryBlob binaryBlob = m.getBinaryBlob();
+        try {
+            InputStream in = binaryBlob.openStream();
+            try {
+                BlobCodec.Encoder encoder = new BlobCodec.Encoder(in);
+                String line = encoder.nextLine();
+                while (line != null) {
+                    emitTagWithRequiredValue(2, "CONT", line);
+                    line = encoder.nextLine();
+                }
+            } finally {
+                in.close();
+            }
+        } catch (IOException e) {
+            throw new GedcomWriterException("Unable to read binary data for multimedia item " + m.getXref(), e);
+        }
+    }
+
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.io.encoding;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Test that the lookup tables in {@link AnselHandler} give exactly the same answers as the hand-written lookups they
+ * replaced (see {@link LegacyAnselGlyphs}), and that every precombined glyph survives a round trip through ANSEL.
+ * 
+ * @author frizbog
+ */
+public class AnselHandlerTableTest {
+
+    /**
+     * The class being tested
+     */
+    private final AnselHandler classUnderTest = new AnselHandler();
+
+    /**
+     * Test that every unicode character breaks down the same way it used to
+     */
+    @Test
+    public void testBrokenDownGlyphsMatchLegacy() {
+        int count = 0;
+        for (int i = Character.MIN_VALUE; i <= Character.MAX_VALUE; i++) {
+            char c = (char) i;
+            char[] expected = LegacyAnselGlyphs.getBrokenDownGlyph(c);
+            int actual = AnselHandler.getBrokenDownGlyph(c);
+            if (expected == null) {
+                assertEquals("Character 0x" + Integer.toHexString(i), 0, actual);
+            } else {
+                count++;
+                assertEquals("Character 0x" + Integer.toHexString(i), expected[0], actual & 0xFF);
+                assertEquals("Character 0x" + Integer.toHexString(i), expected[1], actual >> 8 & 0xFF);
+                assertEquals("Character 0x" + Integer.toHexString(i), expected[2], actual >> 16);
+            }
+        }
+        assertEquals(405, count);
+    }
+
+    /**
+     * Test that every combination of base character and one or two diacritics combines the same way it used to
+     */
+    @Test
+    public void testCombinedGlyphsMatchLegacy() {
+        for (char base = 0; base < 0x100; base++) {
+            for (char d1 = 0xE0; d1 <= 0xFE; d1++) {
+                assertEquals(LegacyAnselGlyphs.getCombinedGlyph(base, d1, (char) 0), AnselHandler.getCombinedGlyph(base, d1, (char) 0));
+                for (char d2 = 0xE0; d2 <= 0xFE; d2++) {
+                    assertEquals("Base 0x" + Integer.toHexString(base) + ", diacritics 0x" + Integer.toHexString(d1) + " 0x" + Integer
+                            .toHexString(d2), LegacyAnselGlyphs.getCombinedGlyph(base, d1, d2), AnselHandler.getCombinedGlyph(base, d1, d2));
+                }
+            }
+        }
+    }
+
+    /**
+     * Test that every precombined glyph can be written to ANSEL and read back again, using both the string methods and
+     * the caller-supplied buffer methods
+     */
+    @Test
+    public void testRoundTrip() {
+        char[] ansel = new char[3];
+        char[] utf16 = new char[3];
+        for (int i = Character.MIN_VALUE; i <= Character.MAX_VALUE; i++) {
+            char c = (char) i;
+            if (LegacyAnselGlyphs.getBrokenDownGlyph(c) == null) {
+                continue;
+            }
+            String s = String.valueOf(c);
+            String encoded = classUnderTest.toAnsel(s);
+            assertTrue(encoded.length() > 1);
+            assertEquals(s, classUnderTest.toUtf16(encoded));
+
+            int anselLen = classUnderTest.toAnsel(new char[] { c }, 0, 1, ansel, 0);
+            assertEquals(encoded, new String(ansel, 0, anselLen));
+            int utf16Len = classUnderTest.toUtf16(ansel, 0, anselLen, utf16, 0);
+            assertEquals(1, utf16Len);
+            assertEquals(c, utf16[0]);
+        }
+    }
+
+    /**
+     * Test that the buffer methods respect the offsets they are given
+     */
+    @Test
+    public void testOffsets() {
+        char[] in = "xxHeŁŁéxx".toCharArray();
+        char[] ansel = new char[30];
+        int anselLen = classUnderTest.toAnsel(in, 2, 5, ansel, 4);
+        assertEquals(6, anselLen);
+        assertEquals("He¡¡âe", new String(ansel, 4, anselLen));
+
+        char[] out = new char[10];
+        int outLen = classUnderTest.toUtf16(ansel, 4, anselLen, out, 1);
+        assertEquals(5, outLen);
+        assertEquals("HeŁŁé", new String(out, 1, outLen));
+    }
+
+    /**
+     * Test that two diacritics that don't combine with the base character are both kept
+     */
+    @Test
+    public void testUncombinableDiacritics() {
+        // Combining double tilde left half (0xFA) and right half (0xFB) never combine with anything
+        assertEquals("q︢︣", classUnderTest.toUtf16("úûq"));
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.io.encoding;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Test for {@link BlobCodec}
+ * 
+ * @author frizbog
+ */
+public class BlobCodecTest {
+
+    /**
+     * Test that every 6-bit value maps to a character and back
+     */
+    @Test
+    public void testCharacters() {
+        for (int v = 0; v < 64; v++) {
+            assertEquals(v, BlobCodec.valueOf(BlobCodec.charFor(v)));
+        }
+        assertEquals('.', BlobCodec.charFor(0));
+        assertEquals('9', BlobCodec.charFor(11));
+        assertEquals('A', BlobCodec.charFor(12));
+        assertEquals('z', BlobCodec.charFor(63));
+        assertEquals(-1, BlobCodec.valueOf('-'));
+        assertEquals(-1, BlobCodec.valueOf(' '));
+        assertEquals(-1, BlobCodec.valueOf('@'));
+    }
+
+    /**
+     * Test decoding the start of the sample blob in the GEDCOM 5.5 torture test file, which is a Macintosh PICT image -
+     * its first two bytes are its size, and the next eight are its bounding rectangle
+     * 
+     * @throws IOException
+     *             if the bytes can't be written
+     */
+    @Test
+    public void testDecodeKnownData() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BlobCodec.Decoder decoder = new BlobCodec.Decoder(out);
+        decoder.decode(".HM.....");
+        decoder.decode("...A..k.");
+        decoder.finish();
+        assertArrayEquals(new byte[] { 0x01, 0x36, 0, 0, 0, 0, 0, 0, 0x0C, 0, 0x0C, 0 }, out.toByteArray());
+        assertEquals(0, decoder.getInvalidCharacters());
+    }
+
+    /**
+     * Test that data of every length round trips through the encoder and decoder, with the encoded lines split up
+     * differently when decoding
+     * 
+     * @throws IOException
+     *             if the bytes can't be read or written
+     */
+    @Test
+    public void testRoundTrip() throws IOException {
+        Random random = new Random(42);
+        for (int length = 0; length < 300; length++) {
+            byte[] data = new byte[length];
+            random.nextBytes(data);
+
+            BlobCodec.Encoder encoder = new BlobCodec.Encoder(new ByteArrayInputStream(data));
+            StringBuilder text = new StringBuilder();
+            String line = encoder.nextLine();
+            while (line != null) {
+                assertTrue(line.length() <= BlobCodec.CHARACTERS_PER_LINE);
+                text.append(line);
+                line = encoder.nextLine();
+            }
+            assertEquals(length, BlobCodec.decodedLength(text.length()));
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            BlobCodec.Decoder decoder = new BlobCodec.Decoder(out);
+            for (int i = 0; i < text.length(); i += 7) {
+                decoder.decode(text.subSequence(i, Math.min(i + 7, text.length())));
+            }
+            decoder.finish();
+            assertArrayEquals("Length " + length, data, out.toByteArray());
+            assertEquals(length, decoder.getBytesDecoded());
+        }
+    }
+
+    /**
+     * Test that whitespace is ignored, and other invalid characters are skipped and counted
+     * 
+     * @throws IOException
+     *             if the bytes can't be written
+     */
+    @Test
+    public void testInvalidCharacters() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BlobCodec.Decoder decoder = new BlobCodec.Decoder(out);
+        decoder.decode(" .H M.\t");
+        decoder.decode("@.");
+        decoder.finish();
+        assertArrayEquals(new byte[] { 0x01, 0x36, 0 }, out.toByteArray());
+        assertEquals(2, decoder.getInvalidCharacters());
+    }
+}
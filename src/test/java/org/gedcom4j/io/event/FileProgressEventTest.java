@@ -49,6 +49,8 @@ public class FileProgressEventTest {
         assertEquals(5, e.getBytesProcessed());
         assertTrue(e.isComplete());
         assertSame(this, e.getSource());
+        assertEquals(-1, e.getTotalBytes());
+        assertEquals(-1, e.getPercentComplete());
     }
 
     /**
@@ -64,4 +66,18 @@ public class FileProgressEventTest {
         assertSame(this, e.getSource());
     }
 
+    /**
+     * Test byte counts and totals past the 2GB mark
+     */
+    @Test
+    public void testLargeByteCounts() {
+        long total = 5L * Integer.MAX_VALUE;
+        FileProgressEvent e = new FileProgressEvent(this, 50, 3L * Integer.MAX_VALUE, total, false);
+        assertEquals(3L * Integer.MAX_VALUE, e.getBytesProcessed());
+        assertEquals(total, e.getTotalBytes());
+        assertEquals(60, e.getPercentComplete());
+        assertEquals(100, new FileProgressEvent(this, 50, total, total, true).getPercentComplete());
+        assertEquals(100, new FileProgressEvent(this, 0, 0, 0, true).getPercentComplete());
+    }
+
 }
@@ -139,6 +139,8 @@ public abstract class AbstractReaderListenerTest implements FileProgressListener
         assertTrue(lastEvent.isComplete());
         assertEquals(expectedLines, lastEvent.getLinesProcessed());
         assertEquals(expectedBytes, lastEvent.getBytesProcessed());
+        assertEquals(expectedBytes, lastEvent.getTotalBytes());
+        assertEquals(100, lastEvent.getPercentComplete());
     }
 
     /**
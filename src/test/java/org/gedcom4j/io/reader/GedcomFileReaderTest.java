@@ -177,6 +177,35 @@ public class GedcomFileReaderTest {
         }
     }
 
+    /**
+     * Test reading ASCII data with CRLF's as the line delimiter
+     * 
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the file load was cancelled or had malformed data
+     */
+    @Test
+    public void testAsciiCrlf() throws IOException, GedcomParserException {
+        byte[] asciiData = "0 HEAD\r\n1 CHAR ASCII\r\n\r\n  2 VERS 1\r\n0 TRLR".getBytes("US-ASCII");
+
+        BufferedInputStream s = null;
+        try {
+            s = new BufferedInputStream(new ByteArrayInputStream(asciiData));
+            GedcomFileReader gr = new GedcomFileReader(new GedcomParser(), s);
+            List<String> lines = getLines(gr);
+            assertEquals(4, lines.size());
+            assertEquals("0 HEAD", lines.get(0));
+            assertEquals("1 CHAR ASCII", lines.get(1));
+            assertEquals("2 VERS 1", lines.get(2));
+            assertEquals("0 TRLR", lines.get(3));
+        } finally {
+            if (s != null) {
+                s.close();
+            }
+        }
+    }
+
     /**
      * Test for {@link GedcomFileReader#firstNBytes(int)}
      * 
@@ -296,6 +325,38 @@ public class GedcomFileReaderTest {
         }
     }
 
+    /**
+     * Test reading unicode data, little-endian byte order, that starts with a byte order marker
+     * 
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the file load was cancelled or had malformed data
+     */
+    @Test
+    public void testUnicodeLittleEndianWithBom() throws IOException, GedcomParserException {
+        /*
+         * Unicode, little-endian data with a BOM and CRLF line terminator. Says "0 HEAD" on line 1 and "1 CHAR" on line
+         * 2.
+         */
+        byte[] unicodeData = { (byte) 0xFF, (byte) 0xFE, 0x30, 0x00, 0x20, 0x00, 0x48, 0x00, 0x45, 0x00, 0x41, 0x00, 0x44, 0x00, 0x0d, 0x00, 0x0a, 0x00,
+                0x31, 0x00, 0x20, 0x00, 0x43, 0x00, 0x48, 0x00, 0x41, 0x00, 0x52, 0x00 };
+        BufferedInputStream s = null;
+        try {
+            s = new BufferedInputStream(new ByteArrayInputStream(unicodeData));
+            GedcomFileReader gr = new GedcomFileReader(new GedcomParser(), s);
+            List<String> lines = getLines(gr);
+            assertEquals(2, lines.size());
+            assertEquals("0 HEAD", lines.get(0));
+            assertEquals("1 CHAR", lines.get(1));
+            assertEquals(unicodeData.length, gr.encodingSpecificReader.bytesRead);
+        } finally {
+            if (s != null) {
+                s.close();
+            }
+        }
+    }
+
     /**
      * Test reading unicode data, little-endian byte order, with CRLF's as the line delimiter
      * 
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.io.reader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.io.event.FileProgressEvent;
+import org.gedcom4j.io.event.FileProgressListener;
+import org.gedcom4j.parser.GedcomParser;
+import org.junit.Test;
+
+/**
+ * Test that byte counts reported while reading do not overflow for data larger than 2GB. Uses a generated stream of
+ * GEDCOM lines rather than a file on disk.
+ * 
+ * @author frizbog
+ */
+public class LargeFileReaderTest implements FileProgressListener {
+
+    /**
+     * An input stream that generates a GEDCOM header followed by the same line of text over and over, up to a specified
+     * total number of bytes
+     */
+    private static class GeneratedGedcomInputStream extends InputStream {
+
+        /**
+         * The header bytes
+         */
+        private static final byte[] HEADER = "0 HEAD\n1 CHAR ASCII\n".getBytes();
+
+        /**
+         * The line that is repeated after the header
+         */
+        private static final byte[] LINE = "1 NOTE Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore\n"
+                .getBytes();
+
+        /**
+         * The total number of bytes to generate
+         */
+        private final long total;
+
+        /**
+         * The number of bytes generated so far
+         */
+        private long position;
+
+        /**
+         * Constructor
+         * 
+         * @param total
+         *            the total number of bytes to generate. Must be the header length plus a whole number of lines.
+         */
+        GeneratedGedcomInputStream(long total) {
+            this.total = total;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            return read(b, 0, 1) < 0 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (position >= total) {
+                return -1;
+            }
+            int n = (int) Math.min(len, total - position);
+            for (int i = 0; i < n;) {
+                byte[] src;
+                int srcPos;
+                if (position < HEADER.length) {
+                    src = HEADER;
+                    srcPos = (int) position;
+                } else {
+                    src = LINE;
+                    srcPos = (int) ((position - HEADER.length) % LINE.length);
+                }
+                int chunk = Math.min(n - i, src.length - srcPos);
+                System.arraycopy(src, srcPos, b, off + i, chunk);
+                i += chunk;
+                position += chunk;
+            }
+            return n;
+        }
+    }
+
+    /**
+     * The last event received
+     */
+    private FileProgressEvent lastEvent;
+
+    /**
+     * The number of events received
+     */
+    private int eventCount;
+
+    @Override
+    public void progressNotification(FileProgressEvent e) {
+        lastEvent = e;
+        eventCount++;
+    }
+
+    /**
+     * Test reading more than {@link Integer#MAX_VALUE} bytes, with the total size known in advance
+     * 
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the data can't be parsed
+     */
+    @Test
+    public void testMoreThanTwoGigabytes() throws IOException, GedcomParserException {
+        long lineCount = Integer.MAX_VALUE / GeneratedGedcomInputStream.LINE.length + 1000;
+        long total = GeneratedGedcomInputStream.HEADER.length + lineCount * GeneratedGedcomInputStream.LINE.length;
+        assertTrue(total > Integer.MAX_VALUE);
+
+        GedcomParser gp = new GedcomParser();
+        gp.setReadNotificationRate(1000000);
+        gp.registerFileObserver(this);
+        GedcomFileReader gfr = new GedcomFileReader(gp, new BufferedInputStream(new GeneratedGedcomInputStream(total)), total);
+        long linesRead = 0;
+        int percentSeen = -1;
+        while (gfr.nextLine() != null) {
+            linesRead++;
+            if (lastEvent != null) {
+                assertTrue(lastEvent.getPercentComplete() >= percentSeen);
+                percentSeen = lastEvent.getPercentComplete();
+            }
+        }
+
+        assertEquals(lineCount + 2, linesRead);
+        assertNotNull(lastEvent);
+        assertTrue(lastEvent.isComplete());
+        assertTrue(eventCount > 1);
+        assertEquals(total, lastEvent.getBytesProcessed());
+        assertEquals(total, lastEvent.getTotalBytes());
+        assertEquals(100, lastEvent.getPercentComplete());
+    }
+}
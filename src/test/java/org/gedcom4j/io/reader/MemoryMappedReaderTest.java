@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.io.reader;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.parser.GedcomParser;
+import org.junit.Test;
+
+/**
+ * Test that reading files through {@link FileReadingStrategy#MEMORY_MAPPED} gives exactly the same lines as reading them
+ * through a buffered stream
+ * 
+ * @author frizbog
+ */
+public class MemoryMappedReaderTest {
+
+    /**
+     * Test all the sample files with the default (large) window size, so each file fits in a single window
+     * 
+     * @throws IOException
+     *             if a file can't be read
+     * @throws GedcomParserException
+     *             if a file can't be parsed
+     */
+    @Test
+    public void testAllSamplesDefaultWindow() throws IOException, GedcomParserException {
+        for (File f : getSampleFiles()) {
+            assertEquals(f.getName(), readBuffered(f), readMapped(f, MappedFileInputStream.DEFAULT_WINDOW_SIZE));
+        }
+    }
+
+    /**
+     * Test all the sample files with a tiny window size, so that lines (and multi-byte characters) straddle window
+     * boundaries
+     * 
+     * @throws IOException
+     *             if a file can't be read
+     * @throws GedcomParserException
+     *             if a file can't be parsed
+     */
+    @Test
+    public void testAllSamplesSmallWindow() throws IOException, GedcomParserException {
+        for (File f : getSampleFiles()) {
+            assertEquals(f.getName(), readBuffered(f), readMapped(f, 97));
+        }
+    }
+
+    /**
+     * Test that the bytes reported in progress notifications is the whole file once the file is read
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     */
+    @Test
+    public void testBytesRead() throws IOException, GedcomParserException {
+        File f = new File("sample/willis.ged");
+        FileInputStream fis = new FileInputStream(f);
+        try {
+            GedcomFileReader gfr = new GedcomFileReader(new GedcomParser(), fis.getChannel(), 1024);
+            while (gfr.nextLine() != null) {
+                // Keep reading
+            }
+            assertEquals(f.length(), gfr.encodingSpecificReader.bytesRead);
+        } finally {
+            fis.close();
+        }
+    }
+
+    /**
+     * Get the sample files that are read successfully through a buffered stream
+     * 
+     * @return the sample files
+     */
+    private List<File> getSampleFiles() {
+        File[] files = new File("sample").listFiles(new FilenameFilter() {
+            @Override
+            public boolean accept(File dir, String name) {
+                return name.endsWith(".ged");
+            }
+        });
+        List<File> result = new ArrayList<File>();
+        for (File f : files) {
+            result.add(f);
+        }
+        return result;
+    }
+
+    /**
+     * Read all the lines of a file through a buffered stream
+     * 
+     * @param f
+     *            the file
+     * @return the lines of the file
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     */
+    private List<String> readBuffered(File f) throws IOException, GedcomParserException {
+        BufferedInputStream bis = new BufferedInputStream(new FileInputStream(f));
+        try {
+            return readLines(new GedcomFileReader(new GedcomParser(), bis));
+        } finally {
+            bis.close();
+        }
+    }
+
+    /**
+     * Read all the lines from a reader
+     * 
+     * @param gfr
+     *            the reader
+     * @return the lines
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     */
+    private List<String> readLines(GedcomFileReader gfr) throws IOException, GedcomParserException {
+        List<String> result = new ArrayList<String>();
+        String s = gfr.nextLine();
+        while (s != null) {
+            result.add(s);
+            s = gfr.nextLine();
+        }
+        return result;
+    }
+
+    /**
+     * Read all the lines of a file by memory-mapping it
+     * 
+     * @param f
+     *            the file
+     * @param windowSize
+     *            the size of the mapped windows
+     * @return the lines of the file
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     */
+    private List<String> readMapped(File f, int windowSize) throws IOException, GedcomParserException {
+        FileInputStream fis = new FileInputStream(f);
+        try {
+            return readLines(new GedcomFileReader(new GedcomParser(), fis.getChannel(), windowSize));
+        } finally {
+            fis.close();
+        }
+    }
+}
@@ -28,8 +28,12 @@ package org.gedcom4j.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
+import org.gedcom4j.Options;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -158,6 +162,40 @@ public class FamilyTest {
         assertNotSame(f1, f2);
     }
 
+    /**
+     * Test the fields that most families don't use, which are kept apart from the rest, with and without collections
+     * being initialized, and that reading them doesn't create them
+     */
+    @Test
+    public void testRarelyUsedFields() {
+        Family f = new Family();
+        assertNull(f.getNumChildren());
+        assertNull(f.getUserReferences());
+        f.setNumChildren(new StringWithCustomTags("3"));
+        assertEquals("3", f.getNumChildren().getValue());
+        assertFalse(f.equals(new Family()));
+        f.setNumChildren(null);
+        assertEquals(new Family(), f);
+        assertEquals(new Family().hashCode(), f.hashCode());
+        f.getUserReferences(true).add(new UserReference());
+        assertEquals(1, f.getUserReferences().size());
+
+        Family before = new Family();
+        Options.setCollectionInitializationEnabled(true);
+        try {
+            // Like the other collections, they are only initialized for families created while the option is on
+            assertNull(before.getSubmitters());
+            f = new Family();
+            assertNotNull(f.getSubmitters());
+            assertTrue(f.getLdsSpouseSealings().isEmpty());
+            f.getSubmitters().add(new Submitter());
+            assertEquals(1, f.getSubmitters().size());
+            assertNull(f.getRestrictionNotice());
+        } finally {
+            Options.resetToDefaults();
+        }
+    }
+
     /**
      * Test method for {@link Family#toString()}.
      */
@@ -29,12 +29,16 @@ package org.gedcom4j.model;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.gedcom4j.Options;
 import org.gedcom4j.exception.GedcomParserException;
 import org.gedcom4j.parser.GedcomParser;
 import org.gedcom4j.query.Finder;
@@ -238,6 +242,47 @@ public class IndividualTest {
         assertEquals("Unknown name", i.toString());
     }
 
+    /**
+     * Test the fields that most individuals don't use, which are kept apart from the rest, with and without collections
+     * being initialized, and that reading them doesn't create them
+     */
+    @Test
+    public void testRarelyUsedFields() {
+        Individual i = new Individual();
+        Individual j = new Individual();
+        assertNull(i.getAncestralFileNumber());
+        assertNull(i.getEmails());
+        i.setAncestralFileNumber(new StringWithCustomTags("AFN"));
+        assertEquals("AFN", i.getAncestralFileNumber().getValue());
+        assertFalse(i.equals(j));
+        j.setAncestralFileNumber(new StringWithCustomTags("AFN"));
+        assertEquals(i, j);
+        assertEquals(i.hashCode(), j.hashCode());
+
+        i.getEmails(true).add(new StringWithCustomTags("a@b.c"));
+        assertEquals("a@b.c", i.getEmails().get(0).getValue());
+        assertFalse(i.equals(j));
+        i.setAncestralFileNumber(null);
+        assertNull(i.getAncestralFileNumber());
+
+        Individual before = new Individual();
+        Options.setCollectionInitializationEnabled(true);
+        try {
+            // Like the other collections, they are only initialized for individuals created while the option is on
+            assertNull(before.getAliases());
+            assertNull(before.getPhoneNumbers());
+            i = new Individual();
+            assertNotNull(i.getPhoneNumbers());
+            assertTrue(i.getAliases().isEmpty());
+            i.getPhoneNumbers().add(new StringWithCustomTags("555-1212"));
+            assertEquals(1, i.getPhoneNumbers().size());
+            assertNull(i.getAddress());
+            assertEquals(new Individual().getWwwUrls(), i.getWwwUrls());
+        } finally {
+            Options.resetToDefaults();
+        }
+    }
+
     /**
      * Test method for {@link org.gedcom4j.model.Individual#toString()}.
      */
@@ -274,6 +319,142 @@ public class IndividualTest {
         assertEquals("Donald /Draper/, spouse of Anna //, spouse of Elizabeth /Hofstadt/", i.toString());
     }
 
+    /**
+     * Test method for {@link Individual#walkAncestors(int, IndividualVisitor)} and
+     * {@link Individual#walkDescendants(int, IndividualVisitor)}, on a line of thousands of generations, with a loop at
+     * the end
+     */
+    @Test
+    public void testWalkLongLine() {
+        final int generations = 5000;
+        Individual[] line = new Individual[generations + 1];
+        for (int g = 0; g <= generations; g++) {
+            line[g] = new Individual();
+            line[g].setXref("@I" + g + "@");
+            if (g > 0) {
+                addChild(line[g - 1], line[g]);
+            }
+        }
+        Individual youngest = line[generations];
+        assertEquals(generations, youngest.getAncestors().size());
+        assertEquals(generations, line[0].getDescendants().size());
+
+        final List<Integer> generationsSeen = new ArrayList<Integer>();
+        assertTrue(youngest.walkAncestors(Integer.MAX_VALUE, new IndividualVisitor() {
+            @Override
+            public boolean visit(Individual individual, int generation) {
+                generationsSeen.add(Integer.valueOf(generation));
+                return true;
+            }
+        }));
+        assertEquals(generations, generationsSeen.size());
+        assertEquals(Integer.valueOf(1), generationsSeen.get(0));
+        assertEquals(Integer.valueOf(generations), generationsSeen.get(generations - 1));
+
+        // Make the first person the child of the youngest, so everyone is their own ancestor and descendant
+        addChild(youngest, line[0]);
+        assertEquals(generations + 1, youngest.getAncestors().size());
+        assertTrue(line[0].getDescendants().contains(line[0]));
+        final Set<Individual> visited = new HashSet<Individual>();
+        assertTrue(line[0].walkDescendants(Integer.MAX_VALUE, new IndividualVisitor() {
+            @Override
+            public boolean visit(Individual individual, int generation) {
+                assertTrue("Visited twice", visited.add(individual));
+                return true;
+            }
+        }));
+        assertEquals(generations + 1, visited.size());
+    }
+
+    /**
+     * Test method for {@link Individual#walkAncestors(int, IndividualVisitor)} and
+     * {@link Individual#walkDescendants(int, IndividualVisitor)}, with generation limits and stopping early
+     * 
+     * @throws GedcomParserException
+     *             if the sample file can't be parsed
+     * @throws IOException
+     *             if the sample file can't be read
+     */
+    @Test
+    public void testWalkLimits() throws IOException, GedcomParserException {
+        GedcomParser gp = new GedcomParser();
+        gp.load("sample/RelationshipTest.ged");
+        Gedcom g = gp.getGedcom();
+        Individual alex = getPerson(g, "Zucco", "Alex");
+        Individual nancy = getPerson(g, "Andrews", "Nancy");
+        Individual robert = getPerson(g, "Andrews", "Robert");
+
+        final Set<Individual> all = new HashSet<Individual>();
+        final Set<Individual> parents = new HashSet<Individual>();
+        assertTrue(alex.walkAncestors(Integer.MAX_VALUE, new IndividualVisitor() {
+            @Override
+            public boolean visit(Individual individual, int generation) {
+                assertTrue("Visited twice", all.add(individual));
+                if (generation == 1) {
+                    parents.add(individual);
+                }
+                return true;
+            }
+        }));
+        assertEquals(alex.getAncestors(), all);
+        assertTrue(parents.contains(nancy));
+        assertEquals(2, parents.size());
+
+        final List<Individual> limited = new ArrayList<Individual>();
+        assertTrue(alex.walkAncestors(1, new IndividualVisitor() {
+            @Override
+            public boolean visit(Individual individual, int generation) {
+                assertEquals(1, generation);
+                limited.add(individual);
+                return true;
+            }
+        }));
+        assertEquals(parents, new HashSet<Individual>(limited));
+
+        final List<Individual> stopped = new ArrayList<Individual>();
+        assertFalse(alex.walkAncestors(Integer.MAX_VALUE, new IndividualVisitor() {
+            @Override
+            public boolean visit(Individual individual, int generation) {
+                stopped.add(individual);
+                return stopped.size() < 3;
+            }
+        }));
+        assertEquals(3, stopped.size());
+
+        final List<Integer> alexGeneration = new ArrayList<Integer>();
+        robert.walkDescendants(5, new IndividualVisitor() {
+            @Override
+            public boolean visit(Individual individual, int generation) {
+                if ("Alex".equals(individual.getNames().get(0).getBasic().split(" ")[0])) {
+                    alexGeneration.add(Integer.valueOf(generation));
+                }
+                return true;
+            }
+        });
+        assertEquals("Alex is Robert's grandson", 1, alexGeneration.size());
+        assertEquals(Integer.valueOf(2), alexGeneration.get(0));
+    }
+
+    /**
+     * Helper method to make one individual the only child of another, in a new family
+     * 
+     * @param parent
+     *            the parent
+     * @param child
+     *            the child
+     */
+    private void addChild(Individual parent, Individual child) {
+        Family f = new Family();
+        f.setHusband(parent);
+        f.getChildren(true).add(child);
+        FamilySpouse fs = new FamilySpouse();
+        fs.setFamily(f);
+        parent.getFamiliesWhereSpouse(true).add(fs);
+        FamilyChild fc = new FamilyChild();
+        fc.setFamily(f);
+        child.getFamiliesWhereChild(true).add(fc);
+    }
+
     /**
      * Helper method to add attributes of a specific type to an individual
      * 
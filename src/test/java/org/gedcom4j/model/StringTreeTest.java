@@ -41,6 +41,36 @@ import org.junit.Test;
  * 
  */
 public class StringTreeTest {
+    /**
+     * Test for {@link StringTree#detach()}
+     */
+    @Test
+    public void testDetach() {
+        StringTree root = new StringTree();
+        StringTree custom = new StringTree();
+        custom.setParent(root);
+        custom.setLevel(1);
+        custom.setLineNum(5);
+        custom.setTag("_UID");
+        custom.setValue("1234");
+        root.getChildren(true).add(custom);
+        StringTree child = new StringTree();
+        child.setParent(custom);
+        child.setLevel(2);
+        child.setTag("_SUB");
+        custom.getChildren(true).add(child);
+
+        StringTree detached = custom.detach();
+        assertNotSame(custom, detached);
+        assertEquals(custom, detached);
+        assertNull(detached.getParent());
+        assertNull(detached.getChildren().get(0).getParent());
+        assertNotSame(child, detached.getChildren().get(0));
+
+        detached.getChildren().get(0).setValue("changed");
+        assertNull(child.getValue());
+    }
+
     /**
      * TEst for {@link StringTree#equals(Object)}
      */
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.model;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.Set;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.parser.GedcomParser;
+import org.junit.Test;
+
+/**
+ * Test for {@link VisitedIndividuals}, and the ordinals of individuals and families that it relies on
+ * 
+ * @author frizbog
+ */
+public class VisitedIndividualsTest {
+
+    /**
+     * Test that loaded individuals and families are numbered from 0 up with no gaps or duplicates, the same way whether
+     * loaded sequentially or in parallel, and that the numbers don't affect equality
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     */
+    @Test
+    public void testOrdinals() throws IOException, GedcomParserException {
+        Gedcom g = load();
+        BitSet seen = new BitSet();
+        for (Individual i : g.getIndividuals().values()) {
+            assertTrue(i.getOrdinal() >= 0 && i.getOrdinal() < g.getIndividuals().size());
+            assertFalse("Ordinal " + i.getOrdinal() + " is used twice", seen.get(i.getOrdinal()));
+            seen.set(i.getOrdinal());
+        }
+        seen.clear();
+        for (Family f : g.getFamilies().values()) {
+            assertTrue(f.getOrdinal() >= 0 && f.getOrdinal() < g.getFamilies().size());
+            assertFalse("Ordinal " + f.getOrdinal() + " is used twice", seen.get(f.getOrdinal()));
+            seen.set(f.getOrdinal());
+        }
+
+        GedcomParser gp = new GedcomParser();
+        gp.setParallelism(4);
+        gp.load("sample/RelationshipTest.ged");
+        Gedcom parallel = gp.getGedcom();
+        for (Individual p : parallel.getIndividuals().values()) {
+            assertEquals(g.getIndividuals().get(p.getXref()).getOrdinal(), p.getOrdinal());
+        }
+        for (Family p : parallel.getFamilies().values()) {
+            assertEquals(g.getFamilies().get(p.getXref()).getOrdinal(), p.getOrdinal());
+        }
+
+        Individual i = new Individual();
+        assertEquals(-1, i.getOrdinal());
+        assertEquals(-1, new Family().getOrdinal());
+        Individual j = new Individual();
+        j.setOrdinal(5);
+        assertEquals(i, j);
+        assertEquals(i.hashCode(), j.hashCode());
+    }
+
+    /**
+     * Test keeping track of loaded individuals, and ones made by hand, which are told apart by identity
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     */
+    @Test
+    public void testVisiting() throws IOException, GedcomParserException {
+        VisitedIndividuals v = new VisitedIndividuals();
+        assertTrue(v.isEmpty());
+        assertFalse(v.contains(null));
+
+        Gedcom g = load();
+        for (Individual i : g.getIndividuals().values()) {
+            assertFalse(v.contains(i));
+            assertTrue(v.add(i));
+            assertTrue(v.contains(i));
+            assertFalse(v.add(i));
+        }
+        assertEquals(g.getIndividuals().size(), v.size());
+
+        Individual made1 = new Individual();
+        Individual made2 = new Individual();
+        assertEquals("Two new individuals are equal", made1, made2);
+        assertTrue(v.add(made1));
+        assertTrue(v.contains(made1));
+        assertFalse("...but are different people", v.contains(made2));
+        assertTrue(v.add(made2));
+        assertFalse(v.add(made1));
+        assertEquals(g.getIndividuals().size() + 2, v.size());
+
+        v.clear();
+        assertTrue(v.isEmpty());
+        assertFalse(v.contains(made1));
+        v.addAll(g.getIndividuals().values());
+        assertEquals(g.getIndividuals().size(), v.size());
+        assertFalse(v.contains(made2));
+    }
+
+    /**
+     * Test that individuals with the same ordinal - from different files, or with an out-of-date number - are still
+     * told apart, and that ancestors aren't lost because of it
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     */
+    @Test
+    public void testOrdinalClashes() throws IOException, GedcomParserException {
+        Gedcom g1 = load();
+        Gedcom g2 = load();
+        VisitedIndividuals v = new VisitedIndividuals();
+        v.addAll(g1.getIndividuals().values());
+        for (Individual i : g2.getIndividuals().values()) {
+            assertFalse(v.contains(i));
+            assertTrue(v.add(i));
+            assertTrue(v.contains(i));
+            assertFalse(v.add(i));
+        }
+        assertEquals(g1.getIndividuals().size() * 2, v.size());
+        for (Individual i : g1.getIndividuals().values()) {
+            assertTrue(v.contains(i));
+        }
+
+        // Give everyone in one family line the same, out-of-date, ordinal
+        Individual alex = null;
+        for (Individual i : g1.getIndividuals().values()) {
+            if ("Alex /Zucco/".equals(i.getFormattedName())) {
+                alex = i;
+            }
+        }
+        assertNotNull(alex);
+        Set<Individual> ancestors = alex.getAncestors();
+        assertTrue(ancestors.size() > 2);
+        for (Individual i : ancestors) {
+            i.setOrdinal(0);
+        }
+        assertEquals(ancestors, alex.getAncestors());
+
+        v.clear();
+        Individual huge = new Individual();
+        huge.setOrdinal(Integer.MAX_VALUE);
+        assertTrue(v.add(huge));
+        assertTrue(v.contains(huge));
+        assertEquals(1, v.size());
+    }
+
+    /**
+     * Load the sample file
+     * 
+     * @return the loaded gedcom
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     */
+    private Gedcom load() throws IOException, GedcomParserException {
+        GedcomParser gp = new GedcomParser();
+        gp.load("sample/RelationshipTest.ged");
+        return gp.getGedcom();
+    }
+}
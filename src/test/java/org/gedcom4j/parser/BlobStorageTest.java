@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import static org.junit.Assert.*;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.exception.GedcomWriterException;
+import org.gedcom4j.io.encoding.BlobCodec;
+import org.gedcom4j.model.BinaryBlob;
+import org.gedcom4j.model.Multimedia;
+import org.gedcom4j.writer.GedcomWriter;
+import org.junit.Test;
+
+/**
+ * Test for loading embedded multimedia data (<code>BLOB</code>s) in binary form, with each of the {@link BlobStorage}
+ * options, and writing it back out
+ * 
+ * @author frizbog
+ */
+public class BlobStorageTest {
+
+    /**
+     * The torture test file with an embedded multimedia object
+     */
+    private static final String SAMPLE = "sample/TGC55C.ged";
+
+    /**
+     * Test that loading with each kind of binary storage gives the same bytes as decoding the text, and that writing
+     * the binary form out gives the same text as the file
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     * @throws GedcomWriterException
+     *             if the file can't be written
+     */
+    @Test
+    public void testStorageOptions() throws IOException, GedcomParserException, GedcomWriterException {
+        GedcomParser textParser = new GedcomParser();
+        textParser.load(SAMPLE);
+        Multimedia textObject = textParser.getGedcom().getMultimedia().get("@M1@");
+        List<String> text = textObject.getBlob();
+        assertFalse(text.isEmpty());
+        assertNull(textObject.getBinaryBlob());
+        byte[] expected = decode(text);
+        assertEquals(310, expected.length);
+
+        for (BlobStorage storage : new BlobStorage[] { BlobStorage.HEAP, BlobStorage.DIRECT_BUFFER, BlobStorage.TEMP_FILE }) {
+            GedcomParser gp = new GedcomParser();
+            gp.getLoadOptions().setBlobStorage(storage);
+            gp.load(SAMPLE);
+            assertEquals(textParser.getErrors(), gp.getErrors());
+            assertEquals(textParser.getWarnings(), gp.getWarnings());
+            Multimedia m = gp.getGedcom().getMultimedia().get("@M1@");
+            assertTrue(m.getBlob() == null || m.getBlob().isEmpty());
+            BinaryBlob b = m.getBinaryBlob();
+            assertNotNull(storage.name(), b);
+            assertEquals(storage.name(), expected.length, b.getLength());
+            assertArrayEquals(storage.name(), expected, b.getBytes());
+            assertEquals(storage == BlobStorage.TEMP_FILE, b.getFile() != null);
+
+            File file = b.getFile();
+            if (file != null) {
+                assertTrue(file.exists());
+            }
+            b.release();
+            assertEquals(0, b.getLength());
+            if (file != null) {
+                assertFalse(file.exists());
+            }
+        }
+    }
+
+    /**
+     * Test that a multimedia object loaded in binary form is written back out as the same blob text it was read from
+     * 
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the data can't be parsed
+     * @throws GedcomWriterException
+     *             if the data can't be written
+     */
+    @Test
+    public void testWriteBinaryBlob() throws IOException, GedcomParserException, GedcomWriterException {
+        GedcomParser textParser = new GedcomParser();
+        textParser.load(SAMPLE);
+        List<String> text = textParser.getGedcom().getMultimedia().get("@M1@").getBlob();
+
+        StringBuilder data = new StringBuilder("0 HEAD\n1 SOUR test\n1 SUBM @SUBM1@\n1 GEDC\n2 VERS 5.5\n2 FORM LINEAGE-LINKED\n"
+                + "1 CHAR ASCII\n0 @SUBM1@ SUBM\n1 NAME Tester\n0 @M1@ OBJE\n1 FORM PICT\n1 BLOB\n");
+        for (String line : text) {
+            data.append("2 CONT ").append(line).append('\n');
+        }
+        data.append("0 TRLR\n");
+
+        GedcomParser gp = new GedcomParser();
+        gp.getLoadOptions().setBlobStorage(BlobStorage.HEAP);
+        gp.load(new BufferedInputStream(new ByteArrayInputStream(data.toString().getBytes("US-ASCII"))));
+        assertNotNull(gp.getGedcom().getMultimedia().get("@M1@").getBinaryBlob());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new GedcomWriter(gp.getGedcom()).write(out);
+        GedcomParser reread = new GedcomParser();
+        reread.load(new BufferedInputStream(new ByteArrayInputStream(out.toByteArray())));
+        assertEquals(text, reread.getGedcom().getMultimedia().get("@M1@").getBlob());
+    }
+
+    /**
+     * Test that custom tags under a BLOB are kept once, whether the data is decoded, or can't be stored and is kept as
+     * text instead
+     * 
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the data can't be parsed
+     */
+    @Test
+    public void testCustomTagsUnderBlob() throws IOException, GedcomParserException {
+        String data = "0 HEAD\n1 SOUR test\n1 SUBM @SUBM1@\n1 GEDC\n2 VERS 5.5\n2 FORM LINEAGE-LINKED\n1 CHAR ASCII\n"
+                + "0 @SUBM1@ SUBM\n1 NAME Tester\n0 @M1@ OBJE\n1 FORM PICT\n1 BLOB\n2 CONT .HM.......k.1..F.jwA.Dk\n2 _FOO bar\n0 TRLR\n";
+        for (BlobStorage storage : new BlobStorage[] { BlobStorage.HEAP, BlobStorage.TEMP_FILE }) {
+            GedcomParser gp = new GedcomParser();
+            gp.getLoadOptions().setBlobStorage(storage);
+            if (storage == BlobStorage.TEMP_FILE) {
+                // A directory that doesn't exist, so the data can't be stored
+                gp.getLoadOptions().setBlobDirectory(new File("tmp/no/such/directory"));
+            }
+            gp.load(new BufferedInputStream(new ByteArrayInputStream(data.getBytes("US-ASCII"))));
+            Multimedia m = gp.getGedcom().getMultimedia().get("@M1@");
+            assertEquals(storage.name(), 1, m.getCustomTags().size());
+            assertEquals(storage == BlobStorage.HEAP, m.getBinaryBlob() != null);
+            assertEquals(storage == BlobStorage.TEMP_FILE, gp.getErrors().size() == 1);
+        }
+    }
+
+    /**
+     * Decode lines of blob text
+     * 
+     * @param lines
+     *            the lines of text
+     * @return the decoded bytes
+     * @throws IOException
+     *             never
+     */
+    private byte[] decode(List<String> lines) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BlobCodec.Decoder decoder = new BlobCodec.Decoder(out);
+        for (String line : lines) {
+            decoder.decode(line);
+        }
+        decoder.finish();
+        return out.toByteArray();
+    }
+}
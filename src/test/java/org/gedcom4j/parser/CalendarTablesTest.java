@@ -0,0 +1,454 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import static org.junit.Assert.*;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Test that the table-driven conversions in {@link HebrewCalendarParser} and {@link FrenchRepublicanCalendarParser} give exactly
+ * the same results as the {@link Calendar}-based conversions they replaced, which are kept here for comparison
+ * 
+ * @author frizbog
+ */
+public class CalendarTablesTest {
+
+    /**
+     * The Hebrew calendar conversion as it was before it was table-driven
+     */
+    private static class OriginalHebrewCalendarParser {
+
+
+        /**
+         * This function converts a Hebrew date into the Gregorian date
+         * 
+         * @param hebrewYear
+         *            the hebrew year
+         * @param hebrewMonthAbbrev
+         *            the hebrew month abbreviation in GEDCOM format
+         * @param dayOfMonth
+         * @return the date in Gregorian form
+         */
+        Date convertHebrewDateToGregorian(int hebrewYear, String hebrewMonthAbbrev, int dayOfMonth) {
+
+            HebrewMonth hebrewMonth = HebrewMonth.getFromAbbreviation(hebrewMonthAbbrev);
+            int hebrewMonthNum = hebrewMonth.ordinal() + 1; // one-based
+
+            Calendar c = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+            c.setTime(getFirstDayOfHebrewYear(hebrewYear));
+
+            // Now count up days within the year
+            for (int m = 1; m <= hebrewMonthNum - 1; m++) {
+                int monthLength = getMonthLength(hebrewYear, HebrewMonth.getFrom1BasedNumber(m));
+                c.add(Calendar.DAY_OF_YEAR, +monthLength);
+            }
+            c.add(Calendar.DAY_OF_YEAR, dayOfMonth - 1);
+            return c.getTime();
+        }
+
+        /**
+         * Get the number of days in the month and year requeted
+         * 
+         * @param hebrewYear
+         *            the hebrew year
+         * @param hebrewMonth
+         *            the Hebrew month
+         * @return the number of days in the month on the specified year
+         */
+        int getMonthLength(int hebrewYear, HebrewMonth hebrewMonth) {
+
+            int hebrewMonthNum = hebrewMonth.ordinal() + 1;
+            boolean leapYear = isLeapYear(hebrewYear);
+            int lenHebrewYear = getLengthOfYear(hebrewYear);
+            /*
+             * The regular length of a non-leap Hebrew year is 354 days. The regular length of a Hebrew leap year is 384 days.
+             * 
+             * If the year is shorter by one less day, it is called a haser year. Kislev on a haser year has 29 days. If the year is
+             * longer by one day, it is called a shalem year. Cheshvan on a shalem year is 30 days.
+             */
+            boolean haserYear = (lenHebrewYear == 353 || lenHebrewYear == 383);
+            boolean shalemYear = (lenHebrewYear == 355 || lenHebrewYear == 385);
+            int monthLength = 0;
+            if (hebrewMonthNum == 1 || hebrewMonthNum == 5 || hebrewMonthNum == 8 || hebrewMonthNum == 10 || hebrewMonthNum == 12) {
+                monthLength = 30;
+            } else if (hebrewMonthNum == 4 || hebrewMonthNum == 7 || hebrewMonthNum == 9 || hebrewMonthNum == 11
+                    || hebrewMonthNum == 13) {
+                monthLength = 29;
+            } else if (hebrewMonthNum == 6) {
+                monthLength = (leapYear ? 30 : 0);
+            } else if (hebrewMonthNum == 2) {
+                monthLength = (shalemYear ? 30 : 29);
+            } else if (hebrewMonthNum == 3) {
+                monthLength = (haserYear ? 29 : 30);
+            }
+            return monthLength;
+        }
+
+        /**
+         * Get the Gregorian Date corresponding to the first day of a given Hebrew year (1 Tishrei)
+         * 
+         * @param hebrewYear
+         *            the hebrew year (e.g., 5776)
+         * @return the gregorian date of the first day of the hebrew year supplied
+         */
+        private Date getFirstDayOfHebrewYear(int hebrewYear) {
+            /*
+             * Calculate how many days, hours and chalakim (1/1080th of an hour, about 3.333 secs) it has been from the molad (start of
+             * new moon) at the beginning of the year.
+             * 
+             * The period between one new moon to the next is 29 days, 12 hours and 793 chalakim. We must multiply that by the amount of
+             * months that transpired since the first molad. Then we add the time of the first molad (Monday, 5 hours and 204 chalakim).
+             */
+            int monthsSinceFirstMolad = getMonthsSinceFirstMolad(hebrewYear);
+            int chalakim = 793 * monthsSinceFirstMolad;
+            chalakim += 204;
+            // carry the excess Chalakim over to the hours
+            int hours = (int) Math.floor(chalakim / 1080);
+            chalakim = chalakim % 1080;
+
+            hours += monthsSinceFirstMolad * 12;
+            hours += 5;
+
+            // carry the excess hours over to the days
+            int days = (int) Math.floor(hours / 24);
+            hours = hours % 24;
+
+            days += 29 * monthsSinceFirstMolad;
+            days += 2;
+
+            // Figure out which day of the week the molad occurs. Shabbos is 0, other days of week are 1-based.
+            int dayOfWeek = days % 7;
+
+            /*
+             * In a perfect world, Rosh Hashanah would be on the day of the molad. The Hebrew calendar makes four exceptions where we
+             * push off Rosh Hashanah one or two days. This is done to prevent three situations. Without explaining why, the three
+             * situations are:
+             * 
+             * 1) We don't want Rosh Hashanah to come out on Sunday, Wednesday or Friday
+             * 
+             * 2) We don't want Rosh Hashanah to be on the day of the molad if the molad occurs after the beginning of 18th hour.
+             * 
+             * 3) We want to limit years to specific lengths. For non-leap years, we limit it to either 353, 354 or 355 days. For leap
+             * years, we limit it to either 383, 384 or 385 days. If setting Rosh Hashanah to the day of the molad will cause this year,
+             * or the previous year to fall outside these lengths, we push off Rosh Hashanah to get the year back to a valid length.
+             * 
+             * This code handles these exceptions.
+             */
+            if (!isLeapYear(hebrewYear) && dayOfWeek == 3 && (hours * 1080) + chalakim >= (9 * 1080) + 204) {
+                /*
+                 * This prevents the year from being 356 days. We have to push Rosh Hashanah off two days because if we pushed it off
+                 * only one day, Rosh Hashanah would comes out on a Wednesday. Check the Hebrew year 5745 for an example.
+                 */
+                dayOfWeek = 5;
+                days += 2;
+            } else if (isLeapYear(hebrewYear - 1) && dayOfWeek == 2 && (hours * 1080) + chalakim >= (15 * 1080) + 589) {
+                /*
+                 * This prevents the previous year from being 382 days. Check the Hebrew Year 5766 for an example. If Rosh Hashanah was
+                 * not pushed off a day then 5765 would be 382 days
+                 */
+                dayOfWeek = 3;
+                days += 1;
+            } else {
+                // see rule 2 above. Check the Hebrew year 5765 for an example
+                if (hours >= 18) {
+                    dayOfWeek += 1;
+                    dayOfWeek = dayOfWeek % 7;
+                    days += 1;
+                }
+                // see rule 1 above. Check the Hebrew year 5765 for an example
+                if (dayOfWeek == 1 || dayOfWeek == 4 || dayOfWeek == 6) {
+                    dayOfWeek += 1;
+                    dayOfWeek = dayOfWeek % 7;
+                    days += 1;
+                }
+            }
+
+            // Adjust by the number of days since creation for 1 Jan 1900 - starting point for making date adjustments since Java dates
+            // are around the epoch
+            days -= 2067025;
+
+            Calendar c = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+            c.clear();
+            c.set(1900, 0, 1, 0, 0);
+            c.add(Calendar.DATE, days);
+
+            // Sep 14, 1752, when Gregorian was adopted by England and its colonies
+            Calendar gregorianReformation = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+            gregorianReformation.clear();
+            gregorianReformation.set(1752, Calendar.SEPTEMBER, 14, 0, 0);
+
+            // Adjust for the Gregorian Reformation if needed
+            if (c.before(gregorianReformation)) {
+                c.add(Calendar.DATE, -10);
+            }
+
+            return c.getTime();
+        }
+
+        /**
+         * This function gets the number of days of a Hebrew year.
+         * 
+         * @param hebrewYear
+         *            the Hebrew year
+         * @return the number of days in the year
+         */
+        private int getLengthOfYear(int hebrewYear) {
+            // subtract the date of this year from the date of next year
+            Date thisNewYear = getFirstDayOfHebrewYear(hebrewYear);
+            Date nextNewYear = getFirstDayOfHebrewYear(hebrewYear + 1);
+            return (int) TimeUnit.DAYS.convert(nextNewYear.getTime() - thisNewYear.getTime(), TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * This function returns how many months there has been from the first Molad of the year supplied.
+         * 
+         * @param hebrewYear
+         *            the Hebrew year
+         * @return the number of months since the first Molad
+         */
+        private int getMonthsSinceFirstMolad(int hebrewYear) {
+            // The months of this year haven't happened yet, so go back a year
+            int y = hebrewYear - 1;
+
+            // Get how many 19 year cycles there has been and multiply it by 235 (which is the number of months in a 19-year cycle)
+            int result = (int) (Math.floor(y / 19) * 235);
+
+            // Get the remaining years after the last complete 19 year cycle.
+            y = yearInLeapCycle(y);
+
+            // Add 12 months for each of those years...
+            result += 12 * y;
+
+            // and then add the extra months to account for the leap years
+            if (y >= 17) {
+                result += 6;
+            } else if (y >= 14) {
+                result += 5;
+            } else if (y >= 11) {
+                result += 4;
+            } else if (y >= 8) {
+                result += 3;
+            } else if (y >= 6) {
+                result += 2;
+            } else if (y >= 3) {
+                result += 1;
+            }
+            return result;
+        }
+
+        /**
+         * This function returns if a given year is a leap year.
+         * 
+         * @param hebrewYear
+         *            the Hebrew year
+         * @return true if and only if the hebrew year supplied is a leap year
+         */
+        private boolean isLeapYear(int hebrewYear) {
+            int yearInCycle = yearInLeapCycle(hebrewYear);
+
+            return (yearInCycle == 3 || yearInCycle == 6 || yearInCycle == 8 || yearInCycle == 11 || yearInCycle == 14
+                    || yearInCycle == 17 || yearInCycle == 0);
+        }
+
+        /**
+         * Find out which year we are within the leap-year cycle. Since the cycle lasts 19 years, the 19th year of the cycle will return
+         * 0.
+         * 
+         * @param hebrewYear
+         *            the Hebrew year
+         * @return which year within the cycle we're in. The 19th year of the cycle is zero.
+         */
+        private int yearInLeapCycle(int hebrewYear) {
+            return hebrewYear % 19;
+        }
+    }
+
+    /**
+     * The French Republican calendar conversion as it was before it was table-driven
+     */
+    private static class OriginalFrenchRepublicanCalendarParser {
+
+
+        /**
+         * This function converts a French Republican date into the Gregorian date.
+         * 
+         * @param frenchRepublicanYear
+         *            the French Republican year. French year 1 corresponds to Gregorian year 1792
+         * @param frenchRepublicanMonthAbbrev
+         *            the French Republican month abbreviation in GEDCOM format
+         * @param dayOfMonth
+         * @return the date in Gregorian form
+         */
+        Date convertFrenchRepublicanDateToGregorian(int frenchRepublicanYear, String frenchRepublicanMonthAbbrev, int dayOfMonth) {
+            // Validate year
+            if (frenchRepublicanYear < 1) {
+                return null;
+            }
+
+            // Start just before beginning of French Republican time - 21 SEP 1792
+            Calendar c = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+            c.clear();
+            c.set(1792, Calendar.SEPTEMBER, 21, 0, 0, 0);
+
+            // Add years alrady passed
+            for (int i = 1; i <= frenchRepublicanYear - 1; i++) {
+                c.add(Calendar.DATE, 365); // 365 days per year
+                if (isFrenchLeapYearRomme(i)) {
+                    c.add(Calendar.DATE, 1); // add a leap day
+                }
+
+            }
+
+            // Figure out the month
+            FrenchRepublicanMonth frm = FrenchRepublicanMonth.getFromGedcomAbbrev(frenchRepublicanMonthAbbrev);
+            if (frm == null) {
+                return null;
+            }
+            // Add 30 days per month
+            c.add(Calendar.DATE, 30 * frm.ordinal());
+
+            // Validate number of days in month
+            if (dayOfMonth < 1) {
+                return null;
+            }
+            if (frm == FrenchRepublicanMonth.JOUR_COMPLEMENTAIRS && dayOfMonth > 6) {
+                // There were never more than 6 days in Jour Complementairs, and that was only on leap years
+                return null;
+            }
+            if (frm != FrenchRepublicanMonth.JOUR_COMPLEMENTAIRS && dayOfMonth > 30) {
+                // All the other months had 30 days
+                return null;
+            }
+
+            // Add days for days in the month
+            c.add(Calendar.DATE, dayOfMonth);
+
+            return c.getTime();
+        }
+
+        /**
+         * Is the French Republican year supplied a French Leap Year? Uses the Romme rule, which says:
+         * <ul>
+         * <li>Years III, VII, XI, XV, and XX are to be leap years</li>
+         * <li>After that, every four years; <strong>but</strong> if the French year is divisible by 100 it must also be divisible by
+         * 400 to be a leap year (much like Gregorian).
+         * </ul>
+         * 
+         * @param frenchRepublicanYear
+         *            the French Republican Year
+         * @return true if it's a French Leap Year.
+         */
+        boolean isFrenchLeapYearRomme(int frenchRepublicanYear) {
+            if (frenchRepublicanYear == 3 || frenchRepublicanYear == 7 || frenchRepublicanYear == 11 || frenchRepublicanYear == 15) {
+                return true;
+            }
+            if (frenchRepublicanYear >= 20 && frenchRepublicanYear % 4 == 0) {
+                // Probably a leap year
+                if (frenchRepublicanYear % 100 == 0) {
+                    // Must be divisible by 400 if it's also divisible by 100 to be a leap year
+                    return (frenchRepublicanYear % 400 == 0);
+                }
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Test every day of every month of every Hebrew year in the tables, and some years either side
+     */
+    @Test
+    public void testHebrew() {
+        OriginalHebrewCalendarParser original = new OriginalHebrewCalendarParser();
+        HebrewCalendarParser hc = new HebrewCalendarParser();
+        for (int year = HebrewCalendarParser.FIRST_TABLE_YEAR - 20; year <= HebrewCalendarParser.LAST_TABLE_YEAR + 20; year++) {
+            for (HebrewMonth month : HebrewMonth.values()) {
+                int monthLength = original.getMonthLength(year, month);
+                assertEquals(year + " " + month, monthLength, hc.getMonthLength(year, month));
+                // Every day in the month is an offset from the first, so check the first in full and the rest by day number
+                Date first = original.convertHebrewDateToGregorian(year, month.getGedcomAbbrev(), 1);
+                assertEquals(year + " " + month, first, hc.convertHebrewDateToGregorian(year, month.getGedcomAbbrev(), 1));
+                long firstDayNumber = first.getTime() / TimeUnit.DAYS.toMillis(1);
+                for (int day = 0; day <= 31; day++) {
+                    assertEquals(firstDayNumber + day - 1, HebrewCalendarParser.getDayNumber(year, month.ordinal() + 1, day));
+                }
+            }
+        }
+    }
+
+    /**
+     * Test every day of a couple of centuries of Hebrew years in full
+     */
+    @Test
+    public void testHebrewEveryDay() {
+        OriginalHebrewCalendarParser original = new OriginalHebrewCalendarParser();
+        HebrewCalendarParser hc = new HebrewCalendarParser();
+        for (int year = 5600; year <= 5800; year++) {
+            for (HebrewMonth month : HebrewMonth.values()) {
+                for (int day = 1; day <= 30; day++) {
+                    assertEquals(day + " " + month + " " + year, original.convertHebrewDateToGregorian(year, month.getGedcomAbbrev(),
+                            day), hc.convertHebrewDateToGregorian(year, month.getGedcomAbbrev(), day));
+                }
+            }
+        }
+    }
+
+    /**
+     * Test every day (valid or not) of every month of the first French Republican years, which include all the irregular leap
+     * years, and the last year in the table. The original conversion takes time in proportion to the year, so in between, test
+     * the first and last days of a sample of years.
+     */
+    @Test
+    public void testFrenchRepublican() {
+        OriginalFrenchRepublicanCalendarParser original = new OriginalFrenchRepublicanCalendarParser();
+        FrenchRepublicanCalendarParser frc = new FrenchRepublicanCalendarParser();
+        for (int year = -5; year <= FrenchRepublicanCalendarParser.LAST_TABLE_YEAR + 500; year++) {
+            assertEquals(original.isFrenchLeapYearRomme(year), FrenchRepublicanCalendarParser.isFrenchLeapYearRomme(year));
+            if (year <= 40 || year == FrenchRepublicanCalendarParser.LAST_TABLE_YEAR) {
+                for (FrenchRepublicanMonth month : FrenchRepublicanMonth.values()) {
+                    for (int day = 0; day <= 31; day++) {
+                        assertEquals(day + " " + month + " " + year, original.convertFrenchRepublicanDateToGregorian(year, month
+                                .getGedcomAbbrev(), day), frc.convertFrenchRepublicanDateToGregorian(year, month.getGedcomAbbrev(),
+                                        day));
+                    }
+                }
+            } else if (year % 97 == 0 || year % 400 == 0) {
+                assertEquals("1 VEND " + year, original.convertFrenchRepublicanDateToGregorian(year, "VEND", 1), frc
+                        .convertFrenchRepublicanDateToGregorian(year, "VEND", 1));
+                assertEquals("6 COMP " + year, original.convertFrenchRepublicanDateToGregorian(year, "COMP", 6), frc
+                        .convertFrenchRepublicanDateToGregorian(year, "COMP", 6));
+            }
+        }
+        assertNull(frc.convertFrenchRepublicanDateToGregorian(1, "XXXX", 1));
+    }
+}
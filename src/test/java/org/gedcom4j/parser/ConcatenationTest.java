@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import static org.junit.Assert.*;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.model.Gedcom;
+import org.junit.Test;
+
+/**
+ * Test for assembling long text values from CONC and CONT lines, in {@link AbstractParser#loadMultiLinesOfText} and
+ * {@link NoteListParser}
+ * 
+ * @author frizbog
+ */
+public class ConcatenationTest {
+
+    /**
+     * The number of CONC lines to split each long line into
+     */
+    private static final int PIECES = 2000;
+
+    /**
+     * Test a note and a source text, each split into thousands of CONC lines, with some CONT lines in between
+     * 
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the data can't be parsed
+     */
+    @Test
+    public void testLongText() throws IOException, GedcomParserException {
+        StringBuilder data = new StringBuilder("0 HEAD\n1 CHAR ASCII\n0 @N1@ NOTE Start\n");
+        appendPieces(data, 1);
+        data.append("1 CONT\n1 CONT Second line\n");
+        appendPieces(data, 1);
+        data.append("1 CONC\n0 @S1@ SOUR\n1 TEXT\n");
+        appendPieces(data, 2);
+        data.append("2 CONT Last line\n0 TRLR\n");
+
+        GedcomParser gp = new GedcomParser();
+        gp.load(new BufferedInputStream(new ByteArrayInputStream(data.toString().getBytes("US-ASCII"))));
+        assertTrue(gp.getErrors().isEmpty());
+        Gedcom g = gp.getGedcom();
+
+        List<String> noteLines = g.getNotes().get("@N1@").getLines();
+        assertEquals(3, noteLines.size());
+        assertEquals("Start" + expectedPieces(), noteLines.get(0));
+        assertEquals("", noteLines.get(1));
+        assertEquals("Second line" + expectedPieces(), noteLines.get(2));
+
+        List<String> textLines = g.getSources().get("@S1@").getSourceText();
+        assertEquals(2, textLines.size());
+        assertEquals(expectedPieces(), textLines.get(0));
+        assertEquals("Last line", textLines.get(1));
+    }
+
+    /**
+     * Test that a CONC line on a note whose first line is empty replaces the empty line, rather than being appended to
+     * it
+     * 
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the data can't be parsed
+     */
+    @Test
+    public void testNoteStartingWithConcatenation() throws IOException, GedcomParserException {
+        String data = "0 HEAD\n1 CHAR ASCII\n0 @N1@ NOTE\n1 CONC First\n1 CONC  part\n1 CONT\n1 CONC Next\n0 TRLR\n";
+        GedcomParser gp = new GedcomParser();
+        gp.load(new BufferedInputStream(new ByteArrayInputStream(data.getBytes("US-ASCII"))));
+        List<String> noteLines = gp.getGedcom().getNotes().get("@N1@").getLines();
+        assertEquals(2, noteLines.size());
+        assertEquals("First part", noteLines.get(0));
+        assertEquals("Next", noteLines.get(1));
+    }
+
+    /**
+     * Add CONC lines for the pieces of a long line
+     * 
+     * @param data
+     *            the data to add the lines to
+     * @param level
+     *            the level of the CONC lines
+     */
+    private void appendPieces(StringBuilder data, int level) {
+        for (int i = 0; i < PIECES; i++) {
+            data.append(level).append(" CONC piece").append(i).append('\n');
+        }
+    }
+
+    /**
+     * Get the text of all the pieces of a long line joined together
+     * 
+     * @return the text of all the pieces of a long line joined together
+     */
+    private String expectedPieces() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < PIECES; i++) {
+            sb.append("piece").append(i);
+        }
+        return sb.toString();
+    }
+}
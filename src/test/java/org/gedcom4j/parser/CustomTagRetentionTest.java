@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import static org.junit.Assert.*;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.exception.GedcomWriterException;
+import org.gedcom4j.model.StringTree;
+import org.gedcom4j.writer.GedcomWriter;
+import org.junit.Test;
+
+/**
+ * Test that custom tags, and the other {@link StringTree}s kept in the object model, don't keep the trees for the
+ * records they came from reachable once the file is loaded
+ * 
+ * @author frizbog
+ */
+public class CustomTagRetentionTest {
+
+    /**
+     * Load a file with lots of vendor-specific tags, and check that no {@link StringTree} reachable from the object
+     * model has a parent, so none of them keeps the tree for its record reachable
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     * @throws IllegalAccessException
+     *             if the object model can't be walked
+     */
+    @Test
+    public void testCustomTagsDetached() throws IOException, GedcomParserException, IllegalAccessException {
+        assertTrue(countCustomTagLines(readAll("sample/willis.ged")) > 900);
+        GedcomParser gp = new GedcomParser();
+        gp.load("sample/willis.ged");
+
+        Collection<StringTree> reachable = findStringTrees(gp.getGedcom());
+        assertFalse(reachable.isEmpty());
+        for (StringTree st : reachable) {
+            assertNull("Still attached: " + st, st.getParent());
+        }
+    }
+
+    /**
+     * Check that detached custom tags are all still written back out
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     * @throws GedcomWriterException
+     *             if the data can't be written
+     */
+    @Test
+    public void testCustomTagsWritten() throws IOException, GedcomParserException, GedcomWriterException {
+        GedcomParser gp = new GedcomParser();
+        gp.load("sample/willis-ascii.ged");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new GedcomWriter(gp.getGedcom()).write(out);
+        int customTagLines = countCustomTagLines(readAll("sample/willis-ascii.ged"));
+        assertTrue(customTagLines > 30);
+        assertEquals(customTagLines, countCustomTagLines(out.toString("US-ASCII")));
+    }
+
+    /**
+     * Count the lines with custom tags in some GEDCOM data
+     * 
+     * @param data
+     *            the GEDCOM data
+     * @return the number of lines with custom tags
+     */
+    private int countCustomTagLines(String data) {
+        int result = 0;
+        for (String line : data.split("\\r?\\n")) {
+            String[] pieces = line.trim().split(" ");
+            if (pieces.length > 1 && (pieces[1].startsWith("_") || pieces.length > 2 && pieces[1].startsWith("@") && pieces[2]
+                    .startsWith("_"))) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Find all the {@link StringTree}s reachable from an object, through the fields of the objects in the model and
+     * the collections and maps they refer to. Enums and JDK classes other than collections and maps aren't looked
+     * inside, so no JDK internals are made accessible.
+     * 
+     * @param start
+     *            the object to start from
+     * @return the string trees found
+     * @throws IllegalAccessException
+     *             if a field can't be read
+     */
+    private Collection<StringTree> findStringTrees(Object start) throws IllegalAccessException {
+        Map<Object, Boolean> seen = new IdentityHashMap<Object, Boolean>();
+        Map<StringTree, Boolean> result = new IdentityHashMap<StringTree, Boolean>();
+        Deque<Object> toVisit = new ArrayDeque<Object>();
+        toVisit.push(start);
+        while (!toVisit.isEmpty()) {
+            Object o = toVisit.pop();
+            if (seen.put(o, Boolean.TRUE) != null) {
+                continue;
+            }
+            if (o instanceof StringTree) {
+                result.put((StringTree) o, Boolean.TRUE);
+            }
+            if (o instanceof Collection<?>) {
+                for (Object e : (Collection<?>) o) {
+                    if (e != null) {
+                        toVisit.push(e);
+                    }
+                }
+            } else if (o instanceof Map<?, ?>) {
+                for (Object e : ((Map<?, ?>) o).values()) {
+                    if (e != null) {
+                        toVisit.push(e);
+                    }
+                }
+            } else if (o.getClass().getName().startsWith("org.gedcom4j.model.") && !(o instanceof Enum<?>)) {
+                // Only the fields declared by the library's own classes are read, never those of JDK classes
+                for (Class<?> c = o.getClass(); c != null && c.getName().startsWith("org.gedcom4j."); c = c.getSuperclass()) {
+                    for (Field f : c.getDeclaredFields()) {
+                        if (Modifier.isStatic(f.getModifiers()) || f.getType().isPrimitive()) {
+                            continue;
+                        }
+                        f.setAccessible(true);
+                        Object v = f.get(o);
+                        if (v != null) {
+                            toVisit.push(v);
+                        }
+                    }
+                }
+            }
+        }
+        return result.keySet();
+    }
+
+    /**
+     * Read a whole file
+     * 
+     * @param filename
+     *            the name of the file
+     * @return the contents of the file
+     * @throws IOException
+     *             if the file can't be read
+     */
+    private String readAll(String filename) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(filename), "UTF-8"));
+        try {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                sb.append(line).append("\n");
+            }
+        } finally {
+            reader.close();
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import static org.junit.Assert.*;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.io.reader.FileReadingStrategy;
+import org.gedcom4j.model.*;
+import org.junit.Test;
+
+/**
+ * Test for streaming records through a {@link GedcomRecordHandler} with
+ * {@link GedcomParser#stream(File, FileReadingStrategy, GedcomRecordHandler)} and related methods
+ * 
+ * @author frizbog
+ */
+public class GedcomParserStreamTest {
+
+    /**
+     * A record handler that keeps track of what it was given
+     */
+    private static class CollectingHandler extends GedcomRecordHandlerAdapter {
+        /** The names of the individuals received, keyed by xref */
+        private final Map<String, String> individualNames = new HashMap<String, String>();
+
+        /** The xrefs of the families received */
+        private final Set<String> families = new HashSet<String>();
+
+        /** The xrefs of the sources received */
+        private final Set<String> sources = new HashSet<String>();
+
+        /** The xrefs of the notes received */
+        private final Set<String> notes = new HashSet<String>();
+
+        /** The xrefs of the multimedia received */
+        private final Set<String> multimedia = new HashSet<String>();
+
+        /** The xrefs of the repositories received */
+        private final Set<String> repositories = new HashSet<String>();
+
+        /** The xrefs of the submitters received */
+        private final Set<String> submitters = new HashSet<String>();
+
+        /** The number of headers received */
+        private int headers;
+
+        /** The number of submissions received */
+        private int submissions;
+
+        @Override
+        public void handleFamily(Family family) {
+            families.add(family.getXref());
+        }
+
+        @Override
+        public void handleHeader(Header header) {
+            assertNotNull(header);
+            headers++;
+        }
+
+        @Override
+        public void handleIndividual(Individual individual) {
+            individualNames.put(individual.getXref(), String.valueOf(individual.getNames()));
+        }
+
+        @Override
+        public void handleMultimedia(Multimedia m) {
+            multimedia.add(m.getXref());
+        }
+
+        @Override
+        public void handleNote(Note note) {
+            notes.add(note.getXref());
+        }
+
+        @Override
+        public void handleRepository(Repository repository) {
+            repositories.add(repository.getXref());
+        }
+
+        @Override
+        public void handleSource(Source source) {
+            sources.add(source.getXref());
+        }
+
+        @Override
+        public void handleSubmission(Submission submission) {
+            assertNotNull(submission);
+            submissions++;
+        }
+
+        @Override
+        public void handleSubmitter(Submitter submitter) {
+            submitters.add(submitter.getXref());
+        }
+    }
+
+    /**
+     * Test that streaming the torture test file gives the handler the same records as loading it
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     */
+    @Test
+    public void testStreamMatchesLoad() throws IOException, GedcomParserException {
+        GedcomParser loaded = new GedcomParser();
+        loaded.load("sample/TGC551.ged");
+        Gedcom g = loaded.getGedcom();
+
+        for (FileReadingStrategy strategy : FileReadingStrategy.values()) {
+            GedcomParser streamed = new GedcomParser();
+            CollectingHandler h = new CollectingHandler();
+            streamed.stream(new File("sample/TGC551.ged"), strategy, h);
+
+            assertEquals(1, h.headers);
+            assertEquals(g.getSubmission() == null ? 0 : 1, h.submissions);
+            assertEquals(g.getIndividuals().size(), h.individualNames.size());
+            for (Individual i : g.getIndividuals().values()) {
+                assertEquals(String.valueOf(i.getNames()), h.individualNames.get(i.getXref()));
+            }
+            assertEquals(g.getFamilies().keySet(), h.families);
+            assertEquals(g.getSources().keySet(), h.sources);
+            assertEquals(g.getNotes().keySet(), h.notes);
+            assertEquals(g.getMultimedia().keySet(), h.multimedia);
+            assertEquals(g.getRepositories().keySet(), h.repositories);
+            assertEquals(g.getSubmitters().keySet(), h.submitters);
+            assertEquals(loaded.getErrors(), streamed.getErrors());
+            assertEquals(loaded.getWarnings(), streamed.getWarnings());
+
+            // Nothing but the header, submission and trailer should be left behind
+            Gedcom leftovers = streamed.getGedcom();
+            assertNotNull(leftovers.getHeader());
+            assertNotNull(leftovers.getTrailer());
+            assertTrue(leftovers.getIndividuals().isEmpty());
+            assertTrue(leftovers.getFamilies().isEmpty());
+            assertTrue(leftovers.getSources().isEmpty());
+            assertTrue(leftovers.getNotes().isEmpty());
+            assertTrue(leftovers.getMultimedia().isEmpty());
+            assertTrue(leftovers.getRepositories().isEmpty());
+            assertTrue(leftovers.getSubmitters().isEmpty());
+        }
+    }
+
+    /**
+     * Test that records can be skipped based on their raw string trees, and that a stream can be read after a load
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     */
+    @Test
+    public void testSkipRecords() throws IOException, GedcomParserException {
+        GedcomParser gp = new GedcomParser();
+        gp.load("sample/willis.ged");
+        assertFalse(gp.getGedcom().getIndividuals().isEmpty());
+
+        final Set<String> tagsSeen = new HashSet<String>();
+        CollectingHandler h = new CollectingHandler() {
+            @Override
+            public boolean handleStringTree(StringTree rootLevelItem) {
+                tagsSeen.add(rootLevelItem.getTag());
+                return "FAM".equals(rootLevelItem.getTag());
+            }
+        };
+        gp.stream(new BufferedInputStream(new FileInputStream("sample/willis.ged")), h);
+        assertTrue(tagsSeen.contains("HEAD"));
+        assertTrue(tagsSeen.contains("INDI"));
+        assertTrue(tagsSeen.contains("FAM"));
+        assertEquals(0, h.headers);
+        assertTrue(h.individualNames.isEmpty());
+        assertFalse(h.families.isEmpty());
+        assertTrue(gp.getGedcom().getIndividuals().isEmpty());
+
+        // A regular load after streaming still builds the whole model
+        gp.load("sample/willis.ged");
+        assertEquals(h.families, gp.getGedcom().getFamilies().keySet());
+    }
+
+    /**
+     * Test that a handler is required
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullHandler() throws IOException, GedcomParserException {
+        new GedcomParser().stream(new File("sample/willis.ged"), null);
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import static org.junit.Assert.*;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.exception.GedcomRecordIterationException;
+import org.gedcom4j.exception.ParserCancelledException;
+import org.gedcom4j.model.StringTree;
+import org.junit.Test;
+
+/**
+ * Test for {@link GedcomRecordIterator}
+ * 
+ * @author frizbog
+ */
+public class GedcomRecordIteratorTest {
+
+    /**
+     * Test that iterating over all the records finds the same records as loading the file
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     */
+    @Test
+    public void testIterateAll() throws IOException, GedcomParserException {
+        GedcomParser loaded = new GedcomParser();
+        loaded.load("sample/TGC551.ged");
+
+        GedcomParser gp = new GedcomParser();
+        List<String> tags = new ArrayList<String>();
+        int individuals = 0;
+        for (StringTree record : gp.iterateRecords(new File("sample/TGC551.ged"))) {
+            assertEquals(0, record.getLevel());
+            tags.add(record.getTag());
+            if ("INDI".equals(record.getTag())) {
+                assertTrue(loaded.getGedcom().getIndividuals().containsKey(record.getId()));
+                individuals++;
+            }
+        }
+        assertEquals("HEAD", tags.get(0));
+        assertEquals("TRLR", tags.get(tags.size() - 1));
+        assertEquals(loaded.getGedcom().getIndividuals().size(), individuals);
+        assertEquals(loaded.getLineNum(), gp.getLineNum());
+        assertTrue(gp.getGedcom().getIndividuals().isEmpty());
+    }
+
+    /**
+     * Test stopping early once the record being looked for is found, which should not read the rest of the file
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     */
+    @Test
+    public void testStopEarly() throws IOException, GedcomParserException {
+        GedcomParser loaded = new GedcomParser();
+        loaded.load("sample/willis.ged");
+
+        GedcomParser gp = new GedcomParser();
+        BufferedInputStream bis = new BufferedInputStream(new FileInputStream("sample/willis.ged"));
+        try {
+            GedcomRecordIterator it = gp.iterateRecords(bis);
+            StringTree found = null;
+            while (found == null && it.hasNext()) {
+                StringTree record = it.next();
+                if ("INDI".equals(record.getTag())) {
+                    found = record;
+                }
+            }
+            assertNotNull(found);
+            assertTrue(gp.getLineNum() < loaded.getLineNum());
+            // hasNext() is idempotent
+            assertTrue(it.hasNext());
+            int lines = gp.getLineNum();
+            assertTrue(it.hasNext());
+            assertEquals(lines, gp.getLineNum());
+        } finally {
+            bis.close();
+        }
+    }
+
+    /**
+     * Test the behavior at the end of the iteration, and unsupported operations
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     */
+    @Test
+    public void testEndOfIteration() throws IOException, GedcomParserException {
+        GedcomRecordIterator it = new GedcomParser().iterateRecords(new File("sample/willis.ged"));
+        assertTrue(it.hasNext());
+        try {
+            it.remove();
+            fail("Should have thrown an exception");
+        } catch (UnsupportedOperationException expected) {
+            assertNotNull(expected.getMessage());
+        }
+        it.close();
+        assertFalse(it.hasNext());
+        try {
+            it.next();
+            fail("Should have thrown an exception");
+        } catch (NoSuchElementException expected) {
+            // Good
+        }
+    }
+
+    /**
+     * Test that cancelling the parser ends the iteration with an exception
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     */
+    @Test
+    public void testCancel() throws IOException, GedcomParserException {
+        GedcomParser gp = new GedcomParser();
+        GedcomRecordIterator it = gp.iterateRecords(new File("sample/willis.ged"));
+        try {
+            assertNotNull(it.next());
+            gp.cancel();
+            it.next();
+            fail("Should have thrown an exception");
+        } catch (GedcomRecordIterationException expected) {
+            assertTrue(expected.getCause() instanceof ParserCancelledException);
+        } finally {
+            it.close();
+        }
+    }
+}
@@ -63,11 +63,9 @@ public class Issue100Test {
         gp.setStrictLineBreaks(false);
         gp.load("sample/Sopranos.ged");
         Gedcom g = gp.getGedcom();
-        assertEquals(2, gp.getWarnings().size());
+        assertEquals(1, gp.getWarnings().size());
         assertTrue(gp.getWarnings().contains(
-                "Line 26 did not begin with a level and tag, so it was treated as a non-standard continuation of the previous line."));
-        assertTrue(gp.getWarnings().contains(
-                "Line 27 did not begin with a level and tag, so it was treated as a non-standard continuation of the previous line."));
+                "Lines 26 through 27 did not begin with a level and tag, so they were treated as non-standard continuations of the previous line."));
 
         assertNotNull(g);
         Finder f = new Finder(g);
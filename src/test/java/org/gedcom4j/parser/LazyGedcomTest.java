@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.model.Family;
+import org.gedcom4j.model.Gedcom;
+import org.gedcom4j.model.Individual;
+import org.junit.Test;
+
+/**
+ * Test for {@link LazyGedcom} and {@link GedcomParser#loadLazily(File)}
+ * 
+ * @author frizbog
+ */
+public class LazyGedcomTest {
+
+    /**
+     * Test that loading records lazily gives the same results as loading them all up front, for files in each of the
+     * supported encodings and line ending styles
+     * 
+     * @throws IOException
+     *             if a file can't be read
+     * @throws GedcomParserException
+     *             if a file can't be parsed
+     */
+    @Test
+    public void testMatchesLoad() throws IOException, GedcomParserException {
+        String[] files = { "sample/willis.ged", "sample/willis-ansel.ged", "sample/willis-ascii.ged", "sample/willis-unicode-bigendian.ged",
+                "sample/willis-unicode-littleendian.ged", "sample/utf8.ged", "sample/utf8_crlf_bom.ged", "sample/utf16le.ged",
+                "sample/utf16be.ged", "sample/TGC551.ged", "sample/TGC551LF.ged", "sample/TGC55C.ged", "sample/allged.ged" };
+        for (String fileName : files) {
+            assertMatchesLoad(fileName);
+        }
+    }
+
+    /**
+     * Test that the cache of loaded records is bounded, and that records dropped from it are loaded again when needed
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     */
+    @Test
+    public void testCacheIsBounded() throws IOException, GedcomParserException {
+        GedcomParser gp = new GedcomParser();
+        LazyGedcom lazy = gp.loadLazily(new File("sample/willis.ged"));
+        try {
+            assertEquals(LazyGedcom.DEFAULT_MAX_CACHED_RECORDS, lazy.getMaxCachedRecords());
+            lazy.setMaxCachedRecords(10);
+            List<String> xrefs = lazy.getIndividualXrefs();
+            assertTrue(xrefs.size() > 10);
+
+            Individual first = lazy.getIndividual(xrefs.get(0));
+            assertSame(first, lazy.getIndividual(xrefs.get(0)));
+            for (String xref : xrefs) {
+                assertNotNull(lazy.getIndividual(xref));
+                assertTrue(lazy.getCachedRecordCount() <= 10);
+            }
+            assertEquals(10, lazy.getCachedRecordCount());
+
+            // The first individual was dropped from the cache, so it is loaded again
+            Individual again = lazy.getIndividual(xrefs.get(0));
+            assertNotSame(first, again);
+            assertEquals(first.getNames().toString(), again.getNames().toString());
+
+            lazy.setMaxCachedRecords(3);
+            assertEquals(3, lazy.getCachedRecordCount());
+
+            // The scratch area used for loading records doesn't keep them
+            assertTrue(gp.getGedcom().getIndividuals().isEmpty());
+            assertTrue(gp.getGedcom().getFamilies().isEmpty());
+        } finally {
+            lazy.close();
+        }
+        assertEquals(0, lazy.getCachedRecordCount());
+    }
+
+    /**
+     * Test looking up records that aren't in the file
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     */
+    @Test
+    public void testMissingRecords() throws IOException, GedcomParserException {
+        LazyGedcom lazy = new GedcomParser().loadLazily(new File("sample/willis.ged"));
+        try {
+            assertNull(lazy.getIndividual("@NOSUCHXREF@"));
+            assertNull(lazy.getIndividual(null));
+            String familyXref = lazy.getFamilyXrefs().get(0);
+            assertNotNull(lazy.getFamily(familyXref));
+            // Right xref, wrong type of record
+            assertNull(lazy.getIndividual(familyXref));
+        } finally {
+            lazy.close();
+        }
+    }
+
+    /**
+     * Check that every record in a file, loaded lazily, matches the same record loaded in the usual way
+     * 
+     * @param fileName
+     *            the name of the file to check
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     */
+    private void assertMatchesLoad(String fileName) throws IOException, GedcomParserException {
+        GedcomParser loaded = new GedcomParser();
+        loaded.load(fileName);
+        Gedcom g = loaded.getGedcom();
+
+        GedcomParser gp = new GedcomParser();
+        LazyGedcom lazy = gp.loadLazily(new File(fileName));
+        try {
+            // The header's submitter is a placeholder, like every other cross-reference
+            assertEquals(fileName, String.valueOf(g.getHeader().getCharacterSet()), String.valueOf(lazy.getHeader().getCharacterSet()));
+            assertEquals(fileName, String.valueOf(g.getHeader().getGedcomVersion()), String.valueOf(lazy.getHeader().getGedcomVersion()));
+            if (g.getHeader().getSubmitter() != null) {
+                assertEquals(fileName, g.getHeader().getSubmitter().getXref(), lazy.getHeader().getSubmitter().getXref());
+            }
+            assertEquals(fileName, g.getSubmission() == null, lazy.getSubmission() == null);
+            assertNotNull(fileName, gp.getGedcom().getTrailer());
+
+            assertEquals(fileName, new HashSet<String>(g.getIndividuals().keySet()), new HashSet<String>(lazy.getIndividualXrefs()));
+            for (Individual i : g.getIndividuals().values()) {
+                Individual l = lazy.getIndividual(i.getXref());
+                assertEquals(fileName, String.valueOf(i.getNames()), String.valueOf(l.getNames()));
+                assertEquals(fileName, i.getEvents(true).size(), l.getEvents(true).size());
+                assertEquals(fileName, xrefsOfFamiliesWhereChild(i), xrefsOfFamiliesWhereChild(l));
+            }
+            assertEquals(fileName, new HashSet<String>(g.getFamilies().keySet()), new HashSet<String>(lazy.getFamilyXrefs()));
+            for (Family f : g.getFamilies().values()) {
+                Family l = lazy.getFamily(f.getXref());
+                assertEquals(fileName, f.getHusband() == null ? null : f.getHusband().getXref(), l.getHusband() == null ? null : l.getHusband()
+                        .getXref());
+                assertEquals(fileName, f.getWife() == null ? null : f.getWife().getXref(), l.getWife() == null ? null : l.getWife().getXref());
+                assertEquals(fileName, f.getChildren(true).size(), l.getChildren(true).size());
+            }
+            assertEquals(fileName, g.getSources().keySet(), new HashSet<String>(lazy.getSourceXrefs()));
+            for (String xref : lazy.getSourceXrefs()) {
+                assertEquals(fileName, String.valueOf(g.getSources().get(xref).getTitle()), String.valueOf(lazy.getSource(xref).getTitle()));
+            }
+            for (String xref : lazy.getNoteXrefs()) {
+                assertEquals(fileName, g.getNotes().get(xref).getLines(), lazy.getNote(xref).getLines());
+            }
+            for (String xref : lazy.getMultimediaXrefs()) {
+                assertNotNull(fileName, lazy.getMultimedia(xref));
+            }
+            for (String xref : lazy.getRepositoryXrefs()) {
+                assertEquals(fileName, String.valueOf(g.getRepositories().get(xref).getName()), String.valueOf(lazy.getRepository(xref)
+                        .getName()));
+            }
+            for (String xref : lazy.getSubmitterXrefs()) {
+                assertEquals(fileName, String.valueOf(g.getSubmitters().get(xref).getName()), String.valueOf(lazy.getSubmitter(xref)
+                        .getName()));
+            }
+            // The same problems are found, with the same line numbers
+            assertEquals(fileName, new HashSet<String>(loaded.getWarnings()), new HashSet<String>(lazy.getWarnings()));
+            assertEquals(fileName, new HashSet<String>(loaded.getErrors()), new HashSet<String>(lazy.getErrors()));
+        } finally {
+            lazy.close();
+        }
+    }
+
+    /**
+     * Get the xrefs of the families an individual is a child in
+     * 
+     * @param i
+     *            the individual
+     * @return the xrefs of the families the individual is a child in
+     */
+    private List<String> xrefsOfFamiliesWhereChild(Individual i) {
+        List<String> result = new ArrayList<String>();
+        if (i.getFamiliesWhereChild() != null) {
+            for (org.gedcom4j.model.FamilyChild fc : i.getFamiliesWhereChild()) {
+                result.add(fc.getFamily().getXref());
+            }
+        }
+        return result;
+    }
+}
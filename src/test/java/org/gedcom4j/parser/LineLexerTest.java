@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.junit.Test;
+
+/**
+ * Test for {@link LineLexer}
+ * 
+ * @author frizbog
+ */
+public class LineLexerTest {
+
+    /**
+     * The lexer being tested
+     */
+    private final LineLexer lexer = new LineLexer();
+
+    /**
+     * Test that lexing a line doesn't allocate anything when only the level and a known tag are asked for. Uses the
+     * HotSpot per-thread allocation counter, so it is skipped on JVMs that don't have one.
+     * 
+     * @throws GedcomParserException
+     *             if a line can't be lexed
+     */
+    @Test
+    public void testAllocationPerLine() throws GedcomParserException {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean hotspotThreads = (com.sun.management.ThreadMXBean) threads;
+        assumeTrue(hotspotThreads.isThreadAllocatedMemorySupported());
+        hotspotThreads.setThreadAllocatedMemoryEnabled(true);
+
+        String[] lines = new String[] { "0 @I1@ INDI", "1 NAME John /Smith/", "2 GIVN John", "1 BIRT", "2 DATE 1 JAN 1900",
+                "2 PLAC Springfield", "1 FAMS @F1@", "2 SOUR @S1@", "3 PAGE 42", "10 CONT more text" };
+        int sum = 0;
+        // Warm up, so that the measurement isn't thrown off by class loading and such
+        for (int i = 0; i < 100000; i++) {
+            sum += lexLevelAndTag(lines[i % lines.length]);
+        }
+
+        int numLines = 1000000;
+        long threadId = Thread.currentThread().getId();
+        long before = hotspotThreads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < numLines; i++) {
+            sum += lexLevelAndTag(lines[i % lines.length]);
+        }
+        long allocated = hotspotThreads.getThreadAllocatedBytes(threadId) - before;
+        assertTrue(sum > 0);
+        assertTrue("Allocated " + allocated + " bytes to lex " + numLines + " lines", (double) allocated / numLines < 1.0);
+    }
+
+    /**
+     * Test lines that have just a level and tag
+     * 
+     * @throws GedcomParserException
+     *             if a line can't be lexed
+     */
+    @Test
+    public void testLevelAndTagOnly() throws GedcomParserException {
+        lexer.lex("0 HEAD", 1);
+        assertEquals(0, lexer.getLevel());
+        assertNull(lexer.getId());
+        assertSame(Tag.HEADER, lexer.getTag());
+        assertEquals("HEAD", lexer.getTagText());
+        assertNull(lexer.getValue());
+
+        lexer.lex("12 TRLR", 2);
+        assertEquals(12, lexer.getLevel());
+        assertSame(Tag.TRAILER, lexer.getTag());
+        assertNull(lexer.getValue());
+
+        lexer.lex("1 NAME ", 3);
+        assertSame(Tag.NAME, lexer.getTag());
+        assertEquals("", lexer.getValue());
+    }
+
+    /**
+     * Test lines that don't begin with a level
+     * 
+     * @throws GedcomParserException
+     *             always, if the test passes
+     */
+    @Test(expected = GedcomParserException.class)
+    public void testNoLevel() throws GedcomParserException {
+        lexer.lex("X HEAD", 1);
+    }
+
+    /**
+     * Test lines that are too short to have a level and a space
+     * 
+     * @throws GedcomParserException
+     *             always, if the test passes
+     */
+    @Test(expected = GedcomParserException.class)
+    public void testTooShort() throws GedcomParserException {
+        lexer.lex("0", 1);
+    }
+
+    /**
+     * Test lines with tags the parser doesn't know about, and lines missing pieces
+     * 
+     * @throws GedcomParserException
+     *             if a line can't be lexed
+     */
+    @Test
+    public void testUnrecognizedAndMissing() throws GedcomParserException {
+        lexer.lex("1 _CUSTOM my value", 1);
+        assertSame(Tag.UNRECOGNIZED, lexer.getTag());
+        assertEquals("_CUSTOM", lexer.getTagText());
+        assertEquals("my value", lexer.getValue());
+
+        lexer.lex("0 @I1@", 2);
+        assertEquals("@I1@", lexer.getId());
+        assertSame(Tag.UNRECOGNIZED, lexer.getTag());
+        assertNull(lexer.getTagText());
+        assertNull(lexer.getValue());
+
+        lexer.lex("10 ", 3);
+        assertEquals(10, lexer.getLevel());
+        assertNull(lexer.getTagText());
+        assertNull(lexer.getValue());
+
+        lexer.lex("1  NAME", 4);
+        assertNull(lexer.getTagText());
+        assertEquals("NAME", lexer.getValue());
+    }
+
+    /**
+     * Test lines with xref ids and values
+     * 
+     * @throws GedcomParserException
+     *             if a line can't be lexed
+     */
+    @Test
+    public void testXrefAndValue() throws GedcomParserException {
+        lexer.lex("0 @I1@ INDI", 1);
+        assertEquals(0, lexer.getLevel());
+        assertSame("@I1@", lexer.getId());
+        assertSame(Tag.INDIVIDUAL, lexer.getTag());
+        assertNull(lexer.getValue());
+
+        lexer.lex("1 NAME John /Smith/", 2);
+        assertEquals(1, lexer.getLevel());
+        assertNull(lexer.getId());
+        assertSame(Tag.NAME, lexer.getTag());
+        assertEquals("John /Smith/", lexer.getValue());
+
+        lexer.lex("0 @N1@ NOTE  Two leading spaces", 3);
+        assertEquals("@N1@", lexer.getId());
+        assertSame(Tag.NOTE, lexer.getTag());
+        assertEquals(" Two leading spaces", lexer.getValue());
+    }
+
+    /**
+     * Lex a line and get the pieces that don't need any new objects
+     * 
+     * @param line
+     *            the line to lex
+     * @return the level plus the tag's symbol, so the work can't be optimized away
+     * @throws GedcomParserException
+     *             if the line can't be lexed
+     */
+    private int lexLevelAndTag(String line) throws GedcomParserException {
+        lexer.lex(line, 1);
+        return lexer.getLevel() + lexer.getTag().getSymbol();
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.model.AbstractCitation;
+import org.gedcom4j.model.CitationWithSource;
+import org.gedcom4j.model.Gedcom;
+import org.gedcom4j.model.Individual;
+import org.gedcom4j.model.PersonalName;
+import org.gedcom4j.model.StringTree;
+import org.junit.Test;
+
+/**
+ * Test for {@link LoadOptions} and loading only part of a file with them
+ * 
+ * @author frizbog
+ */
+public class LoadOptionsTest {
+
+    /**
+     * The file used for the tests - it has lots of individuals, families, sources, notes and custom tags
+     */
+    private static final String SAMPLE_FILE = "sample/willis.ged";
+
+    /**
+     * Test the defaults and setters
+     */
+    @Test
+    public void testDefaultsAndSetters() {
+        LoadOptions lo = new LoadOptions();
+        assertNull(lo.getRecordTagsToLoad());
+        assertTrue(lo.getTagsToSkip().isEmpty());
+        assertFalse(lo.isSkipCustomTags());
+        assertFalse(lo.isSkippingAnything());
+        assertTrue(lo.isRecordLoaded("SOUR"));
+
+        lo.setRecordTagsToLoad("INDI", "FAM");
+        assertEquals(2, lo.getRecordTagsToLoad().size());
+        assertTrue(lo.isRecordLoaded("INDI"));
+        assertFalse(lo.isRecordLoaded("SOUR"));
+        assertTrue("Header is always loaded", lo.isRecordLoaded("HEAD"));
+        assertTrue("Trailer is always loaded", lo.isRecordLoaded("TRLR"));
+        assertTrue(lo.isSkippingAnything());
+
+        lo.setRecordTagsToLoad((String[]) null);
+        lo.setTagsToSkip("NOTE");
+        assertTrue(lo.getTagsToSkip().contains("NOTE"));
+        assertTrue(lo.isSkippingAnything());
+        lo.setTagsToSkip();
+        assertFalse(lo.isSkippingAnything());
+
+        lo.setSkipCustomTags(true);
+        assertFalse(lo.isRecordLoaded("_CUSTOM"));
+        assertTrue(lo.isSkippingAnything());
+
+        assertSame(lo, loadWith(lo).getLoadOptions());
+    }
+
+    /**
+     * Test that the same records are loaded in parallel as sequentially
+     */
+    @Test
+    public void testParallel() {
+        LoadOptions lo = new LoadOptions();
+        lo.setRecordTagsToLoad("INDI");
+        lo.setTagsToSkip("NOTE");
+        GedcomParser gp = new GedcomParser();
+        gp.setLoadOptions(lo);
+        gp.setParallelism(3);
+        load(gp);
+        assertEquals(761, gp.getGedcom().getIndividuals().size());
+        assertTrue(gp.getGedcom().getFamilies().isEmpty());
+        for (Individual i : gp.getGedcom().getIndividuals().values()) {
+            assertNull(i.getNotes());
+        }
+    }
+
+    /**
+     * Test loading only some types of records
+     */
+    @Test
+    public void testRecordTypes() {
+        GedcomParser full = loadWith(new LoadOptions());
+        assertFalse(full.getGedcom().getSources().isEmpty());
+
+        LoadOptions lo = new LoadOptions();
+        lo.setRecordTagsToLoad("INDI", "FAM");
+        GedcomParser gp = loadWith(lo);
+        Gedcom g = gp.getGedcom();
+        assertNotNull(g.getHeader());
+        assertNotNull(g.getTrailer());
+        assertEquals(full.getGedcom().getIndividuals().size(), g.getIndividuals().size());
+        assertEquals(full.getGedcom().getFamilies().size(), g.getFamilies().size());
+        assertTrue(g.getSources().isEmpty());
+        assertTrue(g.getNotes().isEmpty());
+        assertTrue(g.getRepositories().isEmpty());
+        assertTrue(g.getMultimedia().isEmpty());
+        assertTrue(g.getSubmitters().isEmpty());
+        assertTrue(gp.getErrors().isEmpty());
+
+        // Citations of skipped sources point to placeholders that have just the xref
+        int citationsChecked = 0;
+        for (Individual i : g.getIndividuals().values()) {
+            if (i.getNames() == null) {
+                continue;
+            }
+            for (PersonalName pn : i.getNames()) {
+                if (pn.getCitations() == null) {
+                    continue;
+                }
+                for (AbstractCitation c : pn.getCitations()) {
+                    if (c instanceof CitationWithSource) {
+                        CitationWithSource cws = (CitationWithSource) c;
+                        assertNotNull(cws.getSource().getXref());
+                        assertNull(cws.getSource().getTitle());
+                        citationsChecked++;
+                    }
+                }
+            }
+        }
+        assertTrue(citationsChecked > 0);
+    }
+
+    /**
+     * Test that skipped subtrees are never made into {@link StringTree} nodes
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     */
+    @Test
+    public void testSkippedNodesNotBuilt() throws IOException, GedcomParserException {
+        LoadOptions lo = new LoadOptions();
+        lo.setRecordTagsToLoad("INDI");
+        lo.setTagsToSkip("NOTE", "SOUR");
+        lo.setSkipCustomTags(true);
+        GedcomParser gp = new GedcomParser();
+        gp.setLoadOptions(lo);
+        GedcomRecordIterator records = gp.iterateRecords(new File(SAMPLE_FILE));
+        int numRecords = 0;
+        try {
+            for (StringTree record : records) {
+                numRecords++;
+                assertTrue(record.getTag(), "INDI".equals(record.getTag()) || "HEAD".equals(record.getTag()) || "TRLR".equals(record
+                        .getTag()));
+                assertNoSkippedTags(record);
+            }
+        } finally {
+            records.close();
+        }
+        assertEquals(761 + 2, numRecords);
+    }
+
+    /**
+     * Test skipping tags below the root level, and custom tags
+     */
+    @Test
+    public void testTagsToSkip() {
+        GedcomParser full = loadWith(new LoadOptions());
+        int fullNotes = 0;
+        int fullCustom = 0;
+        for (Individual i : full.getGedcom().getIndividuals().values()) {
+            fullNotes += (i.getNotes() == null ? 0 : i.getNotes().size());
+            fullCustom += (i.getCustomTags() == null ? 0 : i.getCustomTags().size());
+        }
+        assertTrue(fullNotes > 0);
+        assertTrue(fullCustom > 0);
+
+        LoadOptions lo = new LoadOptions();
+        lo.setTagsToSkip("NOTE");
+        lo.setSkipCustomTags(true);
+        GedcomParser gp = loadWith(lo);
+        Gedcom g = gp.getGedcom();
+        assertEquals(full.getGedcom().getIndividuals().size(), g.getIndividuals().size());
+        assertFalse("Root-level notes are still loaded", g.getNotes().isEmpty());
+        for (Individual i : g.getIndividuals().values()) {
+            assertNull(i.getNotes());
+            assertTrue(i.getCustomTags() == null || i.getCustomTags().isEmpty());
+        }
+    }
+
+    /**
+     * Assert that a string tree has no nodes below the root that should have been skipped
+     * 
+     * @param st
+     *            the string tree
+     */
+    private void assertNoSkippedTags(StringTree st) {
+        if (st.getChildren() == null) {
+            return;
+        }
+        for (StringTree ch : st.getChildren()) {
+            assertFalse("NOTE".equals(ch.getTag()));
+            assertFalse("SOUR".equals(ch.getTag()));
+            assertFalse(ch.getTag().startsWith("_"));
+            assertNoSkippedTags(ch);
+        }
+    }
+
+    /**
+     * Load the sample file
+     * 
+     * @param gp
+     *            the parser to load it with
+     */
+    private void load(GedcomParser gp) {
+        try {
+            gp.load(SAMPLE_FILE);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        } catch (GedcomParserException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Load the sample file with the supplied options
+     * 
+     * @param lo
+     *            the options
+     * @return the parser the file was loaded with
+     */
+    private GedcomParser loadWith(LoadOptions lo) {
+        GedcomParser gp = new GedcomParser();
+        gp.setLoadOptions(lo);
+        load(gp);
+        return gp;
+    }
+}
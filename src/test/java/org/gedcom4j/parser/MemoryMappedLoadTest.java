@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.io.reader.FileReadingStrategy;
+import org.junit.Test;
+
+/**
+ * Test that loading files with {@link FileReadingStrategy#MEMORY_MAPPED} produces the same results as loading them with
+ * {@link FileReadingStrategy#BUFFERED_STREAM}
+ * 
+ * @author frizbog
+ */
+public class MemoryMappedLoadTest {
+
+    /**
+     * Test the 5.5.1 sample file
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     */
+    @Test
+    public void test551Sample() throws IOException, GedcomParserException {
+        assertSameResults("sample/5.5.1 sample 1.ged");
+    }
+
+    /**
+     * Test the willis file in each of its encodings
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     */
+    @Test
+    public void testWillis() throws IOException, GedcomParserException {
+        assertSameResults("sample/willis.ged");
+        assertSameResults("sample/willis-ascii.ged");
+        assertSameResults("sample/willis-ansel.ged");
+        assertSameResults("sample/willis-unicode-bigendian.ged");
+        assertSameResults("sample/willis-unicode-littleendian.ged");
+    }
+
+    /**
+     * Load the file both ways and make sure the results are the same
+     * 
+     * @param fileName
+     *            the name of the file
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     */
+    private void assertSameResults(String fileName) throws IOException, GedcomParserException {
+        GedcomParser streamed = new GedcomParser();
+        streamed.load(new File(fileName), FileReadingStrategy.BUFFERED_STREAM);
+        GedcomParser mapped = new GedcomParser();
+        mapped.load(new File(fileName), FileReadingStrategy.MEMORY_MAPPED);
+
+        assertTrue(fileName, mapped.getGedcom().getIndividuals().size() > 0);
+        assertEquals(fileName, streamed.getGedcom(), mapped.getGedcom());
+        assertEquals(fileName, streamed.getErrors(), mapped.getErrors());
+        assertEquals(fileName, streamed.getWarnings(), mapped.getWarnings());
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import static org.junit.Assert.*;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FilenameFilter;
+import java.io.IOException;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.junit.Test;
+
+/**
+ * Test that loading records in parallel (see {@link GedcomParser#setParallelism(int)}) gives the same results as
+ * loading them sequentially
+ * 
+ * @author frizbog
+ */
+public class ParallelLoadTest {
+
+    /**
+     * Test all the sample files
+     * 
+     * @throws IOException
+     *             if a file can't be read
+     */
+    @Test
+    public void testAllSamples() throws IOException {
+        String[] allFiles = new File("sample").list(new FilenameFilter() {
+            @Override
+            public boolean accept(File dir, String name) {
+                return name.endsWith(".ged");
+            }
+        });
+        for (String s : allFiles) {
+            for (boolean strict : new boolean[] { true, false }) {
+                GedcomParser sequential = new GedcomParser();
+                sequential.setStrictCustomTags(strict);
+                sequential.setStrictLineBreaks(strict);
+                GedcomParserException sequentialException = null;
+                try {
+                    sequential.load("sample/" + s);
+                } catch (GedcomParserException e) {
+                    sequentialException = e;
+                }
+
+                GedcomParser parallel = new GedcomParser();
+                parallel.setStrictCustomTags(strict);
+                parallel.setStrictLineBreaks(strict);
+                parallel.setParallelism(4);
+                GedcomParserException parallelException = null;
+                try {
+                    parallel.load("sample/" + s);
+                } catch (GedcomParserException e) {
+                    parallelException = e;
+                }
+
+                if (sequentialException == null) {
+                    assertNull(s, parallelException);
+                    assertEquals(s, sequential.getGedcom(), parallel.getGedcom());
+                } else {
+                    assertNotNull(s, parallelException);
+                    assertEquals(s, sequentialException.getMessage(), parallelException.getMessage());
+                }
+                assertEquals(s, sequential.getErrors(), parallel.getErrors());
+                assertEquals(s, sequential.getWarnings(), parallel.getWarnings());
+            }
+        }
+    }
+
+    /**
+     * Test a generated file with enough records to fill the queue of records waiting to be parsed, including repeated
+     * records, cross-references in both directions, and records with errors and warnings
+     * 
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the data can't be parsed
+     */
+    @Test
+    public void testManyRecords() throws IOException, GedcomParserException {
+        StringBuilder sb = new StringBuilder("0 HEAD\n1 GEDC\n2 VERS 5.5.1\n1 CHAR UTF-8\n1 SUBM @SUBM1@\n");
+        for (int i = 0; i < 3000; i++) {
+            sb.append("0 @I").append(i).append("@ INDI\n1 NAME Person /Number").append(i).append("/\n");
+            sb.append("1 FAMS @F").append(i).append("@\n1 SOUR @S").append(i % 17).append("@\n");
+            if (i % 100 == 0) {
+                sb.append("1 XYZZY not a real tag\n1 _CUSTOM custom tag\n");
+            }
+            sb.append("0 @F").append(i).append("@ FAM\n1 HUSB @I").append(i).append("@\n1 CHIL @I").append(i + 1).append("@\n");
+            sb.append("1 NOTE @N").append(i % 5).append("@\n");
+            if (i % 250 == 0) {
+                // Repeated records - the data should be merged in file order
+                sb.append("0 @I").append(i / 2).append("@ INDI\n1 NAME Repeated /Person/\n");
+                sb.append("0 @N").append(i % 5).append("@ NOTE Note line ").append(i).append("\n");
+            }
+        }
+        for (int i = 0; i < 17; i++) {
+            sb.append("0 @S").append(i).append("@ SOUR\n1 TITL Source ").append(i).append("\n");
+        }
+        sb.append("0 @SUBM1@ SUBM\n1 NAME Submitter\n0 TRLR\n");
+        byte[] data = sb.toString().getBytes("UTF-8");
+
+        GedcomParser sequential = new GedcomParser();
+        sequential.load(new BufferedInputStream(new ByteArrayInputStream(data)));
+        GedcomParser parallel = new GedcomParser();
+        parallel.setParallelism(3);
+        parallel.load(new BufferedInputStream(new ByteArrayInputStream(data)));
+
+        assertEquals(3001, sequential.getGedcom().getIndividuals().size());
+        assertFalse(sequential.getErrors().isEmpty());
+        assertEquals(sequential.getGedcom(), parallel.getGedcom());
+        assertEquals(sequential.getErrors(), parallel.getErrors());
+        assertEquals(sequential.getWarnings(), parallel.getWarnings());
+    }
+
+    /**
+     * Test that the parallelism must be at least 1
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadParallelism() {
+        new GedcomParser().setParallelism(0);
+    }
+}
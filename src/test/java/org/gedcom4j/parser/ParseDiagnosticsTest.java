@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import static org.junit.Assert.*;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.junit.Test;
+
+/**
+ * Test for the structured errors and warnings from {@link GedcomParser}: {@link ParseDiagnostic}s, their limits and
+ * counts, and {@link ParseDiagnosticListener}s
+ * 
+ * @author frizbog
+ */
+public class ParseDiagnosticsTest {
+
+    /**
+     * A GEDCOM 5.5 file with three unrecognized tags, two GEDCOM 5.5.1 features, and a line with no parent
+     */
+    private static final String DATA = "0 HEAD\n1 CHAR ASCII\n1 GEDC\n2 VERS 5.5\n2 FORM LINEAGE-LINKED\n1 SUBM @SUB1@\n"
+            + "0 @SUB1@ SUBM\n1 NAME Tester\n1 WWW http://example.com\n" + "0 @I1@ INDI\n1 NAME Joe /Bloggs/\n1 FOO bar\n1 FOO baz\n"
+            + "1 BIRT\n2 FOO qux\n1 EMAIL joe@example.com\n3 DATE 1 JAN 1900\n0 TRLR\n";
+
+    /**
+     * Test that the diagnostics carry their codes, line numbers and xrefs, and that their messages are the same as the
+     * messages the parser has always produced
+     * 
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the data can't be parsed
+     */
+    @Test
+    public void testDiagnostics() throws IOException, GedcomParserException {
+        GedcomParser gp = load(new GedcomParser(), DATA);
+
+        List<ParseDiagnostic> errors = gp.getErrorDiagnostics();
+        assertEquals(4, errors.size());
+        assertEquals(DiagnosticCode.NO_PARENT_FOUND, errors.get(0).getCode());
+        assertEquals(17, errors.get(0).getLineNum());
+        assertEquals("@I1@", errors.get(0).getRecordXref());
+        assertEquals("DATE tag at line 17: Unable to find suitable parent node at level 2", errors.get(0).getMessage());
+
+        ParseDiagnostic unrecognized = errors.get(1);
+        assertEquals(DiagnosticCode.UNRECOGNIZED_TAG, unrecognized.getCode());
+        assertEquals(ParseDiagnostic.Severity.ERROR, unrecognized.getSeverity());
+        assertEquals(12, unrecognized.getLineNum());
+        assertEquals("@I1@", unrecognized.getRecordXref());
+        assertEquals("Line 12: Cannot handle tag FOO, child of INDI @I1@ on line 10, child of null on line 0", unrecognized.getMessage());
+        assertEquals("Line 15: Cannot handle tag FOO, child of BIRT on line 14, child of INDI @I1@ on line 10, child of null on line 0", errors.get(3)
+                .getMessage());
+
+        List<ParseDiagnostic> warnings = gp.getWarningDiagnostics();
+        assertEquals(2, warnings.size());
+        assertEquals(DiagnosticCode.GEDCOM_551_FEATURE_IN_55, warnings.get(0).getCode());
+        assertEquals(ParseDiagnostic.Severity.WARNING, warnings.get(0).getSeverity());
+        assertEquals("@SUB1@", warnings.get(0).getRecordXref());
+        assertEquals("GEDCOM version is 5.5 but email was specified for individual @I1@ on line 16, which is a GEDCOM 5.5.1 "
+                + "feature.  Data loaded but cannot be re-written unless GEDCOM version changes.", warnings.get(1).getMessage());
+
+        assertEquals(4, gp.getErrors().size());
+        for (int i = 0; i < errors.size(); i++) {
+            assertEquals(errors.get(i).getMessage(), gp.getErrors().get(i));
+        }
+        assertEquals(warnings.get(1).getMessage(), gp.getWarnings().get(1));
+
+        Map<DiagnosticCode, Integer> counts = gp.getDiagnosticCounts();
+        assertEquals(3, counts.size());
+        assertEquals(Integer.valueOf(3), counts.get(DiagnosticCode.UNRECOGNIZED_TAG));
+        assertEquals(Integer.valueOf(1), counts.get(DiagnosticCode.NO_PARENT_FOUND));
+        assertEquals(Integer.valueOf(2), counts.get(DiagnosticCode.GEDCOM_551_FEATURE_IN_55));
+    }
+
+    /**
+     * Test that diagnostics over their code's limit are counted but not kept
+     * 
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the data can't be parsed
+     */
+    @Test
+    public void testLimits() throws IOException, GedcomParserException {
+        GedcomParser gp = new GedcomParser();
+        gp.setDiagnosticLimit(DiagnosticCode.UNRECOGNIZED_TAG, 1);
+        load(gp, DATA);
+        assertEquals(2, gp.getErrors().size());
+        assertEquals("Line 12: Cannot handle tag FOO, child of INDI @I1@ on line 10, child of null on line 0", gp.getErrors().get(1));
+        assertEquals(3, gp.getDiagnosticCount(DiagnosticCode.UNRECOGNIZED_TAG));
+        assertEquals(2, gp.getWarnings().size());
+
+        // Counts start over with each load
+        load(gp, DATA);
+        assertEquals(2, gp.getErrors().size());
+        assertEquals(3, gp.getDiagnosticCount(DiagnosticCode.UNRECOGNIZED_TAG));
+
+        try {
+            gp.setDiagnosticLimit(DiagnosticCode.OTHER_ERROR, -1);
+            fail("Should have rejected a negative limit");
+        } catch (IllegalArgumentException expected) {
+            assertNotNull(expected.getMessage());
+        }
+    }
+
+    /**
+     * Test streaming diagnostics to a listener instead of collecting them, and that listeners can be unregistered
+     * 
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the data can't be parsed
+     */
+    @Test
+    public void testListener() throws IOException, GedcomParserException {
+        GedcomParser gp = new GedcomParser();
+        gp.setDiagnosticLimits(0);
+        final List<ParseDiagnostic> reported = new ArrayList<ParseDiagnostic>();
+        ParseDiagnosticListener listener = new ParseDiagnosticListener() {
+            @Override
+            public void diagnosticReported(ParseDiagnostic diagnostic) {
+                reported.add(diagnostic);
+            }
+        };
+        gp.registerDiagnosticListener(listener);
+        load(gp, DATA);
+        assertTrue(gp.getErrors().isEmpty());
+        assertTrue(gp.getWarnings().isEmpty());
+        assertEquals(6, reported.size());
+        assertEquals(DiagnosticCode.GEDCOM_551_FEATURE_IN_55, reported.get(0).getCode());
+        assertEquals(9, reported.get(0).getLineNum());
+
+        gp.unregisterDiagnosticListener(listener);
+        reported.clear();
+        load(gp, DATA);
+        assertTrue(reported.isEmpty());
+        assertEquals(3, gp.getDiagnosticCount(DiagnosticCode.UNRECOGNIZED_TAG));
+    }
+
+    /**
+     * Test that messages added to the errors and warnings collections become diagnostics
+     */
+    @Test
+    public void testAddedMessages() {
+        GedcomParser gp = new GedcomParser();
+        gp.getWarnings().add("Something odd");
+        gp.getErrors().add("Something wrong");
+        assertEquals(1, gp.getWarningDiagnostics().size());
+        assertEquals(DiagnosticCode.OTHER_WARNING, gp.getWarningDiagnostics().get(0).getCode());
+        assertEquals("Something odd", gp.getWarnings().get(0));
+        assertEquals(DiagnosticCode.OTHER_ERROR, gp.getErrorDiagnostics().get(0).getCode());
+        assertEquals("Something wrong", gp.getErrorDiagnostics().get(0).toString());
+        assertEquals(1, gp.getDiagnosticCount(DiagnosticCode.OTHER_ERROR));
+        gp.getErrors().clear();
+        assertTrue(gp.getErrorDiagnostics().isEmpty());
+    }
+
+    /**
+     * Test that the diagnostics for problems that can come up for every event have codes of their own, with the line
+     * number of the node, and can be limited separately from the catch-all diagnostics, which also carry the line number
+     * of the node being parsed. Both are kept in file order when loading in parallel.
+     * 
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the data can't be parsed
+     */
+    @Test
+    public void testEventAndOtherDiagnostics() throws IOException, GedcomParserException {
+        StringBuilder data = new StringBuilder("0 HEAD\n1 CHAR ASCII\n1 GEDC\n2 VERS 5.5.1\n2 FORM LINEAGE-LINKED\n");
+        for (int i = 1; i < 100; i++) {
+            data.append("0 @F").append(i).append("@ FAM\n1 MARR yes\n");
+        }
+        data.append("0 @N1@ NOTE @N2@\n0 TRLR\n");
+        GedcomParser gp = load(new GedcomParser(), data.toString());
+        List<ParseDiagnostic> warnings = gp.getWarningDiagnostics();
+        assertEquals(100, warnings.size());
+        assertEquals(DiagnosticCode.EVENT_DESCRIPTION, warnings.get(0).getCode());
+        assertEquals(7, warnings.get(0).getLineNum());
+        assertEquals("@F1@", warnings.get(0).getRecordXref());
+        assertEquals("MARR tag had description rather than [Y|<NULL>] - violates standard", warnings.get(0).getMessage());
+        assertEquals(203, warnings.get(98).getLineNum());
+        assertEquals(DiagnosticCode.OTHER_WARNING, warnings.get(99).getCode());
+        assertEquals(204, warnings.get(99).getLineNum());
+        assertEquals("@N1@", warnings.get(99).getRecordXref());
+
+        GedcomParser parallel = new GedcomParser();
+        parallel.setParallelism(4);
+        load(parallel, data.toString());
+        assertEquals(warnings, parallel.getWarningDiagnostics());
+
+        GedcomParser limited = new GedcomParser();
+        limited.setDiagnosticLimit(DiagnosticCode.EVENT_DESCRIPTION, 0);
+        load(limited, data.toString());
+        assertEquals(1, limited.getWarningDiagnostics().size());
+        assertEquals(DiagnosticCode.OTHER_WARNING, limited.getWarningDiagnostics().get(0).getCode());
+        assertEquals(99, limited.getDiagnosticCount(DiagnosticCode.EVENT_DESCRIPTION));
+    }
+
+    /**
+     * Test that loading in parallel reports the same diagnostics, in the same order, as loading sequentially
+     * 
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the data can't be parsed
+     */
+    @Test
+    public void testParallel() throws IOException, GedcomParserException {
+        StringBuilder data = new StringBuilder(DATA.substring(0, DATA.indexOf("0 TRLR")));
+        for (int i = 2; i < 200; i++) {
+            data.append("0 @I").append(i).append("@ INDI\n1 NAME Person /Number").append(i).append("/\n1 FOO bar\n1 EMAIL x@y\n");
+        }
+        data.append("0 TRLR\n");
+        GedcomParser sequential = load(new GedcomParser(), data.toString());
+        GedcomParser parallel = new GedcomParser();
+        parallel.setParallelism(4);
+        load(parallel, data.toString());
+        assertEquals(sequential.getErrorDiagnostics(), parallel.getErrorDiagnostics());
+        assertEquals(sequential.getWarningDiagnostics(), parallel.getWarningDiagnostics());
+        assertEquals(sequential.getDiagnosticCounts(), parallel.getDiagnosticCounts());
+        assertEquals("@I199@", parallel.getErrorDiagnostics().get(parallel.getErrorDiagnostics().size() - 1).getRecordXref());
+    }
+
+    /**
+     * Load some data
+     * 
+     * @param gp
+     *            the parser to load the data with
+     * @param data
+     *            the data
+     * @return the parser
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the data can't be parsed
+     */
+    private GedcomParser load(GedcomParser gp, String data) throws IOException, GedcomParserException {
+        gp.load(new BufferedInputStream(new ByteArrayInputStream(data.getBytes("US-ASCII"))));
+        return gp;
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import static org.junit.Assert.*;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.model.DateSortKey;
+import org.gedcom4j.model.Family;
+import org.gedcom4j.model.Individual;
+import org.gedcom4j.model.StringWithCustomTags;
+import org.junit.Test;
+
+/**
+ * Test for parsing dates while loading, through a {@link ParsedDateCache}, and the sortable date keys that results in
+ * on events and LDS ordinances
+ * 
+ * @author frizbog
+ */
+public class ParsedDateCacheTest {
+
+    /**
+     * A file with dates on individual events, attributes and ordinances, and on family events and ordinances. Two of
+     * the date strings repeat, and one of those can't be parsed.
+     */
+    private static final String DATA = "0 HEAD\n1 CHAR ASCII\n1 GEDC\n2 VERS 5.5.1\n2 FORM LINEAGE-LINKED\n1 SUBM @SUB1@\n"
+            + "0 @SUB1@ SUBM\n1 NAME Tester\n" + "0 @I1@ INDI\n1 NAME Joe /Bloggs/\n1 BIRT\n2 DATE ABT 1850\n1 DEAT\n2 DATE ABT 1850\n"
+            + "1 BURI\n2 DATE sometime\n1 CHR\n2 PLAC Somewhere\n1 RESI\n2 DATE 1900\n1 BAPL\n2 DATE 2 MAR 1900\n1 FAMS @F1@\n"
+            + "0 @F1@ FAM\n1 HUSB @I1@\n1 MARR\n2 DATE 12 JUN 1875\n1 SLGS\n2 DATE sometime\n0 TRLR\n";
+
+    /**
+     * Test that events and ordinances get sortable keys for their dates when dates are parsed while loading, that each
+     * distinct date string is only parsed once, and that unparseable dates are flagged
+     * 
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the data can't be parsed
+     */
+    @Test
+    public void testParsingDates() throws IOException, GedcomParserException {
+        GedcomParser gp = load(new GedcomParser(), true);
+        Individual i = gp.getGedcom().getIndividuals().get("@I1@");
+        Family f = gp.getGedcom().getFamilies().get("@F1@");
+
+        long about1850 = i.getEvents().get(0).getDateSortKey();
+        assertEquals(ParsedDate.parse("ABT 1850").getSortKey(), about1850);
+        assertEquals(about1850, i.getEvents().get(1).getDateSortKey());
+        assertTrue(i.getEvents().get(2).isDateUnparseable());
+        assertEquals(DateSortKey.NONE, i.getEvents().get(3).getDateSortKey());
+        assertFalse(i.getEvents().get(3).isDateUnparseable());
+        assertEquals(ParsedDate.parse("1900").getSortKey(), i.getAttributes().get(0).getDateSortKey());
+        assertEquals(ParsedDate.parse("2 MAR 1900").getSortKey(), i.getLdsIndividualOrdinances().get(0).getDateSortKey());
+
+        long married = f.getEvents().get(0).getDateSortKey();
+        assertEquals(ParsedDate.parse("12 JUN 1875").getSortKey(), married);
+        assertTrue(f.getLdsSpouseSealings().get(0).isDateUnparseable());
+
+        assertTrue(about1850 < married);
+        assertTrue(married < i.getLdsIndividualOrdinances().get(0).getDateSortKey());
+        assertTrue(DateSortKey.NONE < about1850);
+        assertTrue(DateSortKey.UNPARSEABLE > married);
+
+        assertEquals(5, gp.getParsedDateCache().getMissCount());
+        assertEquals(2, gp.getParsedDateCache().getHitCount());
+        assertEquals(5, gp.getParsedDateCache().getSize());
+        assertTrue(gp.getErrors().isEmpty());
+    }
+
+    /**
+     * Test that dates aren't parsed while loading unless asked for, and that changing an event's date, or its value,
+     * clears its key
+     * 
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the data can't be parsed
+     */
+    @Test
+    public void testNotParsingDates() throws IOException, GedcomParserException {
+        GedcomParser gp = load(new GedcomParser(), false);
+        Individual i = gp.getGedcom().getIndividuals().get("@I1@");
+        assertEquals(DateSortKey.NONE, i.getEvents().get(0).getDateSortKey());
+        assertFalse(i.getEvents().get(2).isDateUnparseable());
+        assertEquals(0, gp.getParsedDateCache().getMissCount());
+
+        gp = load(new GedcomParser(), true);
+        i = gp.getGedcom().getIndividuals().get("@I1@");
+        assertTrue(DateSortKey.isDate(i.getEvents().get(0).getDateSortKey()));
+        i.getEvents().get(0).setDate(new StringWithCustomTags("1 JAN 1851"));
+        assertEquals(DateSortKey.NONE, i.getEvents().get(0).getDateSortKey());
+
+        // Changing the value of the date in place clears the key too
+        assertTrue(i.getEvents().get(2).isDateUnparseable());
+        i.getEvents().get(2).getDate().setValue("1 JAN 1851");
+        assertFalse(i.getEvents().get(2).isDateUnparseable());
+        assertEquals(DateSortKey.NONE, i.getEvents().get(2).getDateSortKey());
+        assertTrue(DateSortKey.isDate(i.getLdsIndividualOrdinances().get(0).getDateSortKey()));
+        i.getLdsIndividualOrdinances().get(0).getDate().setValue("garbage");
+        assertEquals(DateSortKey.NONE, i.getLdsIndividualOrdinances().get(0).getDateSortKey());
+    }
+
+    /**
+     * Test that loading in parallel, with a cache shared between parsers, gives the same keys
+     * 
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the data can't be parsed
+     */
+    @Test
+    public void testSharedCacheAndParallelLoad() throws IOException, GedcomParserException {
+        ParsedDateCache cache = new ParsedDateCache();
+        GedcomParser gp1 = new GedcomParser();
+        gp1.setParsedDateCache(cache);
+        load(gp1, true);
+
+        GedcomParser gp2 = new GedcomParser();
+        gp2.setParsedDateCache(cache);
+        gp2.setParallelism(4);
+        load(gp2, true);
+
+        assertEquals(5, cache.getMissCount());
+        assertEquals(9, cache.getHitCount());
+        Individual i1 = gp1.getGedcom().getIndividuals().get("@I1@");
+        Individual i2 = gp2.getGedcom().getIndividuals().get("@I1@");
+        for (int n = 0; n < i1.getEvents().size(); n++) {
+            assertEquals(i1.getEvents().get(n).getDateSortKey(), i2.getEvents().get(n).getDateSortKey());
+        }
+        assertEquals(gp1.getGedcom().getFamilies().get("@F1@").getEvents().get(0).getDateSortKey(), gp2.getGedcom().getFamilies().get(
+                "@F1@").getEvents().get(0).getDateSortKey());
+    }
+
+    /**
+     * Test that the cache is bounded, evicting the least recently used date strings, and remembers unparseable ones
+     */
+    @Test
+    public void testBounded() {
+        ParsedDateCache cache = new ParsedDateCache(2);
+        assertEquals(2, cache.getMaxSize());
+        assertNotNull(cache.parse("1900"));
+        assertNull(cache.parse("sometime"));
+        assertNull(cache.parse("sometime"));
+        assertEquals(1, cache.getHitCount());
+        assertNotNull(cache.parse("1900"));
+        assertNotNull(cache.parse("1901"));
+        assertEquals(2, cache.getSize());
+        assertNull(cache.parse("sometime"));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(4, cache.getMissCount());
+        assertNull(cache.parse(null));
+    }
+
+    /**
+     * Test the sortable keys themselves
+     */
+    @Test
+    public void testSortKeys() {
+        long key = DateSortKey.of(-5, 10);
+        assertEquals(-5, DateSortKey.getEarliestDayNumber(key));
+        assertEquals(10, DateSortKey.getLatestDayNumber(key));
+        assertTrue(DateSortKey.of(-5, -1) < key);
+        assertTrue(key < DateSortKey.of(-4, -10));
+        assertFalse(DateSortKey.isDate(DateSortKey.NONE));
+        assertFalse(DateSortKey.isDate(DateSortKey.UNPARSEABLE));
+        assertTrue(DateSortKey.isDate(key));
+    }
+
+    /**
+     * Test that a cache is required
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullCache() {
+        new GedcomParser().setParsedDateCache(null);
+    }
+
+    /**
+     * Load the test data
+     * 
+     * @param gp
+     *            the parser to load with
+     * @param parsingDates
+     *            whether to parse dates while loading
+     * @return the parser
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the data can't be parsed
+     */
+    private GedcomParser load(GedcomParser gp, boolean parsingDates) throws IOException, GedcomParserException {
+        LoadOptions options = new LoadOptions();
+        options.setParsingDates(parsingDates);
+        gp.setLoadOptions(options);
+        gp.load(new BufferedInputStream(new ByteArrayInputStream(DATA.getBytes("US-ASCII"))));
+        return gp;
+    }
+}
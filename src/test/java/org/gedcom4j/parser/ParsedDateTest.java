@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import static org.junit.Assert.*;
+
+import java.util.Date;
+import java.util.TimeZone;
+
+import org.gedcom4j.parser.DateParser.ImpreciseDatePreference;
+import org.gedcom4j.parser.ParsedDate.CalendarSystem;
+import org.gedcom4j.parser.ParsedDate.Precision;
+import org.gedcom4j.parser.ParsedDate.Qualifier;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Test for {@link ParsedDate} and {@link DateLexer}
+ * 
+ * @author frizbog
+ */
+public class ParsedDateTest {
+
+    /**
+     * The month abbreviations for Gregorian dates
+     */
+    private static final String[] MONTHS = { "JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV",
+            "DEC" };
+
+    /**
+     * Save the Time Zone used on this machine - we're going to tinker during the test
+     */
+    private static TimeZone saveTimeZone;
+
+    /**
+     * Restore the TimeZone
+     */
+    @AfterClass
+    public static void afterClass() {
+        TimeZone.setDefault(saveTimeZone);
+    }
+
+    /**
+     * Save a copy of the TimeZone
+     */
+    @BeforeClass
+    public static void beforeClass() {
+        saveTimeZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+    }
+
+    /**
+     * The date parser to compare with
+     */
+    private final DateParser dp = new DateParser();
+
+    /**
+     * Test the day numbers for the two calendars, against some well known days
+     */
+    @Test
+    public void testDayNumbers() {
+        assertEquals(0, DateLexer.gregorianDayNumber(1970, 1, 1));
+        assertEquals(13, DateLexer.julianDayNumber(1970, 1, 1));
+        assertEquals(DateLexer.gregorianDayNumber(1582, 10, 15) - 1, DateLexer.julianDayNumber(1582, 10, 4));
+        assertEquals(DateLexer.gregorianDayNumber(2000, 3, 1) - 1, DateLexer.gregorianDayNumber(2000, 2, 29));
+        assertEquals(DateLexer.gregorianDayNumber(1900, 3, 1) - 1, DateLexer.gregorianDayNumber(1900, 2, 28));
+        assertEquals(DateLexer.julianDayNumber(1900, 3, 1) - 1, DateLexer.julianDayNumber(1900, 2, 29));
+        assertEquals(DateLexer.julianDayNumber(1, 1, 1) - 366, DateLexer.julianDayNumber(0, 1, 1));
+    }
+
+    /**
+     * Test that every day from 1 January 1500 to 31 December 1800 is the same day as {@link DateParser} finds, through
+     * the calendar reform of 1582 and the English dual-dated years up to 1752
+     */
+    @Test
+    public void testEveryDayAgainstDateParser() {
+        for (int year = 1500; year <= 1800; year++) {
+            for (int month = 1; month <= 12; month++) {
+                int days = DateLexer.gregorianDayNumber(month == 12 ? year + 1 : year, month == 12 ? 1 : month + 1, 1) - DateLexer
+                        .gregorianDayNumber(year, month, 1);
+                for (int day = 1; day <= days; day++) {
+                    assertSameAsDateParser(day + " " + MONTHS[month - 1] + " " + year, ImpreciseDatePreference.PRECISE);
+                }
+                if (year == 1582 && month == 10) {
+                    // October 1582 was shortened by the reform, so DateParser's midpoint is not the middle day
+                    assertSameAsDateParser("OCT 1582", ImpreciseDatePreference.PRECISE, ImpreciseDatePreference.FAVOR_EARLIEST,
+                            ImpreciseDatePreference.FAVOR_LATEST);
+                } else {
+                    assertSameAsDateParser(MONTHS[month - 1] + " " + year);
+                }
+                if (year >= 1582 && year <= 1752) {
+                    assertSameAsDateParser("1 " + MONTHS[month - 1] + " " + year + "/" + String.valueOf(year + 1).substring(2));
+                }
+            }
+            if (year == 1582) {
+                assertSameAsDateParser("1582", ImpreciseDatePreference.PRECISE, ImpreciseDatePreference.FAVOR_EARLIEST,
+                        ImpreciseDatePreference.FAVOR_LATEST);
+            } else {
+                assertSameAsDateParser(String.valueOf(year));
+            }
+        }
+    }
+
+    /**
+     * Test that the forms of date value are read the same as {@link DateParser} reads them
+     */
+    @Test
+    public void testFormsAgainstDateParser() {
+        String[] values = { "1 JAN 1900", "17 jul 2016", "JUL 2016", "FEB 1900", "FEB 2000", "1900", "1 JAN 1500", "ABT 1850",
+                "ABT. 1850", "ABOUT 1850", "bef 1 jan 1900", "AFT JUL 1900", "BET 1900 AND 1910", "BET. 1 JAN 1900 AND 31 DEC 1900",
+                "BTW 1900 AND 1910", "BETWEEN JAN 1900 AND MAR 1900", "FROM 1900 TO 1910", "FROM 1900", "TO 1900",
+                "INT 1900 (circa)", "22 FEB 1731/32", "22 FEB 1699/00", "44 BC", "1 JAN 44 BC", "JAN 44 B.C.", "10 BCE",
+                "CAL 1800", "EST 1800", "APPROX 1800", "@#DGREGORIAN@ 1 JAN 1900", "@#DHEBREW@ TSH 5776", "@#DHEBREW@ 1 TSH 5776",
+                "@#DHEBREW@ ADS 5777", "@#DHEBREW@ 13 ELL 5700", "@#DHEBREW@ BET 5700 AND 5710", "@#DHEBREW@ ABT KSL 5600",
+                "@#DHEBREW@ 1 NSN 5400", "@#DFRENCH R@ 1 VEND 1", "@#DFRENCH R@ COMP 3", "@#DFRENCH R@ COMP 4",
+                "@#DFRENCH R@ 15 GERM 12", "@#DFRENCH R@ FROM 1 TO 5" };
+        for (String value : values) {
+            assertSameAsDateParser(value);
+        }
+        assertSameAsDateParser("@#DHEBREW@ 5776", ImpreciseDatePreference.PRECISE, ImpreciseDatePreference.FAVOR_EARLIEST,
+                ImpreciseDatePreference.FAVOR_LATEST);
+        assertSameAsDateParser("@#DFRENCH R@ 3", ImpreciseDatePreference.PRECISE, ImpreciseDatePreference.FAVOR_EARLIEST,
+                ImpreciseDatePreference.FAVOR_LATEST);
+    }
+
+    /**
+     * Test the qualifiers, precision, calendar and flags
+     */
+    @Test
+    public void testQualifiers() {
+        assertDate("17 JUL 2016", Qualifier.NONE, Precision.DAY, CalendarSystem.GREGORIAN);
+        assertDate("ABT JUL 2016", Qualifier.ABOUT, Precision.MONTH, CalendarSystem.GREGORIAN);
+        assertDate("cal 2016", Qualifier.CALCULATED, Precision.YEAR, CalendarSystem.GREGORIAN);
+        assertDate("EST. 2016", Qualifier.ESTIMATED, Precision.YEAR, CalendarSystem.GREGORIAN);
+        assertDate("INT 2016 (last year)", Qualifier.INTERPRETED, Precision.YEAR, CalendarSystem.GREGORIAN);
+        assertDate("BEFORE 2016", Qualifier.BEFORE, Precision.YEAR, CalendarSystem.GREGORIAN);
+        assertDate("AFT 2016", Qualifier.AFTER, Precision.YEAR, CalendarSystem.GREGORIAN);
+        assertDate("BET 2016 AND 2017", Qualifier.BETWEEN, Precision.YEAR, CalendarSystem.GREGORIAN);
+        assertDate("FROM 2016", Qualifier.FROM, Precision.YEAR, CalendarSystem.GREGORIAN);
+        assertDate("TO 2016", Qualifier.TO, Precision.YEAR, CalendarSystem.GREGORIAN);
+        assertDate("FROM @#DJULIAN@ 1 JAN 1700 TO @#DGREGORIAN@ 1710", Qualifier.FROM_TO, Precision.DAY,
+                CalendarSystem.JULIAN);
+        assertDate("@#DHEBREW@ 1 TSH 5776", Qualifier.NONE, Precision.DAY, CalendarSystem.HEBREW);
+        assertDate("@#DFRENCH R@ EST GERM 12", Qualifier.ESTIMATED, Precision.MONTH, CalendarSystem.FRENCH_REPUBLICAN);
+
+        ParsedDate d = ParsedDate.parse("22 FEB 1731/32");
+        assertTrue(d.isDualYear());
+        assertFalse(d.isBeforeCommonEra());
+        assertEquals(DateLexer.gregorianDayNumber(1732, 2, 22), d.getEarliestDayNumber());
+
+        d = ParsedDate.parse("44 B.C.");
+        assertTrue(d.isBeforeCommonEra());
+        assertFalse(d.isDualYear());
+        assertEquals(DateLexer.julianDayNumber(-43, 1, 1), d.getEarliestDayNumber());
+        assertEquals(DateLexer.julianDayNumber(-42, 1, 1) - 1, d.getLatestDayNumber());
+
+        // The Julian escape applies the Julian calendar after the reform too
+        assertEquals(DateLexer.julianDayNumber(1800, 1, 1), ParsedDate.parse("@#DJULIAN@ 1 JAN 1800").getEarliestDayNumber());
+        assertEquals(DateLexer.gregorianDayNumber(1800, 1, 1), ParsedDate.parse("1 JAN 1800").getEarliestDayNumber());
+
+        assertEquals("ABOUT 1850-01-01/1850-12-31", ParsedDate.parse("ABT 1850").toString());
+    }
+
+    /**
+     * Test values that aren't dates, refer to days that don't exist, or are ranges that end before they start
+     */
+    @Test
+    public void testUnparseable() {
+        String[] values = { "", "   ", "(a phrase)", "garbage", "1 JANX 1900", "BET 1900", "1900 AND 1910", "32 JAN 1900",
+                "29 FEB 1900", "0 JAN 1900", "0", "12345", "1 JAN 1900 extra", "@#DROMAN@ 1900", "@#DHEBREW@ ADR 5777",
+                "@#DHEBREW@ 30 KSL 5776 BC", "@#DFRENCH R@ 6 COMP 4", "@#DFRENCH R@ 31 GERM 12", "1 TSH 5776", "22 FEB 1731/3",
+                "INT 1900 (unclosed", "BET 1860 AND 1850", "FROM 2 JAN 1900 TO 1 JAN 1900",
+                "@#DHEBREW@ BET 5710 AND 5700" };
+        for (String value : values) {
+            assertNull(value, ParsedDate.parse(value));
+        }
+        assertNull(ParsedDate.parse(null));
+        assertNotNull(ParsedDate.parse("29 FEB 1500"));
+        assertNotNull(ParsedDate.parse("FROM 1 JAN 1900 TO 1 JAN 1900"));
+        assertNotNull(ParsedDate.parse("BET JUN 1860 AND 1860"));
+    }
+
+    /**
+     * Test ordering and equality
+     */
+    @Test
+    public void testOrdering() {
+        ParsedDate y1850 = ParsedDate.parse("1850");
+        ParsedDate jan1850 = ParsedDate.parse("JAN 1850");
+        ParsedDate abt1850 = ParsedDate.parse("ABT 1850");
+        ParsedDate y1851 = ParsedDate.parse("1 JAN 1851");
+        assertTrue(jan1850.compareTo(y1850) < 0);
+        assertTrue(y1850.compareTo(abt1850) < 0);
+        assertTrue(abt1850.compareTo(y1851) < 0);
+        assertEquals(0, y1850.compareTo(ParsedDate.parse(" 1850 ")));
+        assertEquals(y1850, ParsedDate.parse("1850"));
+        assertEquals(y1850.hashCode(), ParsedDate.parse("1850").hashCode());
+        assertFalse(y1850.equals(abt1850));
+    }
+
+    /**
+     * Assert the qualifier, precision and calendar of a date value
+     * 
+     * @param value
+     *            the date value
+     * @param qualifier
+     *            the expected qualifier
+     * @param precision
+     *            the expected precision
+     * @param calendar
+     *            the expected calendar
+     */
+    private void assertDate(String value, Qualifier qualifier, Precision precision, CalendarSystem calendar) {
+        ParsedDate d = ParsedDate.parse(value);
+        assertNotNull(value, d);
+        assertEquals(value, qualifier, d.getQualifier());
+        assertEquals(value, precision, d.getPrecision());
+        assertEquals(value, calendar, d.getCalendar());
+        assertEquals(value, qualifier == Qualifier.BETWEEN || qualifier == Qualifier.FROM_TO, d.isTwoDates());
+    }
+
+    /**
+     * Assert that a date value is read to the same days as {@link DateParser} reads it to
+     * 
+     * @param value
+     *            the date value
+     * @param prefs
+     *            the preferences to compare for. All of them if none are supplied.
+     */
+    private void assertSameAsDateParser(String value, ImpreciseDatePreference... prefs) {
+        ParsedDate d = ParsedDate.parse(value);
+        assertNotNull(value, d);
+        for (ImpreciseDatePreference pref : prefs.length == 0 ? ImpreciseDatePreference.values() : prefs) {
+            Date expected = dp.parse(value, pref);
+            assertEquals(value + " " + pref, expected, d.toDate(pref));
+        }
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.model.Individual;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for {@link RecordIndex}, and for keeping an index in a sidecar file with
+ * {@link GedcomParser#loadLazily(File, File)}
+ * 
+ * @author frizbog
+ */
+public class RecordIndexTest {
+
+    /**
+     * Make sure the directory the test files are written to exists
+     */
+    @Before
+    public void setUp() {
+        new File("tmp").mkdirs();
+    }
+
+    /**
+     * Test that the checksum of each record matches the bytes of the record, for one-byte and two-byte files
+     * 
+     * @throws IOException
+     *             if a file can't be read
+     * @throws GedcomParserException
+     *             if a file can't be indexed
+     */
+    @Test
+    public void testChecksums() throws IOException, GedcomParserException {
+        for (String fileName : new String[] { "sample/willis.ged", "sample/willis-unicode-littleendian.ged", "sample/TGC551.ged" }) {
+            File file = new File(fileName);
+            RecordIndex index = RecordIndex.build(new GedcomParser(), file);
+            assertTrue(index.count > 2);
+            RandomAccessFile raf = new RandomAccessFile(file, "r");
+            try {
+                for (int r = 0; r < index.count; r++) {
+                    byte[] bytes = new byte[(int) (index.getEnd(r) - index.starts[r])];
+                    raf.seek(index.starts[r]);
+                    raf.readFully(bytes);
+                    CRC32 crc = new CRC32();
+                    crc.update(bytes);
+                    assertEquals(fileName + " record " + r, (int) crc.getValue(), index.checksums[r]);
+                }
+            } finally {
+                raf.close();
+            }
+        }
+    }
+
+    /**
+     * Test that only lines beginning with a level of 0 start records - not other lines beginning with 0, such as a
+     * wrapped line of a note - including where the next character is in the next block of the file
+     * 
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the data can't be indexed
+     */
+    @Test
+    public void testLinesBeginningWithZero() throws IOException, GedcomParserException {
+        for (String charset : new String[] { "US-ASCII", "UTF-16BE" }) {
+            int unitSize = ("US-ASCII".equals(charset) ? 1 : 2);
+            for (String lineAtBoundary : new String[] { "0 @N2@ NOTE x", "0800 123 456", "0" }) {
+                StringBuilder data = new StringBuilder("0 HEAD\n1 CHAR ASCII\n0 @N1@ NOTE Call\n0800 111 222\n");
+                // Pad so the line being tested starts with the last character in the first block
+                int padding = 65536 / unitSize - 1 - data.length() - "1 CONT \n".length();
+                data.append("1 CONT ");
+                for (int i = 0; i < padding; i++) {
+                    data.append('x');
+                }
+                data.append('\n').append(lineAtBoundary).append("\n0 TRLR\n");
+                byte[] bytes = data.toString().getBytes(charset);
+                RecordIndex index = RecordIndex.build(new GedcomParser(), new ByteArrayInputStream(bytes), bytes.length);
+
+                List<Long> expected = new ArrayList<Long>();
+                int lineStart = 0;
+                for (String line : data.toString().split("\n")) {
+                    if (line.startsWith("0 ")) {
+                        expected.add(Long.valueOf(lineStart * unitSize));
+                    }
+                    lineStart += line.length() + 1;
+                }
+                String message = charset + " " + lineAtBoundary;
+                assertEquals(message, expected.size(), index.count);
+                for (int r = 0; r < index.count; r++) {
+                    assertEquals(message, expected.get(r).longValue(), index.starts[r]);
+                    CRC32 crc = new CRC32();
+                    crc.update(bytes, (int) index.starts[r], (int) (index.getEnd(r) - index.starts[r]));
+                    assertEquals(message + " record " + r, (int) crc.getValue(), index.checksums[r]);
+                }
+                assertEquals(message, "NOTE", index.tags[1]);
+                assertEquals(message, "TRLR", index.tags[index.count - 1]);
+            }
+        }
+    }
+
+    /**
+     * Test writing an index to a file and reading it back
+     * 
+     * @throws IOException
+     *             if a file can't be read or written
+     * @throws GedcomParserException
+     *             if the file can't be indexed
+     */
+    @Test
+    public void testWriteAndRead() throws IOException, GedcomParserException {
+        File file = new File("sample/willis-unicode-bigendian.ged");
+        RecordIndex index = RecordIndex.build(new GedcomParser(), file);
+        File indexFile = new File("tmp/" + getClass().getName() + ".idx");
+        index.write(indexFile);
+
+        RecordIndex read = RecordIndex.read(indexFile);
+        assertIndexesEqual(index, read);
+        assertEquals(index.lastModified, read.lastModified);
+        assertTrue(read.isCurrent(file));
+        assertFalse(read.isCurrent(new File("sample/willis.ged")));
+        String xref = read.getXrefs("INDI").get(5);
+        assertEquals(index.find("INDI", xref), read.find("INDI", xref));
+
+        // Files that aren't indexes, or are missing, cut short or claim more records than they could hold, aren't read
+        assertNull(RecordIndex.read(new File("sample/willis.ged")));
+        assertNull(RecordIndex.read(new File("tmp/no-such-file.idx")));
+        RandomAccessFile raf = new RandomAccessFile(indexFile, "rw");
+        try {
+            raf.seek(26);
+            int count = raf.readInt();
+            assertEquals(index.count, count);
+            raf.seek(26);
+            raf.writeInt(Integer.MAX_VALUE);
+            raf.getFD().sync();
+            assertNull(RecordIndex.read(indexFile));
+            raf.seek(26);
+            raf.writeInt(count);
+            raf.setLength(raf.length() / 2);
+        } finally {
+            raf.close();
+        }
+        assertNull(RecordIndex.read(indexFile));
+    }
+
+    /**
+     * Test that an index brought up to date after a file has changed is the same as an index of the changed file built
+     * from scratch
+     * 
+     * @throws IOException
+     *             if a file can't be read or written
+     * @throws GedcomParserException
+     *             if a file can't be indexed
+     */
+    @Test
+    public void testRefresh() throws IOException, GedcomParserException {
+        String original = readFile("sample/willis.ged");
+        File file = new File("tmp/" + getClass().getName() + ".ged");
+        writeFile(file, original);
+        RecordIndex old = RecordIndex.build(new GedcomParser(), file);
+
+        // Add a record before the trailer
+        int trailer = original.lastIndexOf("0 TRLR");
+        String appended = original.substring(0, trailer) + "0 @INEW@ INDI\r\n1 NAME Newly /Added/\r\n" + original.substring(trailer);
+        writeFile(file, appended);
+        RecordIndex refreshed = RecordIndex.refresh(new GedcomParser(), old, file);
+        assertIndexesEqual(RecordIndex.build(new GedcomParser(), file), refreshed);
+        assertTrue(refreshed.find("INDI", "@INEW@") >= 0);
+
+        // Change a record in the middle, so that everything after it moves
+        int middle = appended.indexOf("0 @I3", appended.length() / 2);
+        String changed = appended.substring(0, middle) + "0 @IMID@ INDI\r\n1 NAME Middle /Record/\r\n" + appended.substring(middle);
+        writeFile(file, changed);
+        refreshed = RecordIndex.refresh(new GedcomParser(), refreshed, file);
+        assertIndexesEqual(RecordIndex.build(new GedcomParser(), file), refreshed);
+
+        // Cut the file short
+        writeFile(file, original.substring(0, middle));
+        refreshed = RecordIndex.refresh(new GedcomParser(), refreshed, file);
+        assertIndexesEqual(RecordIndex.build(new GedcomParser(), file), refreshed);
+    }
+
+    /**
+     * Test opening a file lazily with a sidecar index file, which is created the first time, reused the second, and
+     * updated after the file changes
+     * 
+     * @throws IOException
+     *             if a file can't be read or written
+     * @throws GedcomParserException
+     *             if a file can't be indexed or parsed
+     */
+    @Test
+    public void testLoadLazilyWithIndexFile() throws IOException, GedcomParserException {
+        String original = readFile("sample/willis.ged");
+        File file = new File("tmp/" + getClass().getName() + "-lazy.ged");
+        writeFile(file, original);
+        File indexFile = new File("tmp/" + getClass().getName() + "-lazy.idx");
+        if (indexFile.exists()) {
+            assertTrue(indexFile.delete());
+        }
+
+        GedcomParser gp = new GedcomParser();
+        assertEquals(RecordIndex.build(gp, file).count, gp.indexFile(file, indexFile));
+        assertTrue(indexFile.exists());
+        long indexedAt = indexFile.lastModified();
+        RecordIndex saved = RecordIndex.read(indexFile);
+        assertTrue(saved.isCurrent(file));
+
+        LazyGedcom lazy = gp.loadLazily(file, indexFile);
+        try {
+            assertEquals(saved.getXrefs("INDI"), lazy.getIndividualXrefs());
+            assertNotNull(lazy.getIndividual(lazy.getIndividualXrefs().get(0)));
+        } finally {
+            lazy.close();
+        }
+        // Up to date, so not written again
+        assertEquals(indexedAt, indexFile.lastModified());
+
+        int trailer = original.lastIndexOf("0 TRLR");
+        writeFile(file, original.substring(0, trailer) + "0 @INEW@ INDI\r\n1 NAME Newly /Added/\r\n" + original.substring(trailer));
+        assertTrue(file.setLastModified(saved.lastModified + 2000));
+        lazy = gp.loadLazily(file, indexFile);
+        try {
+            Individual i = lazy.getIndividual("@INEW@");
+            assertNotNull(i);
+            assertEquals("Newly /Added/", i.getNames().get(0).getBasic());
+        } finally {
+            lazy.close();
+        }
+        assertTrue(RecordIndex.read(indexFile).isCurrent(file));
+    }
+
+    /**
+     * Assert that two indexes hold the same records
+     * 
+     * @param expected
+     *            the expected index
+     * @param actual
+     *            the actual index
+     */
+    private void assertIndexesEqual(RecordIndex expected, RecordIndex actual) {
+        assertEquals(expected.layout, actual.layout);
+        assertEquals(expected.byteOrderMarker, actual.byteOrderMarker);
+        assertEquals(expected.fileLength, actual.fileLength);
+        assertEquals(expected.count, actual.count);
+        int n = expected.count;
+        assertArrayEquals(Arrays.copyOf(expected.tags, n), Arrays.copyOf(actual.tags, n));
+        assertArrayEquals(Arrays.copyOf(expected.xrefs, n), Arrays.copyOf(actual.xrefs, n));
+        assertArrayEquals(Arrays.copyOf(expected.starts, n), Arrays.copyOf(actual.starts, n));
+        assertArrayEquals(Arrays.copyOf(expected.lineNums, n), Arrays.copyOf(actual.lineNums, n));
+        assertArrayEquals(Arrays.copyOf(expected.checksums, n), Arrays.copyOf(actual.checksums, n));
+        assertArrayEquals(expected.nextDuplicate, actual.nextDuplicate);
+    }
+
+    /**
+     * Read a file into a string, one byte per character
+     * 
+     * @param fileName
+     *            the name of the file
+     * @return the contents of the file
+     * @throws IOException
+     *             if the file can't be read
+     */
+    private String readFile(String fileName) throws IOException {
+        File file = new File(fileName);
+        byte[] bytes = new byte[(int) file.length()];
+        FileInputStream in = new FileInputStream(file);
+        try {
+            int total = 0;
+            while (total < bytes.length) {
+                total += in.read(bytes, total, bytes.length - total);
+            }
+        } finally {
+            in.close();
+        }
+        return new String(bytes, "ISO-8859-1");
+    }
+
+    /**
+     * Write a string to a file, one byte per character
+     * 
+     * @param file
+     *            the file
+     * @param contents
+     *            the contents of the file
+     * @throws IOException
+     *             if the file can't be written
+     */
+    private void writeFile(File file, String contents) throws IOException {
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(contents.getBytes("ISO-8859-1"));
+        } finally {
+            out.close();
+        }
+    }
+}
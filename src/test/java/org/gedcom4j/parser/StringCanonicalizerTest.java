@@ -27,14 +27,20 @@
 package org.gedcom4j.parser;
 
 import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import org.gedcom4j.parser.StringCanonicalizer.CanonicalizedString;
-import org.junit.Before;
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.model.Individual;
 import org.junit.Test;
 
 /**
@@ -44,149 +50,206 @@ import org.junit.Test;
  */
 public class StringCanonicalizerTest {
 
-    /**
-     * The class under test
-     */
-    StringCanonicalizer classUnderTest = new StringCanonicalizer();
-
     /**
      * A randomizer that always uses the same seed value for repeated pseudo-random sequences
      */
     Random random = new Random(12345);
 
     /**
-     * Reset the canonicalizer before each test
+     * Test that a value seen often enough gets admitted to a full cache, in place of one seen less often
      */
-    @Before
-    public void setUp() {
-        classUnderTest.reset();
+    @Test
+    public void testAdmissionOfFrequentValue() {
+        StringCanonicalizer classUnderTest = new StringCanonicalizer(100);
+        for (int i = 0; i < 100; i++) {
+            classUnderTest.getCanonicalVersion("once" + i);
+        }
+        assertEquals(100, classUnderTest.getSize());
+
+        String first = classUnderTest.getCanonicalVersion(new String("popular"));
+        assertEquals(1, classUnderTest.getRejectionCount());
+        for (int i = 0; i < 5; i++) {
+            classUnderTest.getCanonicalVersion(new String("popular"));
+        }
+        assertEquals(1, classUnderTest.getEvictionCount());
+        assertEquals(100, classUnderTest.getSize());
+
+        String admitted = classUnderTest.getCanonicalVersion(new String("popular"));
+        String again = classUnderTest.getCanonicalVersion(new String("popular"));
+        assertNotSame(first, admitted);
+        assertSame(admitted, again);
     }
 
     /**
-     * Test with a larger population that should exceed the pool size, but some of the entries should be below the usage threshold,
-     * which means eviction should get triggered
+     * Test that the cache is never bigger than its maximum size, for caches with one segment and with several
      */
     @Test
-    public void testLargerPopulation() {
-        // Load the string pool
-        final int numValues = classUnderTest.getMaxPoolSize() + 100;
-        for (int values = 0; values < numValues; values++) {
-            for (int uses = 0; uses < 20 + random.nextInt(20); uses++) {
-                String s = "" + values;
-                String c = classUnderTest.getCanonicalVersion(s);
-                assertEquals(s, c);
-            }
-        }
-
-        assertEquals(1, classUnderTest.numEvictions);
-        assertNull(classUnderTest.stringPool.get("499"));
-        CanonicalizedString c = classUnderTest.stringPool.get("498");
-        assertNotNull(c);
-        assertEquals("498", c.value);
-        assertEquals(25, c.count);
-
-        // Make sure we get canonical versions
-        for (int values = 0; values < numValues; values++) {
-            String s = "" + values;
-            String c2 = classUnderTest.getCanonicalVersion(s);
-            assertEquals(s, c2);
-            StringCanonicalizer.CanonicalizedString cv = classUnderTest.stringPool.get(s);
-            if (cv != null) {
-                assertSame(cv.value, c2);
+    public void testBounded() {
+        for (int maxSize : new int[] { 1, 7, 500, StringCanonicalizer.DEFAULT_MAX_SIZE }) {
+            StringCanonicalizer classUnderTest = new StringCanonicalizer(maxSize);
+            for (int i = 0; i < maxSize * 5; i++) {
+                String s = "" + random.nextInt(maxSize * 3);
+                assertEquals(s, classUnderTest.getCanonicalVersion(s));
+                assertTrue(classUnderTest.getSize() <= maxSize);
             }
+            assertEquals(maxSize * 5, classUnderTest.getHitCount() + classUnderTest.getMissCount());
         }
-
     }
 
     /**
-     * Test with a medium population that stays within pool size, varying number of references, and no evictions needed
+     * Test that many threads can use the same cache at once
+     * 
+     * @throws InterruptedException
+     *             if the test is interrupted
      */
     @Test
-    public void testMediumPopulation() {
-        // Load the string pool
-        final int numValues = classUnderTest.getMaxPoolSize() - 1;
-        String[] canons = new String[numValues];
-        for (int values = 0; values < numValues; values++) {
-            for (int uses = 0; uses < 25 + random.nextInt(25); uses++) {
-                String s = "" + values;
-                canons[values] = classUnderTest.getCanonicalVersion(s);
-                assertEquals(s, canons[values]);
-            }
+    public void testConcurrentUse() throws InterruptedException {
+        final StringCanonicalizer classUnderTest = new StringCanonicalizer(2000);
+        final int numThreads = 4;
+        final int lookupsPerThread = 50000;
+        final AtomicInteger wrongValues = new AtomicInteger();
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int t = 0; t < numThreads; t++) {
+            final int seed = t;
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    Random r = new Random(seed);
+                    for (int i = 0; i < lookupsPerThread; i++) {
+                        String s = "value" + r.nextInt(3000);
+                        if (!s.equals(classUnderTest.getCanonicalVersion(s))) {
+                            wrongValues.incrementAndGet();
+                        }
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
         }
+        assertEquals(0, wrongValues.get());
+        assertEquals((long) numThreads * lookupsPerThread, classUnderTest.getHitCount() + classUnderTest.getMissCount());
+        assertTrue(classUnderTest.getSize() <= 2000);
+        assertTrue(classUnderTest.getHitCount() > 0);
+    }
 
-        // Make sure we get canonical versions
-        for (int values = 0; values < numValues; values++) {
-            String s = "" + values;
-            String c = classUnderTest.getCanonicalVersion(s);
-            assertEquals(c, canons[values]);
-            assertSame(c, canons[values]);
+    /**
+     * Test null, empty and invalid values
+     */
+    @Test
+    public void testEdgeCases() {
+        StringCanonicalizer classUnderTest = new StringCanonicalizer();
+        assertNull(classUnderTest.getCanonicalVersion(null));
+        assertEquals("", classUnderTest.getCanonicalVersion(new String("")));
+        assertEquals(0, classUnderTest.getSize());
+        assertEquals(StringCanonicalizer.DEFAULT_MAX_SIZE, classUnderTest.getMaxSize());
+        try {
+            new StringCanonicalizer(0);
+            fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+            assertEquals("Maximum size must be at least 1", expected.getMessage());
         }
     }
 
     /**
-     * Test with a small population
+     * Test that values that occur over and over stay in a full cache while a great many values that occur only once go
+     * by - i.e., that the cache doesn't thrash
      */
     @Test
-    public void testSmallPopulation() {
-        // Load the string pool
-        int numValues = 100;
-        String[] canons = new String[numValues];
-        for (int values = 0; values < numValues; values++) {
-            for (int uses = 0; uses < 25 + random.nextInt(25); uses++) {
-                String s = "" + values;
-                canons[values] = classUnderTest.getCanonicalVersion(s);
-                assertEquals(s, canons[values]);
+    public void testNoThrashing() {
+        StringCanonicalizer classUnderTest = new StringCanonicalizer(1000);
+        String[] canons = new String[500];
+        for (int uses = 0; uses < 5; uses++) {
+            for (int i = 0; i < canons.length; i++) {
+                canons[i] = classUnderTest.getCanonicalVersion(new String("common" + i));
             }
         }
-
-        // Make sure we get canonical versions
-        for (int values = 0; values < numValues; values++) {
-            String s = "" + values;
-            String c = classUnderTest.getCanonicalVersion(s);
-            assertEquals(c, canons[values]);
-            assertSame(c, canons[values]);
+        long hitsBefore = classUnderTest.getHitCount();
+        for (int i = 0; i < 100000; i++) {
+            classUnderTest.getCanonicalVersion("unique" + i);
+            if (i % 2 == 0) {
+                // Keep the common values common
+                classUnderTest.getCanonicalVersion(new String("common" + random.nextInt(canons.length)));
+            }
         }
+        /*
+         * The frequencies are estimates, so once in a while a value seen once looks as common as a common one and takes
+         * its place - but only once in a while. The unique values are never hits, so all the hits are common values.
+         */
+        long commonHits = classUnderTest.getHitCount() - hitsBefore;
+        assertTrue("Only " + commonHits + " hits out of 50000", commonHits > 49000);
+        int stillCanonical = 0;
+        for (int i = 0; i < canons.length; i++) {
+            if (canons[i] == classUnderTest.getCanonicalVersion(new String("common" + i))) {
+                stillCanonical++;
+            }
+        }
+        assertTrue("Only " + stillCanonical + " of " + canons.length, stillCanonical > 450);
+        assertTrue(classUnderTest.getSize() <= 1000);
+        assertTrue(classUnderTest.getRejectionCount() > 90000);
+        assertTrue(classUnderTest.getHitCount() >= 50000);
+    }
 
+    /**
+     * Test that the parser uses its cache, and that a cache can be shared between parsers
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     */
+    @Test
+    public void testParserUse() throws IOException, GedcomParserException {
+        StringCanonicalizer shared = new StringCanonicalizer();
+        GedcomParser gp1 = new GedcomParser();
+        gp1.setStringCanonicalizer(shared);
+        gp1.load("sample/TGC551.ged");
+        assertSame(shared, gp1.getStringCanonicalizer());
+        assertTrue(shared.getHitCount() > 0);
+
+        GedcomParser gp2 = new GedcomParser();
+        gp2.setStringCanonicalizer(shared);
+        gp2.load("sample/TGC551.ged");
+
+        Individual i1 = gp1.getGedcom().getIndividuals().values().iterator().next();
+        Individual i2 = gp2.getGedcom().getIndividuals().get(i1.getXref());
+        assertSame(i1.getSex().getValue(), i2.getSex().getValue());
+
+        assertNotSame(new GedcomParser().getStringCanonicalizer(), new GedcomParser().getStringCanonicalizer());
     }
 
     /**
-     * Test with a larger population that should exceed the pool size, but some of the entries should be below the usage threshold,
-     * which means eviction should get triggered
+     * Test that canonical versions are returned, and the statistics and {@link StringCanonicalizer#reset()}
      */
     @Test
-    public void testVeryLargePopulation() {
-        // Load the string pool
-        final int numValues = classUnderTest.getMaxPoolSize() * 3;
+    public void testSmallPopulationAndReset() {
+        StringCanonicalizer classUnderTest = new StringCanonicalizer();
+        int numValues = 100;
+        String[] canons = new String[numValues];
         for (int values = 0; values < numValues; values++) {
-            for (int uses = 0; uses < 20 + random.nextInt(20); uses++) {
-                String s = "" + values;
+            for (int uses = 0; uses < 5; uses++) {
+                String s = new String("" + values);
                 String c = classUnderTest.getCanonicalVersion(s);
                 assertEquals(s, c);
+                if (uses == 0) {
+                    canons[values] = c;
+                } else {
+                    assertSame(canons[values], c);
+                }
             }
         }
+        assertEquals(numValues, classUnderTest.getSize());
+        assertEquals(numValues, classUnderTest.getMissCount());
+        assertEquals(numValues * 4, classUnderTest.getHitCount());
+        assertEquals(0, classUnderTest.getEvictionCount());
+        assertEquals(0, classUnderTest.getRejectionCount());
+        assertTrue(classUnderTest.toString().startsWith("StringCanonicalizer [size=100, maxSize=10000, hits=400, misses=100"));
 
-        assertEquals(8, classUnderTest.numEvictions);
-        /*
-         * Because we used a java.util.Random with a fixed seed, which items remain in the pool should be predictable, so these
-         * asserts should be safe
-         */
-        assertNull(classUnderTest.stringPool.get("499"));
-        CanonicalizedString c = classUnderTest.stringPool.get("498");
-        assertNotNull(c);
-        assertEquals("498", c.value);
-        assertEquals(25, c.count);
-
-        // Make sure we get canonical versions
-        for (int values = 0; values < numValues; values++) {
-            String s = "" + values;
-            StringCanonicalizer.CanonicalizedString cv = classUnderTest.stringPool.get(s);
-            if (cv != null) {
-                String c2 = classUnderTest.getCanonicalVersion(s);
-                assertEquals(s, c2);
-                assertSame(cv.value, c2);
-            }
-        }
-
+        classUnderTest.reset();
+        assertEquals(0, classUnderTest.getSize());
+        assertEquals(0, classUnderTest.getHitCount());
+        assertEquals(0, classUnderTest.getMissCount());
     }
-
 }
@@ -26,6 +26,9 @@
  */
 package org.gedcom4j.parser;
 
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.model.StringTree;
+
 import junit.framework.TestCase;
 
 /**
@@ -50,4 +53,60 @@ public class StringTreeBuilderTest extends TestCase {
         assertEquals("This is a test", StringTreeBuilder.leftTrim(" \t\n  \u000B\f\n\r  This is a test"));
     }
 
+    /**
+     * Test that lines without a level are treated as continuations when line breaks aren't strict, with one warning
+     * for each run of such lines rather than one per line
+     * 
+     * @throws GedcomParserException
+     *             if the lines can't be parsed
+     */
+    public void testLenientContinuationWarnings() throws GedcomParserException {
+        GedcomParser gp = new GedcomParser();
+        gp.setStrictLineBreaks(false);
+        StringTreeBuilder stb = new StringTreeBuilder(gp);
+        stb.appendLine("0 @N1@ NOTE First line");
+        for (int i = 0; i < 1000; i++) {
+            stb.appendLine("wrapped line " + i);
+        }
+        stb.appendLine("1 CONT A proper continuation");
+        stb.appendLine("x");
+        stb.appendLine("1 CONT Another proper continuation");
+        stb.appendLine("");
+        stb.appendLine("1 X");
+        stb.finish();
+
+        assertEquals(0, gp.getErrors().size());
+        assertEquals(3, gp.getWarnings().size());
+        assertEquals("Lines 2 through 1001 did not begin with a level and tag, so they were treated as non-standard continuations of the "
+                + "previous line.", gp.getWarnings().get(0));
+        assertEquals("Line 1003 did not begin with a level and tag, so it was treated as a non-standard continuation of the previous line.", gp
+                .getWarnings().get(1));
+        assertEquals("Line 1005 did not begin with a level and tag, so it was treated as a non-standard continuation of the previous line.", gp
+                .getWarnings().get(2));
+
+        StringTree note = stb.getTree().getChildren().get(0);
+        assertEquals(1003, note.getChildren().size());
+        assertEquals("wrapped line 999", note.getChildren().get(999).getValue());
+        assertEquals(1, note.getChildren().get(999).getLevel());
+        assertEquals("A proper continuation", note.getChildren().get(1000).getValue());
+        assertEquals("x", note.getChildren().get(1000).getChildren().get(0).getValue());
+        assertEquals(2, note.getChildren().get(1000).getChildren().get(0).getLevel());
+    }
+
+    /**
+     * Test that a line without a level is an error when line breaks are strict
+     */
+    public void testStrictContinuation() {
+        GedcomParser gp = new GedcomParser();
+        gp.setStrictLineBreaks(true);
+        StringTreeBuilder stb = new StringTreeBuilder(gp);
+        try {
+            stb.appendLine("0 @N1@ NOTE First line");
+            stb.appendLine("1");
+            fail("Expected a " + GedcomParserException.class.getName());
+        } catch (GedcomParserException e) {
+            assertEquals("Line 2 does not begin with a 1 or 2 digit number for the level followed by a space: 1", e.getMessage());
+        }
+    }
+
 }
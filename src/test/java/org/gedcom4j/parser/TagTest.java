@@ -29,8 +29,10 @@ package org.gedcom4j.parser;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import org.gedcom4j.model.StringTree;
 import org.junit.Test;
 
 /**
@@ -57,6 +59,64 @@ public class TagTest {
         assertFalse(Tag.HEADER.equalsText(null));
     }
 
+    /**
+     * Test for {@link Tag#forText(String)}
+     */
+    @Test
+    public void testForText() {
+        for (Tag t : Tag.values()) {
+            if (t != Tag.UNRECOGNIZED) {
+                assertSame(t, Tag.forText(t.tagText));
+            }
+        }
+        assertSame(Tag.DATA, Tag.forText("DATA"));
+        assertSame(Tag.UNRECOGNIZED, Tag.forText("_CUSTOM"));
+        assertSame(Tag.UNRECOGNIZED, Tag.forText(""));
+        assertSame(Tag.UNRECOGNIZED, Tag.forText(null));
+        assertFalse(Tag.UNRECOGNIZED.equalsText(""));
+    }
+
+    /**
+     * Test for {@link Tag#forText(CharSequence, int, int)}
+     */
+    @Test
+    public void testForTextRange() {
+        for (Tag t : Tag.values()) {
+            if (t != Tag.UNRECOGNIZED) {
+                String line = "1 " + t.tagText + " value";
+                assertSame(t, Tag.forText(line, 2, 2 + t.tagText.length()));
+            }
+        }
+        assertSame(Tag.UNRECOGNIZED, Tag.forText("1 _CUSTOM x", 2, 9));
+        assertSame(Tag.UNRECOGNIZED, Tag.forText("1 NAM", 2, 5));
+        assertSame(Tag.UNRECOGNIZED, Tag.forText("1 NAMES", 2, 7));
+        assertSame(Tag.UNRECOGNIZED, Tag.forText("1 ", 2, 2));
+    }
+
+    /**
+     * Test for {@link Tag#of(StringTree)}, including that the symbol is cached on the node and reset when the tag
+     * changes
+     */
+    @Test
+    public void testOf() {
+        StringTree st = new StringTree();
+        st.setTag("INDI");
+        assertEquals(0, st.getTagSymbol());
+        assertSame(Tag.INDIVIDUAL, Tag.of(st));
+        assertEquals(Tag.INDIVIDUAL.getSymbol(), st.getTagSymbol());
+
+        st.setTag("_FOO");
+        assertEquals(0, st.getTagSymbol());
+        assertSame(Tag.UNRECOGNIZED, Tag.of(st));
+        assertEquals(Tag.UNRECOGNIZED.getSymbol(), st.getTagSymbol());
+
+        st.setTag("FAM");
+        assertSame(Tag.FAMILY, Tag.of(st));
+
+        st.setTagSymbol(Integer.MAX_VALUE);
+        assertSame(Tag.FAMILY, Tag.of(st));
+    }
+
     /**
      * Test of tag count
      */
@@ -145,6 +145,24 @@ public class AncestryCalculatorTest {
         assertTrue("Theresa is Robert's child, so Theresa has ancestors that are not Robert's", theresaAncestors.size() > robertAncestors.size());
     }
 
+    /**
+     * Test extended ancestors when someone is their own ancestor - the loop in the pedigree mustn't go round forever
+     */
+    @Test
+    public void testExtendedAncestorsLoop() {
+        Individual alex = getPerson("Zucco", "Alex");
+        Individual robert = getPerson("Andrews", "Robert");
+        assertTrue(anc.getExtendedAncestry(alex).contains(robert));
+        assertFalse(anc.getExtendedAncestry(alex).contains(alex));
+
+        // Make Alex his own great-grandfather
+        robert.getFamiliesWhereChild().get(0).getFamily().setHusband(alex);
+        Set<Individual> extendedAncestry = anc.getExtendedAncestry(alex);
+        assertTrue(extendedAncestry.contains(robert));
+        assertTrue(extendedAncestry.contains(alex));
+        assertTrue(alex.getAncestors().contains(alex));
+    }
+
     /**
      * Test when people are siblings.
      */
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.relationship;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.model.Family;
+import org.gedcom4j.model.FamilyChild;
+import org.gedcom4j.model.FamilySpouse;
+import org.gedcom4j.model.Gedcom;
+import org.gedcom4j.model.Individual;
+import org.gedcom4j.model.StringWithCustomTags;
+import org.gedcom4j.parser.GedcomParser;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link GedcomGraph} class
+ * 
+ * @author frizbog
+ */
+public class GedcomGraphTest {
+
+    /**
+     * Test that the graph of a loaded file has the same parents, spouses and ancestors as the object model, and that
+     * the descendants include all those the object model finds
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     */
+    @Test
+    public void testLoadedFile() throws IOException, GedcomParserException {
+        GedcomParser gp = new GedcomParser();
+        gp.load("sample/willis.ged");
+        Gedcom g = gp.getGedcom();
+        GedcomGraph graph = new GedcomGraph(g);
+        assertEquals(g.getIndividuals().size(), graph.size());
+
+        int someAncestors = 0;
+        for (Individual i : g.getIndividuals().values()) {
+            int index = graph.indexOf(i);
+            assertEquals("Graph should use the ordinals from loading", i.getOrdinal(), index);
+            assertSame(i, graph.getIndividual(index));
+
+            Set<Individual> spouses = new HashSet<Individual>();
+            for (int n = 0; n < graph.getSpouseCount(index); n++) {
+                spouses.add(graph.getIndividual(graph.getSpouse(index, n)));
+            }
+            assertEquals(i.getSpouses(), spouses);
+            assertEquals(i.getSex() != null && "M".equals(i.getSex().getValue()), graph.isMale(index));
+            assertEquals(i.getSex() != null && "F".equals(i.getSex().getValue()), graph.isFemale(index));
+
+            BitSet ancestors = graph.getAncestors(index);
+            assertEquals(i.getAncestors(), new HashSet<Individual>(graph.getIndividuals(ancestors)));
+            if (!ancestors.isEmpty()) {
+                someAncestors++;
+            }
+            assertTrue(graph.getIndividuals(graph.getDescendants(index)).containsAll(i.getDescendants()));
+            for (int n = 0; n < graph.getParentCount(index); n++) {
+                int parent = graph.getParent(index, n);
+                assertTrue(ancestors.get(parent));
+                assertTrue(graph.getDescendants(parent).get(index));
+            }
+        }
+        assertTrue(someAncestors > 100);
+        assertEquals(-1, graph.indexOf(null));
+        assertEquals(-1, graph.indexOf(new Individual()));
+
+        int total = 0;
+        for (Individual i : g.getIndividuals().values()) {
+            total += i.getAncestors().size();
+        }
+        int graphTotal = 0;
+        for (int index = 0; index < graph.size(); index++) {
+            graphTotal += graph.getAncestors(index).cardinality();
+        }
+        assertEquals(total, graphTotal);
+    }
+
+    /**
+     * Test a graph of individuals made by hand, which weren't numbered when loaded, including a loop where someone is
+     * their own grandparent
+     */
+    @Test
+    public void testMadeByHand() {
+        Gedcom g = new Gedcom();
+        Individual dad = addPerson(g, "@DAD@", "M");
+        Individual mom = addPerson(g, "@MOM@", "F");
+        Individual kid = addPerson(g, "@KID@", null);
+        Individual grandkid = addPerson(g, "@GKID@", "M");
+        Family f = addFamily(dad, mom, kid);
+        addFamily(kid, null, grandkid);
+        GedcomGraph graph = new GedcomGraph(g);
+        assertEquals(4, graph.size());
+        for (Individual i : g.getIndividuals().values()) {
+            assertSame(i, graph.getIndividual(graph.indexOf(i)));
+        }
+
+        int k = graph.indexOf(kid);
+        assertEquals(2, graph.getParentCount(k));
+        assertEquals(1, graph.getChildCount(k));
+        assertEquals(0, graph.getSpouseCount(k));
+        assertFalse(graph.isMale(k));
+        assertFalse(graph.isFemale(k));
+        assertEquals(1, graph.getSpouseCount(graph.indexOf(dad)));
+        assertSame(mom, graph.getIndividual(graph.getSpouse(graph.indexOf(dad), 0)));
+        assertEquals(3, graph.getAncestors(graph.indexOf(grandkid)).cardinality());
+        assertEquals(2, graph.getDescendants(graph.indexOf(mom)).cardinality());
+
+        // Make the grandkid the child of his own grandfather as well - he shouldn't be counted twice
+        f.getChildren().add(grandkid);
+        addChildLink(grandkid, f);
+        graph = new GedcomGraph(g);
+        assertEquals(3, graph.getAncestors(graph.indexOf(grandkid)).cardinality());
+        assertEquals(3, graph.getParentCount(graph.indexOf(grandkid)));
+
+        // Make dad his own grandson's son
+        addFamily(grandkid, null, dad);
+        graph = new GedcomGraph(g);
+        BitSet ancestors = graph.getAncestors(graph.indexOf(dad));
+        assertTrue(ancestors.get(graph.indexOf(dad)));
+        assertEquals(dad.getAncestors(), new HashSet<Individual>(graph.getIndividuals(ancestors)));
+    }
+
+    /**
+     * Add a child link from an individual to a family
+     * 
+     * @param child
+     *            the child
+     * @param f
+     *            the family
+     */
+    private void addChildLink(Individual child, Family f) {
+        FamilyChild fc = new FamilyChild();
+        fc.setFamily(f);
+        child.getFamiliesWhereChild(true).add(fc);
+    }
+
+    /**
+     * Add a family, linked up to its members
+     * 
+     * @param husband
+     *            the husband
+     * @param wife
+     *            the wife, or null
+     * @param child
+     *            the child
+     * @return the family
+     */
+    private Family addFamily(Individual husband, Individual wife, Individual child) {
+        Family f = new Family();
+        f.setHusband(husband);
+        f.setWife(wife);
+        f.getChildren(true).add(child);
+        FamilySpouse fs = new FamilySpouse();
+        fs.setFamily(f);
+        husband.getFamiliesWhereSpouse(true).add(fs);
+        if (wife != null) {
+            fs = new FamilySpouse();
+            fs.setFamily(f);
+            wife.getFamiliesWhereSpouse(true).add(fs);
+        }
+        addChildLink(child, f);
+        return f;
+    }
+
+    /**
+     * Add a person to a gedcom
+     * 
+     * @param g
+     *            the gedcom
+     * @param xref
+     *            the xref of the person
+     * @param sex
+     *            the sex of the person, or null
+     * @return the person
+     */
+    private Individual addPerson(Gedcom g, String xref, String sex) {
+        Individual i = new Individual();
+        i.setXref(xref);
+        if (sex != null) {
+            i.setSex(new StringWithCustomTags(sex));
+        }
+        g.getIndividuals().put(xref, i);
+        return i;
+    }
+}
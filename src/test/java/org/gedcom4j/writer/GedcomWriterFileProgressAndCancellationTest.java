@@ -70,7 +70,7 @@ public class GedcomWriterFileProgressAndCancellationTest implements ConstructPro
     /**
      * How many bytes were written
      */
-    private int bytesWritten = 0;
+    private long bytesWritten = 0;
 
     /**
      * The GedcomWriter we're testing with